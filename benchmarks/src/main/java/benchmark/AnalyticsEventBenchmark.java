@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.analytique.EvenementsAnalytics;
+import model.entreprise.Boutiques;
+import model.produit.Produits;
+import utils.types.JsonMap;
+
+/**
+ * Insertion d'un événement analytique (vue produit), une transaction par événement
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AnalyticsEventBenchmark {
+
+    @Benchmark
+    public int insererEvenement(PersistenceState state) throws UnknownHostException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            int produitId = state.data.produitAleatoire();
+            EvenementsAnalytics evenement = new EvenementsAnalytics();
+            evenement.setNomEvenement("vue_produit");
+            evenement.setCategorieEvenement("catalogue");
+            evenement.setSessionId("bench-" + random.nextInt(10_000));
+            evenement.setProduits(em.getReference(Produits.class, produitId));
+            evenement.setBoutiques(em.getReference(Boutiques.class, state.data.boutiqueAleatoire()));
+            evenement.setPageUrl("/produits/" + produitId);
+            evenement.setProprietes(new JsonMap().put("source", "recherche").put("position", random.nextInt(24)));
+            evenement.setAdresseIp(InetAddress.getByAddress(new byte[] { 41, (byte) 82, (byte) random.nextInt(256), 1 }));
+            evenement.setAppareilType("mobile");
+            evenement.setVille("Dakar");
+            evenement.setTimestampEvenement(new Timestamp(System.currentTimeMillis()));
+            em.persist(evenement);
+            em.getTransaction().commit();
+            return evenement.getId();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
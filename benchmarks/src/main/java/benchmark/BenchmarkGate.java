@@ -0,0 +1,166 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import utils.types.Json;
+
+/**
+ * Contrôle de non-régression : lance les benchmarks (profil GC) et compare au résultat de référence
+ * Usage : BenchmarkGate référence.json [tolérance %] [filtre]
+ * Référence absente : le résultat courant est enregistré comme nouvelle référence
+ * Régression : débit en baisse (durée en hausse pour les modes avgt/sample) ou allocation par opération
+ * en hausse au-delà de la tolérance → code 1
+ */
+public final class BenchmarkGate {
+
+    private static final Logger logger = Logger.getLogger(BenchmarkGate.class.getName());
+
+    static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final String RESULTAT = "target/jmh-result.json";
+
+    private BenchmarkGate() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        if (args.length < 1) {
+            System.err.println("Usage : BenchmarkGate référence.json [tolérance %] [filtre]");
+            System.exit(2);
+        }
+        Path reference = Paths.get(args[0]);
+        double tolerance = args.length > 1 ? Double.parseDouble(args[1]) : 10.0;
+        String filtre = args.length > 2 ? args[2] : "benchmark\\..*Benchmark";
+
+        Path resultat = Paths.get(RESULTAT);
+        Files.createDirectories(resultat.getParent());
+        Options options = new OptionsBuilder()
+                .include(filtre)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultat.toString())
+                .build();
+        new Runner(options).run();
+
+        Map<String, Mesure> courant = lire(resultat);
+        if (!Files.exists(reference)) {
+            Files.copy(resultat, reference);
+            logger.info("📌 Référence enregistrée : " + reference + " (" + courant.size() + " benchmarks)");
+            return;
+        }
+        Rapport rapport = comparer(lire(reference), courant, tolerance);
+        logger.info(rapport.toString());
+        if (rapport.regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Mesures d'un fichier de résultats JMH (format JSON), par benchmark et paramètres
+     */
+    static Map<String, Mesure> lire(Path fichier) throws IOException {
+        Map<String, Mesure> mesures = new LinkedHashMap<>();
+        List<?> resultats = (List<?>) Json.parse(new String(Files.readAllBytes(fichier), StandardCharsets.UTF_8));
+        for (Object element : resultats) {
+            Map<?, ?> resultat = (Map<?, ?>) element;
+            Mesure mesure = new Mesure();
+            mesure.debit = score(resultat.get("primaryMetric"));
+            mesure.unite = String.valueOf(((Map<?, ?>) resultat.get("primaryMetric")).get("scoreUnit"));
+            mesure.duree = !"thrpt".equals(resultat.get("mode"));
+            Map<?, ?> secondaires = (Map<?, ?>) resultat.get("secondaryMetrics");
+            if (secondaires != null && secondaires.containsKey(ALLOCATION)) {
+                mesure.allocation = score(secondaires.get(ALLOCATION));
+            }
+            mesures.put(cle(resultat), mesure);
+        }
+        return mesures;
+    }
+
+    private static String cle(Map<?, ?> resultat) {
+        String cle = String.valueOf(resultat.get("benchmark"));
+        Object params = resultat.get("params");
+        return params == null ? cle : cle + " " + params;
+    }
+
+    private static double score(Object metrique) {
+        Object score = ((Map<?, ?>) metrique).get("score");
+        // JMH écrit "NaN" entre guillemets quand la mesure est absente
+        return score instanceof Number ? ((Number) score).doubleValue() : Double.NaN;
+    }
+
+    static Rapport comparer(Map<String, Mesure> reference, Map<String, Mesure> courant, double tolerance) {
+        Rapport rapport = new Rapport();
+        rapport.tolerance = tolerance;
+        StringBuilder sb = rapport.lignes;
+        courant.forEach((benchmark, mesure) -> {
+            Mesure base = reference.get(benchmark);
+            if (base == null) {
+                sb.append(String.format("  🆕 %-70s %12.1f %s%n", benchmark, mesure.debit, mesure.unite));
+                return;
+            }
+            double ecartDebit = ecart(base.debit, mesure.debit);
+            double ecartAllocation = ecart(base.allocation, mesure.allocation);
+            boolean regression = (mesure.duree ? ecartDebit > tolerance : ecartDebit < -tolerance)
+                    || ecartAllocation > tolerance;
+            if (regression) {
+                rapport.regressions++;
+            }
+            sb.append(String.format("  %s %-70s %12.1f %s (%+.1f%%) | %10.0f o/op (%+.1f%%)%n",
+                    regression ? "❌" : "✅", benchmark, mesure.debit, mesure.unite, ecartDebit,
+                    mesure.allocation, ecartAllocation));
+        });
+        return rapport;
+    }
+
+    /**
+     * Écart relatif en %, 0 si l'une des valeurs est inconnue
+     */
+    private static double ecart(double base, double valeur) {
+        if (Double.isNaN(base) || Double.isNaN(valeur) || base == 0) {
+            return 0;
+        }
+        return 100 * (valeur - base) / base;
+    }
+
+    /**
+     * Débit (ou durée par opération) et allocation normalisée d'un benchmark
+     */
+    static class Mesure {
+        double debit;
+        String unite;
+        boolean duree;
+        double allocation = Double.NaN;
+    }
+
+    /**
+     * Résultat de la comparaison avec la référence
+     */
+    static class Rapport {
+        double tolerance;
+        int regressions;
+        final StringBuilder lignes = new StringBuilder();
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== CONTRÔLE DES BENCHMARKS (tolérance ").append(tolerance).append("%) ===\n");
+            sb.append(lignes);
+            sb.append(regressions == 0 ? "✅ Aucune régression" : "❌ " + regressions + " régression(s)").append("\n");
+            sb.append("============================================");
+            return sb.toString();
+        }
+    }
+}
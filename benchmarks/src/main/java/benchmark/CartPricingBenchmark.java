@@ -0,0 +1,136 @@
+package benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.produit.ArticlesPanier;
+import model.produit.Paniers;
+import model.produit.Produits;
+import utils.pricing.CartPricing;
+
+/**
+ * Changement de quantité d'une ligne de panier, transaction validée : recalcul complet (lignes et produits relus,
+ * totaux en BigDecimal) contre {@link CartPricing} (une ligne, totaux par différence, en centimes)
+ * Mode échantillonné : la sortie JMH donne les percentiles
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CartPricingBenchmark {
+
+    // Paniers actifs en même temps : les autres sont abandonnés ou validés
+    static final int PANIERS_ACTIFS = 200;
+    private static final BigDecimal CENT = BigDecimal.valueOf(100);
+
+    /**
+     * Lignes (panier, produit) des paniers actifs, tirées au hasard
+     */
+    @State(Scope.Benchmark)
+    public static class Lignes {
+
+        int[] panierIds;
+        int[] produitIds;
+        CartPricing tarification;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void charger(PersistenceState state) {
+            EntityManager em = state.ouvrir();
+            try {
+                List<Object[]> lignes = em.createNativeQuery("SELECT panier_id, produit_id FROM public.articles_panier "
+                        + "WHERE panier_id <= ?1").setParameter(1, PANIERS_ACTIFS).getResultList();
+                if (lignes.isEmpty()) {
+                    throw new IllegalStateException("❌ Aucun article de panier dans la base de benchmark");
+                }
+                panierIds = new int[lignes.size()];
+                produitIds = new int[lignes.size()];
+                for (int i = 0; i < lignes.size(); i++) {
+                    panierIds[i] = ((Number) lignes.get(i)[0]).intValue();
+                    produitIds[i] = ((Number) lignes.get(i)[1]).intValue();
+                }
+            } finally {
+                em.close();
+            }
+            tarification = CartPricing.of(state.emf);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal recalculComplet(PersistenceState state, Lignes lignes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(lignes.panierIds.length);
+        int quantite = 1 + random.nextInt(3);
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Paniers panier = em.find(Paniers.class, lignes.panierIds[i]);
+            List<ArticlesPanier> articles = em.createQuery("select a from ArticlesPanier a join fetch a.produits "
+                    + "where a.paniers.id = :panier order by a.id", ArticlesPanier.class)
+                    .setParameter("panier", panier.getId())
+                    .getResultList();
+            BigDecimal sousTotal = BigDecimal.ZERO;
+            BigDecimal tva = BigDecimal.ZERO;
+            boolean modifiee = false;
+            for (ArticlesPanier article : articles) {
+                Produits produit = article.getProduits();
+                // Première ligne du produit, comme CartPricing.modifierQuantite
+                if (!modifiee && produit.getId() == lignes.produitIds[i]) {
+                    article.setQuantite(quantite);
+                    modifiee = true;
+                }
+                BigDecimal prix = Boolean.TRUE.equals(produit.getEstEnPromotion()) && produit.getPrixPromo() != null
+                        ? produit.getPrixPromo() : produit.getPrixVente();
+                BigDecimal total = prix.multiply(BigDecimal.valueOf(article.getQuantite()));
+                article.setPrixUnitaire(prix);
+                article.setPrixTotal(total);
+                BigDecimal taux = produit.getTauxTva() != null ? produit.getTauxTva() : BigDecimal.ZERO;
+                sousTotal = sousTotal.add(total);
+                tva = tva.add(total.multiply(taux).divide(CENT, 2, RoundingMode.HALF_UP));
+            }
+            panier.setSousTotal(sousTotal);
+            panier.setMontantTva(tva);
+            panier.setTotalFinal(sousTotal.add(tva));
+            panier.setModifieLe(new Timestamp(System.currentTimeMillis()));
+            em.getTransaction().commit();
+            return panier.getTotalFinal();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public CartPricing.Totaux incremental(PersistenceState state, Lignes lignes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(lignes.panierIds.length);
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            CartPricing.Totaux totaux = lignes.tarification.modifierQuantite(em, lignes.panierIds[i],
+                    lignes.produitIds[i], 1 + random.nextInt(3));
+            em.getTransaction().commit();
+            return totaux;
+        } finally {
+            em.close();
+        }
+    }
+}
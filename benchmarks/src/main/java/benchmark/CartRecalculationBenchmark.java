@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.produit.ArticlesPanier;
+import model.produit.Paniers;
+import model.produit.Produits;
+
+/**
+ * Recalcul d'un panier : relecture des prix, totaux et TVA, puis mise à jour
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CartRecalculationBenchmark {
+
+    private static final BigDecimal CENT = BigDecimal.valueOf(100);
+
+    private static final String PANIER =
+            "select distinct p from Paniers p left join fetch p.articlesPaniers a left join fetch a.produits where p.id = :id";
+
+    @Benchmark
+    public BigDecimal recalculerPanier(PersistenceState state) {
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Paniers panier = em.createQuery(PANIER, Paniers.class)
+                    .setParameter("id", state.data.panierAleatoire())
+                    .getSingleResult();
+
+            BigDecimal sousTotal = BigDecimal.ZERO;
+            BigDecimal tva = BigDecimal.ZERO;
+            for (ArticlesPanier article : panier.getArticlesPaniers()) {
+                Produits produit = article.getProduits();
+                BigDecimal prix = produit.getPrixPromo() != null ? produit.getPrixPromo() : produit.getPrixVente();
+                BigDecimal total = prix.multiply(BigDecimal.valueOf(article.getQuantite())).setScale(2, RoundingMode.HALF_UP);
+                article.setPrixUnitaire(prix);
+                article.setPrixTotal(total);
+                sousTotal = sousTotal.add(total);
+                if (produit.getTauxTva() != null) {
+                    tva = tva.add(total.multiply(produit.getTauxTva()).divide(CENT, 2, RoundingMode.HALF_UP));
+                }
+            }
+            BigDecimal frais = panier.getFraisLivraison() != null ? panier.getFraisLivraison() : BigDecimal.ZERO;
+            BigDecimal remise = panier.getRemiseAppliquee() != null ? panier.getRemiseAppliquee() : BigDecimal.ZERO;
+            panier.setSousTotal(sousTotal);
+            panier.setMontantTva(tva);
+            panier.setTotalFinal(sousTotal.add(tva).add(frais).subtract(remise));
+            panier.setModifieLe(new Timestamp(System.currentTimeMillis()));
+            em.getTransaction().commit();
+            return panier.getTotalFinal();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.support.PersistenceState;
+import model.produit.Produits;
+
+/**
+ * Liste catalogue : propriétés lazy (bytecode enrichi) vs chargement complet ("fetch all properties")
+ * Mode échantillonné (percentiles par page) ; la part des colonnes lazy dans une ligne produit
+ * (pg_column_size) est journalisée au démarrage
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CatalogListingBenchmark {
+
+    private static final Logger logger = Logger.getLogger(CatalogListingBenchmark.class.getName());
+
+    static final int TAILLE_PAGE = 100;
+
+    private static final String LISTE_LAZY =
+            "select p from Produits p where p.estActif = true and p.id >= :depuis order by p.id";
+    // "fetch all properties" force le chargement des groupes lazy : référence avant enrichissement
+    private static final String LISTE_COMPLETE =
+            "select p from Produits p fetch all properties where p.estActif = true and p.id >= :depuis order by p.id";
+
+    private static final String TAILLE_LIGNES =
+            "SELECT avg(pg_column_size(p.*)) AS ligne, "
+            + "avg(coalesce(pg_column_size(p.description), 0) + coalesce(pg_column_size(p.contenu_recherche), 0) "
+            + "+ coalesce(pg_column_size(p.attributs_variation), 0) + coalesce(pg_column_size(p.qr_code), 0) "
+            + "+ coalesce(pg_column_size(p.images_urls), 0) + coalesce(pg_column_size(p.videos_urls), 0) "
+            + "+ coalesce(pg_column_size(p.documents_urls), 0)) AS lazy "
+            + "FROM produits p WHERE p.est_actif = true";
+
+    /**
+     * Taille moyenne d'une ligne produit et part des colonnes chargées à la demande
+     */
+    @State(Scope.Benchmark)
+    public static class Tailles {
+
+        double ligne;
+        double lazy;
+
+        @Setup
+        public void mesurer(PersistenceState state) {
+            EntityManager em = state.ouvrir();
+            try {
+                Object[] tailles = (Object[]) em.createNativeQuery(TAILLE_LIGNES).getSingleResult();
+                ligne = tailles[0] == null ? 0 : ((Number) tailles[0]).doubleValue();
+                lazy = tailles[1] == null ? 0 : ((Number) tailles[1]).doubleValue();
+            } finally {
+                em.close();
+            }
+            logger.info(String.format("📏 Ligne produit moyenne : %.0f octets, dont colonnes lazy : %.0f octets (%.1f%%)",
+                    ligne, lazy, ligne == 0 ? 0 : 100 * lazy / ligne));
+        }
+    }
+
+    @Benchmark
+    public void pageLazy(PersistenceState state, Tailles tailles, Blackhole blackhole) {
+        page(state, LISTE_LAZY, blackhole);
+    }
+
+    @Benchmark
+    public void pageComplete(PersistenceState state, Tailles tailles, Blackhole blackhole) {
+        page(state, LISTE_COMPLETE, blackhole);
+    }
+
+    /**
+     * Chaque page ouvre un EntityManager (pas de cache de premier niveau partagé)
+     */
+    private static void page(PersistenceState state, String hql, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            List<Produits> produits = em.createQuery(hql, Produits.class)
+                    .setParameter("depuis", state.data.produitAleatoire())
+                    .setMaxResults(TAILLE_PAGE)
+                    .getResultList();
+            // Accès typique d'une carte produit (colonnes non lazy)
+            for (Produits produit : produits) {
+                blackhole.consume(produit.getNom());
+                blackhole.consume(produit.getPrixVente());
+                blackhole.consume(produit.getImagePrincipaleUrl());
+            }
+        } finally {
+            em.close();
+        }
+    }
+}
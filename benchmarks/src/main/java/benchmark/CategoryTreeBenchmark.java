@@ -0,0 +1,120 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.support.PersistenceState;
+import model.produit.CategoriesProduits;
+import utils.catalogue.CategoryTree;
+import utils.catalogue.ProductCard;
+import utils.catalogue.ProductCardQueries;
+
+/**
+ * Menu des catégories avec nombre de produits : collections lazy et count par nœud, puis arbre en mémoire ;
+ * page de cartes d'un rayon entier (catégorie racine et sous-catégories)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CategoryTreeBenchmark {
+
+    static final int TAILLE_PAGE = 24;
+
+    private static final String RACINES =
+            "select c from CategoriesProduits c where c.categoriesProduits is null order by c.ordreAffichage, c.nom";
+    private static final String COMPTE = "select count(p.id) from Produits p join p.boutiques b "
+            + "where p.categoriesProduits = :categorie and p.estActif = true and b.estActif = true";
+
+    /**
+     * Arbre chargé une fois
+     */
+    @State(Scope.Benchmark)
+    public static class Arbre {
+
+        CategoryTree arbre;
+        int[] rayons;
+
+        @Setup
+        public void charger(PersistenceState state) {
+            arbre = CategoryTree.of(state.emf);
+            arbre.demarrer().join();
+            List<CategoryTree.Categorie> racines = arbre.racines();
+            rayons = new int[racines.size()];
+            for (int i = 0; i < rayons.length; i++) {
+                rayons[i] = racines.get(i).id;
+            }
+        }
+    }
+
+    @Benchmark
+    public void menuLazy(PersistenceState state, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            for (CategoriesProduits racine : em.createQuery(RACINES, CategoriesProduits.class).getResultList()) {
+                parcourir(em, racine, blackhole);
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void menuArbre(Arbre arbre, Blackhole blackhole) {
+        for (CategoryTree.Categorie racine : arbre.arbre.menu()) {
+            parcourir(racine, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void pageCartesRayon(PersistenceState state, Arbre arbre, Blackhole blackhole) {
+        int rayon = arbre.rayons[ThreadLocalRandom.current().nextInt(arbre.rayons.length)];
+        EntityManager em = state.ouvrir();
+        try {
+            ProductCardQueries.Page page = ProductCardQueries.page(em, arbre.arbre.filtre(rayon), null, TAILLE_PAGE);
+            for (ProductCard carte : page.cartes) {
+                blackhole.consume(carte.nom);
+                blackhole.consume(carte.getPrixAffiche());
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Produits du sous-arbre : un count par catégorie, cumulé en remontant
+     */
+    private static long parcourir(EntityManager em, CategoriesProduits categorie, Blackhole blackhole) {
+        long produits = em.createQuery(COMPTE, Long.class).setParameter("categorie", categorie).getSingleResult();
+        for (CategoriesProduits enfant : categorie.getCategoriesProduitses()) {
+            produits += parcourir(em, enfant, blackhole);
+        }
+        blackhole.consume(categorie.getNom());
+        blackhole.consume(produits);
+        return produits;
+    }
+
+    private static void parcourir(CategoryTree.Categorie categorie, Blackhole blackhole) {
+        blackhole.consume(categorie.nom);
+        blackhole.consume(categorie.produitsSousArbre);
+        for (CategoryTree.Categorie enfant : categorie.sousMenu()) {
+            parcourir(enfant, blackhole);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import utils.facet.FacetIndex;
+
+/**
+ * Navigation à facettes en mémoire : page filtrée et comptes de toutes les facettes
+ * Mode échantillonné : la sortie JMH donne les percentiles
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FacetBenchmark {
+
+    static final int TAILLE_PAGE = 24;
+
+    /**
+     * Index chargé une fois, sélections tirées des valeurs présentes (comptes de la navigation sans filtre)
+     */
+    @State(Scope.Benchmark)
+    public static class Navigation {
+
+        FacetIndex index;
+        FacetIndex.Selection[] uneFacette;
+        FacetIndex.Selection[] plusieursFacettes;
+
+        @Setup
+        public void charger(PersistenceState state) {
+            index = FacetIndex.of(state.emf);
+            index.demarrer().join();
+            Map<String, List<FacetIndex.Compte>> facettes = index.naviguer(new FacetIndex.Selection(), null, 1).facettes;
+            List<FacetIndex.Selection> simples = new ArrayList<>();
+            for (FacetIndex.Compte categorie : facettes.get(FacetIndex.CATEGORIE)) {
+                simples.add(new FacetIndex.Selection().avec(FacetIndex.CATEGORIE, categorie.valeur));
+            }
+            List<FacetIndex.Selection> combinees = new ArrayList<>();
+            List<FacetIndex.Compte> prix = facettes.get(FacetIndex.PRIX);
+            List<FacetIndex.Compte> couleurs = facettes.get(FacetIndex.COULEUR);
+            for (int i = 0; i < simples.size(); i++) {
+                // Catégorie, deux tranches de prix voisines, une couleur, en stock
+                int tranche = i % (prix.size() - 1);
+                combinees.add(new FacetIndex.Selection()
+                        .avec(FacetIndex.CATEGORIE, facettes.get(FacetIndex.CATEGORIE).get(i).valeur)
+                        .avec(FacetIndex.PRIX, prix.get(tranche).valeur, prix.get(tranche + 1).valeur)
+                        .avec(FacetIndex.COULEUR, couleurs.get(i % couleurs.size()).valeur)
+                        .avec(FacetIndex.STOCK, FacetIndex.OUI));
+            }
+            uneFacette = simples.toArray(new FacetIndex.Selection[0]);
+            plusieursFacettes = combinees.toArray(new FacetIndex.Selection[0]);
+        }
+
+        FacetIndex.Selection tirer(FacetIndex.Selection[] liste) {
+            return liste[ThreadLocalRandom.current().nextInt(liste.length)];
+        }
+    }
+
+    @Benchmark
+    public FacetIndex.Navigation sansFiltre(Navigation navigation) {
+        return navigation.index.naviguer(new FacetIndex.Selection(), null, TAILLE_PAGE);
+    }
+
+    @Benchmark
+    public FacetIndex.Navigation uneFacette(Navigation navigation) {
+        return navigation.index.naviguer(navigation.tirer(navigation.uneFacette), null, TAILLE_PAGE);
+    }
+
+    @Benchmark
+    public FacetIndex.Navigation plusieursFacettes(Navigation navigation) {
+        return navigation.index.naviguer(navigation.tirer(navigation.plusieursFacettes), null, TAILLE_PAGE);
+    }
+}
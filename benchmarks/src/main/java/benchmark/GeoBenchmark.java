@@ -0,0 +1,84 @@
+package benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import utils.geo.ShopGeoIndex;
+import utils.types.PointGps;
+
+/**
+ * Index géographique en mémoire : boutiques proches (rayon fixe) et boutiques qui livrent jusqu'au client
+ * Mode échantillonné : la sortie JMH donne les percentiles
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GeoBenchmark {
+
+    static final double RAYON_KM = 5;
+    static final int TAILLE_PAGE = 20;
+    private static final int NOMBRE_POSITIONS = 1_000;
+
+    /**
+     * Index chargé une fois, positions de clients tirées autour des boutiques (jusqu'à ~5 km)
+     */
+    @State(Scope.Benchmark)
+    public static class Geo {
+
+        ShopGeoIndex index;
+        PointGps[] positions;
+
+        @Setup
+        public void charger(PersistenceState state) {
+            index = ShopGeoIndex.of(state.emf);
+            index.demarrer().join();
+            EntityManager em = state.ouvrir();
+            try {
+                List<PointGps> boutiques = em.createQuery("select b.coordonneesGps from Boutiques b", PointGps.class)
+                        .setMaxResults(NOMBRE_POSITIONS)
+                        .getResultList();
+                SplittableRandom random = new SplittableRandom(42);
+                positions = new PointGps[boutiques.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    PointGps boutique = boutiques.get(i);
+                    positions[i] = new PointGps(boutique.getLatitude() + (random.nextDouble() - 0.5) * 0.09,
+                            boutique.getLongitude() + (random.nextDouble() - 0.5) * 0.09);
+                }
+            } finally {
+                em.close();
+            }
+        }
+
+        PointGps tirer() {
+            return positions[ThreadLocalRandom.current().nextInt(positions.length)];
+        }
+    }
+
+    @Benchmark
+    public List<ShopGeoIndex.Resultat> proches(Geo geo) {
+        return geo.index.proches(geo.tirer(), RAYON_KM, TAILLE_PAGE);
+    }
+
+    @Benchmark
+    public List<ShopGeoIndex.Resultat> livrant(Geo geo) {
+        return geo.index.livrant(geo.tirer(), TAILLE_PAGE);
+    }
+}
@@ -0,0 +1,112 @@
+package benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.utilisateur.Clients;
+import utils.metrics.MetricsReporter;
+import utils.metrics.PersistenceStatistics;
+import utils.transaction.OptimisticRetry;
+
+/**
+ * Points de fidélité crédités en fin de commande sur quelques clients très actifs, 8 threads :
+ * verrou de ligne (SELECT ... FOR UPDATE) contre colonne version et transaction rejouée sur conflit
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OptimisticLockBenchmark {
+
+    static final int CLIENTS_ACTIFS = 32;
+    static final String OPERATION = "benchmark.points";
+
+    /**
+     * Clients crédités pendant la mesure ; taux de conflit journalisé à la fin de chaque itération
+     */
+    @State(Scope.Benchmark)
+    public static class Fidelite {
+
+        int[] clientIds = new int[CLIENTS_ACTIFS];
+        PersistenceStatistics statistiques;
+
+        @Setup
+        public void preparer(PersistenceState state) {
+            for (int i = 0; i < clientIds.length; i++) {
+                clientIds[i] = state.data.clientAleatoire();
+            }
+            statistiques = MetricsReporter.statistics(state.emf);
+        }
+
+        int tirer() {
+            return clientIds[ThreadLocalRandom.current().nextInt(clientIds.length)];
+        }
+
+        @TearDown(Level.Iteration)
+        public void journaliser() {
+            if (statistiques == null) {
+                return;
+            }
+            for (PersistenceStatistics.ConflictCounts conflits : statistiques.snapshot(0).conflicts) {
+                if (OPERATION.equals(conflits.operation)) {
+                    System.out.println("\n" + conflits);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int verrouLigne(PersistenceState state, Fidelite fidelite) {
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Clients client = em.find(Clients.class, fidelite.tirer(), LockModeType.PESSIMISTIC_WRITE);
+            int points = crediter(client);
+            em.getTransaction().commit();
+            return points;
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public int versionReprise(PersistenceState state, Fidelite fidelite) {
+        int clientId = fidelite.tirer();
+        try {
+            return OptimisticRetry.executer(state.emf, OPERATION, em -> crediter(em.find(Clients.class, clientId)));
+        } catch (PersistenceException e) {
+            // Abandon après la dernière tentative : compté dans les statistiques, la mesure continue
+            if (!OptimisticRetry.estConflit(e)) {
+                throw e;
+            }
+            return -1;
+        }
+    }
+
+    private static int crediter(Clients client) {
+        int points = (client.getPointsFidelite() == null ? 0 : client.getPointsFidelite()) + 10;
+        client.setPointsFidelite(points);
+        return points;
+    }
+}
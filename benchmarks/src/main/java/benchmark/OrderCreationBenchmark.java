@@ -0,0 +1,99 @@
+package benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.commande.ArticlesCommande;
+import model.commande.Commandes;
+import model.commande.StatutsCommande;
+import model.entreprise.Boutiques;
+import model.produit.Produits;
+import model.reference.Devises;
+import model.utilisateur.Clients;
+import utils.types.Adresse;
+
+/**
+ * Création d'une commande et de ses lignes dans une transaction
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OrderCreationBenchmark {
+
+    static final int LIGNES = 3;
+
+    @Benchmark
+    public int creerCommande(PersistenceState state) {
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Timestamp maintenant = new Timestamp(System.currentTimeMillis());
+            UUID uuid = UUID.randomUUID();
+
+            Commandes commande = new Commandes();
+            commande.setUuid(uuid);
+            commande.setNumeroCommande("BENCH-" + uuid);
+            commande.setClients(em.getReference(Clients.class, state.data.clientAleatoire()));
+            commande.setBoutiques(em.getReference(Boutiques.class, state.data.boutiqueAleatoire()));
+            commande.setStatutsCommande(em.getReference(StatutsCommande.class, state.data.getStatutCommandeId()));
+            commande.setDevises(em.getReference(Devises.class, state.data.getDeviseId()));
+            commande.setAdresseLivraison(new Adresse()
+                    .setNomComplet("Client benchmark")
+                    .setAdresse("Rue 10, Médina")
+                    .setVille("Dakar")
+                    .setPays("SN"));
+            commande.setDateCommande(maintenant);
+            commande.setCreeLe(maintenant);
+
+            BigDecimal sousTotal = BigDecimal.ZERO;
+            for (int i = 0; i < LIGNES; i++) {
+                Produits produit = em.find(Produits.class, state.data.produitAleatoire());
+                int quantite = 1 + ThreadLocalRandom.current().nextInt(3);
+                BigDecimal total = produit.getPrixVente().multiply(BigDecimal.valueOf(quantite))
+                        .setScale(2, RoundingMode.HALF_UP);
+                ArticlesCommande article = new ArticlesCommande();
+                article.setCommandes(commande);
+                article.setProduits(produit);
+                article.setNomProduit(produit.getNom());
+                article.setQuantite(quantite);
+                article.setPrixUnitaire(produit.getPrixVente());
+                article.setPrixTotal(total);
+                article.setTauxTva(produit.getTauxTva());
+                article.setCreeLe(maintenant);
+                commande.getArticlesCommandes().add(article);
+                sousTotal = sousTotal.add(total);
+            }
+            commande.setSousTotal(sousTotal);
+            commande.setTotalCommande(sousTotal);
+
+            em.persist(commande);
+            for (ArticlesCommande article : commande.getArticlesCommandes()) {
+                em.persist(article);
+            }
+            em.getTransaction().commit();
+            return commande.getId();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
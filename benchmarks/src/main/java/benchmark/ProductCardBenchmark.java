@@ -0,0 +1,148 @@
+package benchmark;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.support.PersistenceState;
+import model.produit.Produits;
+import utils.catalogue.ProductCard;
+import utils.catalogue.ProductCardQueries;
+
+/**
+ * Carte produit : fiche unitaire et page de listing catalogue
+ * (entités Produits, puis modèle de lecture cartes_produits en projection), création d'un produit
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ProductCardBenchmark {
+
+    static final int TAILLE_PAGE = 24;
+
+    private static final String LISTE =
+            "select p from Produits p join fetch p.boutiques where p.estActif = true and p.id >= :depuis order by p.id";
+
+    @Benchmark
+    public void ficheProduit(PersistenceState state, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            Produits produit = em.find(Produits.class, state.data.produitAleatoire());
+            carte(produit, blackhole);
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void pageCatalogue(PersistenceState state, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            List<Produits> produits = em.createQuery(LISTE, Produits.class)
+                    .setParameter("depuis", state.data.produitAleatoire())
+                    .setMaxResults(TAILLE_PAGE)
+                    .getResultList();
+            for (Produits produit : produits) {
+                carte(produit, blackhole);
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void pageCartes(PersistenceState state, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            ProductCardQueries.Page page = ProductCardQueries.page(em, null, state.data.produitAleatoire(), TAILLE_PAGE);
+            for (ProductCard carte : page.cartes) {
+                carte(carte, blackhole);
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void pageCartesBoutique(PersistenceState state, Blackhole blackhole) {
+        EntityManager em = state.ouvrir();
+        try {
+            ProductCardQueries.Page page = ProductCardQueries.page(em,
+                    ProductCardQueries.Filtre.boutique(state.data.boutiqueAleatoire()), null, TAILLE_PAGE);
+            for (ProductCard carte : page.cartes) {
+                carte(carte, blackhole);
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Création par le chemin entité : uuid attribué au persist, carte écrite avant le commit
+     */
+    @Benchmark
+    public int creerProduit(PersistenceState state) {
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Timestamp maintenant = new Timestamp(System.currentTimeMillis());
+            Produits modele = em.find(Produits.class, state.data.produitAleatoire());
+            Produits produit = new Produits();
+            produit.setBoutiques(modele.getBoutiques());
+            produit.setCategoriesProduits(modele.getCategoriesProduits());
+            produit.setMarques(modele.getMarques());
+            produit.setNom(modele.getNom() + " (nouveau)");
+            produit.setDescriptionCourte(modele.getDescriptionCourte());
+            produit.setPrixVente(modele.getPrixVente());
+            produit.setTauxTva(modele.getTauxTva());
+            produit.setStockActuel(10);
+            produit.setStockMinimum(2);
+            produit.setImagePrincipaleUrl(modele.getImagePrincipaleUrl());
+            produit.setEstActif(true);
+            produit.setEstPublie(true);
+            produit.setEstEnPromotion(false);
+            produit.setCreeLe(maintenant);
+            em.persist(produit);
+            em.getTransaction().commit();
+            return produit.getId();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+
+    /**
+     * Champs affichés sur une carte produit (aucun groupe lazy)
+     */
+    private static void carte(Produits produit, Blackhole blackhole) {
+        blackhole.consume(produit.getNom());
+        blackhole.consume(produit.getPrixVente());
+        blackhole.consume(produit.getPrixPromo());
+        blackhole.consume(produit.getImagePrincipaleUrl());
+        blackhole.consume(produit.getNoteMoyenne());
+        blackhole.consume(produit.getBoutiques().getNom());
+    }
+
+    private static void carte(ProductCard carte, Blackhole blackhole) {
+        blackhole.consume(carte.nom);
+        blackhole.consume(carte.getPrixAffiche());
+        blackhole.consume(carte.imagePrincipaleUrl);
+        blackhole.consume(carte.noteMoyenne);
+        blackhole.consume(carte.boutiqueNom);
+    }
+}
@@ -0,0 +1,108 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import utils.search.AutocompleteIndex;
+import utils.search.ProductSearchIndex;
+
+/**
+ * Recherche produits en mémoire : requêtes complètes et saisie en cours (préfixe), autocomplétion par frappe
+ * Mode échantillonné : la sortie JMH donne les percentiles (p0.99 attendu sous 10 ms)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SearchBenchmark {
+
+    static final int TAILLE_PAGE = 24;
+    static final int TAILLE_SUGGESTIONS = 8;
+    private static final int NOMBRE_REQUETES = 500;
+
+    /**
+     * Index chargé une fois, requêtes tirées des noms de produits existants
+     */
+    @State(Scope.Benchmark)
+    public static class Recherche {
+
+        ProductSearchIndex index;
+        AutocompleteIndex suggestions;
+        String[] requetes;
+        String[] saisies;
+        String[] frappes;
+
+        @Setup
+        public void charger(PersistenceState state) {
+            index = ProductSearchIndex.of(state.emf);
+            index.demarrer().join();
+            suggestions = AutocompleteIndex.of(state.emf);
+            suggestions.demarrer().join();
+            List<String> completes = new ArrayList<>();
+            List<String> partielles = new ArrayList<>();
+            List<String> debuts = new ArrayList<>();
+            EntityManager em = state.ouvrir();
+            try {
+                long produits = em.createQuery("select max(p.id) from Produits p", Integer.class).getSingleResult();
+                List<String> noms = em.createQuery("select p.nom from Produits p where mod(p.id, :pas) = 0", String.class)
+                        .setParameter("pas", (int) Math.max(1, produits / NOMBRE_REQUETES))
+                        .setMaxResults(NOMBRE_REQUETES)
+                        .getResultList();
+                for (String nom : noms) {
+                    String[] mots = nom.split(" ");
+                    // "boubou brodé" ; saisie en cours : "boubou br", "bou"
+                    completes.add(mots.length > 1 ? mots[0] + " " + mots[mots.length - 1] : mots[0]);
+                    String dernier = mots[mots.length - 1];
+                    partielles.add(mots.length > 1
+                            ? mots[0] + " " + dernier.substring(0, Math.min(2, dernier.length()))
+                            : mots[0].substring(0, Math.min(3, mots[0].length())));
+                    // Chaque frappe du premier mot : "b", "bo", "bou"...
+                    for (int longueur = 1; longueur <= Math.min(5, nom.length()); longueur++) {
+                        debuts.add(nom.substring(0, longueur));
+                    }
+                }
+            } finally {
+                em.close();
+            }
+            requetes = completes.toArray(new String[0]);
+            saisies = partielles.toArray(new String[0]);
+            frappes = debuts.toArray(new String[0]);
+        }
+
+        String tirer(String[] liste) {
+            return liste[ThreadLocalRandom.current().nextInt(liste.length)];
+        }
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Resultats requete(Recherche recherche) {
+        return recherche.index.rechercher(recherche.tirer(recherche.requetes) + " ", 0, TAILLE_PAGE);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Resultats saisie(Recherche recherche) {
+        return recherche.index.rechercher(recherche.tirer(recherche.saisies), 0, TAILLE_PAGE);
+    }
+
+    @Benchmark
+    public List<AutocompleteIndex.Suggestion> completion(Recherche recherche) {
+        return recherche.suggestions.completer(recherche.tirer(recherche.frappes), TAILLE_SUGGESTIONS);
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import benchmark.support.PersistenceState;
+import utils.stock.StockAlerts;
+
+/**
+ * Produits à signaler d'une boutique (stock bas, rupture, péremption à 7 jours) : scrutation SQL de la table
+ * produits contre les ensembles tenus à jour par {@link StockAlerts}
+ * Mode échantillonné : la sortie JMH donne les percentiles
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StockAlertBenchmark {
+
+    private static final String SCRUTATION = "SELECT p.id FROM public.produits p WHERE p.boutique_id = ?1 "
+            + "AND (p.stock_actuel <= 0 OR p.stock_actuel <= p.stock_minimum "
+            + "OR (p.stock_actuel > 0 AND least(p.date_peremption, p.date_expiration) <= current_date + 7))";
+
+    /**
+     * Boutiques tirées au hasard, alertes chargées
+     */
+    @State(Scope.Benchmark)
+    public static class Boutiques {
+
+        int[] boutiqueIds;
+        StockAlerts alertes;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void charger(PersistenceState state) {
+            EntityManager em = state.ouvrir();
+            try {
+                List<Number> ids = em.createNativeQuery("SELECT id FROM public.boutiques").getResultList();
+                boutiqueIds = ids.stream().mapToInt(Number::intValue).toArray();
+            } finally {
+                em.close();
+            }
+            alertes = StockAlerts.of(state.emf);
+            alertes.demarrer().join();
+        }
+
+        int boutique() {
+            return boutiqueIds[ThreadLocalRandom.current().nextInt(boutiqueIds.length)];
+        }
+    }
+
+    @Benchmark
+    public List<?> scrutationSql(PersistenceState state, Boutiques boutiques) {
+        EntityManager em = state.ouvrir();
+        try {
+            return em.createNativeQuery(SCRUTATION)
+                    .setParameter(1, boutiques.boutique())
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void alertesEnMemoire(Boutiques boutiques, Blackhole trou) {
+        int boutique = boutiques.boutique();
+        trou.consume(boutiques.alertes.produitsSousMinimum(boutique));
+        trou.consume(boutiques.alertes.produitsAPerimer(boutique));
+    }
+}
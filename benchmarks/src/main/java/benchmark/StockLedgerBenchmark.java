@@ -0,0 +1,141 @@
+package benchmark;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import utils.stock.StockLedger;
+
+/**
+ * Stock « au » une date de la dernière semaine : somme du journal complet (un an de mouvements) contre dernier
+ * instantané + rejeu des mouvements du jour, pour un produit très mouvementé et pour l'inventaire d'une boutique
+ * Mode échantillonné : la sortie JMH donne les percentiles
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StockLedgerBenchmark {
+
+    static final int PRODUITS_MOUVEMENTES = 100;
+    private static final long SEMAINE_MS = 7 * 86_400_000L;
+
+    private static final String PRODUIT_JOURNAL = "SELECT m.lot_numero, sum(m.quantite_mouvement) AS quantite, "
+            + "sum(m.valeur_totale) AS valeur FROM public.mouvements_stock m "
+            + "WHERE m.produit_id = ?1 AND m.cree_le <= ?2 GROUP BY m.lot_numero";
+    private static final String BOUTIQUE_JOURNAL = "SELECT m.produit_id, m.lot_numero, "
+            + "sum(m.quantite_mouvement) AS quantite, sum(m.valeur_totale) AS valeur "
+            + "FROM public.mouvements_stock m JOIN public.produits p ON p.id = m.produit_id "
+            + "WHERE p.boutique_id = ?1 AND m.cree_le <= ?2 GROUP BY m.produit_id, m.lot_numero";
+
+    /**
+     * Produits les plus mouvementés, boutique du plus mouvementé, fin du journal
+     */
+    @State(Scope.Benchmark)
+    public static class Journal {
+
+        int[] produitIds;
+        int[] boutiqueIds;
+        long fin;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void charger(PersistenceState state) {
+            EntityManager em = state.ouvrir();
+            try {
+                List<Object[]> lignes = em.createNativeQuery("SELECT m.produit_id, p.boutique_id "
+                        + "FROM public.mouvements_stock m JOIN public.produits p ON p.id = m.produit_id "
+                        + "GROUP BY m.produit_id, p.boutique_id ORDER BY count(*) DESC")
+                        .setMaxResults(PRODUITS_MOUVEMENTES)
+                        .getResultList();
+                if (lignes.isEmpty()) {
+                    throw new IllegalStateException("❌ Journal de stock vide (base générée avant les mouvements ?)");
+                }
+                produitIds = new int[lignes.size()];
+                boutiqueIds = new int[lignes.size()];
+                for (int i = 0; i < lignes.size(); i++) {
+                    produitIds[i] = ((Number) lignes.get(i)[0]).intValue();
+                    boutiqueIds[i] = ((Number) lignes.get(i)[1]).intValue();
+                }
+                fin = ((Timestamp) em.createNativeQuery("SELECT max(cree_le) FROM public.mouvements_stock")
+                        .getSingleResult()).getTime();
+            } finally {
+                em.close();
+            }
+        }
+
+        int produit() {
+            return produitIds[ThreadLocalRandom.current().nextInt(produitIds.length)];
+        }
+
+        int boutique() {
+            return boutiqueIds[ThreadLocalRandom.current().nextInt(boutiqueIds.length)];
+        }
+
+        Timestamp date() {
+            return new Timestamp(fin - ThreadLocalRandom.current().nextLong(SEMAINE_MS));
+        }
+    }
+
+    @Benchmark
+    public List<?> produitJournalComplet(PersistenceState state, Journal journal) {
+        EntityManager em = state.ouvrir();
+        try {
+            return em.createNativeQuery(PRODUIT_JOURNAL)
+                    .setParameter(1, journal.produit())
+                    .setParameter(2, journal.date())
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public StockLedger.StockProduit produitInstantane(PersistenceState state, Journal journal) {
+        EntityManager em = state.ouvrir();
+        try {
+            return StockLedger.stockProduit(em, journal.produit(), journal.date());
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<?> boutiqueJournalComplet(PersistenceState state, Journal journal) {
+        EntityManager em = state.ouvrir();
+        try {
+            return em.createNativeQuery(BOUTIQUE_JOURNAL)
+                    .setParameter(1, journal.boutique())
+                    .setParameter(2, journal.date())
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public StockLedger.Inventaire boutiqueInstantane(PersistenceState state, Journal journal) {
+        EntityManager em = state.ouvrir();
+        try {
+            return StockLedger.inventaire(em, journal.boutique(), journal.date());
+        } finally {
+            em.close();
+        }
+    }
+}
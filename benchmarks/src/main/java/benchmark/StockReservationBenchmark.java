@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.support.PersistenceState;
+import model.produit.Produits;
+import utils.stock.StockReservations;
+
+/**
+ * Vente flash sur un seul produit, 8 threads : verrou de ligne par commande, puis réservations en mémoire
+ * (réserver / libérer, réserver / confirmer avec écriture différée des mouvements)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StockReservationBenchmark {
+
+    static final int STOCK_VENTE_FLASH = 50_000_000;
+
+    /**
+     * Produit de la vente flash, stock assez grand pour ne jamais s'épuiser pendant la mesure
+     */
+    @State(Scope.Benchmark)
+    public static class VenteFlash {
+
+        StockReservations reservations;
+        int produitId;
+
+        @Setup
+        public void preparer(PersistenceState state) {
+            reservations = StockReservations.of(state.emf);
+            produitId = state.data.produitAleatoire();
+            EntityManager em = state.ouvrir();
+            try {
+                em.getTransaction().begin();
+                em.find(Produits.class, produitId).setStockActuel(STOCK_VENTE_FLASH);
+                em.getTransaction().commit();
+            } finally {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Panier d'un thread : une référence de réservation par client
+     */
+    @State(Scope.Thread)
+    public static class Panier {
+
+        final String reference = "PANIER-" + Thread.currentThread().getId();
+    }
+
+    @Benchmark
+    public int verrouLigne(PersistenceState state, VenteFlash vente) {
+        EntityManager em = state.ouvrir();
+        try {
+            em.getTransaction().begin();
+            Produits produit = em.find(Produits.class, vente.produitId, LockModeType.PESSIMISTIC_WRITE);
+            produit.setStockActuel(produit.getStockActuel() - 1);
+            em.getTransaction().commit();
+            return produit.getStockActuel();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public boolean reserverLiberer(VenteFlash vente, Panier panier) {
+        StockReservations.Reservation reservation = vente.reservations.reserver(vente.produitId, 1, panier.reference);
+        return reservation != null && vente.reservations.liberer(reservation.id);
+    }
+
+    @Benchmark
+    public boolean reserverConfirmer(VenteFlash vente, Panier panier) {
+        StockReservations.Reservation reservation = vente.reservations.reserver(vente.produitId, 1, panier.reference);
+        return reservation != null && vente.reservations.confirmer(reservation.id, panier.reference);
+    }
+}
@@ -0,0 +1,265 @@
+package benchmark.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vocabulaire du catalogue synthétique : catégories, noms de produits, variantes et attributs, termes de recherche
+ * (français et wolof)
+ * Les termes recherchés reprennent les mots des noms de produits pour que les recherches trouvent des résultats
+ */
+final class Catalogue {
+
+    static final int MAX_LIGNES = 5;
+    static final int LONGUEUR_DESCRIPTION = 255;
+
+    static final Categorie[] CATEGORIES = {
+            new Categorie("Téléphones et tablettes", "Smartphone", "Téléphone", "Tablette", "Chargeur", "Écouteurs", "Power bank"),
+            new Categorie("Mode femme", "Robe", "Boubou", "Pagne", "Sac à main", "Sandales", "Foulard"),
+            new Categorie("Mode homme", "Chemise", "Grand boubou", "Pantalon", "Babouches", "Caftan", "Montre"),
+            new Categorie("Tissus", "Wax", "Bazin", "Thioup", "Lin", "Soie", "Dentelle"),
+            new Categorie("Épicerie", "Riz parfumé", "Huile d'arachide", "Café Touba", "Bissap", "Thiakry", "Lait caillé"),
+            new Categorie("Beauté", "Thiouraye", "Beurre de karité", "Savon noir", "Parfum", "Crème", "Henné"),
+            new Categorie("Maison", "Natte", "Marmite", "Ventilateur", "Canapé", "Rideaux", "Encens"),
+            new Categorie("Électroménager", "Réfrigérateur", "Climatiseur", "Mixeur", "Téléviseur", "Fer à repasser", "Congélateur"),
+            new Categorie("Informatique", "Ordinateur portable", "Imprimante", "Clé USB", "Souris", "Disque dur", "Routeur"),
+            new Categorie("Bébé", "Couches", "Poussette", "Biberon", "Lait infantile", "Porte-bébé", "Body"),
+            new Categorie("Sport", "Maillot", "Ballon", "Chaussures de sport", "Survêtement", "Tapis de yoga", "Haltères"),
+            new Categorie("Artisanat", "Djembé", "Sabar", "Panier tressé", "Statuette", "Bijoux", "Tableau sous-verre"),
+            new Categorie("Auto et moto", "Casque", "Pneu", "Batterie", "Huile moteur", "Rétroviseur", "Housse"),
+            new Categorie("Librairie", "Coran", "Cahier", "Roman", "Manuel scolaire", "Stylo", "Cartable"),
+            new Categorie("Agriculture", "Semences", "Engrais", "Arrosoir", "Motopompe", "Houe", "Grillage")
+    };
+
+    // Rayons du menu : catégories racines (sans produit direct), parents des catégories ci-dessus (indices)
+    static final Rayon[] RAYONS = {
+            new Rayon("High-tech", 0, 8),
+            new Rayon("Mode et textile", 1, 2, 3),
+            new Rayon("Maison", 6, 7, 11),
+            new Rayon("Alimentation et beauté", 4, 5),
+            new Rayon("Famille et loisirs", 9, 10, 13),
+            new Rayon("Auto et agriculture", 12, 14)
+    };
+
+    static final String[] QUALIFICATIFS = {
+            "premium", "classique", "noir", "blanc", "rouge", "bleu", "doré", "brodé", "artisanal", "importé",
+            "grand modèle", "petit modèle", "lot de 3", "édition Tabaski", "local", "bio"
+    };
+
+    static final String[] COULEURS = {
+            "Noir", "Blanc", "Rouge", "Bleu", "Vert", "Jaune", "Doré", "Marron", "Rose", "Gris", "Orange", "Violet"
+    };
+    private static final String[] TAILLES = { "XS", "S", "M", "L", "XL", "XXL" };
+
+    private static final String[] TAGS = {
+            "nouveauté", "meilleure vente", "made in Sénégal", "fait main", "livraison gratuite", "idée cadeau",
+            "Tabaski", "Korité"
+    };
+
+    // Attributs de fiche produit, par catégorie (même ordre que CATEGORIES) ; garantie et entretien non filtrables
+    private static final Attribut ORIGINE = new Attribut("Origine", true, "Sénégal", "Mali", "Côte d'Ivoire", "Nigeria",
+            "Maroc", "Chine", "France");
+    private static final Attribut MATIERE = new Attribut("Matière", true, "Coton", "Wax", "Bazin", "Soie", "Lin",
+            "Polyester", "Cuir");
+    private static final Attribut POIDS = new Attribut("Poids", true, "250 g", "500 g", "1 kg", "5 kg", "25 kg", "50 kg");
+    private static final Attribut GARANTIE = new Attribut("Garantie", false, "3 mois", "6 mois", "12 mois", "24 mois");
+    private static final Attribut ENTRETIEN = new Attribut("Entretien", false, "Lavage à la main",
+            "Lavage en machine à 30 °C", "Nettoyage à sec");
+    static final Attribut[][] ATTRIBUTS = {
+            { new Attribut("Stockage", true, "32 Go", "64 Go", "128 Go", "256 Go"),
+                    new Attribut("Réseau", true, "3G", "4G", "5G"), GARANTIE },
+            { MATIERE, ENTRETIEN },
+            { MATIERE, ENTRETIEN },
+            { MATIERE, new Attribut("Métrage", true, "3 m", "5 m", "6 m", "10 m"), ORIGINE },
+            { POIDS, ORIGINE },
+            { new Attribut("Contenance", true, "50 ml", "100 ml", "250 ml", "500 ml"), ORIGINE },
+            { new Attribut("Matériau", true, "Bois", "Plastique", "Métal", "Tissu", "Paille"), ORIGINE },
+            { new Attribut("Classe énergétique", true, "A++", "A+", "A", "B"),
+                    new Attribut("Puissance", true, "500 W", "1000 W", "1500 W", "2000 W"), GARANTIE },
+            { new Attribut("Capacité", true, "64 Go", "128 Go", "256 Go", "512 Go", "1 To"), GARANTIE },
+            { new Attribut("Âge", true, "0-6 mois", "6-12 mois", "1-3 ans", "3 ans et plus") },
+            { MATIERE, new Attribut("Pratique", true, "Football", "Basket", "Lutte", "Course", "Fitness") },
+            { MATIERE, ORIGINE },
+            { new Attribut("Compatibilité", true, "Toyota", "Peugeot", "Renault", "Hyundai", "Yamaha", "Universel"),
+                    GARANTIE },
+            { new Attribut("Langue", true, "Français", "Arabe", "Wolof", "Anglais") },
+            { POIDS, new Attribut("Usage", true, "Maraîchage", "Arachide", "Mil", "Riz", "Élevage") }
+    };
+
+    private static final String[] MARQUES = {
+            "Sama", "Teranga", "Dakar", "Baobab", "Sahel", "Kër", "Jàmm", "Yaay", "Sunu", "Ndar"
+    };
+
+    // Termes de recherche : dérivés des noms de produits, puis quelques termes wolof
+    static final String[] TERMES;
+    private static final int PREMIER_TERME_WOLOF;
+
+    static {
+        String[] wolof = { "thiouraye", "mburu", "ceeb", "jën", "yére", "dàll", "xaalis", "jumtukaay", "teraanga", "lal" };
+        int nombre = 0;
+        for (Categorie categorie : CATEGORIES) {
+            nombre += categorie.noms.length;
+        }
+        TERMES = new String[nombre + wolof.length];
+        int i = 0;
+        for (Categorie categorie : CATEGORIES) {
+            for (String nom : categorie.noms) {
+                TERMES[i++] = nom.toLowerCase();
+            }
+        }
+        PREMIER_TERME_WOLOF = i;
+        System.arraycopy(wolof, 0, TERMES, i, wolof.length);
+    }
+
+    private Catalogue() {
+    }
+
+    static String marque(int id) {
+        return MARQUES[id % MARQUES.length] + " " + (id / MARQUES.length + 1);
+    }
+
+    /**
+     * Nom déterministe d'un produit (le générateur dérivé du produit est consommé)
+     */
+    static String nomProduit(SplittableRandom random, int categorie) {
+        String[] noms = CATEGORIES[categorie].noms;
+        return noms[random.nextInt(noms.length)] + " " + QUALIFICATIFS[random.nextInt(QUALIFICATIFS.length)];
+    }
+
+    /**
+     * Description de 1 à 4 phrases, bornée à {@link #LONGUEUR_DESCRIPTION} (colonne varchar du schéma généré)
+     */
+    static String description(String nom, SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(nom).append(".");
+        int phrases = 1 + random.nextInt(4);
+        for (int i = 0; i < phrases; i++) {
+            sb.append(" Qualité ").append(QUALIFICATIFS[random.nextInt(QUALIFICATIFS.length)])
+                    .append(", livraison partout au Sénégal.");
+        }
+        return sb.length() > LONGUEUR_DESCRIPTION ? sb.substring(0, LONGUEUR_DESCRIPTION) : sb.toString();
+    }
+
+    /**
+     * Couleurs proposées (1 à 3), ou null pour les catégories sans variante de couleur
+     */
+    static List<String> couleurs(SplittableRandom random, int categorie) {
+        if (categorie == 4 || categorie == 13 || categorie == 14) {
+            return null;
+        }
+        int nombre = 1 + random.nextInt(3);
+        List<String> couleurs = new ArrayList<>(nombre);
+        int premiere = random.nextInt(COULEURS.length);
+        for (int i = 0; i < nombre; i++) {
+            couleurs.add(COULEURS[(premiere + i * 5) % COULEURS.length]);
+        }
+        return couleurs;
+    }
+
+    /**
+     * Tailles proposées (plage contiguë) pour les vêtements (modes et sport), null sinon
+     */
+    static List<String> tailles(SplittableRandom random, int categorie) {
+        if (categorie != 1 && categorie != 2 && categorie != 10) {
+            return null;
+        }
+        int debut = random.nextInt(3);
+        return List.of(TAILLES).subList(debut, debut + 2 + random.nextInt(TAILLES.length - debut - 1));
+    }
+
+    /**
+     * Mots-clés : nom de la catégorie et du rayon, plus un terme wolof une fois sur trois
+     */
+    static List<String> motsCles(SplittableRandom random, int categorie) {
+        List<String> motsCles = new ArrayList<>(3);
+        motsCles.add(CATEGORIES[categorie].nom.toLowerCase());
+        for (Rayon rayon : RAYONS) {
+            for (int c : rayon.categories) {
+                if (c == categorie) {
+                    motsCles.add(rayon.nom.toLowerCase());
+                }
+            }
+        }
+        if (random.nextInt(3) == 0) {
+            motsCles.add(TERMES[PREMIER_TERME_WOLOF + random.nextInt(TERMES.length - PREMIER_TERME_WOLOF)]);
+        }
+        return motsCles;
+    }
+
+    /**
+     * Tags commerciaux (0 à 2), ou null sans tag
+     */
+    static List<String> tags(SplittableRandom random) {
+        int nombre = random.nextInt(3);
+        if (nombre == 0) {
+            return null;
+        }
+        int premier = random.nextInt(TAGS.length);
+        return nombre == 1 ? List.of(TAGS[premier]) : List.of(TAGS[premier], TAGS[(premier + 3) % TAGS.length]);
+    }
+
+    /**
+     * Contenu de recherche au format texte d'un tsvector ("'boubou':1 'brodé':2") : mots en minuscules,
+     * numérotés dans l'ordre des textes (sans racinisation, contrairement à to_tsvector)
+     */
+    static String tsvector(String... textes) {
+        StringBuilder sb = new StringBuilder();
+        int position = 0;
+        for (String texte : textes) {
+            for (String mot : texte.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+                if (!mot.isEmpty()) {
+                    if (sb.length() > 0) {
+                        sb.append(' ');
+                    }
+                    sb.append('\'').append(mot).append("':").append(++position);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    static boolean estWolof(int terme) {
+        return terme >= PREMIER_TERME_WOLOF;
+    }
+
+    /**
+     * Attribut de fiche produit et valeurs possibles
+     */
+    static final class Attribut {
+        final String nom;
+        final boolean filtrable;
+        final String[] valeurs;
+
+        Attribut(String nom, boolean filtrable, String... valeurs) {
+            this.nom = nom;
+            this.filtrable = filtrable;
+            this.valeurs = valeurs;
+        }
+    }
+
+    /**
+     * Rayon (catégorie racine) et indices de ses sous-catégories dans CATEGORIES
+     */
+    static final class Rayon {
+        final String nom;
+        final int[] categories;
+
+        Rayon(String nom, int... categories) {
+            this.nom = nom;
+            this.categories = categories;
+        }
+    }
+
+    /**
+     * Catégorie et noms de produits associés
+     */
+    static final class Categorie {
+        final String nom;
+        final String[] noms;
+
+        Categorie(String nom, String... noms) {
+            this.nom = nom;
+            this.noms = noms;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package benchmark.data;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Flux COPY ... FROM STDIN (format texte) : une ligne = une suite d'appels de colonnes puis {@link #fin()}
+ * Les lignes sont accumulées puis envoyées par blocs, sans passer par des requêtes préparées
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int BLOC = 1 << 18;
+
+    private final String table;
+    private final CopyIn copy;
+    private final StringBuilder tampon = new StringBuilder(BLOC + 4096);
+    private boolean debutLigne = true;
+    private long lignes;
+
+    private CopyWriter(String table, CopyIn copy) {
+        this.table = table;
+        this.copy = copy;
+    }
+
+    static CopyWriter ouvrir(Connection connection, String table, String... colonnes) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", colonnes) + ") FROM STDIN";
+        return new CopyWriter(table, connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql));
+    }
+
+    private StringBuilder colonne() {
+        if (!debutLigne) {
+            tampon.append('\t');
+        }
+        debutLigne = false;
+        return tampon;
+    }
+
+    CopyWriter nul() {
+        colonne().append("\\N");
+        return this;
+    }
+
+    CopyWriter entier(long valeur) {
+        colonne().append(valeur);
+        return this;
+    }
+
+    /**
+     * Clé étrangère facultative : 0 = NULL
+     */
+    CopyWriter reference(int id) {
+        return id == 0 ? nul() : entier(id);
+    }
+
+    CopyWriter booleen(boolean valeur) {
+        colonne().append(valeur ? 't' : 'f');
+        return this;
+    }
+
+    /**
+     * Montant en centimes écrit avec deux décimales
+     */
+    CopyWriter montant(long centimes) {
+        StringBuilder sb = colonne();
+        if (centimes < 0) {
+            sb.append('-');
+            centimes = -centimes;
+        }
+        sb.append(centimes / 100).append('.');
+        long reste = centimes % 100;
+        if (reste < 10) {
+            sb.append('0');
+        }
+        sb.append(reste);
+        return this;
+    }
+
+    CopyWriter texte(String valeur) {
+        if (valeur == null) {
+            return nul();
+        }
+        StringBuilder sb = colonne();
+        int echappement = 0;
+        while (echappement < valeur.length() && !aEchapper(valeur.charAt(echappement))) {
+            echappement++;
+        }
+        // Cas courant : aucun caractère à échapper, copie en bloc
+        sb.append(valeur, 0, echappement);
+        for (int i = echappement; i < valeur.length(); i++) {
+            char c = valeur.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return this;
+    }
+
+    private static boolean aEchapper(char c) {
+        return c == '\\' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    CopyWriter uuid(UUID valeur) {
+        colonne().append(valeur);
+        return this;
+    }
+
+    /**
+     * Horodatage sans fuseau (secondes depuis l'epoch, UTC)
+     */
+    CopyWriter horodatage(long epochSecondes) {
+        colonne().append(LocalDateTime.ofEpochSecond(epochSecondes, 0, ZoneOffset.UTC));
+        return this;
+    }
+
+    void fin() throws SQLException {
+        tampon.append('\n');
+        debutLigne = true;
+        lignes++;
+        if (tampon.length() >= BLOC) {
+            envoyer();
+        }
+    }
+
+    private void envoyer() throws SQLException {
+        byte[] octets = tampon.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(octets, 0, octets.length);
+        tampon.setLength(0);
+    }
+
+    long getLignes() {
+        return lignes;
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!copy.isActive()) {
+            return;
+        }
+        if (!debutLigne) {
+            copy.cancelCopy();
+            throw new IllegalStateException("❌ Ligne incomplète dans " + table);
+        }
+        envoyer();
+        copy.endCopy();
+    }
+}
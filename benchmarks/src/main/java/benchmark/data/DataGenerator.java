@@ -0,0 +1,980 @@
+package benchmark.data;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import benchmark.support.BenchmarkDatabase;
+import utils.catalogue.ProductCardRefresher;
+import utils.search.SearchStatisticsRefresher;
+import utils.stock.StockLedger;
+import utils.types.Adresse;
+import utils.types.Json;
+import utils.types.JsonList;
+import utils.types.JsonMap;
+import utils.types.PointGps;
+
+/**
+ * Générateur de données synthétiques pour les tests de charge (schéma complet, clés étrangères respectées)
+ * Les lignes sont envoyées en flux par COPY : plusieurs millions de lignes sans requête préparée
+ * Données reproductibles : une même graine et les mêmes volumes donnent la même base
+ *
+ * Lancement : java -cp target/benchmarks.jar -Dbench.jdbc.url=jdbc:postgresql://localhost/senmarket_bench
+ *             [-Dbench.schema=create] [-Dbench.echelle=100] benchmark.data.DataGenerator
+ */
+public final class DataGenerator {
+
+    private static final Logger logger = Logger.getLogger(DataGenerator.class.getName());
+
+    // Date de référence fixe (2026-01-01T00:00:00Z) : les horodatages ne dépendent pas du jour de génération
+    static final long REFERENCE = 1_767_225_600L;
+    private static final long JOUR = 86_400L;
+    private static final long ANNEE = 365 * JOUR;
+
+    // Statuts de commande, dans l'ordre des identifiants générés
+    private static final String[][] STATUTS = {
+            { "EN_ATTENTE", "En attente" }, { "CONFIRMEE", "Confirmée" }, { "EN_PREPARATION", "En préparation" },
+            { "EXPEDIEE", "Expédiée" }, { "LIVREE", "Livrée" }, { "ANNULEE", "Annulée" }
+    };
+    private static final int[] POIDS_STATUTS = { 8, 7, 8, 10, 60, 7 };
+    private static final int EXPEDIEE = 4;
+    private static final int LIVREE = 5;
+    private static final int SEUIL_REAPPROVISIONNEMENT = 10;
+
+    private static final String[][] TRANSPORTEURS = {
+            { "Senegal Express", "SNEX" }, { "Dakar Coursiers", "DKCR" }, { "La Poste Sénégal", "LPSN" }, { "Yobanté", "YOBT" }
+    };
+    private static final String[] SUIVI = { "PRISE_EN_CHARGE", "EN_TRANSIT", "ARRIVEE_AGENCE", "EN_COURS_LIVRAISON", "LIVREE" };
+
+    private static final String[] PAIEMENTS = { "wave", "orange_money", "especes", "carte", "free_money" };
+    private static final int[] POIDS_PAIEMENTS = { 38, 30, 20, 8, 4 };
+    private static final String[] EVENEMENTS = { "vue_produit", "recherche", "vue_boutique", "ajout_panier", "achat" };
+    private static final int[] POIDS_EVENEMENTS = { 58, 16, 10, 12, 4 };
+    private static final String[] APPAREILS = { "mobile", "mobile", "mobile", "desktop", "tablette" };
+    private static final String[] SYSTEMES = { "Android", "Android", "iOS", "Windows", "macOS" };
+    private static final String[] PRENOMS = {
+            "Awa", "Moussa", "Fatou", "Mamadou", "Aminata", "Ibrahima", "Mariama", "Cheikh", "Khady", "Ousmane",
+            "Ndeye", "Abdoulaye", "Coumba", "Modou", "Astou", "Babacar", "Adja", "Serigne", "Rokhaya", "Pape"
+    };
+    private static final String[] NOMS = {
+            "Diop", "Ndiaye", "Fall", "Sow", "Gueye", "Diallo", "Faye", "Ba", "Sarr", "Mbaye",
+            "Cissé", "Kane", "Seck", "Diouf", "Thiam", "Niang", "Sy", "Touré", "Camara", "Wade"
+    };
+
+    // Domaines des générateurs dérivés (une commande se régénère à l'identique à chaque passe)
+    private static final long PRODUIT = 1;
+    private static final long COMMANDE = 2;
+    private static final long PANIER = 3;
+    private static final long LIVRAISON = 4;
+    private static final long VARIANTE = 5;
+    private static final long ATTRIBUT = 6;
+    private static final long BOUTIQUE = 7;
+    private static final long PEREMPTION = 8;
+    private static final long RECHERCHE = 9;
+
+    private final Connection connection;
+    private final Volumes volumes;
+    private final Map<String, Long> lignesParTable = new LinkedHashMap<>();
+
+    private final ZipfSampler produitsPopulaires;
+    private final ZipfSampler boutiquesPopulaires;
+    private final ZipfSampler clientsFideles;
+    private final ZipfSampler categoriesPopulaires;
+    private final ZipfSampler termesPopulaires;
+
+    // Données par produit, indexées par identifiant (génération séquentielle 1..n)
+    private final int[] boutiqueDuProduit;
+    private final int[] prixDuProduit;
+    private final int[] stockDuProduit;
+    private final byte[] categorieDuProduit;
+    private final int[][] produitsParBoutique;
+    private final byte[] villeDuClient;
+
+    // Tampons réutilisés pour les lignes de commande et de panier
+    private final int[] lignesProduits = new int[Catalogue.MAX_LIGNES];
+    private final int[] lignesQuantites = new int[Catalogue.MAX_LIGNES];
+
+    private DataGenerator(Connection connection, Volumes volumes) {
+        this.connection = connection;
+        this.volumes = volumes;
+        this.produitsPopulaires = new ZipfSampler(volumes.produits, volumes.asymetrie);
+        this.boutiquesPopulaires = new ZipfSampler(volumes.boutiques, volumes.asymetrie);
+        this.clientsFideles = new ZipfSampler(volumes.clients, volumes.asymetrie * 0.6);
+        this.categoriesPopulaires = new ZipfSampler(Catalogue.CATEGORIES.length, 0.8);
+        this.termesPopulaires = new ZipfSampler(Catalogue.TERMES.length, 1.0);
+        this.boutiqueDuProduit = new int[volumes.produits + 1];
+        this.prixDuProduit = new int[volumes.produits + 1];
+        this.stockDuProduit = new int[volumes.produits + 1];
+        this.categorieDuProduit = new byte[volumes.produits + 1];
+        this.produitsParBoutique = new int[volumes.boutiques + 1][];
+        this.villeDuClient = new byte[volumes.clients + 1];
+    }
+
+    /**
+     * Remplit un schéma vide (créé depuis les hbm.xml) et repositionne les séquences d'identifiants
+     * La connexion est laissée dans son mode d'origine ; une transaction est validée par table
+     */
+    public static Rapport generer(Connection connection, Volumes volumes) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            DataGenerator generateur = new DataGenerator(connection, volumes);
+            long debut = System.nanoTime();
+            generateur.verifierSchemaVide();
+            generateur.referentiel();
+            generateur.boutiques();
+            generateur.produits();
+            generateur.attributs();
+            generateur.mouvementsStock();
+            generateur.clients();
+            generateur.paniers();
+            generateur.commandes();
+            generateur.livraisons();
+            generateur.evenements();
+            generateur.recherches();
+            generateur.suggestions();
+            generateur.sequences();
+            generateur.cartes();
+            generateur.statistiquesRecherche();
+            generateur.instantanesStock();
+
+            Rapport rapport = new Rapport();
+            rapport.volumes = volumes;
+            rapport.lignesParTable = generateur.lignesParTable;
+            rapport.dureeMs = (System.nanoTime() - debut) / 1_000_000;
+            return rapport;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty(BenchmarkDatabase.URL);
+        if (url == null) {
+            System.err.println("Usage : -D" + BenchmarkDatabase.URL + "=jdbc:postgresql://... [-D"
+                    + BenchmarkDatabase.SCHEMA + "=create] [-Dbench.echelle=N] benchmark.data.DataGenerator");
+            System.exit(2);
+        }
+        if ("create".equals(System.getProperty(BenchmarkDatabase.SCHEMA))) {
+            // Schéma recréé depuis les mappings puis peuplé par le même générateur
+            BenchmarkDatabase.get();
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty(BenchmarkDatabase.USER, "postgres"), System.getProperty(BenchmarkDatabase.PASSWORD, ""))) {
+            logger.info(generer(connection, Volumes.depuisProprietes()).toString());
+        }
+    }
+
+    private void verifierSchemaVide() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM produits) OR EXISTS (SELECT 1 FROM devises)")) {
+            rs.next();
+            if (rs.getBoolean(1)) {
+                throw new IllegalStateException("❌ Le schéma contient déjà des données (recréer avec -D"
+                        + BenchmarkDatabase.SCHEMA + "=create)");
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------ référentiel
+
+    private void referentiel() throws SQLException {
+        try (CopyWriter copy = ouvrir("devises", "id", "code", "nom", "symbole", "decimales", "est_devise_base")) {
+            copy.entier(1).texte("XOF").texte("Franc CFA").texte("FCFA").entier(0).booleen(true).fin();
+            valider(copy);
+        }
+        try (CopyWriter copy = ouvrir("statuts_commande", "id", "code", "libelle")) {
+            for (int i = 0; i < STATUTS.length; i++) {
+                copy.entier(i + 1).texte(STATUTS[i][0]).texte(STATUTS[i][1]).fin();
+            }
+            valider(copy);
+        }
+        try (CopyWriter copy = ouvrir("profils_utilisateur", "id", "code", "nom")) {
+            copy.entier(1).texte("CLIENT").texte("Client").fin();
+            copy.entier(2).texte("VENDEUR").texte("Vendeur").fin();
+            valider(copy);
+        }
+        // Rayons numérotés après les catégories : les produits gardent categorie_id = indice + 1
+        try (CopyWriter copy = ouvrir("categories_produits", "id", "parent_id", "nom", "niveau", "ordre_affichage",
+                "chemin_hierarchique", "est_actif")) {
+            for (int r = 0; r < Catalogue.RAYONS.length; r++) {
+                int rayon = Catalogue.CATEGORIES.length + r + 1;
+                copy.entier(rayon).nul().texte(Catalogue.RAYONS[r].nom).entier(1).entier(r + 1)
+                        .texte("/" + rayon + "/").booleen(true).fin();
+                int[] categories = Catalogue.RAYONS[r].categories;
+                for (int i = 0; i < categories.length; i++) {
+                    int id = categories[i] + 1;
+                    copy.entier(id).entier(rayon).texte(Catalogue.CATEGORIES[categories[i]].nom).entier(2)
+                            .entier(i + 1).texte("/" + rayon + "/" + id + "/").booleen(true).fin();
+                }
+            }
+            valider(copy);
+        }
+        try (CopyWriter copy = ouvrir("marques", "id", "nom")) {
+            for (int i = 1; i <= volumes.marques; i++) {
+                copy.entier(i).texte(Catalogue.marque(i)).fin();
+            }
+            valider(copy);
+        }
+        try (CopyWriter copy = ouvrir("transporteurs", "id", "nom", "code", "frais_base",
+                "delai_livraison_min", "delai_livraison_max", "est_actif", "cree_le")) {
+            for (int i = 0; i < TRANSPORTEURS.length; i++) {
+                copy.entier(i + 1).texte(TRANSPORTEURS[i][0]).texte(TRANSPORTEURS[i][1]).montant((1000 + 500 * i) * 100L)
+                        .entier(1).entier(2 + i).booleen(true).horodatage(REFERENCE - ANNEE).fin();
+            }
+            valider(copy);
+        }
+    }
+
+    // ------------------------------------------------------------------ boutiques et produits
+
+    private void boutiques() throws SQLException {
+        SplittableRandom random = aleatoire("boutiques");
+        try (CopyWriter copy = ouvrir("boutiques", "id", "uuid", "nom", "code_boutique", "adresse_ligne1", "ville", "region",
+                "coordonnees_gps", "livraison_disponible", "rayon_livraison_km", "frais_livraison", "note_moyenne",
+                "nombre_evaluations", "est_actif", "est_verifie", "cree_le", "est_en_ligne")) {
+            for (int id = 1; id <= volumes.boutiques; id++) {
+                Geographie.Ville ville = Geographie.tirer(random, volumes.dakar);
+                copy.entier(id).uuid(uuid(random)).texte("Boutique " + NOMS[random.nextInt(NOMS.length)] + " " + id)
+                        .texte(String.format("BTQ%06d", id))
+                        .texte(random.nextInt(1, 200) + " rue " + Geographie.quartier(random))
+                        .texte(ville.nom).texte(ville.region)
+                        .texte(PointGps.parse(ville.coordonnees(random)).toPoint())
+                        .booleen(random.nextInt(100) < 85).entier(5 + random.nextInt(26)).montant(500L * (1 + random.nextInt(6)) * 100)
+                        .montant(300 + random.nextInt(201)).entier(random.nextInt(400))
+                        .booleen(random.nextInt(100) < 97).booleen(random.nextInt(100) < 60)
+                        .horodatage(REFERENCE - 2 * ANNEE + random.nextLong(ANNEE))
+                        // Tirage à part : le flux principal est inchangé
+                        .booleen(derive(BOUTIQUE, id).nextInt(100) < 92).fin();
+            }
+            valider(copy);
+        }
+    }
+
+    private void produits() throws SQLException {
+        SplittableRandom random = aleatoire("produits");
+        int[] nombreParBoutique = new int[volumes.boutiques + 1];
+        try (CopyWriter copy = ouvrir("produits", "id", "boutique_id", "categorie_id", "marque_id", "devise_id", "uuid",
+                "nom", "description_courte", "description", "sku", "prix_vente", "prix_promo", "taux_tva", "stock_actuel",
+                "stock_minimum", "images_urls", "image_principale_url", "note_moyenne", "nombre_evaluations", "nombre_vues",
+                "nombre_ventes", "est_actif", "est_en_stock", "est_publie", "est_en_promotion", "cree_le",
+                "couleurs_disponibles", "tailles_disponibles", "date_peremption", "mots_cles", "tags",
+                "contenu_recherche")) {
+            for (int id = 1; id <= volumes.produits; id++) {
+                int boutique = boutiquesPopulaires.tirer(random);
+                int categorie = categoriesPopulaires.tirer(random) - 1;
+                boutiqueDuProduit[id] = boutique;
+                categorieDuProduit[id] = (byte) categorie;
+                nombreParBoutique[boutique]++;
+
+                // Prix log-normal (médiane ~12 000 FCFA), arrondi à 50 FCFA
+                long prix = Math.round(Math.exp(Math.log(12_000) + random.nextGaussian()) / 50) * 50;
+                prix = Math.max(100, Math.min(2_000_000, prix));
+                prixDuProduit[id] = (int) prix;
+                boolean promotion = random.nextInt(100) < 15;
+                int stock = random.nextInt(100) < 8 ? 0 : random.nextInt(1, 500);
+                stockDuProduit[id] = stock;
+                // Vues et ventes décroissent avec le rang de popularité (identifiant)
+                int vues = (int) (200_000 / Math.pow(id, 0.7 * volumes.asymetrie)) + random.nextInt(50);
+
+                String nom = Catalogue.nomProduit(derive(PRODUIT, id), categorie);
+                String descriptionCourte = nom + " - livraison rapide à " + Geographie.VILLES[0].nom;
+                String image = "https://cdn.senmarket.sn/produits/" + id + "/";
+                copy.entier(id).entier(boutique).entier(categorie + 1)
+                        .reference(random.nextInt(100) < 60 ? random.nextInt(1, volumes.marques + 1) : 0).entier(1)
+                        .uuid(uuid(random)).texte(nom)
+                        .texte(descriptionCourte)
+                        .texte(Catalogue.description(nom, random))
+                        .texte(String.format("SKU-%06d-%08d", boutique, id))
+                        .montant(prix * 100);
+                if (promotion) {
+                    copy.montant(Math.round(prix * 0.8) * 100);
+                } else {
+                    copy.nul();
+                }
+                copy.montant(1800).entier(stock).entier(5)
+                        .texte(Json.write(new JsonList(List.of(image + "1.jpg", image + "2.jpg", image + "3.jpg"))))
+                        .texte(image + "principale.jpg")
+                        .montant(300 + random.nextInt(201)).entier(random.nextInt(vues / 100 + 1))
+                        .entier(vues).entier(vues / 40)
+                        .booleen(random.nextInt(100) < 97).booleen(stock > 0).booleen(true).booleen(promotion)
+                        .horodatage(REFERENCE - random.nextLong(2 * ANNEE));
+                // Variantes tirées à part : le flux principal (et donc le reste de la base) est inchangé
+                SplittableRandom variantes = derive(VARIANTE, id);
+                liste(copy, Catalogue.couleurs(variantes, categorie));
+                liste(copy, Catalogue.tailles(variantes, categorie));
+                // Un produit sur huit périssable : péremption entre un mois avant et un an après la référence
+                SplittableRandom peremption = derive(PEREMPTION, id);
+                if (peremption.nextInt(8) == 0) {
+                    copy.texte(LocalDate.ofEpochDay(REFERENCE / JOUR - 30 + peremption.nextInt(395)).toString());
+                } else {
+                    copy.nul();
+                }
+                // Mots-clés, tags et contenu de recherche (tsvector) tirés à part, comme les variantes
+                SplittableRandom recherche = derive(RECHERCHE, id);
+                List<String> motsCles = Catalogue.motsCles(recherche, categorie);
+                liste(copy, motsCles);
+                liste(copy, Catalogue.tags(recherche));
+                copy.texte(Catalogue.tsvector(nom, descriptionCourte, String.join(" ", motsCles)));
+                copy.fin();
+            }
+            valider(copy);
+        }
+        for (int b = 1; b <= volumes.boutiques; b++) {
+            produitsParBoutique[b] = new int[nombreParBoutique[b]];
+            nombreParBoutique[b] = 0;
+        }
+        for (int id = 1; id <= volumes.produits; id++) {
+            int boutique = boutiqueDuProduit[id];
+            produitsParBoutique[boutique][nombreParBoutique[boutique]++] = id;
+        }
+    }
+
+    /**
+     * Fiches techniques : attributs de la catégorie du produit (85 % renseignés), le premier obligatoire
+     */
+    private void attributs() throws SQLException {
+        int id = 0;
+        try (CopyWriter copy = ouvrir("attributs_produits", "id", "produit_id", "nom_attribut", "valeur_attribut",
+                "type_attribut", "ordre_affichage", "est_filtrable", "est_obligatoire")) {
+            for (int produit = 1; produit <= volumes.produits; produit++) {
+                SplittableRandom random = derive(ATTRIBUT, produit);
+                Catalogue.Attribut[] attributs = Catalogue.ATTRIBUTS[categorieDuProduit[produit]];
+                for (int ordre = 0; ordre < attributs.length; ordre++) {
+                    if (ordre > 0 && random.nextInt(100) >= 85) {
+                        continue;
+                    }
+                    Catalogue.Attribut attribut = attributs[ordre];
+                    copy.entier(++id).entier(produit).texte(attribut.nom)
+                            .texte(attribut.valeurs[random.nextInt(attribut.valeurs.length)])
+                            .texte(attribut.filtrable ? "liste" : "texte").entier(ordre + 1)
+                            .booleen(attribut.filtrable).booleen(ordre == 0).fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    private static void liste(CopyWriter copy, List<String> elements) {
+        if (elements == null) {
+            copy.nul();
+        } else {
+            copy.texte(Json.write(new JsonList(elements)));
+        }
+    }
+
+    // ------------------------------------------------------------------ clients et paniers
+
+    private void clients() throws SQLException {
+        SplittableRandom random = aleatoire("clients");
+        try (CopyWriter copy = ouvrir("personnes", "id", "profil_id", "prenom", "nom", "email", "telephone", "ville",
+                "region", "est_actif", "cree_le")) {
+            for (int id = 1; id <= volumes.clients; id++) {
+                Geographie.Ville ville = Geographie.tirer(random, volumes.dakar);
+                villeDuClient[id] = (byte) indexVille(ville);
+                String prenom = PRENOMS[random.nextInt(PRENOMS.length)];
+                String nom = NOMS[random.nextInt(NOMS.length)];
+                copy.entier(id).entier(1).texte(prenom).texte(nom)
+                        .texte(prenom.toLowerCase() + "." + nom.toLowerCase() + "." + id + "@exemple.sn")
+                        .texte(telephone(random)).texte(ville.nom).texte(ville.region)
+                        .booleen(true).horodatage(REFERENCE - random.nextLong(2 * ANNEE)).fin();
+            }
+            valider(copy);
+        }
+        try (CopyWriter copy = ouvrir("clients", "id", "personne_id", "numero_client")) {
+            for (int id = 1; id <= volumes.clients; id++) {
+                copy.entier(id).entier(id).texte(String.format("CL%08d", id)).fin();
+            }
+            valider(copy);
+        }
+    }
+
+    private void paniers() throws SQLException {
+        try (CopyWriter copy = ouvrir("paniers", "id", "client_id", "sous_total", "montant_tva", "frais_livraison",
+                "remise_appliquee", "total_final", "est_actif", "cree_le")) {
+            for (int id = 1; id <= volumes.paniers; id++) {
+                SplittableRandom random = derive(PANIER, id);
+                int client = clientsFideles.tirer(random);
+                int lignes = lignesPanier(random);
+                long sousTotal = sousTotal(lignes);
+                long tva = sousTotal * 18 / 100;
+                copy.entier(id).entier(client).montant(sousTotal * 100).montant(tva * 100).montant(0).montant(0)
+                        .montant((sousTotal + tva) * 100).booleen(true).horodatage(REFERENCE - random.nextLong(30 * JOUR)).fin();
+            }
+            valider(copy);
+        }
+        long article = 0;
+        try (CopyWriter copy = ouvrir("articles_panier", "id", "produit_id", "panier_id", "quantite", "prix_unitaire",
+                "prix_total", "ajoute_le")) {
+            for (int id = 1; id <= volumes.paniers; id++) {
+                SplittableRandom random = derive(PANIER, id);
+                clientsFideles.tirer(random);
+                int lignes = lignesPanier(random);
+                long ajout = REFERENCE - random.nextLong(30 * JOUR);
+                for (int i = 0; i < lignes; i++) {
+                    int produit = lignesProduits[i];
+                    copy.entier(++article).entier(produit).entier(id).entier(lignesQuantites[i])
+                            .montant(prixDuProduit[produit] * 100L).montant((long) prixDuProduit[produit] * lignesQuantites[i] * 100)
+                            .horodatage(ajout).fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    /**
+     * Lignes d'un panier : produits populaires, toutes boutiques confondues
+     */
+    private int lignesPanier(SplittableRandom random) {
+        int lignes = nombreLignes(random);
+        for (int i = 0; i < lignes; i++) {
+            lignesProduits[i] = produitsPopulaires.tirer(random);
+            lignesQuantites[i] = 1 + random.nextInt(3);
+        }
+        return lignes;
+    }
+
+    // ------------------------------------------------------------------ commandes et livraisons
+
+    /**
+     * Régénère la commande (client, boutique, statut, lignes) à partir de son identifiant
+     * Une commande ne porte que des produits de la boutique du premier article
+     */
+    private final class Commande {
+        int id;
+        int client;
+        int boutique;
+        int statut;
+        long date;
+        int lignes;
+        long sousTotal;
+        long frais;
+        SplittableRandom random;
+
+        void charger(int id) {
+            this.id = id;
+            random = derive(COMMANDE, id);
+            client = clientsFideles.tirer(random);
+            int premier = produitsPopulaires.tirer(random);
+            boutique = boutiqueDuProduit[premier];
+            int[] catalogue = produitsParBoutique[boutique];
+            lignes = nombreLignes(random);
+            lignesProduits[0] = premier;
+            for (int i = 0; i < lignes; i++) {
+                if (i > 0) {
+                    lignesProduits[i] = catalogue[random.nextInt(catalogue.length)];
+                }
+                lignesQuantites[i] = 1 + (random.nextInt(100) < 80 ? 0 : random.nextInt(1, 4));
+            }
+            sousTotal = sousTotal(lignes);
+            frais = random.nextInt(100) < 30 ? 0 : 500L * (1 + random.nextInt(6));
+            statut = 1 + pondere(random, POIDS_STATUTS);
+            date = REFERENCE - random.nextLong(ANNEE);
+        }
+
+        Geographie.Ville ville() {
+            return Geographie.VILLES[villeDuClient[client]];
+        }
+    }
+
+    private void commandes() throws SQLException {
+        Commande commande = new Commande();
+        try (CopyWriter copy = ouvrir("commandes", "id", "boutique_id", "devise_id", "statut_id", "client_id", "uuid",
+                "numero_commande", "sous_total", "montant_tva", "frais_livraison", "montant_remise", "total_commande",
+                "adresse_livraison", "date_commande", "mode_paiement", "statut_paiement", "canal_commande", "cree_le")) {
+            for (int id = 1; id <= volumes.commandes; id++) {
+                commande.charger(id);
+                SplittableRandom random = commande.random;
+                long tva = commande.sousTotal * 18 / 100;
+                String statutPaiement = commande.statut == 6 ? "rembourse" : commande.statut == 1 ? "en_attente" : "paye";
+                copy.entier(id).entier(commande.boutique).entier(1).entier(commande.statut).entier(commande.client)
+                        .uuid(uuid(random)).texte(String.format("CMD-%010d", id))
+                        .montant(commande.sousTotal * 100).montant(tva * 100).montant(commande.frais * 100).montant(0)
+                        .montant((commande.sousTotal + tva + commande.frais) * 100)
+                        .texte(adresse(random, commande.ville(), "Client " + commande.client).toJson())
+                        .horodatage(commande.date).texte(PAIEMENTS[pondere(random, POIDS_PAIEMENTS)]).texte(statutPaiement)
+                        .texte(random.nextInt(100) < 75 ? "mobile" : "web").horodatage(commande.date).fin();
+            }
+            valider(copy);
+        }
+        long article = 0;
+        try (CopyWriter copy = ouvrir("articles_commande", "id", "produit_id", "commande_id", "nom_produit", "quantite",
+                "prix_unitaire", "prix_total", "taux_tva", "statut_article", "cree_le")) {
+            for (int id = 1; id <= volumes.commandes; id++) {
+                commande.charger(id);
+                for (int i = 0; i < commande.lignes; i++) {
+                    int produit = lignesProduits[i];
+                    copy.entier(++article).entier(produit).entier(id)
+                            .texte(Catalogue.nomProduit(derive(PRODUIT, produit), categorieDuProduit[produit]))
+                            .entier(lignesQuantites[i]).montant(prixDuProduit[produit] * 100L)
+                            .montant((long) prixDuProduit[produit] * lignesQuantites[i] * 100).montant(1800)
+                            .texte(commande.statut == 6 ? "annule" : "confirme").horodatage(commande.date).fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    /**
+     * Une livraison par commande expédiée ou livrée, puis son suivi (2 à 5 étapes)
+     */
+    private void livraisons() throws SQLException {
+        Commande commande = new Commande();
+        int livraison = 0;
+        try (CopyWriter copy = ouvrir("livraisons", "id", "commande_id", "transporteur_id", "uuid", "numero_suivi",
+                "type_livraison", "adresse_origine", "adresse_destination", "statut", "date_expedition",
+                "date_livraison_prevue", "date_livraison_reelle", "frais_livraison", "nombre_tentatives", "cree_le")) {
+            for (int id = 1; id <= volumes.commandes; id++) {
+                commande.charger(id);
+                if (commande.statut != EXPEDIEE && commande.statut != LIVREE) {
+                    continue;
+                }
+                SplittableRandom random = derive(LIVRAISON, id);
+                long expedition = commande.date + JOUR / 2 + random.nextLong(JOUR);
+                boolean livree = commande.statut == LIVREE;
+                Geographie.Ville origine = Geographie.VILLES[0];
+                copy.entier(++livraison).entier(id).entier(1 + random.nextInt(TRANSPORTEURS.length)).uuid(uuid(random))
+                        .texte(String.format("SN%012d", id)).texte(commande.ville() == origine ? "express" : "standard")
+                        .texte(adresse(random, origine, "Boutique " + commande.boutique).toJson())
+                        .texte(adresse(random, commande.ville(), "Client " + commande.client).toJson())
+                        .texte(livree ? "livree" : "en_transit").horodatage(expedition).horodatage(expedition + 2 * JOUR);
+                if (livree) {
+                    copy.horodatage(expedition + JOUR / 4 + random.nextLong(3 * JOUR));
+                } else {
+                    copy.nul();
+                }
+                copy.montant(commande.frais * 100).entier(1 + (random.nextInt(100) < 10 ? 1 : 0)).horodatage(expedition).fin();
+            }
+            valider(copy);
+        }
+        livraison = 0;
+        long suivi = 0;
+        try (CopyWriter copy = ouvrir("suivi_livraisons", "id", "livraison_id", "evenement", "description", "lieu",
+                "timestamp_evenement", "source", "cree_le")) {
+            for (int id = 1; id <= volumes.commandes; id++) {
+                commande.charger(id);
+                if (commande.statut != EXPEDIEE && commande.statut != LIVREE) {
+                    continue;
+                }
+                livraison++;
+                SplittableRandom random = derive(LIVRAISON, -id);
+                int etapes = commande.statut == LIVREE ? SUIVI.length : 2 + random.nextInt(SUIVI.length - 2);
+                long instant = commande.date + JOUR / 2;
+                for (int e = 0; e < etapes; e++) {
+                    instant += 1800 + random.nextLong(JOUR / 2);
+                    String lieu = e < 2 ? Geographie.VILLES[0].nom : commande.ville().nom;
+                    copy.entier(++suivi).entier(livraison).texte(SUIVI[e]).texte(SUIVI[e].replace('_', ' ').toLowerCase())
+                            .texte(lieu).horodatage(instant).texte("transporteur").horodatage(instant).fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    // ------------------------------------------------------------------ journal de stock
+
+    /**
+     * Journal de stock sur l'année : réceptions par lots sous le seuil de réapprovisionnement (coût 55 à 80 % du prix
+     * de vente, péremption pour un lot sur trois), ventes de 1 à 3 unités sur les produits populaires, puis un ajustement d'inventaire par produit
+     * pour finir sur stock_actuel ; quantités avant / après chaînées
+     */
+    private void mouvementsStock() throws SQLException {
+        SplittableRandom random = aleatoire("mouvements_stock");
+        int[] stocks = new int[volumes.produits + 1];
+        short[] lots = new short[volumes.produits + 1];
+        long id = 0;
+        try (CopyWriter copy = ouvrir("mouvements_stock", "id", "produit_id", "type_mouvement", "motif",
+                "quantite_avant", "quantite_mouvement", "quantite_apres", "prix_unitaire", "valeur_totale",
+                "reference_externe", "lot_numero", "date_expiration", "cree_le")) {
+            for (long n = 0; n < volumes.mouvements; n++) {
+                long horodatage = REFERENCE - ANNEE + n * (ANNEE - JOUR) / volumes.mouvements;
+                int produit = produitsPopulaires.tirer(random);
+                int avant = stocks[produit];
+                if (avant < SEUIL_REAPPROVISIONNEMENT || random.nextInt(1_000) < 5) {
+                    int quantite = 20 + random.nextInt(181);
+                    // Coût en centimes : prix de vente (FCFA) × pourcentage
+                    long cout = prixDuProduit[produit] * (55L + random.nextInt(26));
+                    copy.entier(++id).entier(produit).texte("ENTREE").texte("Réception fournisseur").entier(avant)
+                            .entier(quantite).entier(avant + quantite).montant(cout).montant(cout * quantite)
+                            .texte("BL-" + id).texte(String.format("L%07d-%05d", produit, ++lots[produit]));
+                    if (random.nextInt(3) == 0) {
+                        copy.texte(LocalDate.ofEpochDay((horodatage + (90 + random.nextInt(270)) * JOUR) / JOUR).toString());
+                    } else {
+                        copy.nul();
+                    }
+                    stocks[produit] = avant + quantite;
+                } else {
+                    int quantite = Math.min(avant, 1 + random.nextInt(3));
+                    copy.entier(++id).entier(produit).texte("VENTE").texte("Commande").entier(avant).entier(-quantite)
+                            .entier(avant - quantite).montant(prixDuProduit[produit] * 100L)
+                            .montant(prixDuProduit[produit] * 100L * quantite).texte("CMD-" + id).nul().nul();
+                    stocks[produit] = avant - quantite;
+                }
+                copy.horodatage(horodatage).fin();
+            }
+            for (int produit = 1; produit <= volumes.produits; produit++) {
+                int ecart = stockDuProduit[produit] - stocks[produit];
+                if (lots[produit] > 0 && ecart != 0) {
+                    copy.entier(++id).entier(produit).texte("AJUSTEMENT").texte("Inventaire annuel")
+                            .entier(stocks[produit]).entier(ecart).entier(stockDuProduit[produit]).nul().nul()
+                            .texte("INV-" + produit).nul().nul().horodatage(REFERENCE - JOUR / 2).fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    // ------------------------------------------------------------------ événements et recherches
+
+    private void evenements() throws SQLException {
+        SplittableRandom random = aleatoire("evenements_analytics");
+        try (CopyWriter copy = ouvrir("evenements_analytics", "id", "produit_id", "boutique_id", "session_id",
+                "nom_evenement", "categorie_evenement", "page_url", "proprietes", "valeur_monetaire", "adresse_ip",
+                "appareil_type", "systeme_exploitation", "navigateur", "pays", "ville", "timestamp_evenement")) {
+            for (long id = 1; id <= volumes.evenements; id++) {
+                int type = pondere(random, POIDS_EVENEMENTS);
+                String evenement = EVENEMENTS[type];
+                int produit = type == 1 || type == 2 ? 0 : produitsPopulaires.tirer(random);
+                int boutique = produit != 0 ? boutiqueDuProduit[produit] : type == 2 ? boutiquesPopulaires.tirer(random) : 0;
+                int appareil = random.nextInt(APPAREILS.length);
+                Geographie.Ville ville = Geographie.tirer(random, volumes.dakar);
+                JsonMap proprietes = new JsonMap().put("source", type == 1 ? "barre_recherche" : "catalogue");
+                if (type == 1) {
+                    proprietes.put("terme", Catalogue.TERMES[termesPopulaires.tirer(random) - 1]);
+                }
+                copy.entier(id).reference(produit).reference(boutique).texte(session(random)).texte(evenement)
+                        .texte(type == 4 ? "conversion" : "navigation")
+                        .texte(produit != 0 ? "/produits/" + produit : boutique != 0 ? "/boutiques/" + boutique : "/recherche")
+                        .texte(proprietes.toJson());
+                if (type == 4) {
+                    copy.montant(prixDuProduit[produit] * 100L);
+                } else {
+                    copy.nul();
+                }
+                copy.texte(ipSenegal(random)).texte(APPAREILS[appareil]).texte(SYSTEMES[appareil]).texte("Chrome")
+                        .texte("SN").texte(ville.nom).horodatage(REFERENCE - random.nextLong(ANNEE)).fin();
+            }
+            valider(copy);
+        }
+    }
+
+    private void recherches() throws SQLException {
+        SplittableRandom random = aleatoire("historique_recherches");
+        try (CopyWriter copy = ouvrir("historique_recherches", "id", "session_id", "texte_recherche", "type_recherche",
+                "langue_recherche", "nombre_resultats", "temps_recherche_ms", "a_clique_resultat", "position_clic",
+                "produit_clique_id", "boutique_cliquee_id", "cree_le")) {
+            for (long id = 1; id <= volumes.recherches; id++) {
+                int terme = termesPopulaires.tirer(random) - 1;
+                boolean sansResultat = random.nextInt(100) < 6;
+                boolean clic = !sansResultat && random.nextInt(100) < 45;
+                int produit = clic ? produitsPopulaires.tirer(random) : 0;
+                copy.entier(id).texte(session(random)).texte(Catalogue.TERMES[terme]).texte("texte")
+                        .texte(Catalogue.estWolof(terme) ? "wo" : "fr").entier(sansResultat ? 0 : 1 + random.nextInt(480))
+                        .entier(8 + random.nextInt(120)).booleen(clic);
+                if (clic) {
+                    copy.entier(1 + (int) Math.min(23, -Math.log(1 - random.nextDouble()) * 3));
+                } else {
+                    copy.nul();
+                }
+                copy.reference(produit).reference(produit != 0 ? boutiqueDuProduit[produit] : 0)
+                        .horodatage(REFERENCE - random.nextLong(ANNEE)).fin();
+            }
+            valider(copy);
+        }
+    }
+
+    /**
+     * Suggestions de saisie : chaque nom de produit, seul et avec chaque qualificatif, puis les termes wolof
+     * Popularité décroissante avec le rang de la catégorie et du nom (les premiers sont les plus recherchés)
+     */
+    private void suggestions() throws SQLException {
+        SplittableRandom random = aleatoire("suggestions_recherche");
+        try (CopyWriter copy = ouvrir("suggestions_recherche", "id", "texte_suggestion", "frequence_utilisation",
+                "langue", "categories_associees", "popularite_score", "est_actif", "cree_le")) {
+            long id = 0;
+            for (int c = 0; c < Catalogue.CATEGORIES.length; c++) {
+                String categories = Json.write(new JsonList(List.of(c + 1)));
+                String[] noms = Catalogue.CATEGORIES[c].noms;
+                for (int n = 0; n < noms.length; n++) {
+                    double rang = 1 + c * noms.length + n;
+                    for (int q = -1; q < Catalogue.QUALIFICATIFS.length; q++) {
+                        String texte = q < 0 ? noms[n] : noms[n] + " " + Catalogue.QUALIFICATIFS[q];
+                        int frequence = (int) (5_000 / (rang * (q + 2))) + random.nextInt(20);
+                        copy.entier(++id).texte(texte).entier(frequence).texte("fr").texte(categories)
+                                .montant(Math.round(10_000 / Math.sqrt(rang * (q + 2)))).booleen(true)
+                                .horodatage(REFERENCE - random.nextLong(ANNEE)).fin();
+                    }
+                }
+            }
+            for (int t = 0; t < Catalogue.TERMES.length; t++) {
+                if (Catalogue.estWolof(t)) {
+                    copy.entier(++id).texte(Catalogue.TERMES[t]).entier(random.nextInt(500)).texte("wo").nul()
+                            .montant(random.nextInt(5_000)).booleen(true).horodatage(REFERENCE - random.nextLong(ANNEE))
+                            .fin();
+                }
+            }
+            valider(copy);
+        }
+    }
+
+    // ------------------------------------------------------------------ finalisation
+
+    /**
+     * Place chaque séquence après le plus grand identifiant (pooled-lo : la valeur lue est la borne basse)
+     */
+    private void sequences() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : lignesParTable.keySet()) {
+                statement.execute("SELECT setval('" + table + "_id_seq', (SELECT coalesce(max(id), 0) + 1 FROM " + table
+                        + "), false) WHERE to_regclass('" + table + "_id_seq') IS NOT NULL");
+            }
+            connection.commit();
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            statement.execute("ANALYZE");
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Cartes produits : COPY ne déclenche pas les listeners Hibernate, le modèle de lecture est reconstruit
+     * (après les séquences : cartes_produits n'a pas de colonne id)
+     */
+    private void cartes() throws SQLException {
+        long cartes = ProductCardRefresher.reconstruire(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE public.cartes_produits");
+        }
+        connection.commit();
+        lignesParTable.put("cartes_produits", cartes);
+    }
+
+    /**
+     * Agrégats de recherche : reconstruits sur toute la période générée (historique chargé par COPY)
+     */
+    private void statistiquesRecherche() throws SQLException {
+        SearchStatisticsRefresher.reconstruire(connection, LocalDate.ofEpochDay((REFERENCE - ANNEE) / JOUR - 1));
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[] { "statistiques_recherche", "recherches_sans_resultat" }) {
+                statement.execute("ANALYZE public." + table);
+                try (ResultSet resultat = statement.executeQuery("SELECT count(*) FROM public." + table)) {
+                    resultat.next();
+                    lignesParTable.put(table, resultat.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    /**
+     * Instantanés du journal de stock : le 1er de chaque mois de l'année générée puis chaque jour de la dernière
+     * semaine, chacun calculé à partir du précédent
+     */
+    private void instantanesStock() throws SQLException {
+        LocalDate fin = LocalDate.ofEpochDay(REFERENCE / JOUR);
+        LocalDate semaine = fin.minusDays(6);
+        for (LocalDate jour = fin.minusYears(1).plusMonths(1); jour.isBefore(semaine); jour = jour.plusMonths(1)) {
+            StockLedger.arreter(connection, jour);
+        }
+        for (LocalDate jour = semaine; !jour.isAfter(fin); jour = jour.plusDays(1)) {
+            StockLedger.arreter(connection, jour);
+        }
+        long lignes;
+        try (Statement statement = connection.createStatement();
+                ResultSet resultat = statement.executeQuery("SELECT count(*) FROM public.instantanes_stock")) {
+            resultat.next();
+            lignes = resultat.getLong(1);
+            statement.execute("ANALYZE public.instantanes_stock");
+        }
+        connection.commit();
+        lignesParTable.put("instantanes_stock", lignes);
+    }
+
+    private CopyWriter ouvrir(String table, String... colonnes) throws SQLException {
+        return CopyWriter.ouvrir(connection, table, colonnes);
+    }
+
+    private void valider(CopyWriter copy) throws SQLException {
+        copy.close();
+        connection.commit();
+        lignesParTable.put(copy.getTable(), copy.getLignes());
+        logger.info("🌱 " + copy.getTable() + " : " + copy.getLignes() + " lignes");
+    }
+
+    private SplittableRandom aleatoire(String table) {
+        return new SplittableRandom(volumes.graine * 0x9E3779B97F4A7C15L + table.hashCode());
+    }
+
+    private SplittableRandom derive(long domaine, long id) {
+        return new SplittableRandom(volumes.graine ^ (domaine * 0x9E3779B97F4A7C15L) ^ (id * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    private long sousTotal(int lignes) {
+        long total = 0;
+        for (int i = 0; i < lignes; i++) {
+            total += (long) prixDuProduit[lignesProduits[i]] * lignesQuantites[i];
+        }
+        return total;
+    }
+
+    // 1 ligne : 45 %, 2 : 25 %, 3 : 15 %, 4 : 10 %, 5 : 5 %
+    private static int nombreLignes(SplittableRandom random) {
+        int tirage = random.nextInt(100);
+        return tirage < 45 ? 1 : tirage < 70 ? 2 : tirage < 85 ? 3 : tirage < 95 ? 4 : 5;
+    }
+
+    private static int pondere(SplittableRandom random, int[] poids) {
+        int total = 0;
+        for (int p : poids) {
+            total += p;
+        }
+        int tirage = random.nextInt(total);
+        for (int i = 0; i < poids.length; i++) {
+            tirage -= poids[i];
+            if (tirage < 0) {
+                return i;
+            }
+        }
+        return poids.length - 1;
+    }
+
+    private static int indexVille(Geographie.Ville ville) {
+        for (int i = 0; i < Geographie.VILLES.length; i++) {
+            if (Geographie.VILLES[i] == ville) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static Adresse adresse(SplittableRandom random, Geographie.Ville ville, String nom) {
+        String[] coordonnees = ville.coordonnees(random).split(",");
+        Adresse adresse = new Adresse()
+                .setNomComplet(nom)
+                .setTelephone(telephone(random))
+                .setAdresse(random.nextInt(1, 200) + " rue " + Geographie.quartier(random))
+                .setQuartier(Geographie.quartier(random))
+                .setVille(ville.nom)
+                .setRegion(ville.region)
+                .setPays("SN");
+        adresse.put(Adresse.LATITUDE, new BigDecimal(coordonnees[0]));
+        adresse.put(Adresse.LONGITUDE, new BigDecimal(coordonnees[1]));
+        return adresse;
+    }
+
+    private static String telephone(SplittableRandom random) {
+        String[] prefixes = { "77", "78", "76", "70", "75" };
+        return "+221 " + prefixes[random.nextInt(prefixes.length)] + " " + (100 + random.nextInt(900)) + " "
+                + (10 + random.nextInt(90)) + " " + (10 + random.nextInt(90));
+    }
+
+    private static String session(SplittableRandom random) {
+        return "sess-" + Long.toHexString(random.nextLong(1L << 40));
+    }
+
+    // Plages d'adresses des opérateurs sénégalais (Sonatel, Free, Expresso)
+    private static String ipSenegal(SplittableRandom random) {
+        int[][] plages = { { 41, 82 }, { 41, 83 }, { 154, 124 }, { 196, 207 }, { 41, 214 } };
+        int[] plage = plages[random.nextInt(plages.length)];
+        return plage[0] + "." + plage[1] + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    /**
+     * Volumes et forme des données (propriétés système bench.*)
+     */
+    public static class Volumes {
+        public int boutiques = 50;
+        public int marques = 200;
+        public int produits = 20_000;
+        public int clients = 2_000;
+        public int paniers = 1_000;
+        public int commandes = 5_000;
+        public long evenements = 50_000;
+        public long recherches = 20_000;
+        public long mouvements = 100_000;
+        public long graine = 42;
+        // Exposant de Zipf pour la popularité des produits et des boutiques (0 = uniforme)
+        public double asymetrie = 1.0;
+        // Part de Dakar dans la géographie (%)
+        public int dakar = 46;
+
+        /**
+         * -Dbench.echelle multiplie tous les volumes (ex. 100 → 2 millions de produits, 5 millions d'événements)
+         * puis chaque volume peut être fixé individuellement (-Dbench.produits=...)
+         */
+        public static Volumes depuisProprietes() {
+            Volumes volumes = new Volumes();
+            double echelle = Double.parseDouble(System.getProperty("bench.echelle", "1"));
+            volumes.boutiques = (int) entier("bench.boutiques", Math.round(volumes.boutiques * Math.sqrt(echelle)));
+            volumes.marques = (int) entier("bench.marques", Math.round(volumes.marques * Math.sqrt(echelle)));
+            volumes.produits = (int) entier("bench.produits", Math.round(volumes.produits * echelle));
+            volumes.clients = (int) entier("bench.clients", Math.round(volumes.clients * echelle));
+            volumes.paniers = (int) entier("bench.paniers", Math.round(volumes.paniers * echelle));
+            volumes.commandes = (int) entier("bench.commandes", Math.round(volumes.commandes * echelle));
+            volumes.evenements = entier("bench.evenements", Math.round(volumes.evenements * echelle));
+            volumes.recherches = entier("bench.recherches", Math.round(volumes.recherches * echelle));
+            volumes.mouvements = entier("bench.mouvements", Math.round(volumes.mouvements * echelle));
+            volumes.graine = entier("bench.graine", volumes.graine);
+            volumes.asymetrie = Double.parseDouble(System.getProperty("bench.asymetrie", String.valueOf(volumes.asymetrie)));
+            volumes.dakar = (int) entier("bench.dakar", volumes.dakar);
+            return volumes;
+        }
+
+        private static long entier(String propriete, long defaut) {
+            String valeur = System.getProperty(propriete);
+            return valeur == null ? defaut : Long.parseLong(valeur.trim());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("boutiques=%d produits=%d clients=%d paniers=%d commandes=%d evenements=%d "
+                    + "recherches=%d mouvements=%d graine=%d asymetrie=%.2f dakar=%d%%", boutiques, produits, clients,
+                    paniers, commandes, evenements, recherches, mouvements, graine, asymetrie, dakar);
+        }
+    }
+
+    /**
+     * Résultat d'une génération
+     */
+    public static class Rapport {
+        public Volumes volumes;
+        public Map<String, Long> lignesParTable;
+        public long dureeMs;
+
+        public long getTotalLignes() {
+            return lignesParTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== GÉNÉRATION DES DONNÉES ===\n");
+            sb.append(volumes).append("\n");
+            lignesParTable.forEach((table, lignes) -> sb.append(String.format("  %-25s %,12d%n", table, lignes)));
+            sb.append(String.format("Total : %,d lignes en %d ms (%,.0f lignes/s)%n", getTotalLignes(), dureeMs,
+                    dureeMs == 0 ? 0.0 : getTotalLignes() * 1000.0 / dureeMs));
+            sb.append("==============================");
+            return sb.toString();
+        }
+    }
+}
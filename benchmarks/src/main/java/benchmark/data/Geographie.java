@@ -0,0 +1,90 @@
+package benchmark.data;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Répartition géographique des boutiques, clients et événements : Dakar et sa banlieue dominent
+ */
+final class Geographie {
+
+    static final Ville[] VILLES = {
+            new Ville("Dakar", "Dakar", 14.6928, -17.4467, 46),
+            new Ville("Pikine", "Dakar", 14.7549, -17.3900, 9),
+            new Ville("Rufisque", "Dakar", 14.7161, -17.2733, 6),
+            new Ville("Thiès", "Thiès", 14.7910, -16.9359, 8),
+            new Ville("Mbour", "Thiès", 14.4220, -16.9650, 5),
+            new Ville("Touba", "Diourbel", 14.8500, -15.8833, 8),
+            new Ville("Saint-Louis", "Saint-Louis", 16.0179, -16.4896, 5),
+            new Ville("Kaolack", "Kaolack", 14.1652, -16.0758, 5),
+            new Ville("Ziguinchor", "Ziguinchor", 12.5681, -16.2733, 4),
+            new Ville("Tambacounda", "Tambacounda", 13.7707, -13.6673, 4)
+    };
+
+    private static final int[] CUMUL = new int[VILLES.length];
+    private static final String[] QUARTIERS = {
+            "Plateau", "Médina", "Point E", "Almadies", "Ouakam", "Yoff", "Sacré-Cœur", "Liberté 6",
+            "Grand Yoff", "Parcelles Assainies", "HLM", "Fann", "Mermoz", "Ngor", "Centre-ville"
+    };
+
+    static {
+        int total = 0;
+        for (int i = 0; i < VILLES.length; i++) {
+            total += VILLES[i].poids;
+            CUMUL[i] = total;
+        }
+    }
+
+    private Geographie() {
+    }
+
+    /**
+     * Ville tirée selon le poids de population
+     * @param dakar part de Dakar en % (les autres villes se partagent le reste au prorata)
+     */
+    static Ville tirer(SplittableRandom random, int dakar) {
+        if (random.nextInt(100) < dakar) {
+            return VILLES[0];
+        }
+        int total = CUMUL[CUMUL.length - 1] - VILLES[0].poids;
+        int tirage = VILLES[0].poids + random.nextInt(total);
+        for (int i = 1; i < CUMUL.length; i++) {
+            if (tirage < CUMUL[i]) {
+                return VILLES[i];
+            }
+        }
+        return VILLES[VILLES.length - 1];
+    }
+
+    static String quartier(SplittableRandom random) {
+        return QUARTIERS[random.nextInt(QUARTIERS.length)];
+    }
+
+    /**
+     * Ville et centre géographique
+     */
+    static final class Ville {
+        final String nom;
+        final String region;
+        final double latitude;
+        final double longitude;
+        final int poids;
+
+        Ville(String nom, String region, double latitude, double longitude, int poids) {
+            this.nom = nom;
+            this.region = region;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.poids = poids;
+        }
+
+        /**
+         * Coordonnées "lat,lon" dispersées (~5 km) autour du centre
+         */
+        String coordonnees(SplittableRandom random) {
+            double lat = latitude + (random.nextDouble() - 0.5) * 0.09;
+            double lon = longitude + (random.nextDouble() - 0.5) * 0.09;
+            return String.format(Locale.ROOT, "%.6f,%.6f", lat, lon);
+        }
+    }
+}
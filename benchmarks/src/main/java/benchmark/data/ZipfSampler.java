@@ -0,0 +1,79 @@
+package benchmark.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tirage selon une loi de Zipf sur 1..n sans table de probabilités (rejet-inversion, Hörmann et Derflinger)
+ * Exposant 0 : tirage uniforme ; 1 : quelques rangs concentrent l'essentiel des tirages
+ */
+final class ZipfSampler {
+
+    private final int n;
+    private final double exposant;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    ZipfSampler(int n, double exposant) {
+        if (n < 1 || exposant < 0) {
+            throw new IllegalArgumentException("Zipf : n=" + n + ", exposant=" + exposant);
+        }
+        this.n = n;
+        this.exposant = exposant;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    /**
+     * Rang tiré, entre 1 et n (1 = le plus fréquent)
+     */
+    int tirer(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1.0 - exposant) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exposant * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exposant);
+        if (t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1 + x) / x, stable près de 0
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    // (exp(x) - 1) / x, stable près de 0
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+    }
+}
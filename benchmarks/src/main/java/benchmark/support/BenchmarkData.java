@@ -0,0 +1,106 @@
+package benchmark.support;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import benchmark.data.DataGenerator;
+
+/**
+ * Jeu de données des benchmarks : identifiants disponibles dans la base
+ * Une base vide est d'abord peuplée par {@link DataGenerator} (volumes : -Dbench.echelle, -Dbench.produits...)
+ */
+public final class BenchmarkData {
+
+    private static final Logger logger = Logger.getLogger(BenchmarkData.class.getName());
+
+    private final int[] produitIds;
+    private final int[] clientIds;
+    private final int[] boutiqueIds;
+    private final int[] panierIds;
+    private final int statutCommandeId;
+    private final int deviseId;
+
+    private BenchmarkData(int[] produitIds, int[] clientIds, int[] boutiqueIds, int[] panierIds,
+            int statutCommandeId, int deviseId) {
+        this.produitIds = produitIds;
+        this.clientIds = clientIds;
+        this.boutiqueIds = boutiqueIds;
+        this.panierIds = panierIds;
+        this.statutCommandeId = statutCommandeId;
+        this.deviseId = deviseId;
+    }
+
+    /**
+     * Lit les identifiants disponibles, après avoir peuplé une base vide
+     */
+    static BenchmarkData load(EntityManagerFactory emf) {
+        try (Session session = emf.unwrap(SessionFactory.class).openSession()) {
+            Long produits = (Long) session.createQuery("select count(p) from Produits p").uniqueResult();
+            if (produits == 0) {
+                session.doWork(connection -> logger.info(
+                        DataGenerator.generer(connection, DataGenerator.Volumes.depuisProprietes()).toString()));
+            }
+            BenchmarkData data = new BenchmarkData(
+                    ids(session, "select p.id from Produits p where p.estActif = true"),
+                    ids(session, "select c.id from Clients c"),
+                    ids(session, "select b.id from Boutiques b"),
+                    ids(session, "select p.id from Paniers p"),
+                    ids(session, "select s.id from StatutsCommande s order by s.id")[0],
+                    ids(session, "select d.id from Devises d order by d.id")[0]);
+            logger.info("📦 Données de benchmark : " + data.produitIds.length + " produits, "
+                    + data.clientIds.length + " clients, " + data.boutiqueIds.length + " boutiques, "
+                    + data.panierIds.length + " paniers");
+            return data;
+        }
+    }
+
+    private static int[] ids(Session session, String hql) {
+        List<?> resultats = session.createQuery(hql).list();
+        if (resultats.isEmpty()) {
+            throw new IllegalStateException("❌ Aucune donnée pour : " + hql);
+        }
+        int[] ids = new int[resultats.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) resultats.get(i)).intValue();
+        }
+        return ids;
+    }
+
+    private static int aleatoire(int[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    public int produitAleatoire() {
+        return aleatoire(produitIds);
+    }
+
+    public int clientAleatoire() {
+        return aleatoire(clientIds);
+    }
+
+    public int boutiqueAleatoire() {
+        return aleatoire(boutiqueIds);
+    }
+
+    public int panierAleatoire() {
+        return aleatoire(panierIds);
+    }
+
+    public int getNombreProduits() {
+        return produitIds.length;
+    }
+
+    public int getStatutCommandeId() {
+        return statutCommandeId;
+    }
+
+    public int getDeviseId() {
+        return deviseId;
+    }
+}
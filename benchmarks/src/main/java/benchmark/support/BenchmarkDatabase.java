@@ -0,0 +1,139 @@
+package benchmark.support;
+
+import java.io.IOException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import utils.bootstrap.BootstrapTimings;
+import utils.bootstrap.EntityManagerFactoryBootstrap;
+import utils.pool.PoolConfiguration;
+
+/**
+ * Base de benchmark partagée par les benchmarks d'une même JVM (fork JMH)
+ * -Dbench.jdbc.url absent : PostgreSQL embarqué jetable, schéma créé depuis les hbm.xml
+ * -Dbench.jdbc.url présent : base locale existante (schéma recréé seulement avec -Dbench.schema=create)
+ */
+public final class BenchmarkDatabase {
+
+    private static final Logger logger = Logger.getLogger(BenchmarkDatabase.class.getName());
+
+    public static final String URL = "bench.jdbc.url";
+    public static final String USER = "bench.jdbc.user";
+    public static final String PASSWORD = "bench.jdbc.password";
+    public static final String SCHEMA = "bench.schema";
+
+    private static BenchmarkDatabase instance;
+
+    private final EmbeddedPostgres embarquee;
+    private final EntityManagerFactory emf;
+    private final BenchmarkData data;
+
+    private BenchmarkDatabase(EmbeddedPostgres embarquee, EntityManagerFactory emf, BenchmarkData data) {
+        this.embarquee = embarquee;
+        this.emf = emf;
+        this.data = data;
+    }
+
+    /**
+     * Démarre (une seule fois par JVM) la base, le modèle Hibernate et le jeu de données
+     */
+    public static synchronized BenchmarkDatabase get() {
+        if (instance == null) {
+            instance = demarrer();
+            Runtime.getRuntime().addShutdownHook(new Thread(BenchmarkDatabase::arreter, "bench-database-stop"));
+        }
+        return instance;
+    }
+
+    private static BenchmarkDatabase demarrer() {
+        // Même fournisseur de bytecode que le serveur (byte-buddy est exclu du classpath)
+        System.setProperty("hibernate.bytecode.provider", "javassist");
+
+        EmbeddedPostgres embarquee = null;
+        Map<String, Object> overrides = new HashMap<>();
+        String url = System.getProperty(URL);
+        String schema = System.getProperty(SCHEMA, "none");
+        try {
+            if (url == null) {
+                embarquee = EmbeddedPostgres.builder().start();
+                url = embarquee.getJdbcUrl("postgres", "postgres");
+                overrides.put("javax.persistence.jdbc.user", "postgres");
+                overrides.put("javax.persistence.jdbc.password", "postgres");
+                schema = "create";
+                logger.info("🐘 PostgreSQL embarqué démarré : " + url);
+            } else {
+                overrides.put("javax.persistence.jdbc.user", System.getProperty(USER, "postgres"));
+                overrides.put("javax.persistence.jdbc.password", System.getProperty(PASSWORD, ""));
+                logger.info("🐘 Base de benchmark : " + url);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("❌ Démarrage PostgreSQL embarqué impossible "
+                    + "(initdb refuse root : utiliser -D" + URL + ")", e);
+        }
+        overrides.put("javax.persistence.jdbc.url", url);
+        overrides.put("hibernate.hbm2ddl.auto", schema);
+        // Pas de journal périodique pendant les mesures
+        overrides.put("senmarket.metrics.log_interval_s", "0");
+        // La génération des données garde une connexion plusieurs minutes : ce n'est pas une fuite
+        overrides.put(PoolConfiguration.LEAK_DETECTION_MS, "0");
+
+        EntityManagerFactory emf = EntityManagerFactoryBootstrap.build("SenMarketPU", overrides, new BootstrapTimings());
+        if ("create".equals(schema)) {
+            BenchmarkSchema.createIndexes(emf);
+        }
+        BenchmarkData data = BenchmarkData.load(emf);
+        return new BenchmarkDatabase(embarquee, emf, data);
+    }
+
+    private static synchronized void arreter() {
+        if (instance == null) {
+            return;
+        }
+        instance.emf.close();
+        if (instance.embarquee != null) {
+            try {
+                instance.embarquee.close();
+            } catch (IOException e) {
+                logger.warning("⚠️ Arrêt PostgreSQL embarqué : " + e.getMessage());
+            }
+        }
+        instance = null;
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+        return emf;
+    }
+
+    public BenchmarkData getData() {
+        return data;
+    }
+
+    /**
+     * Exécute du SQL brut dans une transaction (préparation du schéma)
+     */
+    static void executer(EntityManagerFactory emf, String... instructions) {
+        Session session = emf.unwrap(SessionFactory.class).openSession();
+        try {
+            Transaction transaction = session.beginTransaction();
+            session.doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    for (String instruction : instructions) {
+                        statement.execute(instruction);
+                    }
+                }
+            });
+            transaction.commit();
+        } finally {
+            session.close();
+        }
+    }
+}
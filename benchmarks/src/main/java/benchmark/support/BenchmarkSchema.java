@@ -0,0 +1,22 @@
+package benchmark.support;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Compléments au schéma généré depuis les hbm.xml : index de production absents des mappings
+ */
+final class BenchmarkSchema {
+
+    private BenchmarkSchema() {
+    }
+
+    static void createIndexes(EntityManagerFactory emf) {
+        BenchmarkDatabase.executer(emf,
+                "CREATE INDEX IF NOT EXISTS idx_produits_boutique ON public.produits (boutique_id)",
+                "CREATE INDEX IF NOT EXISTS idx_produits_categorie ON public.produits (categorie_id)",
+                "CREATE INDEX IF NOT EXISTS idx_produits_marque ON public.produits (marque_id)",
+                "CREATE INDEX IF NOT EXISTS idx_articles_panier_panier ON public.articles_panier (panier_id)",
+                "CREATE INDEX IF NOT EXISTS idx_articles_commande_commande ON public.articles_commande (commande_id)",
+                "CREATE INDEX IF NOT EXISTS idx_mouvements_stock_produit_date ON public.mouvements_stock (produit_id, cree_le)");
+    }
+}
@@ -0,0 +1,30 @@
+package benchmark.support;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * État JMH partagé : fabrique d'EntityManager et identifiants du jeu de données
+ * Chaque opération mesurée ouvre son propre EntityManager (comme une requête EJB)
+ */
+@State(Scope.Benchmark)
+public class PersistenceState {
+
+    public EntityManagerFactory emf;
+    public BenchmarkData data;
+
+    @Setup
+    public void demarrer() {
+        BenchmarkDatabase database = BenchmarkDatabase.get();
+        emf = database.getEntityManagerFactory();
+        data = database.getData();
+    }
+
+    public EntityManager ouvrir() {
+        return emf.createEntityManager();
+    }
+}
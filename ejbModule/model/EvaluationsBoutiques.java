@@ -1,188 +0,0 @@
-package model;
-// Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
-
-
-import java.sql.Timestamp;
-import java.util.HashSet;
-import java.util.Set;
-
-/**
- * EvaluationsBoutiques generated by hbm2java
- */
-public class EvaluationsBoutiques  implements java.io.Serializable {
-
-
-     private int id;
-     private Boutiques boutiques;
-     private Commandes commandes;
-     private Clients clients;
-     private int noteGlobale;
-     private Integer noteQualiteProduits;
-     private Integer noteServiceClient;
-     private Integer noteRapiditeLivraison;
-     private String titre;
-     private String commentaire;
-     private Boolean recommande;
-     private Boolean estModere;
-     private Boolean estApprouve;
-     private Integer votesUtile;
-     private Integer votesInutile;
-     private Timestamp creeLe;
-     private Set votesEvaluationses = new HashSet(0);
-
-    public EvaluationsBoutiques() {
-    }
-
-	
-    public EvaluationsBoutiques(int id, Boutiques boutiques, Clients clients, int noteGlobale) {
-        this.id = id;
-        this.boutiques = boutiques;
-        this.clients = clients;
-        this.noteGlobale = noteGlobale;
-    }
-    public EvaluationsBoutiques(int id, Boutiques boutiques, Commandes commandes, Clients clients, int noteGlobale, Integer noteQualiteProduits, Integer noteServiceClient, Integer noteRapiditeLivraison, String titre, String commentaire, Boolean recommande, Boolean estModere, Boolean estApprouve, Integer votesUtile, Integer votesInutile, Timestamp creeLe, Set votesEvaluationses) {
-       this.id = id;
-       this.boutiques = boutiques;
-       this.commandes = commandes;
-       this.clients = clients;
-       this.noteGlobale = noteGlobale;
-       this.noteQualiteProduits = noteQualiteProduits;
-       this.noteServiceClient = noteServiceClient;
-       this.noteRapiditeLivraison = noteRapiditeLivraison;
-       this.titre = titre;
-       this.commentaire = commentaire;
-       this.recommande = recommande;
-       this.estModere = estModere;
-       this.estApprouve = estApprouve;
-       this.votesUtile = votesUtile;
-       this.votesInutile = votesInutile;
-       this.creeLe = creeLe;
-       this.votesEvaluationses = votesEvaluationses;
-    }
-   
-    public int getId() {
-        return this.id;
-    }
-    
-    public void setId(int id) {
-        this.id = id;
-    }
-    public Boutiques getBoutiques() {
-        return this.boutiques;
-    }
-    
-    public void setBoutiques(Boutiques boutiques) {
-        this.boutiques = boutiques;
-    }
-    public Commandes getCommandes() {
-        return this.commandes;
-    }
-    
-    public void setCommandes(Commandes commandes) {
-        this.commandes = commandes;
-    }
-    public Clients getClients() {
-        return this.clients;
-    }
-    
-    public void setClients(Clients clients) {
-        this.clients = clients;
-    }
-    public int getNoteGlobale() {
-        return this.noteGlobale;
-    }
-    
-    public void setNoteGlobale(int noteGlobale) {
-        this.noteGlobale = noteGlobale;
-    }
-    public Integer getNoteQualiteProduits() {
-        return this.noteQualiteProduits;
-    }
-    
-    public void setNoteQualiteProduits(Integer noteQualiteProduits) {
-        this.noteQualiteProduits = noteQualiteProduits;
-    }
-    public Integer getNoteServiceClient() {
-        return this.noteServiceClient;
-    }
-    
-    public void setNoteServiceClient(Integer noteServiceClient) {
-        this.noteServiceClient = noteServiceClient;
-    }
-    public Integer getNoteRapiditeLivraison() {
-        return this.noteRapiditeLivraison;
-    }
-    
-    public void setNoteRapiditeLivraison(Integer noteRapiditeLivraison) {
-        this.noteRapiditeLivraison = noteRapiditeLivraison;
-    }
-    public String getTitre() {
-        return this.titre;
-    }
-    
-    public void setTitre(String titre) {
-        this.titre = titre;
-    }
-    public String getCommentaire() {
-        return this.commentaire;
-    }
-    
-    public void setCommentaire(String commentaire) {
-        this.commentaire = commentaire;
-    }
-    public Boolean getRecommande() {
-        return this.recommande;
-    }
-    
-    public void setRecommande(Boolean recommande) {
-        this.recommande = recommande;
-    }
-    public Boolean getEstModere() {
-        return this.estModere;
-    }
-    
-    public void setEstModere(Boolean estModere) {
-        this.estModere = estModere;
-    }
-    public Boolean getEstApprouve() {
-        return this.estApprouve;
-    }
-    
-    public void setEstApprouve(Boolean estApprouve) {
-        this.estApprouve = estApprouve;
-    }
-    public Integer getVotesUtile() {
-        return this.votesUtile;
-    }
-    
-    public void setVotesUtile(Integer votesUtile) {
-        this.votesUtile = votesUtile;
-    }
-    public Integer getVotesInutile() {
-        return this.votesInutile;
-    }
-    
-    public void setVotesInutile(Integer votesInutile) {
-        this.votesInutile = votesInutile;
-    }
-    public Timestamp getCreeLe() {
-        return this.creeLe;
-    }
-    
-    public void setCreeLe(Timestamp creeLe) {
-        this.creeLe = creeLe;
-    }
-    public Set getVotesEvaluationses() {
-        return this.votesEvaluationses;
-    }
-    
-    public void setVotesEvaluationses(Set votesEvaluationses) {
-        this.votesEvaluationses = votesEvaluationses;
-    }
-
-
-
-
-}
-
-
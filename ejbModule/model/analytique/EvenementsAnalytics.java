@@ -4,12 +4,15 @@ package model.analytique;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.net.InetAddress;
 import java.sql.Timestamp;
 
 import model.entreprise.Boutiques;
 import model.produit.Produits;
 import model.utilisateur.ComptesUtilisateur;
 
+import utils.types.JsonMap;
+
 /**
  * EvenementsAnalytics generated by hbm2java
  */
@@ -25,9 +28,9 @@ public class EvenementsAnalytics  implements java.io.Serializable {
      private String categorieEvenement;
      private String pageUrl;
      private String pagePrecedente;
-     private Serializable proprietes;
+     private JsonMap proprietes;
      private BigDecimal valeurMonetaire;
-     private Serializable adresseIp;
+     private InetAddress adresseIp;
      private String userAgent;
      private String appareilType;
      private String systemeExploitation;
@@ -45,7 +48,7 @@ public class EvenementsAnalytics  implements java.io.Serializable {
         this.id = id;
         this.nomEvenement = nomEvenement;
     }
-    public EvenementsAnalytics(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Boutiques boutiques, String sessionId, String nomEvenement, String categorieEvenement, String pageUrl, String pagePrecedente, Serializable proprietes, BigDecimal valeurMonetaire, Serializable adresseIp, String userAgent, String appareilType, String systemeExploitation, String navigateur, String pays, String ville, Serializable coordonnees, Timestamp timestampEvenement) {
+    public EvenementsAnalytics(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Boutiques boutiques, String sessionId, String nomEvenement, String categorieEvenement, String pageUrl, String pagePrecedente, JsonMap proprietes, BigDecimal valeurMonetaire, InetAddress adresseIp, String userAgent, String appareilType, String systemeExploitation, String navigateur, String pays, String ville, Serializable coordonnees, Timestamp timestampEvenement) {
        this.id = id;
        this.produits = produits;
        this.comptesUtilisateur = comptesUtilisateur;
@@ -131,11 +134,11 @@ public class EvenementsAnalytics  implements java.io.Serializable {
     public void setPagePrecedente(String pagePrecedente) {
         this.pagePrecedente = pagePrecedente;
     }
-    public Serializable getProprietes() {
+    public JsonMap getProprietes() {
         return this.proprietes;
     }
     
-    public void setProprietes(Serializable proprietes) {
+    public void setProprietes(JsonMap proprietes) {
         this.proprietes = proprietes;
     }
     public BigDecimal getValeurMonetaire() {
@@ -145,11 +148,11 @@ public class EvenementsAnalytics  implements java.io.Serializable {
     public void setValeurMonetaire(BigDecimal valeurMonetaire) {
         this.valeurMonetaire = valeurMonetaire;
     }
-    public Serializable getAdresseIp() {
+    public InetAddress getAdresseIp() {
         return this.adresseIp;
     }
     
-    public void setAdresseIp(Serializable adresseIp) {
+    public void setAdresseIp(InetAddress adresseIp) {
         this.adresseIp = adresseIp;
     }
     public String getUserAgent() {
@@ -7,11 +7,20 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 import model.entreprise.Boutiques;
+import model.evaluation.EvaluationsBoutiques;
+import model.evaluation.EvaluationsProduits;
+import model.livraison.Livraisons;
+import model.paiement.Remboursements;
+import model.paiement.TransactionsPaiement;
+import model.promotions.UtilisationsCodesPromo;
 import model.reference.Devises;
 import model.utilisateur.Clients;
 
+import utils.types.Adresse;
+
 /**
  * Commandes generated by hbm2java
  */
@@ -19,11 +28,12 @@ public class Commandes  implements java.io.Serializable {
 
 
      private int id;
+     private Integer version;
      private Boutiques boutiques;
      private Devises devises;
      private StatutsCommande statutsCommande;
      private Clients clients;
-     private Serializable uuid;
+     private UUID uuid;
      private String numeroCommande;
      private BigDecimal sousTotal;
      private BigDecimal montantTva;
@@ -33,7 +43,7 @@ public class Commandes  implements java.io.Serializable {
      private String codePromoUtilise;
      private BigDecimal remisePourcentage;
      private BigDecimal remiseMontant;
-     private Serializable adresseLivraison;
+     private Adresse adresseLivraison;
      private Serializable coordonneesLivraison;
      private String instructionsLivraison;
      private Timestamp dateCommande;
@@ -58,20 +68,20 @@ public class Commandes  implements java.io.Serializable {
      private String notesInterne;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set articlesCommandes = new HashSet(0);
-     private Set livraisonses = new HashSet(0);
-     private Set evaluationsBoutiqueses = new HashSet(0);
-     private Set evaluationsProduitses = new HashSet(0);
-     private Set historiqueStatutsCommandes = new HashSet(0);
-     private Set remboursementses = new HashSet(0);
-     private Set transactionsPaiements = new HashSet(0);
-     private Set utilisationsCodesPromos = new HashSet(0);
+     private Set<ArticlesCommande> articlesCommandes = new HashSet<>(0);
+     private Set<Livraisons> livraisonses = new HashSet<>(0);
+     private Set<EvaluationsBoutiques> evaluationsBoutiqueses = new HashSet<>(0);
+     private Set<EvaluationsProduits> evaluationsProduitses = new HashSet<>(0);
+     private Set<HistoriqueStatutsCommande> historiqueStatutsCommandes = new HashSet<>(0);
+     private Set<Remboursements> remboursementses = new HashSet<>(0);
+     private Set<TransactionsPaiement> transactionsPaiements = new HashSet<>(0);
+     private Set<UtilisationsCodesPromo> utilisationsCodesPromos = new HashSet<>(0);
 
     public Commandes() {
     }
 
 	
-    public Commandes(int id, Boutiques boutiques, StatutsCommande statutsCommande, Clients clients, String numeroCommande, BigDecimal sousTotal, BigDecimal totalCommande, Serializable adresseLivraison) {
+    public Commandes(int id, Boutiques boutiques, StatutsCommande statutsCommande, Clients clients, String numeroCommande, BigDecimal sousTotal, BigDecimal totalCommande, Adresse adresseLivraison) {
         this.id = id;
         this.boutiques = boutiques;
         this.statutsCommande = statutsCommande;
@@ -81,7 +91,7 @@ public class Commandes  implements java.io.Serializable {
         this.totalCommande = totalCommande;
         this.adresseLivraison = adresseLivraison;
     }
-    public Commandes(int id, Boutiques boutiques, Devises devises, StatutsCommande statutsCommande, Clients clients, Serializable uuid, String numeroCommande, BigDecimal sousTotal, BigDecimal montantTva, BigDecimal fraisLivraison, BigDecimal montantRemise, BigDecimal totalCommande, String codePromoUtilise, BigDecimal remisePourcentage, BigDecimal remiseMontant, Serializable adresseLivraison, Serializable coordonneesLivraison, String instructionsLivraison, Timestamp dateCommande, Timestamp dateConfirmation, Timestamp datePreparation, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp dateLivraisonReelle, String numeroSuivi, String transporteur, String modePaiement, String statutPaiement, String transactionStripeId, String transactionExterneId, Boolean emailConfirmationEnvoye, Boolean smsConfirmationEnvoye, Serializable notificationsEnvoyees, String canalCommande, String appareilCommande, String navigateurCommande, String notesClient, String notesInterne, Timestamp creeLe, Timestamp modifieLe, Set articlesCommandes, Set livraisonses, Set evaluationsBoutiqueses, Set evaluationsProduitses, Set historiqueStatutsCommandes, Set remboursementses, Set transactionsPaiements, Set utilisationsCodesPromos) {
+    public Commandes(int id, Boutiques boutiques, Devises devises, StatutsCommande statutsCommande, Clients clients, UUID uuid, String numeroCommande, BigDecimal sousTotal, BigDecimal montantTva, BigDecimal fraisLivraison, BigDecimal montantRemise, BigDecimal totalCommande, String codePromoUtilise, BigDecimal remisePourcentage, BigDecimal remiseMontant, Adresse adresseLivraison, Serializable coordonneesLivraison, String instructionsLivraison, Timestamp dateCommande, Timestamp dateConfirmation, Timestamp datePreparation, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp dateLivraisonReelle, String numeroSuivi, String transporteur, String modePaiement, String statutPaiement, String transactionStripeId, String transactionExterneId, Boolean emailConfirmationEnvoye, Boolean smsConfirmationEnvoye, Serializable notificationsEnvoyees, String canalCommande, String appareilCommande, String navigateurCommande, String notesClient, String notesInterne, Timestamp creeLe, Timestamp modifieLe, Set<ArticlesCommande> articlesCommandes, Set<Livraisons> livraisonses, Set<EvaluationsBoutiques> evaluationsBoutiqueses, Set<EvaluationsProduits> evaluationsProduitses, Set<HistoriqueStatutsCommande> historiqueStatutsCommandes, Set<Remboursements> remboursementses, Set<TransactionsPaiement> transactionsPaiements, Set<UtilisationsCodesPromo> utilisationsCodesPromos) {
        this.id = id;
        this.boutiques = boutiques;
        this.devises = devises;
@@ -139,6 +149,13 @@ public class Commandes  implements java.io.Serializable {
     public void setId(int id) {
         this.id = id;
     }
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
     public Boutiques getBoutiques() {
         return this.boutiques;
     }
@@ -167,11 +184,11 @@ public class Commandes  implements java.io.Serializable {
     public void setClients(Clients clients) {
         this.clients = clients;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
     public String getNumeroCommande() {
@@ -237,11 +254,11 @@ public class Commandes  implements java.io.Serializable {
     public void setRemiseMontant(BigDecimal remiseMontant) {
         this.remiseMontant = remiseMontant;
     }
-    public Serializable getAdresseLivraison() {
+    public Adresse getAdresseLivraison() {
         return this.adresseLivraison;
     }
     
-    public void setAdresseLivraison(Serializable adresseLivraison) {
+    public void setAdresseLivraison(Adresse adresseLivraison) {
         this.adresseLivraison = adresseLivraison;
     }
     public Serializable getCoordonneesLivraison() {
@@ -412,60 +429,60 @@ public class Commandes  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getArticlesCommandes() {
+    public Set<ArticlesCommande> getArticlesCommandes() {
         return this.articlesCommandes;
     }
     
-    public void setArticlesCommandes(Set articlesCommandes) {
+    public void setArticlesCommandes(Set<ArticlesCommande> articlesCommandes) {
         this.articlesCommandes = articlesCommandes;
     }
-    public Set getLivraisonses() {
+    public Set<Livraisons> getLivraisonses() {
         return this.livraisonses;
     }
     
-    public void setLivraisonses(Set livraisonses) {
+    public void setLivraisonses(Set<Livraisons> livraisonses) {
         this.livraisonses = livraisonses;
     }
-    public Set getEvaluationsBoutiqueses() {
+    public Set<EvaluationsBoutiques> getEvaluationsBoutiqueses() {
         return this.evaluationsBoutiqueses;
     }
     
-    public void setEvaluationsBoutiqueses(Set evaluationsBoutiqueses) {
+    public void setEvaluationsBoutiqueses(Set<EvaluationsBoutiques> evaluationsBoutiqueses) {
         this.evaluationsBoutiqueses = evaluationsBoutiqueses;
     }
-    public Set getEvaluationsProduitses() {
+    public Set<EvaluationsProduits> getEvaluationsProduitses() {
         return this.evaluationsProduitses;
     }
     
-    public void setEvaluationsProduitses(Set evaluationsProduitses) {
+    public void setEvaluationsProduitses(Set<EvaluationsProduits> evaluationsProduitses) {
         this.evaluationsProduitses = evaluationsProduitses;
     }
-    public Set getHistoriqueStatutsCommandes() {
+    public Set<HistoriqueStatutsCommande> getHistoriqueStatutsCommandes() {
         return this.historiqueStatutsCommandes;
     }
     
-    public void setHistoriqueStatutsCommandes(Set historiqueStatutsCommandes) {
+    public void setHistoriqueStatutsCommandes(Set<HistoriqueStatutsCommande> historiqueStatutsCommandes) {
         this.historiqueStatutsCommandes = historiqueStatutsCommandes;
     }
-    public Set getRemboursementses() {
+    public Set<Remboursements> getRemboursementses() {
         return this.remboursementses;
     }
     
-    public void setRemboursementses(Set remboursementses) {
+    public void setRemboursementses(Set<Remboursements> remboursementses) {
         this.remboursementses = remboursementses;
     }
-    public Set getTransactionsPaiements() {
+    public Set<TransactionsPaiement> getTransactionsPaiements() {
         return this.transactionsPaiements;
     }
     
-    public void setTransactionsPaiements(Set transactionsPaiements) {
+    public void setTransactionsPaiements(Set<TransactionsPaiement> transactionsPaiements) {
         this.transactionsPaiements = transactionsPaiements;
     }
-    public Set getUtilisationsCodesPromos() {
+    public Set<UtilisationsCodesPromo> getUtilisationsCodesPromos() {
         return this.utilisationsCodesPromos;
     }
     
-    public void setUtilisationsCodesPromos(Set utilisationsCodesPromos) {
+    public void setUtilisationsCodesPromos(Set<UtilisationsCodesPromo> utilisationsCodesPromos) {
         this.utilisationsCodesPromos = utilisationsCodesPromos;
     }
 
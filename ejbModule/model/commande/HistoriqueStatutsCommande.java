@@ -1,9 +1,11 @@
-package model;
+package model.commande;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
 import java.sql.Timestamp;
 
+import model.utilisateur.ComptesUtilisateur;
+
 /**
  * HistoriqueStatutsCommande generated by hbm2java
  */
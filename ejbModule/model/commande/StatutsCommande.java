@@ -19,9 +19,9 @@ public class StatutsCommande  implements java.io.Serializable {
      private Integer ordreWorkflow;
      private Boolean estFinal;
      private Boolean estActif;
-     private Set historiqueStatutsCommandesForAncienStatutId = new HashSet(0);
-     private Set historiqueStatutsCommandesForNouveauStatutId = new HashSet(0);
-     private Set commandeses = new HashSet(0);
+     private Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForAncienStatutId = new HashSet<>(0);
+     private Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForNouveauStatutId = new HashSet<>(0);
+     private Set<Commandes> commandeses = new HashSet<>(0);
 
     public StatutsCommande() {
     }
@@ -32,7 +32,7 @@ public class StatutsCommande  implements java.io.Serializable {
         this.code = code;
         this.libelle = libelle;
     }
-    public StatutsCommande(int id, String code, String libelle, String description, String couleurHex, Integer ordreWorkflow, Boolean estFinal, Boolean estActif, Set historiqueStatutsCommandesForAncienStatutId, Set historiqueStatutsCommandesForNouveauStatutId, Set commandeses) {
+    public StatutsCommande(int id, String code, String libelle, String description, String couleurHex, Integer ordreWorkflow, Boolean estFinal, Boolean estActif, Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForAncienStatutId, Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForNouveauStatutId, Set<Commandes> commandeses) {
        this.id = id;
        this.code = code;
        this.libelle = libelle;
@@ -102,25 +102,25 @@ public class StatutsCommande  implements java.io.Serializable {
     public void setEstActif(Boolean estActif) {
         this.estActif = estActif;
     }
-    public Set getHistoriqueStatutsCommandesForAncienStatutId() {
+    public Set<HistoriqueStatutsCommande> getHistoriqueStatutsCommandesForAncienStatutId() {
         return this.historiqueStatutsCommandesForAncienStatutId;
     }
     
-    public void setHistoriqueStatutsCommandesForAncienStatutId(Set historiqueStatutsCommandesForAncienStatutId) {
+    public void setHistoriqueStatutsCommandesForAncienStatutId(Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForAncienStatutId) {
         this.historiqueStatutsCommandesForAncienStatutId = historiqueStatutsCommandesForAncienStatutId;
     }
-    public Set getHistoriqueStatutsCommandesForNouveauStatutId() {
+    public Set<HistoriqueStatutsCommande> getHistoriqueStatutsCommandesForNouveauStatutId() {
         return this.historiqueStatutsCommandesForNouveauStatutId;
     }
     
-    public void setHistoriqueStatutsCommandesForNouveauStatutId(Set historiqueStatutsCommandesForNouveauStatutId) {
+    public void setHistoriqueStatutsCommandesForNouveauStatutId(Set<HistoriqueStatutsCommande> historiqueStatutsCommandesForNouveauStatutId) {
         this.historiqueStatutsCommandesForNouveauStatutId = historiqueStatutsCommandesForNouveauStatutId;
     }
-    public Set getCommandeses() {
+    public Set<Commandes> getCommandeses() {
         return this.commandeses;
     }
     
-    public void setCommandeses(Set commandeses) {
+    public void setCommandeses(Set<Commandes> commandeses) {
         this.commandeses = commandeses;
     }
 
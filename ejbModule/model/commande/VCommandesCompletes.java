@@ -1,4 +1,4 @@
-package model;
+package model.commande;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
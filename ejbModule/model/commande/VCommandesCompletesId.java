@@ -1,10 +1,10 @@
-package model;
+package model.commande;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.UUID;
 
 /**
  * VCommandesCompletesId generated by hbm2java
@@ -24,12 +24,12 @@ public class VCommandesCompletesId  implements java.io.Serializable {
      private String statutLibelle;
      private String statutPaiement;
      private BigDecimal totalCommande;
-     private Serializable uuid;
+     private UUID uuid;
 
     public VCommandesCompletesId() {
     }
 
-    public VCommandesCompletesId(String boutiqueNom, String clientEmail, String clientNom, Timestamp dateCommande, Integer id, String modePaiement, Long nombreArticles, String numeroCommande, String statutCouleur, String statutLibelle, String statutPaiement, BigDecimal totalCommande, Serializable uuid) {
+    public VCommandesCompletesId(String boutiqueNom, String clientEmail, String clientNom, Timestamp dateCommande, Integer id, String modePaiement, Long nombreArticles, String numeroCommande, String statutCouleur, String statutLibelle, String statutPaiement, BigDecimal totalCommande, UUID uuid) {
        this.boutiqueNom = boutiqueNom;
        this.clientEmail = clientEmail;
        this.clientNom = clientNom;
@@ -129,11 +129,11 @@ public class VCommandesCompletesId  implements java.io.Serializable {
     public void setTotalCommande(BigDecimal totalCommande) {
         this.totalCommande = totalCommande;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
 
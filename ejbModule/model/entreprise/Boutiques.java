@@ -7,10 +7,21 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
+import model.analytique.EvenementsAnalytics;
+import model.analytique.MetriquesQuotidiennes;
+import model.commande.Commandes;
+import model.evaluation.EvaluationsBoutiques;
+import model.produit.Produits;
+import model.recherche.HistoriqueRecherches;
 import model.reference.Pays;
 import model.utilisateur.Personnes;
 
+import utils.types.JsonList;
+import utils.types.JsonMap;
+import utils.types.PointGps;
+
 /**
  * Boutiques generated by hbm2java
  */
@@ -21,7 +32,7 @@ public class Boutiques  implements java.io.Serializable {
      private Entreprises entreprises;
      private Personnes personnes;
      private Pays pays;
-     private Serializable uuid;
+     private UUID uuid;
      private String nom;
      private String codeBoutique;
      private String description;
@@ -34,12 +45,12 @@ public class Boutiques  implements java.io.Serializable {
      private String ville;
      private String region;
      private String codePostal;
-     private Serializable coordonneesGps;
-     private Serializable horairesOuverture;
+     private PointGps coordonneesGps;
+     private JsonMap horairesOuverture;
      private String logoUrl;
      private String banniereUrl;
-     private Serializable photosBoutique;
-     private Serializable couleursTheme;
+     private JsonList photosBoutique;
+     private JsonMap couleursTheme;
      private String categoriePrincipale;
      private Serializable categoriesSecondaires;
      private Serializable motsClesRecherche;
@@ -55,34 +66,34 @@ public class Boutiques  implements java.io.Serializable {
      private String stripeAccountId;
      private Serializable contenuRecherche;
      private Serializable tagsRecherche;
-     private Serializable parametres;
-     private Serializable metadonnees;
+     private JsonMap parametres;
+     private JsonMap metadonnees;
      private Boolean estActif;
      private Boolean estVerifie;
      private Boolean estEnLigne;
      private Timestamp derniereActivite;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set evenementsAnalyticses = new HashSet(0);
-     private Set employeses = new HashSet(0);
-     private Set metriquesQuotidienneses = new HashSet(0);
-     private Set produitses = new HashSet(0);
-     private Set commandeses = new HashSet(0);
-     private Set historiqueRechercheses = new HashSet(0);
-     private Set evaluationsBoutiqueses = new HashSet(0);
+     private Set<EvenementsAnalytics> evenementsAnalyticses = new HashSet<>(0);
+     private Set<Employes> employeses = new HashSet<>(0);
+     private Set<MetriquesQuotidiennes> metriquesQuotidienneses = new HashSet<>(0);
+     private Set<Produits> produitses = new HashSet<>(0);
+     private Set<Commandes> commandeses = new HashSet<>(0);
+     private Set<HistoriqueRecherches> historiqueRechercheses = new HashSet<>(0);
+     private Set<EvaluationsBoutiques> evaluationsBoutiqueses = new HashSet<>(0);
 
     public Boutiques() {
     }
 
 	
-    public Boutiques(int id, String nom, String adresseLigne1, String ville, Serializable coordonneesGps) {
+    public Boutiques(int id, String nom, String adresseLigne1, String ville, PointGps coordonneesGps) {
         this.id = id;
         this.nom = nom;
         this.adresseLigne1 = adresseLigne1;
         this.ville = ville;
         this.coordonneesGps = coordonneesGps;
     }
-    public Boutiques(int id, Entreprises entreprises, Personnes personnes, Pays pays, Serializable uuid, String nom, String codeBoutique, String description, String slogan, String email, String telephone, String siteWeb, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, Serializable coordonneesGps, Serializable horairesOuverture, String logoUrl, String banniereUrl, Serializable photosBoutique, Serializable couleursTheme, String categoriePrincipale, Serializable categoriesSecondaires, Serializable motsClesRecherche, BigDecimal noteMoyenne, Integer nombreEvaluations, Boolean livraisonDisponible, Integer rayonLivraisonKm, BigDecimal fraisLivraison, BigDecimal livraisonGratuiteSeuil, Boolean accepteEspeces, Boolean accepteCarte, Boolean accepteMobileMoney, String stripeAccountId, Serializable contenuRecherche, Serializable tagsRecherche, Serializable parametres, Serializable metadonnees, Boolean estActif, Boolean estVerifie, Boolean estEnLigne, Timestamp derniereActivite, Timestamp creeLe, Timestamp modifieLe, Set evenementsAnalyticses, Set employeses, Set metriquesQuotidienneses, Set produitses, Set commandeses, Set historiqueRechercheses, Set evaluationsBoutiqueses) {
+    public Boutiques(int id, Entreprises entreprises, Personnes personnes, Pays pays, UUID uuid, String nom, String codeBoutique, String description, String slogan, String email, String telephone, String siteWeb, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, PointGps coordonneesGps, JsonMap horairesOuverture, String logoUrl, String banniereUrl, JsonList photosBoutique, JsonMap couleursTheme, String categoriePrincipale, Serializable categoriesSecondaires, Serializable motsClesRecherche, BigDecimal noteMoyenne, Integer nombreEvaluations, Boolean livraisonDisponible, Integer rayonLivraisonKm, BigDecimal fraisLivraison, BigDecimal livraisonGratuiteSeuil, Boolean accepteEspeces, Boolean accepteCarte, Boolean accepteMobileMoney, String stripeAccountId, Serializable contenuRecherche, Serializable tagsRecherche, JsonMap parametres, JsonMap metadonnees, Boolean estActif, Boolean estVerifie, Boolean estEnLigne, Timestamp derniereActivite, Timestamp creeLe, Timestamp modifieLe, Set<EvenementsAnalytics> evenementsAnalyticses, Set<Employes> employeses, Set<MetriquesQuotidiennes> metriquesQuotidienneses, Set<Produits> produitses, Set<Commandes> commandeses, Set<HistoriqueRecherches> historiqueRechercheses, Set<EvaluationsBoutiques> evaluationsBoutiqueses) {
        this.id = id;
        this.entreprises = entreprises;
        this.personnes = personnes;
@@ -166,11 +177,11 @@ public class Boutiques  implements java.io.Serializable {
     public void setPays(Pays pays) {
         this.pays = pays;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
     public String getNom() {
@@ -257,18 +268,18 @@ public class Boutiques  implements java.io.Serializable {
     public void setCodePostal(String codePostal) {
         this.codePostal = codePostal;
     }
-    public Serializable getCoordonneesGps() {
+    public PointGps getCoordonneesGps() {
         return this.coordonneesGps;
     }
     
-    public void setCoordonneesGps(Serializable coordonneesGps) {
+    public void setCoordonneesGps(PointGps coordonneesGps) {
         this.coordonneesGps = coordonneesGps;
     }
-    public Serializable getHorairesOuverture() {
+    public JsonMap getHorairesOuverture() {
         return this.horairesOuverture;
     }
     
-    public void setHorairesOuverture(Serializable horairesOuverture) {
+    public void setHorairesOuverture(JsonMap horairesOuverture) {
         this.horairesOuverture = horairesOuverture;
     }
     public String getLogoUrl() {
@@ -285,18 +296,18 @@ public class Boutiques  implements java.io.Serializable {
     public void setBanniereUrl(String banniereUrl) {
         this.banniereUrl = banniereUrl;
     }
-    public Serializable getPhotosBoutique() {
+    public JsonList getPhotosBoutique() {
         return this.photosBoutique;
     }
     
-    public void setPhotosBoutique(Serializable photosBoutique) {
+    public void setPhotosBoutique(JsonList photosBoutique) {
         this.photosBoutique = photosBoutique;
     }
-    public Serializable getCouleursTheme() {
+    public JsonMap getCouleursTheme() {
         return this.couleursTheme;
     }
     
-    public void setCouleursTheme(Serializable couleursTheme) {
+    public void setCouleursTheme(JsonMap couleursTheme) {
         this.couleursTheme = couleursTheme;
     }
     public String getCategoriePrincipale() {
@@ -404,18 +415,18 @@ public class Boutiques  implements java.io.Serializable {
     public void setTagsRecherche(Serializable tagsRecherche) {
         this.tagsRecherche = tagsRecherche;
     }
-    public Serializable getParametres() {
+    public JsonMap getParametres() {
         return this.parametres;
     }
     
-    public void setParametres(Serializable parametres) {
+    public void setParametres(JsonMap parametres) {
         this.parametres = parametres;
     }
-    public Serializable getMetadonnees() {
+    public JsonMap getMetadonnees() {
         return this.metadonnees;
     }
     
-    public void setMetadonnees(Serializable metadonnees) {
+    public void setMetadonnees(JsonMap metadonnees) {
         this.metadonnees = metadonnees;
     }
     public Boolean getEstActif() {
@@ -460,53 +471,53 @@ public class Boutiques  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getEvenementsAnalyticses() {
+    public Set<EvenementsAnalytics> getEvenementsAnalyticses() {
         return this.evenementsAnalyticses;
     }
     
-    public void setEvenementsAnalyticses(Set evenementsAnalyticses) {
+    public void setEvenementsAnalyticses(Set<EvenementsAnalytics> evenementsAnalyticses) {
         this.evenementsAnalyticses = evenementsAnalyticses;
     }
-    public Set getEmployeses() {
+    public Set<Employes> getEmployeses() {
         return this.employeses;
     }
     
-    public void setEmployeses(Set employeses) {
+    public void setEmployeses(Set<Employes> employeses) {
         this.employeses = employeses;
     }
-    public Set getMetriquesQuotidienneses() {
+    public Set<MetriquesQuotidiennes> getMetriquesQuotidienneses() {
         return this.metriquesQuotidienneses;
     }
     
-    public void setMetriquesQuotidienneses(Set metriquesQuotidienneses) {
+    public void setMetriquesQuotidienneses(Set<MetriquesQuotidiennes> metriquesQuotidienneses) {
         this.metriquesQuotidienneses = metriquesQuotidienneses;
     }
-    public Set getProduitses() {
+    public Set<Produits> getProduitses() {
         return this.produitses;
     }
     
-    public void setProduitses(Set produitses) {
+    public void setProduitses(Set<Produits> produitses) {
         this.produitses = produitses;
     }
-    public Set getCommandeses() {
+    public Set<Commandes> getCommandeses() {
         return this.commandeses;
     }
     
-    public void setCommandeses(Set commandeses) {
+    public void setCommandeses(Set<Commandes> commandeses) {
         this.commandeses = commandeses;
     }
-    public Set getHistoriqueRechercheses() {
+    public Set<HistoriqueRecherches> getHistoriqueRechercheses() {
         return this.historiqueRechercheses;
     }
     
-    public void setHistoriqueRechercheses(Set historiqueRechercheses) {
+    public void setHistoriqueRechercheses(Set<HistoriqueRecherches> historiqueRechercheses) {
         this.historiqueRechercheses = historiqueRechercheses;
     }
-    public Set getEvaluationsBoutiqueses() {
+    public Set<EvaluationsBoutiques> getEvaluationsBoutiqueses() {
         return this.evaluationsBoutiqueses;
     }
     
-    public void setEvaluationsBoutiqueses(Set evaluationsBoutiqueses) {
+    public void setEvaluationsBoutiqueses(Set<EvaluationsBoutiques> evaluationsBoutiqueses) {
         this.evaluationsBoutiqueses = evaluationsBoutiqueses;
     }
 
@@ -8,6 +8,8 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.livraison.Livraisons;
+import model.produit.MouvementsStock;
 import model.utilisateur.Personnes;
 
 /**
@@ -35,8 +37,8 @@ public class Employes  implements java.io.Serializable {
      private Boolean estActif;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set mouvementsStocks = new HashSet(0);
-     private Set livraisonses = new HashSet(0);
+     private Set<MouvementsStock> mouvementsStocks = new HashSet<>(0);
+     private Set<Livraisons> livraisonses = new HashSet<>(0);
 
     public Employes() {
     }
@@ -48,7 +50,7 @@ public class Employes  implements java.io.Serializable {
         this.poste = poste;
         this.dateEmbauche = dateEmbauche;
     }
-    public Employes(int id, Boutiques boutiques, Entreprises entreprises, Personnes personnes, String numeroEmploye, String poste, String departement, Integer niveauAcces, Date dateEmbauche, Date dateFinContrat, Timestamp derniereConnexion, Boolean peutVendre, Boolean peutGererStock, Boolean peutVoirRapports, Boolean peutModifierPrix, Serializable permissionsSupplementaires, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set mouvementsStocks, Set livraisonses) {
+    public Employes(int id, Boutiques boutiques, Entreprises entreprises, Personnes personnes, String numeroEmploye, String poste, String departement, Integer niveauAcces, Date dateEmbauche, Date dateFinContrat, Timestamp derniereConnexion, Boolean peutVendre, Boolean peutGererStock, Boolean peutVoirRapports, Boolean peutModifierPrix, Serializable permissionsSupplementaires, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set<MouvementsStock> mouvementsStocks, Set<Livraisons> livraisonses) {
        this.id = id;
        this.boutiques = boutiques;
        this.entreprises = entreprises;
@@ -205,18 +207,18 @@ public class Employes  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getMouvementsStocks() {
+    public Set<MouvementsStock> getMouvementsStocks() {
         return this.mouvementsStocks;
     }
     
-    public void setMouvementsStocks(Set mouvementsStocks) {
+    public void setMouvementsStocks(Set<MouvementsStock> mouvementsStocks) {
         this.mouvementsStocks = mouvementsStocks;
     }
-    public Set getLivraisonses() {
+    public Set<Livraisons> getLivraisonses() {
         return this.livraisonses;
     }
     
-    public void setLivraisonses(Set livraisonses) {
+    public void setLivraisonses(Set<Livraisons> livraisonses) {
         this.livraisonses = livraisonses;
     }
 
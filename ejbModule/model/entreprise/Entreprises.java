@@ -10,6 +10,7 @@ import java.util.Set;
 
 import model.reference.Devises;
 import model.reference.Pays;
+import utils.types.PointGps;
 
 /**
  * Entreprises generated by hbm2java
@@ -34,7 +35,7 @@ public class Entreprises  implements java.io.Serializable {
      private String ville;
      private String region;
      private String codePostal;
-     private Serializable coordonneesGps;
+     private PointGps coordonneesGps;
      private String secteurActivite;
      private Integer nombreEmployes;
      private Integer anneeCreation;
@@ -48,8 +49,8 @@ public class Entreprises  implements java.io.Serializable {
      private Boolean estVerifie;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set boutiqueses = new HashSet(0);
-     private Set employeses = new HashSet(0);
+     private Set<Boutiques> boutiqueses = new HashSet<>(0);
+     private Set<Employes> employeses = new HashSet<>(0);
 
     public Entreprises() {
     }
@@ -59,7 +60,7 @@ public class Entreprises  implements java.io.Serializable {
         this.id = id;
         this.nom = nom;
     }
-    public Entreprises(int id, Devises devises, Pays pays, Serializable uuid, String nom, String nomLegal, String numeroEnregistrement, String numeroFiscal, String codeEntreprise, String email, String telephone, String siteWeb, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, Serializable coordonneesGps, String secteurActivite, Integer nombreEmployes, Integer anneeCreation, BigDecimal chiffreAffaires, String logoUrl, Serializable couleursMarque, String fuseauHoraire, String langueParDefaut, Serializable parametres, Boolean estActif, Boolean estVerifie, Timestamp creeLe, Timestamp modifieLe, Set boutiqueses, Set employeses) {
+    public Entreprises(int id, Devises devises, Pays pays, Serializable uuid, String nom, String nomLegal, String numeroEnregistrement, String numeroFiscal, String codeEntreprise, String email, String telephone, String siteWeb, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, PointGps coordonneesGps, String secteurActivite, Integer nombreEmployes, Integer anneeCreation, BigDecimal chiffreAffaires, String logoUrl, Serializable couleursMarque, String fuseauHoraire, String langueParDefaut, Serializable parametres, Boolean estActif, Boolean estVerifie, Timestamp creeLe, Timestamp modifieLe, Set<Boutiques> boutiqueses, Set<Employes> employeses) {
        this.id = id;
        this.devises = devises;
        this.pays = pays;
@@ -214,11 +215,11 @@ public class Entreprises  implements java.io.Serializable {
     public void setCodePostal(String codePostal) {
         this.codePostal = codePostal;
     }
-    public Serializable getCoordonneesGps() {
+    public PointGps getCoordonneesGps() {
         return this.coordonneesGps;
     }
     
-    public void setCoordonneesGps(Serializable coordonneesGps) {
+    public void setCoordonneesGps(PointGps coordonneesGps) {
         this.coordonneesGps = coordonneesGps;
     }
     public String getSecteurActivite() {
@@ -312,18 +313,18 @@ public class Entreprises  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getBoutiqueses() {
+    public Set<Boutiques> getBoutiqueses() {
         return this.boutiqueses;
     }
     
-    public void setBoutiqueses(Set boutiqueses) {
+    public void setBoutiqueses(Set<Boutiques> boutiqueses) {
         this.boutiqueses = boutiqueses;
     }
-    public Set getEmployeses() {
+    public Set<Employes> getEmployeses() {
         return this.employeses;
     }
     
-    public void setEmployeses(Set employeses) {
+    public void setEmployeses(Set<Employes> employeses) {
         this.employeses = employeses;
     }
 
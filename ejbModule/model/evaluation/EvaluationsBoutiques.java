@@ -32,7 +32,7 @@ public class EvaluationsBoutiques  implements java.io.Serializable {
      private Integer votesUtile;
      private Integer votesInutile;
      private Timestamp creeLe;
-     private Set votesEvaluationses = new HashSet(0);
+     private Set<VotesEvaluations> votesEvaluationses = new HashSet<>(0);
 
     public EvaluationsBoutiques() {
     }
@@ -44,7 +44,7 @@ public class EvaluationsBoutiques  implements java.io.Serializable {
         this.clients = clients;
         this.noteGlobale = noteGlobale;
     }
-    public EvaluationsBoutiques(int id, Boutiques boutiques, Commandes commandes, Clients clients, int noteGlobale, Integer noteQualiteProduits, Integer noteServiceClient, Integer noteRapiditeLivraison, String titre, String commentaire, Boolean recommande, Boolean estModere, Boolean estApprouve, Integer votesUtile, Integer votesInutile, Timestamp creeLe, Set votesEvaluationses) {
+    public EvaluationsBoutiques(int id, Boutiques boutiques, Commandes commandes, Clients clients, int noteGlobale, Integer noteQualiteProduits, Integer noteServiceClient, Integer noteRapiditeLivraison, String titre, String commentaire, Boolean recommande, Boolean estModere, Boolean estApprouve, Integer votesUtile, Integer votesInutile, Timestamp creeLe, Set<VotesEvaluations> votesEvaluationses) {
        this.id = id;
        this.boutiques = boutiques;
        this.commandes = commandes;
@@ -176,11 +176,11 @@ public class EvaluationsBoutiques  implements java.io.Serializable {
     public void setCreeLe(Timestamp creeLe) {
         this.creeLe = creeLe;
     }
-    public Set getVotesEvaluationses() {
+    public Set<VotesEvaluations> getVotesEvaluationses() {
         return this.votesEvaluationses;
     }
     
-    public void setVotesEvaluationses(Set votesEvaluationses) {
+    public void setVotesEvaluationses(Set<VotesEvaluations> votesEvaluationses) {
         this.votesEvaluationses = votesEvaluationses;
     }
 
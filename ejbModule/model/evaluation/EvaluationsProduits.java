@@ -41,7 +41,7 @@ public class EvaluationsProduits  implements java.io.Serializable {
      private Integer signalements;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set votesEvaluationses = new HashSet(0);
+     private Set<VotesEvaluations> votesEvaluationses = new HashSet<>(0);
 
     public EvaluationsProduits() {
     }
@@ -53,7 +53,7 @@ public class EvaluationsProduits  implements java.io.Serializable {
         this.clients = clients;
         this.note = note;
     }
-    public EvaluationsProduits(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Commandes commandes, Clients clients, int note, String titre, String commentaire, String avantages, String inconvenients, Boolean recommande, Serializable photosUrls, Serializable videosUrls, Boolean achatVerifie, String langueAvis, Boolean estModere, Boolean estApprouve, String raisonRejet, Integer votesUtile, Integer votesInutile, Integer signalements, Timestamp creeLe, Timestamp modifieLe, Set votesEvaluationses) {
+    public EvaluationsProduits(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Commandes commandes, Clients clients, int note, String titre, String commentaire, String avantages, String inconvenients, Boolean recommande, Serializable photosUrls, Serializable videosUrls, Boolean achatVerifie, String langueAvis, Boolean estModere, Boolean estApprouve, String raisonRejet, Integer votesUtile, Integer votesInutile, Integer signalements, Timestamp creeLe, Timestamp modifieLe, Set<VotesEvaluations> votesEvaluationses) {
        this.id = id;
        this.produits = produits;
        this.comptesUtilisateur = comptesUtilisateur;
@@ -241,11 +241,11 @@ public class EvaluationsProduits  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getVotesEvaluationses() {
+    public Set<VotesEvaluations> getVotesEvaluationses() {
         return this.votesEvaluationses;
     }
     
-    public void setVotesEvaluationses(Set votesEvaluationses) {
+    public void setVotesEvaluationses(Set<VotesEvaluations> votesEvaluationses) {
         this.votesEvaluationses = votesEvaluationses;
     }
 
@@ -7,10 +7,14 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 import model.commande.Commandes;
 import model.entreprise.Employes;
 
+import utils.types.Adresse;
+import utils.types.JsonMap;
+
 /**
  * Livraisons generated by hbm2java
  */
@@ -21,11 +25,11 @@ public class Livraisons  implements java.io.Serializable {
      private Transporteurs transporteurs;
      private Employes employes;
      private Commandes commandes;
-     private Serializable uuid;
+     private UUID uuid;
      private String numeroSuivi;
      private String typeLivraison;
-     private Serializable adresseOrigine;
-     private Serializable adresseDestination;
+     private Adresse adresseOrigine;
+     private Adresse adresseDestination;
      private Serializable coordonneesOrigine;
      private Serializable coordonneesDestination;
      private String instructionsLivraison;
@@ -40,7 +44,7 @@ public class Livraisons  implements java.io.Serializable {
      private Serializable dernierePosition;
      private Timestamp derniereMiseAJour;
      private BigDecimal poidsTotal;
-     private Serializable dimensions;
+     private JsonMap dimensions;
      private BigDecimal valeurDeclaree;
      private Boolean estFragile;
      private Boolean necessiteSignature;
@@ -55,19 +59,19 @@ public class Livraisons  implements java.io.Serializable {
      private String lienReceptionnaire;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set suiviLivraisonses = new HashSet(0);
+     private Set<SuiviLivraisons> suiviLivraisonses = new HashSet<>(0);
 
     public Livraisons() {
     }
 
 	
-    public Livraisons(int id, Commandes commandes, Serializable adresseOrigine, Serializable adresseDestination) {
+    public Livraisons(int id, Commandes commandes, Adresse adresseOrigine, Adresse adresseDestination) {
         this.id = id;
         this.commandes = commandes;
         this.adresseOrigine = adresseOrigine;
         this.adresseDestination = adresseDestination;
     }
-    public Livraisons(int id, Transporteurs transporteurs, Employes employes, Commandes commandes, Serializable uuid, String numeroSuivi, String typeLivraison, Serializable adresseOrigine, Serializable adresseDestination, Serializable coordonneesOrigine, Serializable coordonneesDestination, String instructionsLivraison, String notesLivreur, String codeAcces, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp creneauLivraisonDebut, Timestamp creneauLivraisonFin, Timestamp dateLivraisonReelle, String statut, Serializable dernierePosition, Timestamp derniereMiseAJour, BigDecimal poidsTotal, Serializable dimensions, BigDecimal valeurDeclaree, Boolean estFragile, Boolean necessiteSignature, Integer nombreTentatives, Integer maxTentatives, BigDecimal fraisLivraison, BigDecimal fraisAdditionnels, String photoExpeditionUrl, String photoLivraisonUrl, String signatureElectronique, String nomReceptionnaire, String lienReceptionnaire, Timestamp creeLe, Timestamp modifieLe, Set suiviLivraisonses) {
+    public Livraisons(int id, Transporteurs transporteurs, Employes employes, Commandes commandes, UUID uuid, String numeroSuivi, String typeLivraison, Adresse adresseOrigine, Adresse adresseDestination, Serializable coordonneesOrigine, Serializable coordonneesDestination, String instructionsLivraison, String notesLivreur, String codeAcces, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp creneauLivraisonDebut, Timestamp creneauLivraisonFin, Timestamp dateLivraisonReelle, String statut, Serializable dernierePosition, Timestamp derniereMiseAJour, BigDecimal poidsTotal, JsonMap dimensions, BigDecimal valeurDeclaree, Boolean estFragile, Boolean necessiteSignature, Integer nombreTentatives, Integer maxTentatives, BigDecimal fraisLivraison, BigDecimal fraisAdditionnels, String photoExpeditionUrl, String photoLivraisonUrl, String signatureElectronique, String nomReceptionnaire, String lienReceptionnaire, Timestamp creeLe, Timestamp modifieLe, Set<SuiviLivraisons> suiviLivraisonses) {
        this.id = id;
        this.transporteurs = transporteurs;
        this.employes = employes;
@@ -137,11 +141,11 @@ public class Livraisons  implements java.io.Serializable {
     public void setCommandes(Commandes commandes) {
         this.commandes = commandes;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
     public String getNumeroSuivi() {
@@ -158,18 +162,18 @@ public class Livraisons  implements java.io.Serializable {
     public void setTypeLivraison(String typeLivraison) {
         this.typeLivraison = typeLivraison;
     }
-    public Serializable getAdresseOrigine() {
+    public Adresse getAdresseOrigine() {
         return this.adresseOrigine;
     }
     
-    public void setAdresseOrigine(Serializable adresseOrigine) {
+    public void setAdresseOrigine(Adresse adresseOrigine) {
         this.adresseOrigine = adresseOrigine;
     }
-    public Serializable getAdresseDestination() {
+    public Adresse getAdresseDestination() {
         return this.adresseDestination;
     }
     
-    public void setAdresseDestination(Serializable adresseDestination) {
+    public void setAdresseDestination(Adresse adresseDestination) {
         this.adresseDestination = adresseDestination;
     }
     public Serializable getCoordonneesOrigine() {
@@ -270,11 +274,11 @@ public class Livraisons  implements java.io.Serializable {
     public void setPoidsTotal(BigDecimal poidsTotal) {
         this.poidsTotal = poidsTotal;
     }
-    public Serializable getDimensions() {
+    public JsonMap getDimensions() {
         return this.dimensions;
     }
     
-    public void setDimensions(Serializable dimensions) {
+    public void setDimensions(JsonMap dimensions) {
         this.dimensions = dimensions;
     }
     public BigDecimal getValeurDeclaree() {
@@ -375,11 +379,11 @@ public class Livraisons  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getSuiviLivraisonses() {
+    public Set<SuiviLivraisons> getSuiviLivraisonses() {
         return this.suiviLivraisonses;
     }
     
-    public void setSuiviLivraisonses(Set suiviLivraisonses) {
+    public void setSuiviLivraisonses(Set<SuiviLivraisons> suiviLivraisonses) {
         this.suiviLivraisonses = suiviLivraisonses;
     }
 
@@ -33,7 +33,7 @@ public class Transporteurs  implements java.io.Serializable {
      private Integer nombreEvaluations;
      private Boolean estActif;
      private Timestamp creeLe;
-     private Set livraisonses = new HashSet(0);
+     private Set<Livraisons> livraisonses = new HashSet<>(0);
 
     public Transporteurs() {
     }
@@ -43,7 +43,7 @@ public class Transporteurs  implements java.io.Serializable {
         this.id = id;
         this.nom = nom;
     }
-    public Transporteurs(int id, String nom, String code, String description, String telephone, String email, String siteWeb, String apiUrl, String apiKeyHash, String formatNumeroSuivi, Serializable zonesCouverture, Serializable tarifs, BigDecimal fraisBase, Integer delaiLivraisonMin, Integer delaiLivraisonMax, BigDecimal noteMoyenne, Integer nombreEvaluations, Boolean estActif, Timestamp creeLe, Set livraisonses) {
+    public Transporteurs(int id, String nom, String code, String description, String telephone, String email, String siteWeb, String apiUrl, String apiKeyHash, String formatNumeroSuivi, Serializable zonesCouverture, Serializable tarifs, BigDecimal fraisBase, Integer delaiLivraisonMin, Integer delaiLivraisonMax, BigDecimal noteMoyenne, Integer nombreEvaluations, Boolean estActif, Timestamp creeLe, Set<Livraisons> livraisonses) {
        this.id = id;
        this.nom = nom;
        this.code = code;
@@ -199,11 +199,11 @@ public class Transporteurs  implements java.io.Serializable {
     public void setCreeLe(Timestamp creeLe) {
         this.creeLe = creeLe;
     }
-    public Set getLivraisonses() {
+    public Set<Livraisons> getLivraisonses() {
         return this.livraisonses;
     }
     
-    public void setLivraisonses(Set livraisonses) {
+    public void setLivraisonses(Set<Livraisons> livraisonses) {
         this.livraisonses = livraisonses;
     }
 
@@ -1,10 +1,10 @@
-package model;
+package model.livraison;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.UUID;
 
 /**
  * VLivraisonsCompletesId generated by hbm2java
@@ -25,12 +25,12 @@ public class VLivraisonsCompletesId  implements java.io.Serializable {
      private String statut;
      private String transporteurNom;
      private String typeLivraison;
-     private Serializable uuid;
+     private UUID uuid;
 
     public VLivraisonsCompletesId() {
     }
 
-    public VLivraisonsCompletesId(String boutiqueNom, String clientNom, String clientTelephone, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp dateLivraisonReelle, BigDecimal fraisLivraison, Integer id, String numeroCommande, String numeroSuivi, String statut, String transporteurNom, String typeLivraison, Serializable uuid) {
+    public VLivraisonsCompletesId(String boutiqueNom, String clientNom, String clientTelephone, Timestamp dateExpedition, Timestamp dateLivraisonPrevue, Timestamp dateLivraisonReelle, BigDecimal fraisLivraison, Integer id, String numeroCommande, String numeroSuivi, String statut, String transporteurNom, String typeLivraison, UUID uuid) {
        this.boutiqueNom = boutiqueNom;
        this.clientNom = clientNom;
        this.clientTelephone = clientTelephone;
@@ -138,11 +138,11 @@ public class VLivraisonsCompletesId  implements java.io.Serializable {
     public void setTypeLivraison(String typeLivraison) {
         this.typeLivraison = typeLivraison;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
 
@@ -32,7 +32,7 @@ public class TemplatesNotifications  implements java.io.Serializable {
      private Boolean estActif;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set notificationsEnvoyeeses = new HashSet(0);
+     private Set<NotificationsEnvoyees> notificationsEnvoyeeses = new HashSet<>(0);
 
     public TemplatesNotifications() {
     }
@@ -45,7 +45,7 @@ public class TemplatesNotifications  implements java.io.Serializable {
         this.typeNotification = typeNotification;
         this.evenementDeclencheur = evenementDeclencheur;
     }
-    public TemplatesNotifications(int id, ComptesUtilisateur comptesUtilisateur, String code, String nom, String description, String typeNotification, String evenementDeclencheur, String sujet, String contenuHtml, String contenuTexte, Serializable contenuPush, Serializable variablesDisponibles, String langue, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set notificationsEnvoyeeses) {
+    public TemplatesNotifications(int id, ComptesUtilisateur comptesUtilisateur, String code, String nom, String description, String typeNotification, String evenementDeclencheur, String sujet, String contenuHtml, String contenuTexte, Serializable contenuPush, Serializable variablesDisponibles, String langue, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set<NotificationsEnvoyees> notificationsEnvoyeeses) {
        this.id = id;
        this.comptesUtilisateur = comptesUtilisateur;
        this.code = code;
@@ -184,11 +184,11 @@ public class TemplatesNotifications  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getNotificationsEnvoyeeses() {
+    public Set<NotificationsEnvoyees> getNotificationsEnvoyeeses() {
         return this.notificationsEnvoyeeses;
     }
     
-    public void setNotificationsEnvoyeeses(Set notificationsEnvoyeeses) {
+    public void setNotificationsEnvoyeeses(Set<NotificationsEnvoyees> notificationsEnvoyeeses) {
         this.notificationsEnvoyeeses = notificationsEnvoyeeses;
     }
 
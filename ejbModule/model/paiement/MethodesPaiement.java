@@ -33,7 +33,7 @@ public class MethodesPaiement  implements java.io.Serializable {
      private Serializable paysSupportes;
      private Boolean estActif;
      private Timestamp creeLe;
-     private Set transactionsPaiements = new HashSet(0);
+     private Set<TransactionsPaiement> transactionsPaiements = new HashSet<>(0);
 
     public MethodesPaiement() {
     }
@@ -44,7 +44,7 @@ public class MethodesPaiement  implements java.io.Serializable {
         this.code = code;
         this.nom = nom;
     }
-    public MethodesPaiement(int id, Devises devises, String code, String nom, String description, Boolean estEnLigne, Boolean estHorsLigne, BigDecimal fraisPourcentage, BigDecimal fraisFixe, BigDecimal montantMinimum, BigDecimal montantMaximum, String stripePaymentMethodType, String iconeUrl, String couleurTheme, Serializable paysSupportes, Boolean estActif, Timestamp creeLe, Set transactionsPaiements) {
+    public MethodesPaiement(int id, Devises devises, String code, String nom, String description, Boolean estEnLigne, Boolean estHorsLigne, BigDecimal fraisPourcentage, BigDecimal fraisFixe, BigDecimal montantMinimum, BigDecimal montantMaximum, String stripePaymentMethodType, String iconeUrl, String couleurTheme, Serializable paysSupportes, Boolean estActif, Timestamp creeLe, Set<TransactionsPaiement> transactionsPaiements) {
        this.id = id;
        this.devises = devises;
        this.code = code;
@@ -184,11 +184,11 @@ public class MethodesPaiement  implements java.io.Serializable {
     public void setCreeLe(Timestamp creeLe) {
         this.creeLe = creeLe;
     }
-    public Set getTransactionsPaiements() {
+    public Set<TransactionsPaiement> getTransactionsPaiements() {
         return this.transactionsPaiements;
     }
     
-    public void setTransactionsPaiements(Set transactionsPaiements) {
+    public void setTransactionsPaiements(Set<TransactionsPaiement> transactionsPaiements) {
         this.transactionsPaiements = transactionsPaiements;
     }
 
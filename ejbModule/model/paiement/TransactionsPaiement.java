@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 import model.commande.Commandes;
 import model.reference.Devises;
@@ -21,7 +22,7 @@ public class TransactionsPaiement  implements java.io.Serializable {
      private Devises devises;
      private MethodesPaiement methodesPaiement;
      private Commandes commandes;
-     private Serializable uuid;
+     private UUID uuid;
      private BigDecimal montant;
      private BigDecimal fraisTransaction;
      private BigDecimal montantNet;
@@ -46,7 +47,7 @@ public class TransactionsPaiement  implements java.io.Serializable {
      private String raisonRemboursement;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set remboursementses = new HashSet(0);
+     private Set<Remboursements> remboursementses = new HashSet<>(0);
 
     public TransactionsPaiement() {
     }
@@ -59,7 +60,7 @@ public class TransactionsPaiement  implements java.io.Serializable {
         this.montant = montant;
         this.montantNet = montantNet;
     }
-    public TransactionsPaiement(int id, Devises devises, MethodesPaiement methodesPaiement, Commandes commandes, Serializable uuid, BigDecimal montant, BigDecimal fraisTransaction, BigDecimal montantNet, String stripePaymentIntentId, String stripeChargeId, String stripeTransferId, String referenceExterne, String statut, String codeErreur, String messageErreur, Serializable detailsCarte, Serializable detailsMobileMoney, Timestamp dateInitiation, Timestamp dateAutorisation, Timestamp dateCapture, Timestamp dateEchec, BigDecimal scoreRisque, Serializable controlesSecurite, Serializable adresseIpPaiement, BigDecimal montantRembourse, Timestamp dateRemboursement, String raisonRemboursement, Timestamp creeLe, Timestamp modifieLe, Set remboursementses) {
+    public TransactionsPaiement(int id, Devises devises, MethodesPaiement methodesPaiement, Commandes commandes, UUID uuid, BigDecimal montant, BigDecimal fraisTransaction, BigDecimal montantNet, String stripePaymentIntentId, String stripeChargeId, String stripeTransferId, String referenceExterne, String statut, String codeErreur, String messageErreur, Serializable detailsCarte, Serializable detailsMobileMoney, Timestamp dateInitiation, Timestamp dateAutorisation, Timestamp dateCapture, Timestamp dateEchec, BigDecimal scoreRisque, Serializable controlesSecurite, Serializable adresseIpPaiement, BigDecimal montantRembourse, Timestamp dateRemboursement, String raisonRemboursement, Timestamp creeLe, Timestamp modifieLe, Set<Remboursements> remboursementses) {
        this.id = id;
        this.devises = devises;
        this.methodesPaiement = methodesPaiement;
@@ -120,11 +121,11 @@ public class TransactionsPaiement  implements java.io.Serializable {
     public void setCommandes(Commandes commandes) {
         this.commandes = commandes;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
     public BigDecimal getMontant() {
@@ -295,11 +296,11 @@ public class TransactionsPaiement  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getRemboursementses() {
+    public Set<Remboursements> getRemboursementses() {
         return this.remboursementses;
     }
     
-    public void setRemboursementses(Set remboursementses) {
+    public void setRemboursementses(Set<Remboursements> remboursementses) {
         this.remboursementses = remboursementses;
     }
 
@@ -0,0 +1,192 @@
+package model.produit;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Carte produit dénormalisée (modèle de lecture, table cartes_produits)
+ * Entretenue par utils.catalogue.ProductCardListener : jamais modifiée par l'application
+ */
+public class CartesProduits  implements java.io.Serializable {
+
+
+     private int produitId;
+     private UUID uuid;
+     private int boutiqueId;
+     private int categorieId;
+     private Integer marqueId;
+     private String nom;
+     private String descriptionCourte;
+     private BigDecimal prixVente;
+     private BigDecimal prixPromo;
+     private Integer stockActuel;
+     private Boolean estEnStock;
+     private Boolean estEnPromotion;
+     private String imagePrincipaleUrl;
+     private BigDecimal noteMoyenne;
+     private Integer nombreEvaluations;
+     private String boutiqueNom;
+     private String boutiqueVille;
+     private String categorieNom;
+     private String marqueNom;
+     private boolean estVisible;
+     private Timestamp modifieLe;
+
+    public CartesProduits() {
+    }
+
+    public int getProduitId() {
+        return this.produitId;
+    }
+
+    public void setProduitId(int produitId) {
+        this.produitId = produitId;
+    }
+    public UUID getUuid() {
+        return this.uuid;
+    }
+
+    public void setUuid(UUID uuid) {
+        this.uuid = uuid;
+    }
+    public int getBoutiqueId() {
+        return this.boutiqueId;
+    }
+
+    public void setBoutiqueId(int boutiqueId) {
+        this.boutiqueId = boutiqueId;
+    }
+    public int getCategorieId() {
+        return this.categorieId;
+    }
+
+    public void setCategorieId(int categorieId) {
+        this.categorieId = categorieId;
+    }
+    public Integer getMarqueId() {
+        return this.marqueId;
+    }
+
+    public void setMarqueId(Integer marqueId) {
+        this.marqueId = marqueId;
+    }
+    public String getNom() {
+        return this.nom;
+    }
+
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+    public String getDescriptionCourte() {
+        return this.descriptionCourte;
+    }
+
+    public void setDescriptionCourte(String descriptionCourte) {
+        this.descriptionCourte = descriptionCourte;
+    }
+    public BigDecimal getPrixVente() {
+        return this.prixVente;
+    }
+
+    public void setPrixVente(BigDecimal prixVente) {
+        this.prixVente = prixVente;
+    }
+    public BigDecimal getPrixPromo() {
+        return this.prixPromo;
+    }
+
+    public void setPrixPromo(BigDecimal prixPromo) {
+        this.prixPromo = prixPromo;
+    }
+    public Integer getStockActuel() {
+        return this.stockActuel;
+    }
+
+    public void setStockActuel(Integer stockActuel) {
+        this.stockActuel = stockActuel;
+    }
+    public Boolean getEstEnStock() {
+        return this.estEnStock;
+    }
+
+    public void setEstEnStock(Boolean estEnStock) {
+        this.estEnStock = estEnStock;
+    }
+    public Boolean getEstEnPromotion() {
+        return this.estEnPromotion;
+    }
+
+    public void setEstEnPromotion(Boolean estEnPromotion) {
+        this.estEnPromotion = estEnPromotion;
+    }
+    public String getImagePrincipaleUrl() {
+        return this.imagePrincipaleUrl;
+    }
+
+    public void setImagePrincipaleUrl(String imagePrincipaleUrl) {
+        this.imagePrincipaleUrl = imagePrincipaleUrl;
+    }
+    public BigDecimal getNoteMoyenne() {
+        return this.noteMoyenne;
+    }
+
+    public void setNoteMoyenne(BigDecimal noteMoyenne) {
+        this.noteMoyenne = noteMoyenne;
+    }
+    public Integer getNombreEvaluations() {
+        return this.nombreEvaluations;
+    }
+
+    public void setNombreEvaluations(Integer nombreEvaluations) {
+        this.nombreEvaluations = nombreEvaluations;
+    }
+    public String getBoutiqueNom() {
+        return this.boutiqueNom;
+    }
+
+    public void setBoutiqueNom(String boutiqueNom) {
+        this.boutiqueNom = boutiqueNom;
+    }
+    public String getBoutiqueVille() {
+        return this.boutiqueVille;
+    }
+
+    public void setBoutiqueVille(String boutiqueVille) {
+        this.boutiqueVille = boutiqueVille;
+    }
+    public String getCategorieNom() {
+        return this.categorieNom;
+    }
+
+    public void setCategorieNom(String categorieNom) {
+        this.categorieNom = categorieNom;
+    }
+    public String getMarqueNom() {
+        return this.marqueNom;
+    }
+
+    public void setMarqueNom(String marqueNom) {
+        this.marqueNom = marqueNom;
+    }
+    public boolean isEstVisible() {
+        return this.estVisible;
+    }
+
+    public void setEstVisible(boolean estVisible) {
+        this.estVisible = estVisible;
+    }
+    public Timestamp getModifieLe() {
+        return this.modifieLe;
+    }
+
+    public void setModifieLe(Timestamp modifieLe) {
+        this.modifieLe = modifieLe;
+    }
+
+
+
+
+}
+
+
@@ -29,8 +29,8 @@ public class CategoriesProduits  implements java.io.Serializable {
      private Boolean estActif;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set categoriesProduitses = new HashSet(0);
-     private Set produitses = new HashSet(0);
+     private Set<CategoriesProduits> categoriesProduitses = new HashSet<>(0);
+     private Set<Produits> produitses = new HashSet<>(0);
 
     public CategoriesProduits() {
     }
@@ -40,7 +40,7 @@ public class CategoriesProduits  implements java.io.Serializable {
         this.id = id;
         this.nom = nom;
     }
-    public CategoriesProduits(int id, CategoriesProduits categoriesProduits, String nom, String description, String iconeUrl, String imageUrl, Integer niveau, Integer ordreAffichage, String cheminHierarchique, Serializable motsCles, Serializable contenuRecherche, Serializable attributsRequis, Serializable parametres, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set categoriesProduitses, Set produitses) {
+    public CategoriesProduits(int id, CategoriesProduits categoriesProduits, String nom, String description, String iconeUrl, String imageUrl, Integer niveau, Integer ordreAffichage, String cheminHierarchique, Serializable motsCles, Serializable contenuRecherche, Serializable attributsRequis, Serializable parametres, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set<CategoriesProduits> categoriesProduitses, Set<Produits> produitses) {
        this.id = id;
        this.categoriesProduits = categoriesProduits;
        this.nom = nom;
@@ -173,18 +173,18 @@ public class CategoriesProduits  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getCategoriesProduitses() {
+    public Set<CategoriesProduits> getCategoriesProduitses() {
         return this.categoriesProduitses;
     }
     
-    public void setCategoriesProduitses(Set categoriesProduitses) {
+    public void setCategoriesProduitses(Set<CategoriesProduits> categoriesProduitses) {
         this.categoriesProduitses = categoriesProduitses;
     }
-    public Set getProduitses() {
+    public Set<Produits> getProduitses() {
         return this.produitses;
     }
     
-    public void setProduitses(Set produitses) {
+    public void setProduitses(Set<Produits> produitses) {
         this.produitses = produitses;
     }
 
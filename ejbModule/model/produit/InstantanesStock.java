@@ -0,0 +1,71 @@
+package model.produit;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * Stock d'un produit et d'un lot au début d'un jour (table instantanes_stock) : quantité et valeur au coût moyen
+ * pondéré, cumul des mouvements_stock antérieurs
+ * Entretenu par utils.stock.StockLedger : jamais modifié par l'application
+ */
+public class InstantanesStock  implements java.io.Serializable {
+
+
+     private InstantanesStockId id;
+     private int quantite;
+     private BigDecimal valeurStock;
+     private Date dateExpiration;
+     private Integer dernierMouvementId;
+     private Timestamp creeLe;
+
+    public InstantanesStock() {
+    }
+
+    public InstantanesStockId getId() {
+        return this.id;
+    }
+    
+    public void setId(InstantanesStockId id) {
+        this.id = id;
+    }
+    public int getQuantite() {
+        return this.quantite;
+    }
+    
+    public void setQuantite(int quantite) {
+        this.quantite = quantite;
+    }
+    public BigDecimal getValeurStock() {
+        return this.valeurStock;
+    }
+    
+    public void setValeurStock(BigDecimal valeurStock) {
+        this.valeurStock = valeurStock;
+    }
+    public Date getDateExpiration() {
+        return this.dateExpiration;
+    }
+    
+    public void setDateExpiration(Date dateExpiration) {
+        this.dateExpiration = dateExpiration;
+    }
+    public Integer getDernierMouvementId() {
+        return this.dernierMouvementId;
+    }
+    
+    public void setDernierMouvementId(Integer dernierMouvementId) {
+        this.dernierMouvementId = dernierMouvementId;
+    }
+    public Timestamp getCreeLe() {
+        return this.creeLe;
+    }
+    
+    public void setCreeLe(Timestamp creeLe) {
+        this.creeLe = creeLe;
+    }
+
+
+
+
+}
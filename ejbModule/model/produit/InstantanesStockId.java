@@ -0,0 +1,68 @@
+package model.produit;
+
+import java.sql.Date;
+
+/**
+ * Clé d'une ligne d'instantané : jour d'arrêté, produit et lot (chaîne vide pour le stock sans lot)
+ */
+public class InstantanesStockId  implements java.io.Serializable {
+
+
+     private Date dateArrete;
+     private int produitId;
+     private String lotNumero;
+
+    public InstantanesStockId() {
+    }
+
+    public InstantanesStockId(Date dateArrete, int produitId, String lotNumero) {
+       this.dateArrete = dateArrete;
+       this.produitId = produitId;
+       this.lotNumero = lotNumero;
+    }
+   
+    public Date getDateArrete() {
+        return this.dateArrete;
+    }
+    
+    public void setDateArrete(Date dateArrete) {
+        this.dateArrete = dateArrete;
+    }
+    public int getProduitId() {
+        return this.produitId;
+    }
+    
+    public void setProduitId(int produitId) {
+        this.produitId = produitId;
+    }
+    public String getLotNumero() {
+        return this.lotNumero;
+    }
+    
+    public void setLotNumero(String lotNumero) {
+        this.lotNumero = lotNumero;
+    }
+
+
+   public boolean equals(Object other) {
+         if ( (this == other ) ) return true;
+		 if ( (other == null ) ) return false;
+		 if ( !(other instanceof InstantanesStockId) ) return false;
+		 InstantanesStockId castOther = ( InstantanesStockId ) other; 
+         
+		 return ( (this.getDateArrete()==castOther.getDateArrete()) || ( this.getDateArrete()!=null && castOther.getDateArrete()!=null && this.getDateArrete().equals(castOther.getDateArrete()) ) )
+ && (this.getProduitId()==castOther.getProduitId())
+ && ( (this.getLotNumero()==castOther.getLotNumero()) || ( this.getLotNumero()!=null && castOther.getLotNumero()!=null && this.getLotNumero().equals(castOther.getLotNumero()) ) );
+   }
+   
+   public int hashCode() {
+         int result = 17;
+         
+        result = 37 * result + ( getDateArrete() == null ? 0 : this.getDateArrete().hashCode() );
+        result = 37 * result + this.getProduitId();
+        result = 37 * result + ( getLotNumero() == null ? 0 : this.getLotNumero().hashCode() );
+         return result;
+   }   
+
+
+}
@@ -24,7 +24,7 @@ public class Marques  implements java.io.Serializable {
      private Serializable metadonnees;
      private Boolean estActif;
      private Timestamp creeLe;
-     private Set produitses = new HashSet(0);
+     private Set<Produits> produitses = new HashSet<>(0);
 
     public Marques() {
     }
@@ -34,7 +34,7 @@ public class Marques  implements java.io.Serializable {
         this.id = id;
         this.nom = nom;
     }
-    public Marques(int id, Pays pays, String nom, String description, String logoUrl, String siteWeb, Serializable metadonnees, Boolean estActif, Timestamp creeLe, Set produitses) {
+    public Marques(int id, Pays pays, String nom, String description, String logoUrl, String siteWeb, Serializable metadonnees, Boolean estActif, Timestamp creeLe, Set<Produits> produitses) {
        this.id = id;
        this.pays = pays;
        this.nom = nom;
@@ -110,11 +110,11 @@ public class Marques  implements java.io.Serializable {
     public void setCreeLe(Timestamp creeLe) {
         this.creeLe = creeLe;
     }
-    public Set getProduitses() {
+    public Set<Produits> getProduitses() {
         return this.produitses;
     }
     
-    public void setProduitses(Set produitses) {
+    public void setProduitses(Set<Produits> produitses) {
         this.produitses = produitses;
     }
 
@@ -16,6 +16,7 @@ public class Paniers  implements java.io.Serializable {
 
 
      private int id;
+     private Integer version;
      private Clients clients;
      private String sessionId;
      private BigDecimal sousTotal;
@@ -28,7 +29,7 @@ public class Paniers  implements java.io.Serializable {
      private Timestamp dateExpiration;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set articlesPaniers = new HashSet(0);
+     private Set<ArticlesPanier> articlesPaniers = new HashSet<>(0);
 
     public Paniers() {
     }
@@ -38,7 +39,7 @@ public class Paniers  implements java.io.Serializable {
         this.id = id;
         this.clients = clients;
     }
-    public Paniers(int id, Clients clients, String sessionId, BigDecimal sousTotal, BigDecimal montantTva, BigDecimal fraisLivraison, BigDecimal remiseAppliquee, BigDecimal totalFinal, String codePromoApplique, Boolean estActif, Timestamp dateExpiration, Timestamp creeLe, Timestamp modifieLe, Set articlesPaniers) {
+    public Paniers(int id, Clients clients, String sessionId, BigDecimal sousTotal, BigDecimal montantTva, BigDecimal fraisLivraison, BigDecimal remiseAppliquee, BigDecimal totalFinal, String codePromoApplique, Boolean estActif, Timestamp dateExpiration, Timestamp creeLe, Timestamp modifieLe, Set<ArticlesPanier> articlesPaniers) {
        this.id = id;
        this.clients = clients;
        this.sessionId = sessionId;
@@ -62,6 +63,13 @@ public class Paniers  implements java.io.Serializable {
     public void setId(int id) {
         this.id = id;
     }
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
     public Clients getClients() {
         return this.clients;
     }
@@ -146,11 +154,11 @@ public class Paniers  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getArticlesPaniers() {
+    public Set<ArticlesPanier> getArticlesPaniers() {
         return this.articlesPaniers;
     }
     
-    public void setArticlesPaniers(Set articlesPaniers) {
+    public void setArticlesPaniers(Set<ArticlesPanier> articlesPaniers) {
         this.articlesPaniers = articlesPaniers;
     }
 
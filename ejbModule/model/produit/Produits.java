@@ -2,16 +2,23 @@ package model.produit;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
+import model.analytique.EvenementsAnalytics;
+import model.commande.ArticlesCommande;
 import model.entreprise.Boutiques;
+import model.evaluation.EvaluationsProduits;
+import model.recherche.HistoriqueRecherches;
 import model.reference.Devises;
 
+import utils.types.JsonList;
+import utils.types.JsonMap;
+
 /**
  * Produits generated by hbm2java
  */
@@ -19,12 +26,13 @@ public class Produits  implements java.io.Serializable {
 
 
      private int id;
+     private Integer version;
      private Marques marques;
      private Produits produits;
      private Boutiques boutiques;
      private CategoriesProduits categoriesProduits;
      private Devises devises;
-     private Serializable uuid;
+     private UUID uuid;
      private String nom;
      private String description;
      private String descriptionCourte;
@@ -40,18 +48,18 @@ public class Produits  implements java.io.Serializable {
      private Integer stockMaximum;
      private String uniteMesure;
      private BigDecimal poids;
-     private Serializable dimensions;
-     private Serializable couleursDisponibles;
-     private Serializable taillesDisponibles;
-     private Serializable imagesUrls;
+     private JsonMap dimensions;
+     private JsonList couleursDisponibles;
+     private JsonList taillesDisponibles;
+     private JsonList imagesUrls;
      private String imagePrincipaleUrl;
-     private Serializable videosUrls;
-     private Serializable documentsUrls;
-     private Serializable motsCles;
-     private Serializable tags;
-     private Serializable contenuRecherche;
+     private JsonList videosUrls;
+     private JsonList documentsUrls;
+     private JsonList motsCles;
+     private JsonList tags;
+     private String contenuRecherche;
      private Boolean AVariations;
-     private Serializable attributsVariation;
+     private JsonMap attributsVariation;
      private Date dateCreationProduit;
      private Date dateExpiration;
      private Date datePeremption;
@@ -63,21 +71,21 @@ public class Produits  implements java.io.Serializable {
      private Boolean necessiteLivraison;
      private Boolean estFragile;
      private String instructionsLivraison;
-     private Serializable metadonnees;
+     private JsonMap metadonnees;
      private Boolean estActif;
      private Boolean estEnStock;
      private Boolean estPublie;
      private Boolean estEnPromotion;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set historiqueRechercheses = new HashSet(0);
-     private Set mouvementsStocks = new HashSet(0);
-     private Set articlesCommandes = new HashSet(0);
-     private Set evaluationsProduitses = new HashSet(0);
-     private Set evenementsAnalyticses = new HashSet(0);
-     private Set produitses = new HashSet(0);
-     private Set articlesPaniers = new HashSet(0);
-     private Set attributsProduitses = new HashSet(0);
+     private Set<HistoriqueRecherches> historiqueRechercheses = new HashSet<>(0);
+     private Set<MouvementsStock> mouvementsStocks = new HashSet<>(0);
+     private Set<ArticlesCommande> articlesCommandes = new HashSet<>(0);
+     private Set<EvaluationsProduits> evaluationsProduitses = new HashSet<>(0);
+     private Set<EvenementsAnalytics> evenementsAnalyticses = new HashSet<>(0);
+     private Set<Produits> produitses = new HashSet<>(0);
+     private Set<ArticlesPanier> articlesPaniers = new HashSet<>(0);
+     private Set<AttributsProduits> attributsProduitses = new HashSet<>(0);
 
     public Produits() {
     }
@@ -90,7 +98,7 @@ public class Produits  implements java.io.Serializable {
         this.nom = nom;
         this.prixVente = prixVente;
     }
-    public Produits(int id, Marques marques, Produits produits, Boutiques boutiques, CategoriesProduits categoriesProduits, Devises devises, Serializable uuid, String nom, String description, String descriptionCourte, String sku, String codeBarres, String qrCode, BigDecimal prixAchat, BigDecimal prixVente, BigDecimal prixPromo, BigDecimal tauxTva, Integer stockActuel, Integer stockMinimum, Integer stockMaximum, String uniteMesure, BigDecimal poids, Serializable dimensions, Serializable couleursDisponibles, Serializable taillesDisponibles, Serializable imagesUrls, String imagePrincipaleUrl, Serializable videosUrls, Serializable documentsUrls, Serializable motsCles, Serializable tags, Serializable contenuRecherche, Boolean AVariations, Serializable attributsVariation, Date dateCreationProduit, Date dateExpiration, Date datePeremption, BigDecimal noteMoyenne, Integer nombreEvaluations, Integer nombreVues, Integer nombreVentes, Boolean estNumerique, Boolean necessiteLivraison, Boolean estFragile, String instructionsLivraison, Serializable metadonnees, Boolean estActif, Boolean estEnStock, Boolean estPublie, Boolean estEnPromotion, Timestamp creeLe, Timestamp modifieLe, Set historiqueRechercheses, Set mouvementsStocks, Set articlesCommandes, Set evaluationsProduitses, Set evenementsAnalyticses, Set produitses, Set articlesPaniers, Set attributsProduitses) {
+    public Produits(int id, Marques marques, Produits produits, Boutiques boutiques, CategoriesProduits categoriesProduits, Devises devises, UUID uuid, String nom, String description, String descriptionCourte, String sku, String codeBarres, String qrCode, BigDecimal prixAchat, BigDecimal prixVente, BigDecimal prixPromo, BigDecimal tauxTva, Integer stockActuel, Integer stockMinimum, Integer stockMaximum, String uniteMesure, BigDecimal poids, JsonMap dimensions, JsonList couleursDisponibles, JsonList taillesDisponibles, JsonList imagesUrls, String imagePrincipaleUrl, JsonList videosUrls, JsonList documentsUrls, JsonList motsCles, JsonList tags, String contenuRecherche, Boolean AVariations, JsonMap attributsVariation, Date dateCreationProduit, Date dateExpiration, Date datePeremption, BigDecimal noteMoyenne, Integer nombreEvaluations, Integer nombreVues, Integer nombreVentes, Boolean estNumerique, Boolean necessiteLivraison, Boolean estFragile, String instructionsLivraison, JsonMap metadonnees, Boolean estActif, Boolean estEnStock, Boolean estPublie, Boolean estEnPromotion, Timestamp creeLe, Timestamp modifieLe, Set<HistoriqueRecherches> historiqueRechercheses, Set<MouvementsStock> mouvementsStocks, Set<ArticlesCommande> articlesCommandes, Set<EvaluationsProduits> evaluationsProduitses, Set<EvenementsAnalytics> evenementsAnalyticses, Set<Produits> produitses, Set<ArticlesPanier> articlesPaniers, Set<AttributsProduits> attributsProduitses) {
        this.id = id;
        this.marques = marques;
        this.produits = produits;
@@ -160,6 +168,13 @@ public class Produits  implements java.io.Serializable {
     public void setId(int id) {
         this.id = id;
     }
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
     public Marques getMarques() {
         return this.marques;
     }
@@ -195,11 +210,11 @@ public class Produits  implements java.io.Serializable {
     public void setDevises(Devises devises) {
         this.devises = devises;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
     public String getNom() {
@@ -307,32 +322,32 @@ public class Produits  implements java.io.Serializable {
     public void setPoids(BigDecimal poids) {
         this.poids = poids;
     }
-    public Serializable getDimensions() {
+    public JsonMap getDimensions() {
         return this.dimensions;
     }
     
-    public void setDimensions(Serializable dimensions) {
+    public void setDimensions(JsonMap dimensions) {
         this.dimensions = dimensions;
     }
-    public Serializable getCouleursDisponibles() {
+    public JsonList getCouleursDisponibles() {
         return this.couleursDisponibles;
     }
     
-    public void setCouleursDisponibles(Serializable couleursDisponibles) {
+    public void setCouleursDisponibles(JsonList couleursDisponibles) {
         this.couleursDisponibles = couleursDisponibles;
     }
-    public Serializable getTaillesDisponibles() {
+    public JsonList getTaillesDisponibles() {
         return this.taillesDisponibles;
     }
     
-    public void setTaillesDisponibles(Serializable taillesDisponibles) {
+    public void setTaillesDisponibles(JsonList taillesDisponibles) {
         this.taillesDisponibles = taillesDisponibles;
     }
-    public Serializable getImagesUrls() {
+    public JsonList getImagesUrls() {
         return this.imagesUrls;
     }
     
-    public void setImagesUrls(Serializable imagesUrls) {
+    public void setImagesUrls(JsonList imagesUrls) {
         this.imagesUrls = imagesUrls;
     }
     public String getImagePrincipaleUrl() {
@@ -342,39 +357,39 @@ public class Produits  implements java.io.Serializable {
     public void setImagePrincipaleUrl(String imagePrincipaleUrl) {
         this.imagePrincipaleUrl = imagePrincipaleUrl;
     }
-    public Serializable getVideosUrls() {
+    public JsonList getVideosUrls() {
         return this.videosUrls;
     }
     
-    public void setVideosUrls(Serializable videosUrls) {
+    public void setVideosUrls(JsonList videosUrls) {
         this.videosUrls = videosUrls;
     }
-    public Serializable getDocumentsUrls() {
+    public JsonList getDocumentsUrls() {
         return this.documentsUrls;
     }
     
-    public void setDocumentsUrls(Serializable documentsUrls) {
+    public void setDocumentsUrls(JsonList documentsUrls) {
         this.documentsUrls = documentsUrls;
     }
-    public Serializable getMotsCles() {
+    public JsonList getMotsCles() {
         return this.motsCles;
     }
     
-    public void setMotsCles(Serializable motsCles) {
+    public void setMotsCles(JsonList motsCles) {
         this.motsCles = motsCles;
     }
-    public Serializable getTags() {
+    public JsonList getTags() {
         return this.tags;
     }
     
-    public void setTags(Serializable tags) {
+    public void setTags(JsonList tags) {
         this.tags = tags;
     }
-    public Serializable getContenuRecherche() {
+    public String getContenuRecherche() {
         return this.contenuRecherche;
     }
     
-    public void setContenuRecherche(Serializable contenuRecherche) {
+    public void setContenuRecherche(String contenuRecherche) {
         this.contenuRecherche = contenuRecherche;
     }
     public Boolean getAVariations() {
@@ -384,11 +399,11 @@ public class Produits  implements java.io.Serializable {
     public void setAVariations(Boolean AVariations) {
         this.AVariations = AVariations;
     }
-    public Serializable getAttributsVariation() {
+    public JsonMap getAttributsVariation() {
         return this.attributsVariation;
     }
     
-    public void setAttributsVariation(Serializable attributsVariation) {
+    public void setAttributsVariation(JsonMap attributsVariation) {
         this.attributsVariation = attributsVariation;
     }
     public Date getDateCreationProduit() {
@@ -468,11 +483,11 @@ public class Produits  implements java.io.Serializable {
     public void setInstructionsLivraison(String instructionsLivraison) {
         this.instructionsLivraison = instructionsLivraison;
     }
-    public Serializable getMetadonnees() {
+    public JsonMap getMetadonnees() {
         return this.metadonnees;
     }
     
-    public void setMetadonnees(Serializable metadonnees) {
+    public void setMetadonnees(JsonMap metadonnees) {
         this.metadonnees = metadonnees;
     }
     public Boolean getEstActif() {
@@ -517,60 +532,60 @@ public class Produits  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getHistoriqueRechercheses() {
+    public Set<HistoriqueRecherches> getHistoriqueRechercheses() {
         return this.historiqueRechercheses;
     }
     
-    public void setHistoriqueRechercheses(Set historiqueRechercheses) {
+    public void setHistoriqueRechercheses(Set<HistoriqueRecherches> historiqueRechercheses) {
         this.historiqueRechercheses = historiqueRechercheses;
     }
-    public Set getMouvementsStocks() {
+    public Set<MouvementsStock> getMouvementsStocks() {
         return this.mouvementsStocks;
     }
     
-    public void setMouvementsStocks(Set mouvementsStocks) {
+    public void setMouvementsStocks(Set<MouvementsStock> mouvementsStocks) {
         this.mouvementsStocks = mouvementsStocks;
     }
-    public Set getArticlesCommandes() {
+    public Set<ArticlesCommande> getArticlesCommandes() {
         return this.articlesCommandes;
     }
     
-    public void setArticlesCommandes(Set articlesCommandes) {
+    public void setArticlesCommandes(Set<ArticlesCommande> articlesCommandes) {
         this.articlesCommandes = articlesCommandes;
     }
-    public Set getEvaluationsProduitses() {
+    public Set<EvaluationsProduits> getEvaluationsProduitses() {
         return this.evaluationsProduitses;
     }
     
-    public void setEvaluationsProduitses(Set evaluationsProduitses) {
+    public void setEvaluationsProduitses(Set<EvaluationsProduits> evaluationsProduitses) {
         this.evaluationsProduitses = evaluationsProduitses;
     }
-    public Set getEvenementsAnalyticses() {
+    public Set<EvenementsAnalytics> getEvenementsAnalyticses() {
         return this.evenementsAnalyticses;
     }
     
-    public void setEvenementsAnalyticses(Set evenementsAnalyticses) {
+    public void setEvenementsAnalyticses(Set<EvenementsAnalytics> evenementsAnalyticses) {
         this.evenementsAnalyticses = evenementsAnalyticses;
     }
-    public Set getProduitses() {
+    public Set<Produits> getProduitses() {
         return this.produitses;
     }
     
-    public void setProduitses(Set produitses) {
+    public void setProduitses(Set<Produits> produitses) {
         this.produitses = produitses;
     }
-    public Set getArticlesPaniers() {
+    public Set<ArticlesPanier> getArticlesPaniers() {
         return this.articlesPaniers;
     }
     
-    public void setArticlesPaniers(Set articlesPaniers) {
+    public void setArticlesPaniers(Set<ArticlesPanier> articlesPaniers) {
         this.articlesPaniers = articlesPaniers;
     }
-    public Set getAttributsProduitses() {
+    public Set<AttributsProduits> getAttributsProduitses() {
         return this.attributsProduitses;
     }
     
-    public void setAttributsProduitses(Set attributsProduitses) {
+    public void setAttributsProduitses(Set<AttributsProduits> attributsProduitses) {
         this.attributsProduitses = attributsProduitses;
     }
 
@@ -17,6 +17,7 @@ public class CodesPromotionnels  implements java.io.Serializable {
 
 
      private int id;
+     private Integer version;
      private ComptesUtilisateur comptesUtilisateur;
      private String code;
      private String nom;
@@ -39,7 +40,7 @@ public class CodesPromotionnels  implements java.io.Serializable {
      private String canalDistribution;
      private Boolean estActif;
      private Timestamp creeLe;
-     private Set utilisationsCodesPromos = new HashSet(0);
+     private Set<UtilisationsCodesPromo> utilisationsCodesPromos = new HashSet<>(0);
 
     public CodesPromotionnels() {
     }
@@ -54,7 +55,7 @@ public class CodesPromotionnels  implements java.io.Serializable {
         this.dateDebut = dateDebut;
         this.dateFin = dateFin;
     }
-    public CodesPromotionnels(int id, ComptesUtilisateur comptesUtilisateur, String code, String nom, String description, String typeRemise, BigDecimal valeurRemise, BigDecimal montantMaximum, BigDecimal montantMinimumCommande, Serializable produitsEligibles, Serializable categoriesEligibles, Serializable boutiquesEligibles, Integer utilisationMaxGlobale, Integer utilisationMaxParClient, Integer utilisationActuelle, Timestamp dateDebut, Timestamp dateFin, Serializable segmentsClients, Serializable clientsSpecifiques, String campagneMarketing, String canalDistribution, Boolean estActif, Timestamp creeLe, Set utilisationsCodesPromos) {
+    public CodesPromotionnels(int id, ComptesUtilisateur comptesUtilisateur, String code, String nom, String description, String typeRemise, BigDecimal valeurRemise, BigDecimal montantMaximum, BigDecimal montantMinimumCommande, Serializable produitsEligibles, Serializable categoriesEligibles, Serializable boutiquesEligibles, Integer utilisationMaxGlobale, Integer utilisationMaxParClient, Integer utilisationActuelle, Timestamp dateDebut, Timestamp dateFin, Serializable segmentsClients, Serializable clientsSpecifiques, String campagneMarketing, String canalDistribution, Boolean estActif, Timestamp creeLe, Set<UtilisationsCodesPromo> utilisationsCodesPromos) {
        this.id = id;
        this.comptesUtilisateur = comptesUtilisateur;
        this.code = code;
@@ -88,6 +89,13 @@ public class CodesPromotionnels  implements java.io.Serializable {
     public void setId(int id) {
         this.id = id;
     }
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
     public ComptesUtilisateur getComptesUtilisateur() {
         return this.comptesUtilisateur;
     }
@@ -242,11 +250,11 @@ public class CodesPromotionnels  implements java.io.Serializable {
     public void setCreeLe(Timestamp creeLe) {
         this.creeLe = creeLe;
     }
-    public Set getUtilisationsCodesPromos() {
+    public Set<UtilisationsCodesPromo> getUtilisationsCodesPromos() {
         return this.utilisationsCodesPromos;
     }
     
-    public void setUtilisationsCodesPromos(Set utilisationsCodesPromos) {
+    public void setUtilisationsCodesPromos(Set<UtilisationsCodesPromo> utilisationsCodesPromos) {
         this.utilisationsCodesPromos = utilisationsCodesPromos;
     }
 
@@ -9,6 +9,9 @@ import java.sql.Timestamp;
 import model.entreprise.Boutiques;
 import model.produit.Produits;
 import model.utilisateur.ComptesUtilisateur;
+import utils.types.JsonList;
+import utils.types.JsonMap;
+import utils.types.PointGps;
 
 /**
  * HistoriqueRecherches generated by hbm2java
@@ -31,11 +34,11 @@ public class HistoriqueRecherches  implements java.io.Serializable {
      private String hashImage;
      private Serializable objetsDetectes;
      private Integer nombreResultats;
-     private Serializable resultatsIds;
+     private JsonList resultatsIds;
      private Integer tempsRechercheMs;
-     private Serializable coordonneesRecherche;
+     private PointGps coordonneesRecherche;
      private Integer rayonRechercheKm;
-     private Serializable filtresAppliques;
+     private JsonMap filtresAppliques;
      private String triApplique;
      private Boolean ACliqueResultat;
      private Integer positionClic;
@@ -48,7 +51,7 @@ public class HistoriqueRecherches  implements java.io.Serializable {
     public HistoriqueRecherches(int id) {
         this.id = id;
     }
-    public HistoriqueRecherches(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Boutiques boutiques, String sessionId, String texteRecherche, String typeRecherche, String langueRecherche, String fichierAudioUrl, String transcriptionAudio, BigDecimal confianceTranscription, String imageRechercheUrl, String hashImage, Serializable objetsDetectes, Integer nombreResultats, Serializable resultatsIds, Integer tempsRechercheMs, Serializable coordonneesRecherche, Integer rayonRechercheKm, Serializable filtresAppliques, String triApplique, Boolean ACliqueResultat, Integer positionClic, Timestamp creeLe) {
+    public HistoriqueRecherches(int id, Produits produits, ComptesUtilisateur comptesUtilisateur, Boutiques boutiques, String sessionId, String texteRecherche, String typeRecherche, String langueRecherche, String fichierAudioUrl, String transcriptionAudio, BigDecimal confianceTranscription, String imageRechercheUrl, String hashImage, Serializable objetsDetectes, Integer nombreResultats, JsonList resultatsIds, Integer tempsRechercheMs, PointGps coordonneesRecherche, Integer rayonRechercheKm, JsonMap filtresAppliques, String triApplique, Boolean ACliqueResultat, Integer positionClic, Timestamp creeLe) {
        this.id = id;
        this.produits = produits;
        this.comptesUtilisateur = comptesUtilisateur;
@@ -180,11 +183,11 @@ public class HistoriqueRecherches  implements java.io.Serializable {
     public void setNombreResultats(Integer nombreResultats) {
         this.nombreResultats = nombreResultats;
     }
-    public Serializable getResultatsIds() {
+    public JsonList getResultatsIds() {
         return this.resultatsIds;
     }
     
-    public void setResultatsIds(Serializable resultatsIds) {
+    public void setResultatsIds(JsonList resultatsIds) {
         this.resultatsIds = resultatsIds;
     }
     public Integer getTempsRechercheMs() {
@@ -194,11 +197,11 @@ public class HistoriqueRecherches  implements java.io.Serializable {
     public void setTempsRechercheMs(Integer tempsRechercheMs) {
         this.tempsRechercheMs = tempsRechercheMs;
     }
-    public Serializable getCoordonneesRecherche() {
+    public PointGps getCoordonneesRecherche() {
         return this.coordonneesRecherche;
     }
     
-    public void setCoordonneesRecherche(Serializable coordonneesRecherche) {
+    public void setCoordonneesRecherche(PointGps coordonneesRecherche) {
         this.coordonneesRecherche = coordonneesRecherche;
     }
     public Integer getRayonRechercheKm() {
@@ -208,11 +211,11 @@ public class HistoriqueRecherches  implements java.io.Serializable {
     public void setRayonRechercheKm(Integer rayonRechercheKm) {
         this.rayonRechercheKm = rayonRechercheKm;
     }
-    public Serializable getFiltresAppliques() {
+    public JsonMap getFiltresAppliques() {
         return this.filtresAppliques;
     }
     
-    public void setFiltresAppliques(Serializable filtresAppliques) {
+    public void setFiltresAppliques(JsonMap filtresAppliques) {
         this.filtresAppliques = filtresAppliques;
     }
     public String getTriApplique() {
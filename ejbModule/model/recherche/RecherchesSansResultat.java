@@ -0,0 +1,54 @@
+package model.recherche;
+
+import java.sql.Timestamp;
+
+/**
+ * Requêtes sans résultat par jour (table recherches_sans_resultat) : occurrences, dernière saisie brute
+ * Entretenu par utils.search.SearchStatisticsRefresher : jamais modifié par l'application
+ */
+public class RecherchesSansResultat  implements java.io.Serializable {
+
+
+     private RecherchesSansResultatId id;
+     private long occurrences;
+     private String dernierTexte;
+     private Timestamp derniereRecherche;
+
+    public RecherchesSansResultat() {
+    }
+
+    public RecherchesSansResultatId getId() {
+        return this.id;
+    }
+    
+    public void setId(RecherchesSansResultatId id) {
+        this.id = id;
+    }
+    public long getOccurrences() {
+        return this.occurrences;
+    }
+    
+    public void setOccurrences(long occurrences) {
+        this.occurrences = occurrences;
+    }
+    public String getDernierTexte() {
+        return this.dernierTexte;
+    }
+    
+    public void setDernierTexte(String dernierTexte) {
+        this.dernierTexte = dernierTexte;
+    }
+    public Timestamp getDerniereRecherche() {
+        return this.derniereRecherche;
+    }
+    
+    public void setDerniereRecherche(Timestamp derniereRecherche) {
+        this.derniereRecherche = derniereRecherche;
+    }
+
+
+
+
+}
+
+
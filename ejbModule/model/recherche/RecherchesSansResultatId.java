@@ -0,0 +1,70 @@
+package model.recherche;
+
+import java.sql.Date;
+
+/**
+ * Clé d'une requête sans résultat : jour, langue (chaîne vide si inconnue) et texte normalisé
+ */
+public class RecherchesSansResultatId  implements java.io.Serializable {
+
+
+     private Date dateRecherche;
+     private String langueRecherche;
+     private String texteNormalise;
+
+    public RecherchesSansResultatId() {
+    }
+
+    public RecherchesSansResultatId(Date dateRecherche, String langueRecherche, String texteNormalise) {
+       this.dateRecherche = dateRecherche;
+       this.langueRecherche = langueRecherche;
+       this.texteNormalise = texteNormalise;
+    }
+   
+    public Date getDateRecherche() {
+        return this.dateRecherche;
+    }
+    
+    public void setDateRecherche(Date dateRecherche) {
+        this.dateRecherche = dateRecherche;
+    }
+    public String getLangueRecherche() {
+        return this.langueRecherche;
+    }
+    
+    public void setLangueRecherche(String langueRecherche) {
+        this.langueRecherche = langueRecherche;
+    }
+    public String getTexteNormalise() {
+        return this.texteNormalise;
+    }
+    
+    public void setTexteNormalise(String texteNormalise) {
+        this.texteNormalise = texteNormalise;
+    }
+
+
+   public boolean equals(Object other) {
+         if ( (this == other ) ) return true;
+		 if ( (other == null ) ) return false;
+		 if ( !(other instanceof RecherchesSansResultatId) ) return false;
+		 RecherchesSansResultatId castOther = ( RecherchesSansResultatId ) other; 
+         
+		 return ( (this.getDateRecherche()==castOther.getDateRecherche()) || ( this.getDateRecherche()!=null && castOther.getDateRecherche()!=null && this.getDateRecherche().equals(castOther.getDateRecherche()) ) )
+ && ( (this.getLangueRecherche()==castOther.getLangueRecherche()) || ( this.getLangueRecherche()!=null && castOther.getLangueRecherche()!=null && this.getLangueRecherche().equals(castOther.getLangueRecherche()) ) )
+ && ( (this.getTexteNormalise()==castOther.getTexteNormalise()) || ( this.getTexteNormalise()!=null && castOther.getTexteNormalise()!=null && this.getTexteNormalise().equals(castOther.getTexteNormalise()) ) );
+   }
+   
+   public int hashCode() {
+         int result = 17;
+         
+        result = 37 * result + ( getDateRecherche() == null ? 0 : this.getDateRecherche().hashCode() );
+        result = 37 * result + ( getLangueRecherche() == null ? 0 : this.getLangueRecherche().hashCode() );
+        result = 37 * result + ( getTexteNormalise() == null ? 0 : this.getTexteNormalise().hashCode() );
+         return result;
+   }   
+
+
+}
+
+
@@ -0,0 +1,79 @@
+package model.recherche;
+
+import java.sql.Timestamp;
+
+/**
+ * Agrégat journalier des recherches par type et langue (table statistiques_recherche, remplace la vue
+ * v_statistiques_recherche)
+ * Entretenu par utils.search.SearchStatisticsRefresher : jamais modifié par l'application
+ */
+public class StatistiquesRecherche  implements java.io.Serializable {
+
+
+     private StatistiquesRechercheId id;
+     private long nombreRecherches;
+     private long recherchesAvecResultats;
+     private long recherchesAvecClic;
+     private long recherchesChronometrees;
+     private long tempsTotalMs;
+     private Timestamp modifieLe;
+
+    public StatistiquesRecherche() {
+    }
+
+    public StatistiquesRechercheId getId() {
+        return this.id;
+    }
+    
+    public void setId(StatistiquesRechercheId id) {
+        this.id = id;
+    }
+    public long getNombreRecherches() {
+        return this.nombreRecherches;
+    }
+    
+    public void setNombreRecherches(long nombreRecherches) {
+        this.nombreRecherches = nombreRecherches;
+    }
+    public long getRecherchesAvecResultats() {
+        return this.recherchesAvecResultats;
+    }
+    
+    public void setRecherchesAvecResultats(long recherchesAvecResultats) {
+        this.recherchesAvecResultats = recherchesAvecResultats;
+    }
+    public long getRecherchesAvecClic() {
+        return this.recherchesAvecClic;
+    }
+    
+    public void setRecherchesAvecClic(long recherchesAvecClic) {
+        this.recherchesAvecClic = recherchesAvecClic;
+    }
+    public long getRecherchesChronometrees() {
+        return this.recherchesChronometrees;
+    }
+    
+    public void setRecherchesChronometrees(long recherchesChronometrees) {
+        this.recherchesChronometrees = recherchesChronometrees;
+    }
+    public long getTempsTotalMs() {
+        return this.tempsTotalMs;
+    }
+    
+    public void setTempsTotalMs(long tempsTotalMs) {
+        this.tempsTotalMs = tempsTotalMs;
+    }
+    public Timestamp getModifieLe() {
+        return this.modifieLe;
+    }
+    
+    public void setModifieLe(Timestamp modifieLe) {
+        this.modifieLe = modifieLe;
+    }
+
+
+
+
+}
+
+
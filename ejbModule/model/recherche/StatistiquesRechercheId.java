@@ -0,0 +1,70 @@
+package model.recherche;
+
+import java.sql.Date;
+
+/**
+ * Clé d'un agrégat de recherches : jour, type et langue (chaîne vide quand la recherche n'en a pas)
+ */
+public class StatistiquesRechercheId  implements java.io.Serializable {
+
+
+     private Date dateRecherche;
+     private String typeRecherche;
+     private String langueRecherche;
+
+    public StatistiquesRechercheId() {
+    }
+
+    public StatistiquesRechercheId(Date dateRecherche, String typeRecherche, String langueRecherche) {
+       this.dateRecherche = dateRecherche;
+       this.typeRecherche = typeRecherche;
+       this.langueRecherche = langueRecherche;
+    }
+   
+    public Date getDateRecherche() {
+        return this.dateRecherche;
+    }
+    
+    public void setDateRecherche(Date dateRecherche) {
+        this.dateRecherche = dateRecherche;
+    }
+    public String getTypeRecherche() {
+        return this.typeRecherche;
+    }
+    
+    public void setTypeRecherche(String typeRecherche) {
+        this.typeRecherche = typeRecherche;
+    }
+    public String getLangueRecherche() {
+        return this.langueRecherche;
+    }
+    
+    public void setLangueRecherche(String langueRecherche) {
+        this.langueRecherche = langueRecherche;
+    }
+
+
+   public boolean equals(Object other) {
+         if ( (this == other ) ) return true;
+		 if ( (other == null ) ) return false;
+		 if ( !(other instanceof StatistiquesRechercheId) ) return false;
+		 StatistiquesRechercheId castOther = ( StatistiquesRechercheId ) other; 
+         
+		 return ( (this.getDateRecherche()==castOther.getDateRecherche()) || ( this.getDateRecherche()!=null && castOther.getDateRecherche()!=null && this.getDateRecherche().equals(castOther.getDateRecherche()) ) )
+ && ( (this.getTypeRecherche()==castOther.getTypeRecherche()) || ( this.getTypeRecherche()!=null && castOther.getTypeRecherche()!=null && this.getTypeRecherche().equals(castOther.getTypeRecherche()) ) )
+ && ( (this.getLangueRecherche()==castOther.getLangueRecherche()) || ( this.getLangueRecherche()!=null && castOther.getLangueRecherche()!=null && this.getLangueRecherche().equals(castOther.getLangueRecherche()) ) );
+   }
+   
+   public int hashCode() {
+         int result = 17;
+         
+        result = 37 * result + ( getDateRecherche() == null ? 0 : this.getDateRecherche().hashCode() );
+        result = 37 * result + ( getTypeRecherche() == null ? 0 : this.getTypeRecherche().hashCode() );
+        result = 37 * result + ( getLangueRecherche() == null ? 0 : this.getLangueRecherche().hashCode() );
+         return result;
+   }   
+
+
+}
+
+
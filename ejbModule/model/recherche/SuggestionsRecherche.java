@@ -2,9 +2,9 @@ package model.recherche;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import utils.types.JsonList;
 
 /**
  * SuggestionsRecherche generated by hbm2java
@@ -16,8 +16,8 @@ public class SuggestionsRecherche  implements java.io.Serializable {
      private String texteSuggestion;
      private Integer frequenceUtilisation;
      private String langue;
-     private Serializable categoriesAssociees;
-     private Serializable tagsAssocies;
+     private JsonList categoriesAssociees;
+     private JsonList tagsAssocies;
      private BigDecimal populariteScore;
      private Boolean estActif;
      private Timestamp creeLe;
@@ -31,7 +31,7 @@ public class SuggestionsRecherche  implements java.io.Serializable {
         this.id = id;
         this.texteSuggestion = texteSuggestion;
     }
-    public SuggestionsRecherche(int id, String texteSuggestion, Integer frequenceUtilisation, String langue, Serializable categoriesAssociees, Serializable tagsAssocies, BigDecimal populariteScore, Boolean estActif, Timestamp creeLe, Timestamp modifieLe) {
+    public SuggestionsRecherche(int id, String texteSuggestion, Integer frequenceUtilisation, String langue, JsonList categoriesAssociees, JsonList tagsAssocies, BigDecimal populariteScore, Boolean estActif, Timestamp creeLe, Timestamp modifieLe) {
        this.id = id;
        this.texteSuggestion = texteSuggestion;
        this.frequenceUtilisation = frequenceUtilisation;
@@ -72,18 +72,18 @@ public class SuggestionsRecherche  implements java.io.Serializable {
     public void setLangue(String langue) {
         this.langue = langue;
     }
-    public Serializable getCategoriesAssociees() {
+    public JsonList getCategoriesAssociees() {
         return this.categoriesAssociees;
     }
     
-    public void setCategoriesAssociees(Serializable categoriesAssociees) {
+    public void setCategoriesAssociees(JsonList categoriesAssociees) {
         this.categoriesAssociees = categoriesAssociees;
     }
-    public Serializable getTagsAssocies() {
+    public JsonList getTagsAssocies() {
         return this.tagsAssocies;
     }
     
-    public void setTagsAssocies(Serializable tagsAssocies) {
+    public void setTagsAssocies(JsonList tagsAssocies) {
         this.tagsAssocies = tagsAssocies;
     }
     public BigDecimal getPopulariteScore() {
@@ -7,6 +7,12 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.commande.Commandes;
+import model.entreprise.Entreprises;
+import model.paiement.MethodesPaiement;
+import model.paiement.TransactionsPaiement;
+import model.produit.Produits;
+
 /**
  * Devises generated by hbm2java
  */
@@ -21,11 +27,11 @@ public class Devises  implements java.io.Serializable {
      private BigDecimal tauxChange;
      private Boolean estDeviseBase;
      private Timestamp modifieLe;
-     private Set produitses = new HashSet(0);
-     private Set entrepriseses = new HashSet(0);
-     private Set transactionsPaiements = new HashSet(0);
-     private Set commandeses = new HashSet(0);
-     private Set methodesPaiements = new HashSet(0);
+     private Set<Produits> produitses = new HashSet<>(0);
+     private Set<Entreprises> entrepriseses = new HashSet<>(0);
+     private Set<TransactionsPaiement> transactionsPaiements = new HashSet<>(0);
+     private Set<Commandes> commandeses = new HashSet<>(0);
+     private Set<MethodesPaiement> methodesPaiements = new HashSet<>(0);
 
     public Devises() {
     }
@@ -36,7 +42,7 @@ public class Devises  implements java.io.Serializable {
         this.code = code;
         this.nom = nom;
     }
-    public Devises(int id, String code, String nom, String symbole, Integer decimales, BigDecimal tauxChange, Boolean estDeviseBase, Timestamp modifieLe, Set produitses, Set entrepriseses, Set transactionsPaiements, Set commandeses, Set methodesPaiements) {
+    public Devises(int id, String code, String nom, String symbole, Integer decimales, BigDecimal tauxChange, Boolean estDeviseBase, Timestamp modifieLe, Set<Produits> produitses, Set<Entreprises> entrepriseses, Set<TransactionsPaiement> transactionsPaiements, Set<Commandes> commandeses, Set<MethodesPaiement> methodesPaiements) {
        this.id = id;
        this.code = code;
        this.nom = nom;
@@ -108,39 +114,39 @@ public class Devises  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getProduitses() {
+    public Set<Produits> getProduitses() {
         return this.produitses;
     }
     
-    public void setProduitses(Set produitses) {
+    public void setProduitses(Set<Produits> produitses) {
         this.produitses = produitses;
     }
-    public Set getEntrepriseses() {
+    public Set<Entreprises> getEntrepriseses() {
         return this.entrepriseses;
     }
     
-    public void setEntrepriseses(Set entrepriseses) {
+    public void setEntrepriseses(Set<Entreprises> entrepriseses) {
         this.entrepriseses = entrepriseses;
     }
-    public Set getTransactionsPaiements() {
+    public Set<TransactionsPaiement> getTransactionsPaiements() {
         return this.transactionsPaiements;
     }
     
-    public void setTransactionsPaiements(Set transactionsPaiements) {
+    public void setTransactionsPaiements(Set<TransactionsPaiement> transactionsPaiements) {
         this.transactionsPaiements = transactionsPaiements;
     }
-    public Set getCommandeses() {
+    public Set<Commandes> getCommandeses() {
         return this.commandeses;
     }
     
-    public void setCommandeses(Set commandeses) {
+    public void setCommandeses(Set<Commandes> commandeses) {
         this.commandeses = commandeses;
     }
-    public Set getMethodesPaiements() {
+    public Set<MethodesPaiement> getMethodesPaiements() {
         return this.methodesPaiements;
     }
     
-    public void setMethodesPaiements(Set methodesPaiements) {
+    public void setMethodesPaiements(Set<MethodesPaiement> methodesPaiements) {
         this.methodesPaiements = methodesPaiements;
     }
 
@@ -5,6 +5,11 @@ package model.reference;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.entreprise.Boutiques;
+import model.entreprise.Entreprises;
+import model.produit.Marques;
+import model.utilisateur.Personnes;
+
 /**
  * Pays generated by hbm2java
  */
@@ -19,10 +24,10 @@ public class Pays  implements java.io.Serializable {
      private String fuseauHoraire;
      private String languePrincipale;
      private Boolean estActif;
-     private Set boutiqueses = new HashSet(0);
-     private Set entrepriseses = new HashSet(0);
-     private Set personneses = new HashSet(0);
-     private Set marqueses = new HashSet(0);
+     private Set<Boutiques> boutiqueses = new HashSet<>(0);
+     private Set<Entreprises> entrepriseses = new HashSet<>(0);
+     private Set<Personnes> personneses = new HashSet<>(0);
+     private Set<Marques> marqueses = new HashSet<>(0);
 
     public Pays() {
     }
@@ -33,7 +38,7 @@ public class Pays  implements java.io.Serializable {
         this.code = code;
         this.nom = nom;
     }
-    public Pays(int id, String code, String nom, String codeDevise, String prefixeTelephone, String fuseauHoraire, String languePrincipale, Boolean estActif, Set boutiqueses, Set entrepriseses, Set personneses, Set marqueses) {
+    public Pays(int id, String code, String nom, String codeDevise, String prefixeTelephone, String fuseauHoraire, String languePrincipale, Boolean estActif, Set<Boutiques> boutiqueses, Set<Entreprises> entrepriseses, Set<Personnes> personneses, Set<Marques> marqueses) {
        this.id = id;
        this.code = code;
        this.nom = nom;
@@ -104,32 +109,32 @@ public class Pays  implements java.io.Serializable {
     public void setEstActif(Boolean estActif) {
         this.estActif = estActif;
     }
-    public Set getBoutiqueses() {
+    public Set<Boutiques> getBoutiqueses() {
         return this.boutiqueses;
     }
     
-    public void setBoutiqueses(Set boutiqueses) {
+    public void setBoutiqueses(Set<Boutiques> boutiqueses) {
         this.boutiqueses = boutiqueses;
     }
-    public Set getEntrepriseses() {
+    public Set<Entreprises> getEntrepriseses() {
         return this.entrepriseses;
     }
     
-    public void setEntrepriseses(Set entrepriseses) {
+    public void setEntrepriseses(Set<Entreprises> entrepriseses) {
         this.entrepriseses = entrepriseses;
     }
-    public Set getPersonneses() {
+    public Set<Personnes> getPersonneses() {
         return this.personneses;
     }
     
-    public void setPersonneses(Set personneses) {
+    public void setPersonneses(Set<Personnes> personneses) {
         this.personneses = personneses;
     }
-    public Set getMarqueses() {
+    public Set<Marques> getMarqueses() {
         return this.marqueses;
     }
     
-    public void setMarqueses(Set marqueses) {
+    public void setMarqueses(Set<Marques> marqueses) {
         this.marqueses = marqueses;
     }
 
@@ -7,6 +7,8 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.utilisateur.Personnes;
+
 /**
  * ProfilsUtilisateur generated by hbm2java
  */
@@ -22,7 +24,7 @@ public class ProfilsUtilisateur  implements java.io.Serializable {
      private Boolean estActif;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set personneses = new HashSet(0);
+     private Set<Personnes> personneses = new HashSet<>(0);
 
     public ProfilsUtilisateur() {
     }
@@ -33,7 +35,7 @@ public class ProfilsUtilisateur  implements java.io.Serializable {
         this.code = code;
         this.nom = nom;
     }
-    public ProfilsUtilisateur(int id, String code, String nom, String description, Serializable permissions, Integer niveauAcces, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set personneses) {
+    public ProfilsUtilisateur(int id, String code, String nom, String description, Serializable permissions, Integer niveauAcces, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set<Personnes> personneses) {
        this.id = id;
        this.code = code;
        this.nom = nom;
@@ -109,11 +111,11 @@ public class ProfilsUtilisateur  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getPersonneses() {
+    public Set<Personnes> getPersonneses() {
         return this.personneses;
     }
     
-    public void setPersonneses(Set personneses) {
+    public void setPersonneses(Set<Personnes> personneses) {
         this.personneses = personneses;
     }
 
@@ -3,6 +3,7 @@ package model.securite;
 
 
 import java.io.Serializable;
+import java.net.InetAddress;
 import java.sql.Timestamp;
 
 import model.utilisateur.ComptesUtilisateur;
@@ -19,7 +20,7 @@ public class LogsSysteme  implements java.io.Serializable {
      private String module;
      private String action;
      private String sessionId;
-     private Serializable adresseIp;
+     private InetAddress adresseIp;
      private String message;
      private Serializable donnees;
      private String stackTrace;
@@ -38,7 +39,7 @@ public class LogsSysteme  implements java.io.Serializable {
         this.action = action;
         this.message = message;
     }
-    public LogsSysteme(int id, ComptesUtilisateur comptesUtilisateur, String niveau, String module, String action, String sessionId, Serializable adresseIp, String message, Serializable donnees, String stackTrace, Integer dureeExecution, Integer memoireUtilisee, Timestamp timestampLog) {
+    public LogsSysteme(int id, ComptesUtilisateur comptesUtilisateur, String niveau, String module, String action, String sessionId, InetAddress adresseIp, String message, Serializable donnees, String stackTrace, Integer dureeExecution, Integer memoireUtilisee, Timestamp timestampLog) {
        this.id = id;
        this.comptesUtilisateur = comptesUtilisateur;
        this.niveau = niveau;
@@ -96,11 +97,11 @@ public class LogsSysteme  implements java.io.Serializable {
     public void setSessionId(String sessionId) {
         this.sessionId = sessionId;
     }
-    public Serializable getAdresseIp() {
+    public InetAddress getAdresseIp() {
         return this.adresseIp;
     }
     
-    public void setAdresseIp(Serializable adresseIp) {
+    public void setAdresseIp(InetAddress adresseIp) {
         this.adresseIp = adresseIp;
     }
     public String getMessage() {
@@ -8,6 +8,13 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.commande.Commandes;
+import model.evaluation.EvaluationsBoutiques;
+import model.evaluation.EvaluationsProduits;
+import model.evaluation.VotesEvaluations;
+import model.produit.Paniers;
+import model.promotions.UtilisationsCodesPromo;
+
 /**
  * Clients generated by hbm2java
  */
@@ -15,6 +22,7 @@ public class Clients  implements java.io.Serializable {
 
 
      private int id;
+     private Integer version;
      private Personnes personnes;
      private String numeroClient;
      private Serializable boutiquesPreferees;
@@ -35,12 +43,12 @@ public class Clients  implements java.io.Serializable {
      private Timestamp dateInscription;
      private Timestamp derniereActivite;
      private Boolean estActif;
-     private Set evaluationsBoutiqueses = new HashSet(0);
-     private Set panierses = new HashSet(0);
-     private Set commandeses = new HashSet(0);
-     private Set utilisationsCodesPromos = new HashSet(0);
-     private Set votesEvaluationses = new HashSet(0);
-     private Set evaluationsProduitses = new HashSet(0);
+     private Set<EvaluationsBoutiques> evaluationsBoutiqueses = new HashSet<>(0);
+     private Set<Paniers> panierses = new HashSet<>(0);
+     private Set<Commandes> commandeses = new HashSet<>(0);
+     private Set<UtilisationsCodesPromo> utilisationsCodesPromos = new HashSet<>(0);
+     private Set<VotesEvaluations> votesEvaluationses = new HashSet<>(0);
+     private Set<EvaluationsProduits> evaluationsProduitses = new HashSet<>(0);
 
     public Clients() {
     }
@@ -50,7 +58,7 @@ public class Clients  implements java.io.Serializable {
         this.id = id;
         this.personnes = personnes;
     }
-    public Clients(int id, Personnes personnes, String numeroClient, Serializable boutiquesPreferees, Serializable categoriesPreferees, Serializable marquesPreferees, Timestamp premiereCommandeLe, Timestamp derniereCommandeLe, Integer nombreCommandes, BigDecimal totalDepense, BigDecimal panierMoyen, Integer pointsFidelite, String niveauFidelite, Boolean accepteNewsletter, Boolean accepteSmsPromo, Boolean accepteNotificationsPush, Serializable comportementAchat, String segmentationClient, Timestamp dateInscription, Timestamp derniereActivite, Boolean estActif, Set evaluationsBoutiqueses, Set panierses, Set commandeses, Set utilisationsCodesPromos, Set votesEvaluationses, Set evaluationsProduitses) {
+    public Clients(int id, Personnes personnes, String numeroClient, Serializable boutiquesPreferees, Serializable categoriesPreferees, Serializable marquesPreferees, Timestamp premiereCommandeLe, Timestamp derniereCommandeLe, Integer nombreCommandes, BigDecimal totalDepense, BigDecimal panierMoyen, Integer pointsFidelite, String niveauFidelite, Boolean accepteNewsletter, Boolean accepteSmsPromo, Boolean accepteNotificationsPush, Serializable comportementAchat, String segmentationClient, Timestamp dateInscription, Timestamp derniereActivite, Boolean estActif, Set<EvaluationsBoutiques> evaluationsBoutiqueses, Set<Paniers> panierses, Set<Commandes> commandeses, Set<UtilisationsCodesPromo> utilisationsCodesPromos, Set<VotesEvaluations> votesEvaluationses, Set<EvaluationsProduits> evaluationsProduitses) {
        this.id = id;
        this.personnes = personnes;
        this.numeroClient = numeroClient;
@@ -87,6 +95,13 @@ public class Clients  implements java.io.Serializable {
     public void setId(int id) {
         this.id = id;
     }
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
     public Personnes getPersonnes() {
         return this.personnes;
     }
@@ -227,46 +242,46 @@ public class Clients  implements java.io.Serializable {
     public void setEstActif(Boolean estActif) {
         this.estActif = estActif;
     }
-    public Set getEvaluationsBoutiqueses() {
+    public Set<EvaluationsBoutiques> getEvaluationsBoutiqueses() {
         return this.evaluationsBoutiqueses;
     }
     
-    public void setEvaluationsBoutiqueses(Set evaluationsBoutiqueses) {
+    public void setEvaluationsBoutiqueses(Set<EvaluationsBoutiques> evaluationsBoutiqueses) {
         this.evaluationsBoutiqueses = evaluationsBoutiqueses;
     }
-    public Set getPanierses() {
+    public Set<Paniers> getPanierses() {
         return this.panierses;
     }
     
-    public void setPanierses(Set panierses) {
+    public void setPanierses(Set<Paniers> panierses) {
         this.panierses = panierses;
     }
-    public Set getCommandeses() {
+    public Set<Commandes> getCommandeses() {
         return this.commandeses;
     }
     
-    public void setCommandeses(Set commandeses) {
+    public void setCommandeses(Set<Commandes> commandeses) {
         this.commandeses = commandeses;
     }
-    public Set getUtilisationsCodesPromos() {
+    public Set<UtilisationsCodesPromo> getUtilisationsCodesPromos() {
         return this.utilisationsCodesPromos;
     }
     
-    public void setUtilisationsCodesPromos(Set utilisationsCodesPromos) {
+    public void setUtilisationsCodesPromos(Set<UtilisationsCodesPromo> utilisationsCodesPromos) {
         this.utilisationsCodesPromos = utilisationsCodesPromos;
     }
-    public Set getVotesEvaluationses() {
+    public Set<VotesEvaluations> getVotesEvaluationses() {
         return this.votesEvaluationses;
     }
     
-    public void setVotesEvaluationses(Set votesEvaluationses) {
+    public void setVotesEvaluationses(Set<VotesEvaluations> votesEvaluationses) {
         this.votesEvaluationses = votesEvaluationses;
     }
-    public Set getEvaluationsProduitses() {
+    public Set<EvaluationsProduits> getEvaluationsProduitses() {
         return this.evaluationsProduitses;
     }
     
-    public void setEvaluationsProduitses(Set evaluationsProduitses) {
+    public void setEvaluationsProduitses(Set<EvaluationsProduits> evaluationsProduitses) {
         this.evaluationsProduitses = evaluationsProduitses;
     }
 
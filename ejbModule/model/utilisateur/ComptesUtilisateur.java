@@ -7,6 +7,20 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.analytique.EvenementsAnalytics;
+import model.commande.HistoriqueStatutsCommande;
+import model.evaluation.EvaluationsProduits;
+import model.notification.NotificationsEnvoyees;
+import model.notification.PreferencesNotifications;
+import model.notification.TemplatesNotifications;
+import model.paiement.Remboursements;
+import model.produit.MouvementsStock;
+import model.promotions.CampagnesMarketing;
+import model.promotions.CodesPromotionnels;
+import model.recherche.HistoriqueRecherches;
+import model.securite.AuditModifications;
+import model.securite.LogsSysteme;
+
 /**
  * ComptesUtilisateur generated by hbm2java
  */
@@ -46,22 +60,22 @@ public class ComptesUtilisateur  implements java.io.Serializable {
      private Boolean estVerifie;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set mouvementsStocks = new HashSet(0);
-     private Set logsSystemes = new HashSet(0);
-     private Set evaluationsProduitses = new HashSet(0);
-     private Set historiqueConnexionses = new HashSet(0);
-     private Set historiqueStatutsCommandes = new HashSet(0);
-     private Set remboursementsesForApprouvePar = new HashSet(0);
-     private Set codesPromotionnelses = new HashSet(0);
-     private Set templatesNotificationses = new HashSet(0);
-     private Set evenementsAnalyticses = new HashSet(0);
-     private Set preferencesNotificationses = new HashSet(0);
-     private Set auditModificationses = new HashSet(0);
-     private Set remboursementsesForDemandePar = new HashSet(0);
-     private Set historiqueRechercheses = new HashSet(0);
-     private Set campagnesMarketings = new HashSet(0);
-     private Set notificationsEnvoyeeses = new HashSet(0);
-     private Set sessionsActiveses = new HashSet(0);
+     private Set<MouvementsStock> mouvementsStocks = new HashSet<>(0);
+     private Set<LogsSysteme> logsSystemes = new HashSet<>(0);
+     private Set<EvaluationsProduits> evaluationsProduitses = new HashSet<>(0);
+     private Set<HistoriqueConnexions> historiqueConnexionses = new HashSet<>(0);
+     private Set<HistoriqueStatutsCommande> historiqueStatutsCommandes = new HashSet<>(0);
+     private Set<Remboursements> remboursementsesForApprouvePar = new HashSet<>(0);
+     private Set<CodesPromotionnels> codesPromotionnelses = new HashSet<>(0);
+     private Set<TemplatesNotifications> templatesNotificationses = new HashSet<>(0);
+     private Set<EvenementsAnalytics> evenementsAnalyticses = new HashSet<>(0);
+     private Set<PreferencesNotifications> preferencesNotificationses = new HashSet<>(0);
+     private Set<AuditModifications> auditModificationses = new HashSet<>(0);
+     private Set<Remboursements> remboursementsesForDemandePar = new HashSet<>(0);
+     private Set<HistoriqueRecherches> historiqueRechercheses = new HashSet<>(0);
+     private Set<CampagnesMarketing> campagnesMarketings = new HashSet<>(0);
+     private Set<NotificationsEnvoyees> notificationsEnvoyeeses = new HashSet<>(0);
+     private Set<SessionsActives> sessionsActiveses = new HashSet<>(0);
 
     public ComptesUtilisateur() {
     }
@@ -72,7 +86,7 @@ public class ComptesUtilisateur  implements java.io.Serializable {
         this.personnes = personnes;
         this.email = email;
     }
-    public ComptesUtilisateur(int id, Personnes personnes, String nomUtilisateur, String email, String motDePasseHash, String googleId, String googleAccessToken, String googleRefreshToken, Timestamp googleTokenExpireLe, String facebookId, String appleId, Serializable oauthMetadata, Boolean doubleAuthentificationActive, String secretDoubleAuth, Serializable codesRecuperation, Timestamp emailVerifieLe, Timestamp telephoneVerifieLe, String codeVerification, Timestamp codeExpireLe, Timestamp derniereConnexionLe, Serializable derniereConnexionIp, Integer tentativesEchec, Timestamp verrouilleJusqu, Timestamp motDePasseExpireLe, Boolean notificationsEmail, Boolean notificationsPush, Boolean notificationsSms, String stripeCustomerId, String stripeAccountId, Boolean estActif, Boolean estVerifie, Timestamp creeLe, Timestamp modifieLe, Set mouvementsStocks, Set logsSystemes, Set evaluationsProduitses, Set historiqueConnexionses, Set historiqueStatutsCommandes, Set remboursementsesForApprouvePar, Set codesPromotionnelses, Set templatesNotificationses, Set evenementsAnalyticses, Set preferencesNotificationses, Set auditModificationses, Set remboursementsesForDemandePar, Set historiqueRechercheses, Set campagnesMarketings, Set notificationsEnvoyeeses, Set sessionsActiveses) {
+    public ComptesUtilisateur(int id, Personnes personnes, String nomUtilisateur, String email, String motDePasseHash, String googleId, String googleAccessToken, String googleRefreshToken, Timestamp googleTokenExpireLe, String facebookId, String appleId, Serializable oauthMetadata, Boolean doubleAuthentificationActive, String secretDoubleAuth, Serializable codesRecuperation, Timestamp emailVerifieLe, Timestamp telephoneVerifieLe, String codeVerification, Timestamp codeExpireLe, Timestamp derniereConnexionLe, Serializable derniereConnexionIp, Integer tentativesEchec, Timestamp verrouilleJusqu, Timestamp motDePasseExpireLe, Boolean notificationsEmail, Boolean notificationsPush, Boolean notificationsSms, String stripeCustomerId, String stripeAccountId, Boolean estActif, Boolean estVerifie, Timestamp creeLe, Timestamp modifieLe, Set<MouvementsStock> mouvementsStocks, Set<LogsSysteme> logsSystemes, Set<EvaluationsProduits> evaluationsProduitses, Set<HistoriqueConnexions> historiqueConnexionses, Set<HistoriqueStatutsCommande> historiqueStatutsCommandes, Set<Remboursements> remboursementsesForApprouvePar, Set<CodesPromotionnels> codesPromotionnelses, Set<TemplatesNotifications> templatesNotificationses, Set<EvenementsAnalytics> evenementsAnalyticses, Set<PreferencesNotifications> preferencesNotificationses, Set<AuditModifications> auditModificationses, Set<Remboursements> remboursementsesForDemandePar, Set<HistoriqueRecherches> historiqueRechercheses, Set<CampagnesMarketing> campagnesMarketings, Set<NotificationsEnvoyees> notificationsEnvoyeeses, Set<SessionsActives> sessionsActiveses) {
        this.id = id;
        this.personnes = personnes;
        this.nomUtilisateur = nomUtilisateur;
@@ -355,116 +369,116 @@ public class ComptesUtilisateur  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getMouvementsStocks() {
+    public Set<MouvementsStock> getMouvementsStocks() {
         return this.mouvementsStocks;
     }
     
-    public void setMouvementsStocks(Set mouvementsStocks) {
+    public void setMouvementsStocks(Set<MouvementsStock> mouvementsStocks) {
         this.mouvementsStocks = mouvementsStocks;
     }
-    public Set getLogsSystemes() {
+    public Set<LogsSysteme> getLogsSystemes() {
         return this.logsSystemes;
     }
     
-    public void setLogsSystemes(Set logsSystemes) {
+    public void setLogsSystemes(Set<LogsSysteme> logsSystemes) {
         this.logsSystemes = logsSystemes;
     }
-    public Set getEvaluationsProduitses() {
+    public Set<EvaluationsProduits> getEvaluationsProduitses() {
         return this.evaluationsProduitses;
     }
     
-    public void setEvaluationsProduitses(Set evaluationsProduitses) {
+    public void setEvaluationsProduitses(Set<EvaluationsProduits> evaluationsProduitses) {
         this.evaluationsProduitses = evaluationsProduitses;
     }
-    public Set getHistoriqueConnexionses() {
+    public Set<HistoriqueConnexions> getHistoriqueConnexionses() {
         return this.historiqueConnexionses;
     }
     
-    public void setHistoriqueConnexionses(Set historiqueConnexionses) {
+    public void setHistoriqueConnexionses(Set<HistoriqueConnexions> historiqueConnexionses) {
         this.historiqueConnexionses = historiqueConnexionses;
     }
-    public Set getHistoriqueStatutsCommandes() {
+    public Set<HistoriqueStatutsCommande> getHistoriqueStatutsCommandes() {
         return this.historiqueStatutsCommandes;
     }
     
-    public void setHistoriqueStatutsCommandes(Set historiqueStatutsCommandes) {
+    public void setHistoriqueStatutsCommandes(Set<HistoriqueStatutsCommande> historiqueStatutsCommandes) {
         this.historiqueStatutsCommandes = historiqueStatutsCommandes;
     }
-    public Set getRemboursementsesForApprouvePar() {
+    public Set<Remboursements> getRemboursementsesForApprouvePar() {
         return this.remboursementsesForApprouvePar;
     }
     
-    public void setRemboursementsesForApprouvePar(Set remboursementsesForApprouvePar) {
+    public void setRemboursementsesForApprouvePar(Set<Remboursements> remboursementsesForApprouvePar) {
         this.remboursementsesForApprouvePar = remboursementsesForApprouvePar;
     }
-    public Set getCodesPromotionnelses() {
+    public Set<CodesPromotionnels> getCodesPromotionnelses() {
         return this.codesPromotionnelses;
     }
     
-    public void setCodesPromotionnelses(Set codesPromotionnelses) {
+    public void setCodesPromotionnelses(Set<CodesPromotionnels> codesPromotionnelses) {
         this.codesPromotionnelses = codesPromotionnelses;
     }
-    public Set getTemplatesNotificationses() {
+    public Set<TemplatesNotifications> getTemplatesNotificationses() {
         return this.templatesNotificationses;
     }
     
-    public void setTemplatesNotificationses(Set templatesNotificationses) {
+    public void setTemplatesNotificationses(Set<TemplatesNotifications> templatesNotificationses) {
         this.templatesNotificationses = templatesNotificationses;
     }
-    public Set getEvenementsAnalyticses() {
+    public Set<EvenementsAnalytics> getEvenementsAnalyticses() {
         return this.evenementsAnalyticses;
     }
     
-    public void setEvenementsAnalyticses(Set evenementsAnalyticses) {
+    public void setEvenementsAnalyticses(Set<EvenementsAnalytics> evenementsAnalyticses) {
         this.evenementsAnalyticses = evenementsAnalyticses;
     }
-    public Set getPreferencesNotificationses() {
+    public Set<PreferencesNotifications> getPreferencesNotificationses() {
         return this.preferencesNotificationses;
     }
     
-    public void setPreferencesNotificationses(Set preferencesNotificationses) {
+    public void setPreferencesNotificationses(Set<PreferencesNotifications> preferencesNotificationses) {
         this.preferencesNotificationses = preferencesNotificationses;
     }
-    public Set getAuditModificationses() {
+    public Set<AuditModifications> getAuditModificationses() {
         return this.auditModificationses;
     }
     
-    public void setAuditModificationses(Set auditModificationses) {
+    public void setAuditModificationses(Set<AuditModifications> auditModificationses) {
         this.auditModificationses = auditModificationses;
     }
-    public Set getRemboursementsesForDemandePar() {
+    public Set<Remboursements> getRemboursementsesForDemandePar() {
         return this.remboursementsesForDemandePar;
     }
     
-    public void setRemboursementsesForDemandePar(Set remboursementsesForDemandePar) {
+    public void setRemboursementsesForDemandePar(Set<Remboursements> remboursementsesForDemandePar) {
         this.remboursementsesForDemandePar = remboursementsesForDemandePar;
     }
-    public Set getHistoriqueRechercheses() {
+    public Set<HistoriqueRecherches> getHistoriqueRechercheses() {
         return this.historiqueRechercheses;
     }
     
-    public void setHistoriqueRechercheses(Set historiqueRechercheses) {
+    public void setHistoriqueRechercheses(Set<HistoriqueRecherches> historiqueRechercheses) {
         this.historiqueRechercheses = historiqueRechercheses;
     }
-    public Set getCampagnesMarketings() {
+    public Set<CampagnesMarketing> getCampagnesMarketings() {
         return this.campagnesMarketings;
     }
     
-    public void setCampagnesMarketings(Set campagnesMarketings) {
+    public void setCampagnesMarketings(Set<CampagnesMarketing> campagnesMarketings) {
         this.campagnesMarketings = campagnesMarketings;
     }
-    public Set getNotificationsEnvoyeeses() {
+    public Set<NotificationsEnvoyees> getNotificationsEnvoyeeses() {
         return this.notificationsEnvoyeeses;
     }
     
-    public void setNotificationsEnvoyeeses(Set notificationsEnvoyeeses) {
+    public void setNotificationsEnvoyeeses(Set<NotificationsEnvoyees> notificationsEnvoyeeses) {
         this.notificationsEnvoyeeses = notificationsEnvoyeeses;
     }
-    public Set getSessionsActiveses() {
+    public Set<SessionsActives> getSessionsActiveses() {
         return this.sessionsActiveses;
     }
     
-    public void setSessionsActiveses(Set sessionsActiveses) {
+    public void setSessionsActiveses(Set<SessionsActives> sessionsActiveses) {
         this.sessionsActiveses = sessionsActiveses;
     }
 
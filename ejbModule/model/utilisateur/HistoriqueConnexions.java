@@ -3,6 +3,7 @@ package model.utilisateur;
 
 
 import java.io.Serializable;
+import java.net.InetAddress;
 import java.sql.Timestamp;
 
 /**
@@ -18,7 +19,7 @@ public class HistoriqueConnexions  implements java.io.Serializable {
      private Timestamp connecteLe;
      private Timestamp deconnecteLe;
      private Serializable dureeSession;
-     private Serializable adresseIp;
+     private InetAddress adresseIp;
      private String userAgent;
      private String empreinteAppareil;
      private String appareilType;
@@ -42,7 +43,7 @@ public class HistoriqueConnexions  implements java.io.Serializable {
         this.comptesUtilisateur = comptesUtilisateur;
         this.typeConnexion = typeConnexion;
     }
-    public HistoriqueConnexions(int id, ComptesUtilisateur comptesUtilisateur, String typeConnexion, String methodeAuth, Timestamp connecteLe, Timestamp deconnecteLe, Serializable dureeSession, Serializable adresseIp, String userAgent, String empreinteAppareil, String appareilType, String navigateur, String systemeExploitation, String paysConnexion, String villeConnexion, Boolean estConnexionSuspecte, String raisonSuspicion, String actionSecuritePrise, Boolean estReussie, String codeErreur, String messageErreur) {
+    public HistoriqueConnexions(int id, ComptesUtilisateur comptesUtilisateur, String typeConnexion, String methodeAuth, Timestamp connecteLe, Timestamp deconnecteLe, Serializable dureeSession, InetAddress adresseIp, String userAgent, String empreinteAppareil, String appareilType, String navigateur, String systemeExploitation, String paysConnexion, String villeConnexion, Boolean estConnexionSuspecte, String raisonSuspicion, String actionSecuritePrise, Boolean estReussie, String codeErreur, String messageErreur) {
        this.id = id;
        this.comptesUtilisateur = comptesUtilisateur;
        this.typeConnexion = typeConnexion;
@@ -115,11 +116,11 @@ public class HistoriqueConnexions  implements java.io.Serializable {
     public void setDureeSession(Serializable dureeSession) {
         this.dureeSession = dureeSession;
     }
-    public Serializable getAdresseIp() {
+    public InetAddress getAdresseIp() {
         return this.adresseIp;
     }
     
-    public void setAdresseIp(Serializable adresseIp) {
+    public void setAdresseIp(InetAddress adresseIp) {
         this.adresseIp = adresseIp;
     }
     public String getUserAgent() {
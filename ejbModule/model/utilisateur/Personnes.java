@@ -8,6 +8,8 @@ import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.Set;
 
+import model.entreprise.Boutiques;
+import model.entreprise.Employes;
 import model.reference.Pays;
 import model.reference.ProfilsUtilisateur;
 
@@ -42,10 +44,10 @@ public class Personnes  implements java.io.Serializable {
      private Boolean estActif;
      private Timestamp creeLe;
      private Timestamp modifieLe;
-     private Set comptesUtilisateurs = new HashSet(0);
-     private Set clientses = new HashSet(0);
-     private Set boutiqueses = new HashSet(0);
-     private Set employeses = new HashSet(0);
+     private Set<ComptesUtilisateur> comptesUtilisateurs = new HashSet<>(0);
+     private Set<Clients> clientses = new HashSet<>(0);
+     private Set<Boutiques> boutiqueses = new HashSet<>(0);
+     private Set<Employes> employeses = new HashSet<>(0);
 
     public Personnes() {
     }
@@ -57,7 +59,7 @@ public class Personnes  implements java.io.Serializable {
         this.prenom = prenom;
         this.nom = nom;
     }
-    public Personnes(int id, ProfilsUtilisateur profilsUtilisateur, Pays pays, Serializable uuid, String prenom, String nom, String nomComplet, String email, String telephone, Date dateNaissance, String genre, String photoProfilUrl, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, Serializable coordonneesGps, String languePreferee, String fuseauHoraire, Serializable preferences, Serializable metadonnees, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set comptesUtilisateurs, Set clientses, Set boutiqueses, Set employeses) {
+    public Personnes(int id, ProfilsUtilisateur profilsUtilisateur, Pays pays, Serializable uuid, String prenom, String nom, String nomComplet, String email, String telephone, Date dateNaissance, String genre, String photoProfilUrl, String adresseLigne1, String adresseLigne2, String ville, String region, String codePostal, Serializable coordonneesGps, String languePreferee, String fuseauHoraire, Serializable preferences, Serializable metadonnees, Boolean estActif, Timestamp creeLe, Timestamp modifieLe, Set<ComptesUtilisateur> comptesUtilisateurs, Set<Clients> clientses, Set<Boutiques> boutiqueses, Set<Employes> employeses) {
        this.id = id;
        this.profilsUtilisateur = profilsUtilisateur;
        this.pays = pays;
@@ -264,32 +266,32 @@ public class Personnes  implements java.io.Serializable {
     public void setModifieLe(Timestamp modifieLe) {
         this.modifieLe = modifieLe;
     }
-    public Set getComptesUtilisateurs() {
+    public Set<ComptesUtilisateur> getComptesUtilisateurs() {
         return this.comptesUtilisateurs;
     }
     
-    public void setComptesUtilisateurs(Set comptesUtilisateurs) {
+    public void setComptesUtilisateurs(Set<ComptesUtilisateur> comptesUtilisateurs) {
         this.comptesUtilisateurs = comptesUtilisateurs;
     }
-    public Set getClientses() {
+    public Set<Clients> getClientses() {
         return this.clientses;
     }
     
-    public void setClientses(Set clientses) {
+    public void setClientses(Set<Clients> clientses) {
         this.clientses = clientses;
     }
-    public Set getBoutiqueses() {
+    public Set<Boutiques> getBoutiqueses() {
         return this.boutiqueses;
     }
     
-    public void setBoutiqueses(Set boutiqueses) {
+    public void setBoutiqueses(Set<Boutiques> boutiqueses) {
         this.boutiqueses = boutiqueses;
     }
-    public Set getEmployeses() {
+    public Set<Employes> getEmployeses() {
         return this.employeses;
     }
     
-    public void setEmployeses(Set employeses) {
+    public void setEmployeses(Set<Employes> employeses) {
         this.employeses = employeses;
     }
 
@@ -3,6 +3,7 @@ package model.utilisateur;
 
 
 import java.io.Serializable;
+import java.net.InetAddress;
 import java.sql.Timestamp;
 
 /**
@@ -17,7 +18,7 @@ public class SessionsActives  implements java.io.Serializable {
      private String tokenRefresh;
      private Timestamp expireLe;
      private Timestamp derniereActivite;
-     private Serializable adresseIp;
+     private InetAddress adresseIp;
      private String userAgent;
      private String empreinteAppareil;
      private String nomAppareil;
@@ -38,7 +39,7 @@ public class SessionsActives  implements java.io.Serializable {
         this.tokenSession = tokenSession;
         this.expireLe = expireLe;
     }
-    public SessionsActives(int id, ComptesUtilisateur comptesUtilisateur, String tokenSession, String tokenRefresh, Timestamp expireLe, Timestamp derniereActivite, Serializable adresseIp, String userAgent, String empreinteAppareil, String nomAppareil, String pays, String ville, Serializable coordonneesGps, Serializable metadonnees, Boolean estActif, Timestamp creeLe) {
+    public SessionsActives(int id, ComptesUtilisateur comptesUtilisateur, String tokenSession, String tokenRefresh, Timestamp expireLe, Timestamp derniereActivite, InetAddress adresseIp, String userAgent, String empreinteAppareil, String nomAppareil, String pays, String ville, Serializable coordonneesGps, Serializable metadonnees, Boolean estActif, Timestamp creeLe) {
        this.id = id;
        this.comptesUtilisateur = comptesUtilisateur;
        this.tokenSession = tokenSession;
@@ -99,11 +100,11 @@ public class SessionsActives  implements java.io.Serializable {
     public void setDerniereActivite(Timestamp derniereActivite) {
         this.derniereActivite = derniereActivite;
     }
-    public Serializable getAdresseIp() {
+    public InetAddress getAdresseIp() {
         return this.adresseIp;
     }
     
-    public void setAdresseIp(Serializable adresseIp) {
+    public void setAdresseIp(InetAddress adresseIp) {
         this.adresseIp = adresseIp;
     }
     public String getUserAgent() {
@@ -1,9 +1,9 @@
-package model;
+package model.utilisateur;
 // Generated 1 juil. 2025, 15:15:57 by Hibernate Tools 6.5.1.Final
 
 
-import java.io.Serializable;
 import java.sql.Timestamp;
+import java.util.UUID;
 
 /**
  * VUtilisateursCompletsId generated by hbm2java
@@ -23,12 +23,12 @@ public class VUtilisateursCompletsId  implements java.io.Serializable {
      private String paysNom;
      private String profilNom;
      private String telephone;
-     private Serializable uuid;
+     private UUID uuid;
 
     public VUtilisateursCompletsId() {
     }
 
-    public VUtilisateursCompletsId(Boolean compteActif, Boolean connexionGoogle, Timestamp derniereConnexionLe, String email, Boolean estVerifie, Integer id, String nomComplet, String nomUtilisateur, Integer paysId, String paysNom, String profilNom, String telephone, Serializable uuid) {
+    public VUtilisateursCompletsId(Boolean compteActif, Boolean connexionGoogle, Timestamp derniereConnexionLe, String email, Boolean estVerifie, Integer id, String nomComplet, String nomUtilisateur, Integer paysId, String paysNom, String profilNom, String telephone, UUID uuid) {
        this.compteActif = compteActif;
        this.connexionGoogle = connexionGoogle;
        this.derniereConnexionLe = derniereConnexionLe;
@@ -128,11 +128,11 @@ public class VUtilisateursCompletsId  implements java.io.Serializable {
     public void setTelephone(String telephone) {
         this.telephone = telephone;
     }
-    public Serializable getUuid() {
+    public UUID getUuid() {
         return this.uuid;
     }
     
-    public void setUuid(Serializable uuid) {
+    public void setUuid(UUID uuid) {
         this.uuid = uuid;
     }
 
@@ -1,14 +1,34 @@
 package utils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
-import javax.persistence.Persistence;
 import javax.persistence.Query;
 
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import utils.bootstrap.BootstrapTimings;
+import utils.bootstrap.EntityManagerFactoryBootstrap;
+import utils.cache.ReferenceDataCache;
+import utils.catalogue.CategoryTree;
+import utils.facet.FacetIndex;
+import utils.geo.ShopGeoIndex;
+import utils.metrics.MetricsReporter;
+import utils.metrics.PersistenceStatistics;
+import utils.pool.PoolMetrics;
+import utils.pool.SenMarketConnectionProvider;
+import utils.search.AutocompleteIndex;
+import utils.search.ProductSearchIndex;
+import utils.stock.StockAlerts;
+import utils.transaction.OptimisticRetry;
+
 /**
  * HibernateUtils pour test standalone (sans conteneur EJB)
  * Utilise JPA standard avec EntityManagerFactory
@@ -16,34 +36,96 @@ import javax.persistence.Query;
 public class HibernateUtils {
     
     private static final Logger logger = Logger.getLogger(HibernateUtils.class.getName());
-    private static EntityManagerFactory entityManagerFactory;
+    private static final String PERSISTENCE_UNIT = "SenMarketPU";
+    private static final BootstrapTimings bootstrapTimings = new BootstrapTimings();
+    private static CompletableFuture<EntityManagerFactory> demarrage;
+    private static MetricsReporter metricsReporter;
     
-    // Initialisation statique pour tests standalone
-    static {
-        try {
+    /**
+     * Lance la construction de l'EntityManagerFactory en arrière-plan
+     * (appelé au démarrage du conteneur pour ne pas bloquer la première requête)
+     */
+    public static synchronized CompletableFuture<EntityManagerFactory> warmUpAsync() {
+        if (demarrage == null) {
             logger.info("🚀 Initialisation EntityManagerFactory standalone...");
             
             // Force Javassist avant Hibernate
             System.setProperty("hibernate.bytecode.provider", "javassist");
             System.setProperty("hibernate.bytecode.use_reflection_optimizer", "false");
             
-            entityManagerFactory = Persistence.createEntityManagerFactory("SenMarketPU");
-            logger.info("✅ EntityManagerFactory initialisé avec succès !");
-            
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "❌ Erreur initialisation EntityManagerFactory", e);
-            throw new ExceptionInInitializerError(e);
+            demarrage = CompletableFuture.supplyAsync(
+                    () -> EntityManagerFactoryBootstrap.build(PERSISTENCE_UNIT, bootstrapTimings),
+                    tache -> {
+                        Thread thread = new Thread(tache, "senmarket-bootstrap");
+                        thread.setDaemon(true);
+                        thread.start();
+                    })
+                    .thenApply(emf -> {
+                        metricsReporter = MetricsReporter.start(emf);
+                        // Index de recherche, facettes, géographique, arbre des catégories et alertes de stock
+                        // chargés en arrière-plan, sans retarder la première requête
+                        ProductSearchIndex recherche = ProductSearchIndex.of(emf);
+                        if (recherche != null) {
+                            recherche.demarrer();
+                            AutocompleteIndex.of(emf).demarrer();
+                        }
+                        FacetIndex facettes = FacetIndex.of(emf);
+                        if (facettes != null) {
+                            facettes.demarrer();
+                        }
+                        ShopGeoIndex geo = ShopGeoIndex.of(emf);
+                        if (geo != null) {
+                            geo.demarrer();
+                        }
+                        CategoryTree categories = CategoryTree.of(emf);
+                        if (categories != null) {
+                            categories.demarrer();
+                        }
+                        StockAlerts alertes = StockAlerts.of(emf);
+                        if (alertes != null) {
+                            alertes.demarrer();
+                        }
+                        return emf;
+                    });
         }
+        return demarrage;
+    }
+    
+    /**
+     * EntityManagerFactory, construit à la première demande s'il n'a pas été préchauffé
+     */
+    public static EntityManagerFactory getEntityManagerFactory() {
+        try {
+            EntityManagerFactory emf = warmUpAsync().join();
+            if (!emf.isOpen()) {
+                throw new RuntimeException("EntityManagerFactory fermé");
+            }
+            return emf;
+        } catch (CompletionException e) {
+            logger.log(Level.SEVERE, "❌ Erreur initialisation EntityManagerFactory", e.getCause());
+            throw new RuntimeException("EntityManagerFactory non initialisé", e.getCause());
+        }
+    }
+    
+    /**
+     * Durées des phases de démarrage (index, mappings, sessionFactory, total)
+     */
+    public static BootstrapTimings getBootstrapTimings() {
+        return bootstrapTimings;
     }
     
     /**
      * Obtient un EntityManager pour test standalone
      */
     public static EntityManager getEntityManager() {
-        if (entityManagerFactory == null) {
-            throw new RuntimeException("EntityManagerFactory non initialisé");
-        }
-        return entityManagerFactory.createEntityManager();
+        return getEntityManagerFactory().createEntityManager();
+    }
+    
+    /**
+     * Exécute une transaction rejouée sur conflit de version, sans verrou de ligne (voir OptimisticRetry)
+     */
+    public static <T> T executerAvecReprise(String operation, Function<EntityManager, T> travail) {
+        return OptimisticRetry.executer(getEntityManagerFactory(), operation, travail);
     }
     
     /**
@@ -141,13 +223,65 @@ public class HibernateUtils {
         }
     }
     
+    /**
+     * Métriques du pool de connexions (actives, inactives, en attente, latence d'acquisition)
+     */
+    public static PoolMetrics.Snapshot getPoolMetrics() {
+        return getConnectionProvider().getMetrics();
+    }
+    
+    /**
+     * Journalise l'état courant du pool de connexions
+     */
+    public static void logPoolMetrics() {
+        logger.info("📊 " + getPoolMetrics());
+    }
+    
+    /**
+     * Statistiques hit/miss du cache de second niveau (données de référence)
+     */
+    public static ReferenceDataCache.CacheStatistics getCacheStatistics() {
+        return ReferenceDataCache.getStatistics(getEntityManagerFactory());
+    }
+    
+    /**
+     * Métriques de persistance : chargements par entité, percentiles par requête, flushs, N+1
+     * @param topRequetes nombre de requêtes retenues (triées par temps cumulé)
+     */
+    public static PersistenceStatistics.Snapshot getPersistenceMetrics(int topRequetes) {
+        PersistenceStatistics statistics = MetricsReporter.statistics(getEntityManagerFactory());
+        if (statistics == null) {
+            throw new IllegalStateException("Métriques non installées (hibernate.stats.factory)");
+        }
+        return statistics.snapshot(topRequetes);
+    }
+    
+    private static SenMarketConnectionProvider getConnectionProvider() {
+        ConnectionProvider provider = getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        if (provider == null || !provider.isUnwrappableAs(SenMarketConnectionProvider.class)) {
+            throw new IllegalStateException("Le pool SenMarket n'est pas configuré (hibernate.connection.provider_class)");
+        }
+        return provider.unwrap(SenMarketConnectionProvider.class);
+    }
+    
     /**
      * Fermeture propre pour tests standalone
      */
-    public static void shutdown() {
-        if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+    public static synchronized void shutdown() {
+        if (demarrage == null) {
+            return;
+        }
+        EntityManagerFactory emf = demarrage.exceptionally(e -> null).join();
+        demarrage = null;
+        if (metricsReporter != null) {
+            metricsReporter.stop();
+            metricsReporter = null;
+        }
+        if (emf != null && emf.isOpen()) {
             logger.info("🔒 Fermeture EntityManagerFactory...");
-            entityManagerFactory.close();
+            emf.close();
             logger.info("✅ EntityManagerFactory fermé avec succès !");
         }
     }
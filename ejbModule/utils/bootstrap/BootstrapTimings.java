@@ -0,0 +1,57 @@
+package utils.bootstrap;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Durées des phases de démarrage de l'EntityManagerFactory
+ */
+public class BootstrapTimings {
+
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile String mode;
+
+    /**
+     * Exécute une phase et enregistre sa durée
+     */
+    public <T> T time(String phase, Supplier<T> action) {
+        long debut = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, System.nanoTime() - debut);
+        }
+    }
+
+    public void record(String phase, long nanos) {
+        phases.put(phase, nanos / 1_000_000);
+    }
+
+    public Map<String, Long> getPhasesMs() {
+        synchronized (phases) {
+            return new LinkedHashMap<>(phases);
+        }
+    }
+
+    public long getTotalMs() {
+        Long total = phases.get("total");
+        return total == null ? 0 : total;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("mode=").append(mode);
+        getPhasesMs().forEach((phase, ms) -> sb.append(", ").append(phase).append('=').append(ms).append("ms"));
+        return sb.toString();
+    }
+}
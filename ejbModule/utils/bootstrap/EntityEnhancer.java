@@ -0,0 +1,103 @@
+package utils.bootstrap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.UnloadedClass;
+import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
+
+/**
+ * Enrichit le bytecode des entités qui déclarent des propriétés lazy="true"
+ * (Javassist, exécuté par Maven en phase process-classes après l'index des mappings)
+ * Chargement différé uniquement : pas de dirty tracking inline ni de gestion des associations
+ */
+public class EntityEnhancer {
+
+    private static final Logger logger = Logger.getLogger(EntityEnhancer.class.getName());
+
+    private static final Pattern LAZY_PROPERTY_PATTERN = Pattern.compile("<property\\s[^>]*\\blazy=\"true\"");
+
+    public static void main(String[] args) throws IOException {
+        Path racine = Paths.get(args.length > 0 ? args[0] : "target/classes");
+
+        Set<String> classes = new LinkedHashSet<>();
+        for (MappingIndex.Entry entry : MappingIndexGenerator.generate(racine).getEntries()) {
+            String contenu = new String(Files.readAllBytes(racine.resolve(entry.resource)), StandardCharsets.UTF_8);
+            if (LAZY_PROPERTY_PATTERN.matcher(contenu).find()) {
+                classes.add(entry.className);
+            }
+        }
+
+        // Fournisseur Javassist déprécié mais seul disponible : byte-buddy est exclu de ce build
+        @SuppressWarnings("deprecation")
+        Enhancer enhancer = new BytecodeProviderImpl().getEnhancer(new LazyLoadingContext(classes));
+        int enrichies = 0;
+        for (String classe : classes) {
+            Path fichier = racine.resolve(classe.replace('.', '/') + ".class");
+            byte[] bytecode = enhancer.enhance(classe, Files.readAllBytes(fichier));
+            // null : classe déjà enrichie (build incrémental)
+            if (bytecode != null) {
+                Files.write(fichier, bytecode);
+                enrichies++;
+            }
+        }
+        logger.info("✅ Bytecode enrichi (propriétés lazy) : " + enrichies + "/" + classes.size() + " entités " + classes);
+    }
+
+    /**
+     * Les hbm.xml n'ont pas d'annotations : les entités à enrichir sont fournies explicitement
+     */
+    private static class LazyLoadingContext extends DefaultEnhancementContext {
+
+        private final Set<String> classes;
+
+        LazyLoadingContext(Set<String> classes) {
+            this.classes = classes;
+        }
+
+        @Override
+        public ClassLoader getLoadingClassLoader() {
+            return Thread.currentThread().getContextClassLoader();
+        }
+
+        @Override
+        public boolean isEntityClass(UnloadedClass classDescriptor) {
+            return classes.contains(classDescriptor.getName());
+        }
+
+        @Override
+        public boolean isCompositeClass(UnloadedClass classDescriptor) {
+            return false;
+        }
+
+        @Override
+        public boolean isMappedSuperclassClass(UnloadedClass classDescriptor) {
+            return false;
+        }
+
+        @Override
+        public boolean doBiDirectionalAssociationManagement(UnloadedField field) {
+            return false;
+        }
+
+        @Override
+        public boolean doDirtyCheckingInline(UnloadedClass classDescriptor) {
+            return false;
+        }
+
+        @Override
+        public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package utils.bootstrap;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceException;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.PersistenceXmlParser;
+import org.hibernate.jpa.boot.spi.Bootstrap;
+import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
+
+/**
+ * Construction de l'EntityManagerFactory SenMarket
+ * Mode "index" (défaut) : mappings lus depuis META-INF/senmarket-mapping.idx, sans scan de l'archive
+ * Mode "scan" : comportement historique de Persistence.createEntityManagerFactory
+ */
+public final class EntityManagerFactoryBootstrap {
+
+    private static final Logger logger = Logger.getLogger(EntityManagerFactoryBootstrap.class.getName());
+
+    public static final String MODE = "senmarket.bootstrap.mode";
+    public static final String MODE_INDEX = "index";
+    public static final String MODE_SCAN = "scan";
+
+    private EntityManagerFactoryBootstrap() {
+    }
+
+    /**
+     * Construit l'EntityManagerFactory en enregistrant la durée de chaque phase
+     */
+    public static EntityManagerFactory build(String persistenceUnit, BootstrapTimings timings) {
+        return build(persistenceUnit, Collections.emptyMap(), timings);
+    }
+
+    /**
+     * Idem avec des propriétés prioritaires sur persistence.xml
+     * (URL JDBC d'une base de test ou de benchmark, hbm2ddl...)
+     */
+    public static EntityManagerFactory build(String persistenceUnit, Map<String, ?> overrides,
+            BootstrapTimings timings) {
+        long debut = System.nanoTime();
+        String mode = System.getProperty(MODE, MODE_INDEX);
+        try {
+            if (MODE_INDEX.equals(mode)) {
+                MappingIndex index = timings.time("index", EntityManagerFactoryBootstrap::chargerIndex);
+                if (index != null) {
+                    timings.setMode(MODE_INDEX);
+                    return buildFromIndex(persistenceUnit, index, overrides, timings);
+                }
+                logger.warning("⚠️ " + MappingIndex.RESOURCE + " absent, démarrage par scan du package model");
+            }
+            timings.setMode(MODE_SCAN);
+            return timings.time("scan+sessionFactory",
+                    () -> Persistence.createEntityManagerFactory(persistenceUnit, overrides));
+        } finally {
+            timings.record("total", System.nanoTime() - debut);
+            logger.info("⏱️ Démarrage EntityManagerFactory : " + timings);
+        }
+    }
+
+    private static MappingIndex chargerIndex() {
+        try {
+            return MappingIndex.load(Thread.currentThread().getContextClassLoader());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Index des mappings illisible", e);
+            return null;
+        }
+    }
+
+    private static EntityManagerFactory buildFromIndex(String persistenceUnit, MappingIndex index,
+            Map<String, ?> overrides, BootstrapTimings timings) {
+        // Chargement des classes mappées en parallèle de la lecture des hbm.xml
+        CompletableFuture<Void> prechargement = CompletableFuture.runAsync(
+                () -> timings.time("prechargementClasses", () -> prechargerClasses(index.getMappedClasses())));
+
+        Map<String, Object> settings = new HashMap<>(overrides);
+        settings.put(AvailableSettings.SCANNER, IndexedScanner.class.getName());
+        settings.put(AvailableSettings.SCANNER_DISCOVERY, "none");
+
+        ParsedPersistenceXmlDescriptor descriptor = timings.time("descripteur",
+                () -> trouverUnite(persistenceUnit, settings));
+        descriptor.setExcludeUnlistedClasses(true);
+        descriptor.addMappingFiles(index.getMappingFiles());
+
+        // Lecture et validation des hbm.xml ; la liaison au modèle se fait dans build()
+        EntityManagerFactoryBuilder builder = timings.time("mappings",
+                () -> Bootstrap.getEntityManagerFactoryBuilder(descriptor, settings));
+        prechargement.join();
+        return timings.time("sessionFactory", builder::build);
+    }
+
+    private static ParsedPersistenceXmlDescriptor trouverUnite(String persistenceUnit, Map<String, Object> settings) {
+        List<ParsedPersistenceXmlDescriptor> unites = PersistenceXmlParser.locatePersistenceUnits(settings);
+        for (ParsedPersistenceXmlDescriptor unite : unites) {
+            if (persistenceUnit.equals(unite.getName())) {
+                return unite;
+            }
+        }
+        throw new PersistenceException("Unité de persistance introuvable : " + persistenceUnit);
+    }
+
+    private static Void prechargerClasses(List<String> classes) {
+        ClassLoader classLoader = EntityManagerFactoryBootstrap.class.getClassLoader();
+        classes.parallelStream().forEach(classe -> {
+            try {
+                Class.forName(classe, true, classLoader);
+            } catch (ClassNotFoundException e) {
+                logger.warning("⚠️ Classe mappée introuvable : " + classe);
+            }
+        });
+        return null;
+    }
+}
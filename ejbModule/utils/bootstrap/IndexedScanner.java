@@ -0,0 +1,22 @@
+package utils.bootstrap;
+
+import java.util.Collections;
+
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+
+/**
+ * Scanner Hibernate qui ne parcourt pas l'archive :
+ * les mappings sont fournis explicitement depuis {@link MappingIndex}
+ */
+public class IndexedScanner implements Scanner {
+
+    @Override
+    public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+        return new ScanResultImpl(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+    }
+}
@@ -0,0 +1,41 @@
+package utils.bootstrap;
+
+import java.util.Iterator;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.MetaAttribute;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Groupes de chargement des propriétés lazy (déclaré dans META-INF/services)
+ * Le format hbm.xml n'a pas d'attribut lazy-group : il est porté par
+ * &lt;meta attribute="lazy-group"&gt; et appliqué avant la construction des persisters
+ * Sans groupe, toutes les propriétés lazy d'une entité se chargent ensemble au premier accès
+ */
+public class LazyGroupIntegrator implements Integrator {
+
+    public static final String LAZY_GROUP = "lazy-group";
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        for (PersistentClass entite : metadata.getEntityBindings()) {
+            Iterator<?> proprietes = entite.getPropertyIterator();
+            while (proprietes.hasNext()) {
+                Property propriete = (Property) proprietes.next();
+                MetaAttribute groupe = propriete.getMetaAttribute(LAZY_GROUP);
+                if (propriete.isLazy() && groupe != null) {
+                    propriete.setLazyGroup(groupe.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,131 @@
+package utils.bootstrap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index précalculé des mappings hbm.xml (ressource → classe mappée)
+ * Généré à la compilation par {@link MappingIndexGenerator} dans le jar EJB,
+ * il évite le scan complet du package model au démarrage
+ * Une classe ne peut être mappée qu'une fois (vérifié à la génération et au chargement)
+ */
+public class MappingIndex {
+
+    public static final String RESOURCE = "META-INF/senmarket-mapping.idx";
+
+    private final List<Entry> entries;
+
+    public MappingIndex(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * Charge l'index depuis le classpath, ou null s'il n'a pas été généré
+     * @throws IOException index illisible ou classe indexée plusieurs fois
+     */
+    public static MappingIndex load(ClassLoader classLoader) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String ligne;
+            while ((ligne = reader.readLine()) != null) {
+                ligne = ligne.trim();
+                if (ligne.isEmpty() || ligne.startsWith("#")) {
+                    continue;
+                }
+                int separateur = ligne.indexOf('=');
+                if (separateur <= 0) {
+                    throw new IOException("Ligne d'index invalide : " + ligne);
+                }
+                entries.add(new Entry(ligne.substring(0, separateur).trim(), ligne.substring(separateur + 1).trim()));
+            }
+            List<String> doublons = findDuplicates(entries);
+            if (!doublons.isEmpty()) {
+                throw new IOException("Classes mappées plusieurs fois dans " + RESOURCE + " : " + doublons);
+            }
+            return new MappingIndex(entries);
+        }
+    }
+
+    /**
+     * Classes mappées par plusieurs fichiers, avec les fichiers concernés
+     */
+    public static List<String> findDuplicates(List<Entry> entries) {
+        Map<String, List<String>> ressourcesParClasse = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            ressourcesParClasse.computeIfAbsent(entry.className, c -> new ArrayList<>()).add(entry.resource);
+        }
+        List<String> doublons = new ArrayList<>();
+        ressourcesParClasse.forEach((classe, ressources) -> {
+            if (ressources.size() > 1) {
+                doublons.add(classe + " " + ressources);
+            }
+        });
+        return doublons;
+    }
+
+    /**
+     * Écrit l'index au format "ressource=classe", une ligne par mapping
+     */
+    public void write(Path fichier) throws IOException {
+        Files.createDirectories(fichier.getParent());
+        try (Writer writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            writer.write("# Index des mappings SenMarket - généré par utils.bootstrap.MappingIndexGenerator\n");
+            for (Entry entry : entries) {
+                writer.write(entry.resource + "=" + entry.className + "\n");
+            }
+        }
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public List<String> getMappingFiles() {
+        List<String> resources = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            resources.add(entry.resource);
+        }
+        return resources;
+    }
+
+    public List<String> getMappedClasses() {
+        List<String> classes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            classes.add(entry.className);
+        }
+        return classes;
+    }
+
+    /**
+     * Un fichier de mapping et la classe qu'il mappe
+     */
+    public static class Entry {
+        public final String resource;
+        public final String className;
+
+        public Entry(String resource, String className) {
+            this.resource = resource;
+            this.className = className;
+        }
+
+        @Override
+        public String toString() {
+            return resource + " → " + className;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package utils.bootstrap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Génère META-INF/senmarket-mapping.idx à partir des hbm.xml compilés
+ * Exécuté par Maven (phase process-classes) avec le répertoire de sortie en argument
+ */
+public class MappingIndexGenerator {
+
+    private static final Logger logger = Logger.getLogger(MappingIndexGenerator.class.getName());
+
+    // Lecture par expression régulière : pas de résolution de DTD réseau à la compilation
+    private static final Pattern CLASS_PATTERN = Pattern.compile(
+            "<(?:class|subclass|joined-subclass|union-subclass)\\s[^>]*?\\bname=\"([^\"]+)\"");
+
+    public static void main(String[] args) throws IOException {
+        Path racine = Paths.get(args.length > 0 ? args[0] : "target/classes");
+        MappingIndex index = generate(racine);
+        index.write(racine.resolve(MappingIndex.RESOURCE));
+        logger.info("✅ Index des mappings généré : " + index.getEntries().size() + " classes");
+    }
+
+    /**
+     * Indexe tous les hbm.xml sous la racine
+     * @throws IllegalStateException si une classe est mappée par plusieurs fichiers
+     * ou si un hbm.xml n'est pas dans le package de sa classe
+     */
+    public static MappingIndex generate(Path racine) throws IOException {
+        List<Path> fichiers;
+        try (Stream<Path> stream = Files.walk(racine)) {
+            fichiers = stream
+                    .filter(p -> p.getFileName().toString().endsWith(".hbm.xml"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<MappingIndex.Entry> entries = new ArrayList<>();
+        List<String> horsPackage = new ArrayList<>();
+        for (Path fichier : fichiers) {
+            String ressource = racine.relativize(fichier).toString().replace('\\', '/');
+            Matcher matcher = CLASS_PATTERN.matcher(new String(Files.readAllBytes(fichier), StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String classe = matcher.group(1);
+                entries.add(new MappingIndex.Entry(ressource, classe));
+                if (!estDansSonPackage(ressource, classe)) {
+                    horsPackage.add(ressource + " (" + classe + ")");
+                }
+            }
+        }
+
+        List<String> doublons = MappingIndex.findDuplicates(entries);
+        if (!doublons.isEmpty()) {
+            throw new IllegalStateException("❌ Classes mappées plusieurs fois : " + doublons);
+        }
+        if (!horsPackage.isEmpty()) {
+            throw new IllegalStateException("❌ hbm.xml hors du package de leur classe : " + horsPackage);
+        }
+        return new MappingIndex(entries);
+    }
+
+    private static boolean estDansSonPackage(String ressource, String classe) {
+        int dernierPoint = classe.lastIndexOf('.');
+        String paquet = dernierPoint < 0 ? "" : classe.substring(0, dernierPoint).replace('.', '/');
+        int dernierSlash = ressource.lastIndexOf('/');
+        String repertoire = dernierSlash < 0 ? "" : ressource.substring(0, dernierSlash);
+        return repertoire.equals(paquet);
+    }
+}
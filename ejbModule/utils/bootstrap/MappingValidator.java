@@ -0,0 +1,93 @@
+package utils.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.SimpleValue;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Contrôles du modèle au démarrage (déclaré dans META-INF/services)
+ * Échec si une classe est mappée deux fois ou si deux entités partagent un nom court (HQL ambigu)
+ * Avertissement si une entité à propriétés lazy n'a pas été enrichie à la compilation
+ */
+public class MappingValidator implements Integrator {
+
+    private static final Logger logger = Logger.getLogger(MappingValidator.class.getName());
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Map<String, List<String>> entitesParClasse = new LinkedHashMap<>();
+        Map<String, List<String>> classesParNomCourt = new LinkedHashMap<>();
+        List<String> nonEnrichies = new ArrayList<>();
+
+        for (PersistentClass entite : metadata.getEntityBindings()) {
+            String classe = entite.getClassName();
+            if (classe == null) {
+                continue;
+            }
+            entitesParClasse.computeIfAbsent(classe, c -> new ArrayList<>()).add(entite.getEntityName());
+            String nomCourt = classe.substring(classe.lastIndexOf('.') + 1);
+            List<String> classes = classesParNomCourt.computeIfAbsent(nomCourt, n -> new ArrayList<>());
+            if (!classes.contains(classe)) {
+                classes.add(classe);
+            }
+            if (entite.hasPojoRepresentation() && aDesProprietesLazy(entite)
+                    && !PersistentAttributeInterceptable.class.isAssignableFrom(entite.getMappedClass())) {
+                nonEnrichies.add(classe);
+            }
+        }
+
+        List<String> erreurs = new ArrayList<>();
+        entitesParClasse.forEach((classe, entites) -> {
+            if (entites.size() > 1) {
+                erreurs.add("classe mappée plusieurs fois : " + classe + " " + entites);
+            }
+        });
+        classesParNomCourt.forEach((nomCourt, classes) -> {
+            if (classes.size() > 1) {
+                erreurs.add("nom d'entité ambigu : " + nomCourt + " " + classes);
+            }
+        });
+        if (!erreurs.isEmpty()) {
+            throw new MappingException("❌ Modèle invalide : " + String.join(" ; ", erreurs));
+        }
+        if (!nonEnrichies.isEmpty()) {
+            logger.warning("⚠️ Propriétés lazy ignorées, classes non enrichies (build sans process-classes ?) : "
+                    + nonEnrichies);
+        }
+        logger.info("✅ Modèle validé : " + entitesParClasse.size() + " entités");
+    }
+
+    /**
+     * Propriétés simples lazy="true" (les associations ont leurs propres proxies)
+     */
+    private static boolean aDesProprietesLazy(PersistentClass entite) {
+        Iterator<?> proprietes = entite.getPropertyIterator();
+        while (proprietes.hasNext()) {
+            Property propriete = (Property) proprietes.next();
+            if (propriete.isLazy() && propriete.getValue() instanceof SimpleValue
+                    && !(propriete.getValue() instanceof ToOne)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
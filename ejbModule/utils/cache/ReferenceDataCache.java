@@ -0,0 +1,130 @@
+package utils.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Accès aux données de référence en cache de second niveau
+ * (Devises, Pays, Langues, StatutsCommande, MethodesPaiement, ProfilsUtilisateur)
+ * Les régions sont déclarées dans les hbm.xml et bornées dans META-INF/ehcache.xml
+ */
+public final class ReferenceDataCache {
+
+    private ReferenceDataCache() {
+    }
+
+    /**
+     * Recherche une entité de référence par son code (natural-id)
+     * Servie par la région "*.code" sans requête SQL une fois le cache chaud
+     */
+    public static <T> T findByCode(EntityManager em, Class<T> type, String code) {
+        if (code == null) {
+            return null;
+        }
+        return em.unwrap(Session.class).bySimpleNaturalId(type).load(code);
+    }
+
+    /**
+     * Retire une entité de référence du cache (après modification hors Hibernate)
+     */
+    public static void evict(EntityManagerFactory emf, Class<?> type) {
+        emf.unwrap(SessionFactory.class).getCache().evictEntityData(type);
+        emf.unwrap(SessionFactory.class).getCache().evictNaturalIdData(type);
+    }
+
+    /**
+     * Vide toutes les régions du cache de second niveau
+     */
+    public static void evictAll(EntityManagerFactory emf) {
+        emf.getCache().evictAll();
+    }
+
+    /**
+     * Statistiques hit/miss par région (nécessite hibernate.generate_statistics=true)
+     */
+    public static CacheStatistics getStatistics(EntityManagerFactory emf) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        CacheStatistics resultat = new CacheStatistics();
+        resultat.statisticsEnabled = statistics.isStatisticsEnabled();
+        resultat.hits = statistics.getSecondLevelCacheHitCount();
+        resultat.misses = statistics.getSecondLevelCacheMissCount();
+        resultat.puts = statistics.getSecondLevelCachePutCount();
+        resultat.naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        resultat.naturalIdMisses = statistics.getNaturalIdCacheMissCount();
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            RegionStatistics regionStats = new RegionStatistics();
+            regionStats.region = region;
+            regionStats.hits = stats.getHitCount();
+            regionStats.misses = stats.getMissCount();
+            regionStats.puts = stats.getPutCount();
+            regionStats.elementsInMemory = stats.getElementCountInMemory();
+            resultat.regions.add(regionStats);
+        }
+        return resultat;
+    }
+
+    /**
+     * Statistiques globales du cache de second niveau
+     */
+    public static class CacheStatistics {
+        public boolean statisticsEnabled;
+        public long hits;
+        public long misses;
+        public long puts;
+        public long naturalIdHits;
+        public long naturalIdMisses;
+        public List<RegionStatistics> regions = new ArrayList<>();
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : hits / (double) total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== CACHE DE SECOND NIVEAU ===\n");
+            if (!statisticsEnabled) {
+                sb.append("(statistiques désactivées : hibernate.generate_statistics=false)\n");
+            }
+            sb.append(String.format("Hits : %d / Miss : %d / Puts : %d (ratio %.1f%%)%n",
+                    hits, misses, puts, hitRatio() * 100));
+            sb.append(String.format("Natural-id : %d hits / %d miss%n", naturalIdHits, naturalIdMisses));
+            for (RegionStatistics region : regions) {
+                sb.append("  ").append(region).append("\n");
+            }
+            sb.append("==============================");
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Statistiques d'une région
+     */
+    public static class RegionStatistics {
+        public String region;
+        public long hits;
+        public long misses;
+        public long puts;
+        public long elementsInMemory;
+
+        @Override
+        public String toString() {
+            return String.format("%-40s hits=%d miss=%d puts=%d taille=%d",
+                    region, hits, misses, puts, elementsInMemory);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package utils.catalogue;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.CartesProduits;
+
+/**
+ * Enregistre {@link ProductCardListener} (déclaré dans META-INF/services)
+ * Sans mapping CartesProduits (unité de persistance réduite), rien n'est enregistré
+ */
+public class CatalogueIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        if (metadata.getEntityBinding(CartesProduits.class.getName()) == null) {
+            return;
+        }
+        ProductCardListener listener = new ProductCardListener();
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,660 @@
+package utils.catalogue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import model.produit.CategoriesProduits;
+import utils.facet.FacetIndex;
+
+/**
+ * Arbre des catégories en mémoire : instantané immuable en ordre préfixe, où le sous-arbre d'une catégorie est
+ * l'intervalle [rang, fin[ (ascendance et descendance testées en O(1)), avec le nombre de produits visibles par
+ * catégorie et par sous-arbre. Remplace le parcours des collections lazy categoriesProduitses (un SELECT par nœud)
+ *
+ * Niveaux et chemins sont calculés depuis parent_id ; l'arbre est reconstruit entier et publié d'un bloc par un
+ * thread d'écriture ("senmarket-categories") après chaque modification validée des catégories ou des produits
+ */
+public class CategoryTree {
+
+    private static final Logger logger = Logger.getLogger(CategoryTree.class.getName());
+
+    public static final String ENABLED = "senmarket.categories.enabled";
+
+    private static final String CATEGORIES =
+            "select c.id, c.categoriesProduits.id, c.nom, c.iconeUrl, c.imageUrl, c.ordreAffichage, c.estActif "
+            + "from CategoriesProduits c";
+    // Produits visibles (actifs, publiés, boutique active), comme les cartes et les facettes
+    private static final String COMPTES =
+            "select p.categoriesProduits.id, count(p.id) from Produits p join p.boutiques b "
+            + "where coalesce(p.estActif, true) = true and coalesce(p.estPublie, true) = true "
+            + "and coalesce(b.estActif, true) = true group by p.categoriesProduits.id";
+    private static final String CHEMINS =
+            "select c.id, c.categoriesProduits.id, c.niveau, c.cheminHierarchique from CategoriesProduits c";
+
+    private static final long DELAI_MS = 200;
+
+    private static final Map<SessionFactory, CategoryTree> ARBRES = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ScheduledExecutorService ecrivain;
+    private final AtomicBoolean arbreModifie = new AtomicBoolean();
+    private final AtomicBoolean comptesModifies = new AtomicBoolean();
+    private final AtomicBoolean planifie = new AtomicBoolean();
+    private volatile Etat etat;
+    private CompletableFuture<Void> chargement;
+    private long chargementMs;
+    private int reconstructions;
+
+    CategoryTree(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-categories");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, CategoryTree arbre) {
+        ARBRES.put(sessionFactory, arbre);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        CategoryTree arbre = ARBRES.remove(sessionFactory);
+        if (arbre != null) {
+            arbre.ecrivain.shutdownNow();
+        }
+    }
+
+    /**
+     * Arbre de l'unité de persistance, ou null s'il est désactivé (senmarket.categories.enabled=false)
+     */
+    public static CategoryTree of(EntityManagerFactory emf) {
+        return ARBRES.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Lance le chargement complet en arrière-plan (sans effet s'il est déjà lancé)
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            chargement = CompletableFuture.runAsync(this::chargerTout, ecrivain);
+        }
+        return chargement;
+    }
+
+    private Etat etat() {
+        Etat courant = etat;
+        if (courant == null) {
+            demarrer().join();
+            courant = etat;
+        }
+        return courant;
+    }
+
+    // ------------------------------------------------------------------ lecture
+
+    /**
+     * Catégorie par identifiant, ou null si elle n'existe pas
+     */
+    public Categorie categorie(int id) {
+        return etat().parId.get(id);
+    }
+
+    /**
+     * Toutes les catégories racines, actives ou non, dans l'ordre d'affichage
+     */
+    public List<Categorie> racines() {
+        return etat().racines;
+    }
+
+    /**
+     * Menu : racines actives, puis {@link Categorie#sousMenu} à chaque niveau
+     */
+    public List<Categorie> menu() {
+        return etat().menu;
+    }
+
+    /**
+     * Fil d'Ariane : ancêtres de la racine au parent (vide pour une racine ou une catégorie inconnue)
+     */
+    public List<Categorie> ancetres(int id) {
+        Categorie categorie = categorie(id);
+        return categorie == null ? Collections.emptyList() : categorie.ancetres;
+    }
+
+    /**
+     * Vrai si {@code categorieId} est {@code ancetreId} ou l'une de ses sous-catégories
+     */
+    public boolean estDansSousArbre(int categorieId, int ancetreId) {
+        Etat courant = etat();
+        Categorie categorie = courant.parId.get(categorieId);
+        Categorie ancetre = courant.parId.get(ancetreId);
+        return categorie != null && ancetre != null && ancetre.contient(categorie);
+    }
+
+    /**
+     * La catégorie et toutes ses sous-catégories, en ordre préfixe (vide si elle n'existe pas)
+     */
+    public List<Integer> sousArbre(int id) {
+        Etat courant = etat();
+        Categorie categorie = courant.parId.get(id);
+        return categorie == null ? Collections.emptyList() : courant.ids.subList(categorie.rang, categorie.fin);
+    }
+
+    /**
+     * Filtre de cartes « tous les produits de la catégorie et de ses sous-catégories »
+     */
+    public ProductCardQueries.Filtre filtre(int id) {
+        return ProductCardQueries.Filtre.categories(sousArbre(id));
+    }
+
+    /**
+     * Limite une navigation à facettes au sous-arbre de la catégorie (catégorie inconnue : aucun produit)
+     */
+    public FacetIndex.Selection selection(FacetIndex.Selection selection, int id) {
+        List<Integer> ids = sousArbre(id);
+        String[] categories = new String[ids.size()];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = String.valueOf(ids.get(i));
+        }
+        return selection.avec(FacetIndex.CATEGORIE, categories);
+    }
+
+    // ------------------------------------------------------------------ chemins matérialisés
+
+    /**
+     * Rattache une catégorie à un autre parent (null : racine) dans la transaction de l'appelant, puis réécrit
+     * niveau et cheminHierarchique de tout son sous-arbre ; refuse un parent pris dans ce sous-arbre
+     * @return nombre de catégories dont le chemin a changé
+     */
+    public static int deplacer(EntityManager em, int categorieId, Integer parentId) {
+        CategoriesProduits categorie = em.find(CategoriesProduits.class, categorieId);
+        if (categorie == null) {
+            throw new IllegalArgumentException("Catégorie inconnue : " + categorieId);
+        }
+        CategoriesProduits parent = null;
+        if (parentId != null) {
+            parent = em.find(CategoriesProduits.class, parentId);
+            if (parent == null) {
+                throw new IllegalArgumentException("Catégorie parente inconnue : " + parentId);
+            }
+            // Remontée depuis le nouveau parent (bornée si les données contiennent déjà un cycle)
+            Set<Integer> vues = new HashSet<>();
+            for (CategoriesProduits c = parent; c != null && vues.add(c.getId()); c = c.getCategoriesProduits()) {
+                if (c.getId() == categorieId) {
+                    throw new IllegalArgumentException(
+                            "Déplacement impossible : " + parentId + " est dans le sous-arbre de " + categorieId);
+                }
+            }
+        }
+        categorie.setCategoriesProduits(parent);
+        em.flush();
+        return synchroniserChemins(em);
+    }
+
+    /**
+     * Recalcule depuis parent_id le niveau (1 pour une racine) et le cheminHierarchique ("/racine/…/id/") de
+     * toutes les catégories, et met à jour ceux qui diffèrent (données importées, ancien format)
+     * @return nombre de catégories corrigées
+     */
+    public static int synchroniserChemins(EntityManager em) {
+        List<Ligne> lignes = new ArrayList<>();
+        Map<Integer, Object[]> enBase = new HashMap<>();
+        for (Object[] colonnes : em.createQuery(CHEMINS, Object[].class).getResultList()) {
+            lignes.add(new Ligne((Integer) colonnes[0], (Integer) colonnes[1], null, null, null, null, null));
+            enBase.put((Integer) colonnes[0], colonnes);
+        }
+        int corrigees = 0;
+        for (Noeud noeud : ordonner(lignes)) {
+            Object[] colonnes = enBase.get(noeud.ligne.id);
+            if (!Objects.equals(colonnes[2], noeud.niveau) || !noeud.chemin.equals(colonnes[3])) {
+                CategoriesProduits categorie = em.find(CategoriesProduits.class, noeud.ligne.id);
+                categorie.setNiveau(noeud.niveau);
+                categorie.setCheminHierarchique(noeud.chemin);
+                corrigees++;
+            }
+        }
+        return corrigees;
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    /**
+     * Catégories (arbre) ou produits (comptes) modifiés par une transaction validée (appelé par le listener)
+     */
+    void signaler(boolean arbre, boolean comptes) {
+        if (arbre) {
+            arbreModifie.set(true);
+        }
+        if (comptes) {
+            comptesModifies.set(true);
+        }
+        if (planifie.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::appliquer, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Arbre arrêté (fermeture de l'EntityManagerFactory)
+                planifie.set(false);
+            }
+        }
+    }
+
+    private void chargerTout() {
+        long debut = System.nanoTime();
+        List<Ligne> lignes;
+        Map<Integer, Long> comptes;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                lignes = lireCategories(session);
+                comptes = lireComptes(session);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                logger.log(Level.SEVERE, "❌ Chargement de l'arbre des catégories impossible", e);
+                throw e;
+            }
+        }
+        etat = new Etat(lignes, comptes);
+        chargementMs = (System.nanoTime() - debut) / 1_000_000;
+        logger.info("🗂️ Arbre des catégories chargé : " + etat.ids.size() + " catégories en " + chargementMs + " ms");
+    }
+
+    /**
+     * Relit ce qui a changé (catégories, comptes de produits, ou les deux) et republie un arbre complet
+     */
+    private void appliquer() {
+        planifie.set(false);
+        boolean arbre = arbreModifie.getAndSet(false);
+        boolean comptes = comptesModifies.getAndSet(false);
+        Etat courant = etat;
+        // Arbre pas encore chargé : le chargement complet lira l'état à jour
+        if (courant == null || !(arbre || comptes)) {
+            return;
+        }
+        try {
+            List<Ligne> lignes = courant.lignes;
+            Map<Integer, Long> nombres = courant.comptes;
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                Transaction transaction = session.beginTransaction();
+                try {
+                    if (arbre) {
+                        lignes = lireCategories(session);
+                    }
+                    if (comptes) {
+                        nombres = lireComptes(session);
+                    }
+                    transaction.commit();
+                } catch (RuntimeException e) {
+                    transaction.rollback();
+                    throw e;
+                }
+            }
+            etat = new Etat(lignes, nombres);
+            reconstructions++;
+            logger.fine("🗂️ Arbre des catégories reconstruit (" + (arbre ? "catégories" : "")
+                    + (arbre && comptes ? ", " : "") + (comptes ? "comptes" : "") + ")");
+        } catch (RuntimeException e) {
+            // Arbre précédent conservé ; relu à la prochaine modification
+            arbreModifie.compareAndSet(false, arbre);
+            comptesModifies.compareAndSet(false, comptes);
+            logger.log(Level.WARNING, "⚠️ Reconstruction de l'arbre des catégories impossible", e);
+        }
+    }
+
+    private static List<Ligne> lireCategories(StatelessSession session) {
+        List<Ligne> lignes = new ArrayList<>();
+        for (Object ligne : session.createQuery(CATEGORIES).list()) {
+            Object[] colonnes = (Object[]) ligne;
+            lignes.add(new Ligne((Integer) colonnes[0], (Integer) colonnes[1], (String) colonnes[2],
+                    (String) colonnes[3], (String) colonnes[4], (Integer) colonnes[5], (Boolean) colonnes[6]));
+        }
+        return Collections.unmodifiableList(lignes);
+    }
+
+    private static Map<Integer, Long> lireComptes(StatelessSession session) {
+        Map<Integer, Long> comptes = new HashMap<>();
+        for (Object ligne : session.createQuery(COMPTES).list()) {
+            Object[] colonnes = (Object[]) ligne;
+            comptes.put((Integer) colonnes[0], (Long) colonnes[1]);
+        }
+        return Collections.unmodifiableMap(comptes);
+    }
+
+    /**
+     * Ordre préfixe depuis parent_id, frères triés par ordreAffichage, nom puis id ; un parent inconnu fait une
+     * racine, et une boucle de parents est rompue à l'une de ses catégories, rattachée aux racines
+     */
+    private static List<Noeud> ordonner(Collection<Ligne> lignes) {
+        Map<Integer, Noeud> parId = new TreeMap<>();
+        for (Ligne ligne : lignes) {
+            parId.put(ligne.id, new Noeud(ligne));
+        }
+        List<Noeud> racines = new ArrayList<>();
+        for (Noeud noeud : parId.values()) {
+            Noeud parent = noeud.ligne.parentId == null ? null : parId.get(noeud.ligne.parentId);
+            if (parent == null || parent == noeud) {
+                racines.add(noeud);
+            } else {
+                parent.enfants.add(noeud);
+            }
+        }
+        for (Noeud noeud : parId.values()) {
+            noeud.enfants.sort(Noeud.ORDRE);
+        }
+        racines.sort(Noeud.ORDRE);
+
+        List<Noeud> ordre = new ArrayList<>(parId.size());
+        for (Noeud racine : racines) {
+            parcourir(racine, ordre);
+        }
+        // Catégories non atteintes : une boucle de parents au-dessus d'elles
+        for (Noeud noeud : parId.values()) {
+            if (noeud.rang < 0) {
+                Set<Noeud> remontee = new HashSet<>();
+                Noeud boucle = noeud;
+                while (remontee.add(boucle)) {
+                    boucle = parId.get(boucle.ligne.parentId);
+                }
+                logger.warning("⚠️ Boucle de parents dans categories_produits : catégorie " + boucle.ligne.id
+                        + " traitée comme racine");
+                parcourir(boucle, ordre);
+            }
+        }
+        return ordre;
+    }
+
+    /**
+     * Parcours préfixe itératif depuis une racine : rang, niveau, chemin, puis fin de sous-arbre
+     */
+    private static void parcourir(Noeud racine, List<Noeud> ordre) {
+        Deque<Noeud> pile = new ArrayDeque<>();
+        racine.parent = null;
+        pile.push(racine);
+        while (!pile.isEmpty()) {
+            Noeud noeud = pile.pop();
+            noeud.rang = ordre.size();
+            ordre.add(noeud);
+            noeud.niveau = noeud.parent == null ? 1 : noeud.parent.niveau + 1;
+            noeud.chemin = (noeud.parent == null ? "/" : noeud.parent.chemin) + noeud.ligne.id + "/";
+            for (int i = noeud.enfants.size() - 1; i >= 0; i--) {
+                Noeud enfant = noeud.enfants.get(i);
+                // Enfant déjà placé : c'est la catégorie où une boucle a été rompue
+                if (enfant.rang < 0) {
+                    enfant.parent = noeud;
+                    pile.push(enfant);
+                }
+            }
+        }
+        // Fins de sous-arbres : ordre préfixe inverse, les enfants avant leur parent
+        for (int i = ordre.size() - 1; i >= racine.rang; i--) {
+            Noeud noeud = ordre.get(i);
+            noeud.fin = Math.max(noeud.fin, noeud.rang + 1);
+            if (noeud.parent != null) {
+                noeud.parent.fin = Math.max(noeud.parent.fin, noeud.fin);
+            }
+        }
+    }
+
+    /**
+     * Taille de l'arbre et reconstructions
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        Etat courant = etat;
+        if (courant != null) {
+            statistiques.charge = true;
+            statistiques.categories = courant.ids.size();
+            statistiques.racines = courant.racines.size();
+            statistiques.profondeur = courant.profondeur;
+            for (Categorie racine : courant.racines) {
+                statistiques.produits += racine.produitsSousArbre;
+            }
+        }
+        statistiques.chargementMs = chargementMs;
+        statistiques.reconstructions = reconstructions;
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * Arbre publié : catégories en ordre préfixe et lignes lues (reprises quand seule l'autre partie change)
+     */
+    private static final class Etat {
+        final List<Ligne> lignes;
+        final Map<Integer, Long> comptes;
+        final List<Integer> ids;
+        final Map<Integer, Categorie> parId;
+        final List<Categorie> racines;
+        final List<Categorie> menu;
+        final int profondeur;
+
+        Etat(List<Ligne> lignes, Map<Integer, Long> comptes) {
+            this.lignes = lignes;
+            this.comptes = comptes;
+            List<Noeud> ordre = ordonner(lignes);
+            // Produits du sous-arbre : enfants cumulés avant leur parent
+            long[] cumuls = new long[ordre.size()];
+            for (int i = ordre.size() - 1; i >= 0; i--) {
+                Noeud noeud = ordre.get(i);
+                cumuls[i] += comptes.getOrDefault(noeud.ligne.id, 0L);
+                if (noeud.parent != null) {
+                    cumuls[noeud.parent.rang] += cumuls[i];
+                }
+            }
+            Categorie[] parRang = new Categorie[ordre.size()];
+            List<List<Categorie>> enfants = new ArrayList<>(ordre.size());
+            List<List<Categorie>> sousMenus = new ArrayList<>(ordre.size());
+            List<Integer> identifiants = new ArrayList<>(ordre.size());
+            Map<Integer, Categorie> index = new HashMap<>(ordre.size() * 2);
+            List<Categorie> toutesRacines = new ArrayList<>();
+            List<Categorie> racinesActives = new ArrayList<>();
+            int niveauMax = 0;
+            for (Noeud noeud : ordre) {
+                Categorie parent = noeud.parent == null ? null : parRang[noeud.parent.rang];
+                enfants.add(new ArrayList<>(noeud.enfants.size()));
+                sousMenus.add(new ArrayList<>(noeud.enfants.size()));
+                Categorie categorie = new Categorie(noeud, parent, comptes.getOrDefault(noeud.ligne.id, 0L),
+                        cumuls[noeud.rang], enfants.get(noeud.rang), sousMenus.get(noeud.rang));
+                parRang[noeud.rang] = categorie;
+                identifiants.add(categorie.id);
+                index.put(categorie.id, categorie);
+                niveauMax = Math.max(niveauMax, categorie.niveau);
+                if (parent == null) {
+                    toutesRacines.add(categorie);
+                    if (categorie.actif) {
+                        racinesActives.add(categorie);
+                    }
+                } else {
+                    enfants.get(parent.rang).add(categorie);
+                    if (categorie.actif) {
+                        sousMenus.get(parent.rang).add(categorie);
+                    }
+                }
+            }
+            this.ids = Collections.unmodifiableList(identifiants);
+            this.parId = Collections.unmodifiableMap(index);
+            this.racines = Collections.unmodifiableList(toutesRacines);
+            this.menu = Collections.unmodifiableList(racinesActives);
+            this.profondeur = niveauMax;
+        }
+    }
+
+    /**
+     * Colonnes lues d'une catégorie
+     */
+    private static final class Ligne {
+        final int id;
+        final Integer parentId;
+        final String nom;
+        final String iconeUrl;
+        final String imageUrl;
+        final Integer ordreAffichage;
+        final Boolean estActif;
+
+        Ligne(int id, Integer parentId, String nom, String iconeUrl, String imageUrl, Integer ordreAffichage,
+                Boolean estActif) {
+            this.id = id;
+            this.parentId = parentId;
+            this.nom = nom;
+            this.iconeUrl = iconeUrl;
+            this.imageUrl = imageUrl;
+            this.ordreAffichage = ordreAffichage;
+            this.estActif = estActif;
+        }
+    }
+
+    /**
+     * Nœud en cours de construction (parent effectif, rang préfixe, fin de sous-arbre)
+     */
+    private static final class Noeud {
+        static final Comparator<Noeud> ORDRE = Comparator
+                .comparing((Noeud n) -> n.ligne.ordreAffichage, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(n -> n.ligne.nom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparingInt(n -> n.ligne.id);
+
+        final Ligne ligne;
+        final List<Noeud> enfants = new ArrayList<>();
+        Noeud parent;
+        int rang = -1;
+        int fin;
+        int niveau;
+        String chemin;
+
+        Noeud(Ligne ligne) {
+            this.ligne = ligne;
+        }
+    }
+
+    /**
+     * Catégorie de l'instantané ; enfants et ancêtres sont eux aussi figés
+     */
+    public static class Categorie implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final int id;
+        public final Integer parentId;
+        public final String nom;
+        public final String iconeUrl;
+        public final String imageUrl;
+        public final Integer ordreAffichage;
+        // Active, ainsi que tous ses ancêtres
+        public final boolean actif;
+        // 1 pour une racine
+        public final int niveau;
+        // Identifiants de la racine à la catégorie : "/3/17/42/"
+        public final String chemin;
+        // Produits visibles rattachés directement, puis à tout le sous-arbre
+        public final long produits;
+        public final long produitsSousArbre;
+        public final List<Categorie> enfants;
+        // De la racine au parent
+        public final List<Categorie> ancetres;
+        private final List<Categorie> sousMenu;
+        final int rang;
+        final int fin;
+
+        Categorie(Noeud noeud, Categorie parent, long produits, long produitsSousArbre, List<Categorie> enfants,
+                List<Categorie> sousMenu) {
+            this.id = noeud.ligne.id;
+            this.parentId = parent == null ? null : parent.id;
+            this.nom = noeud.ligne.nom;
+            this.iconeUrl = noeud.ligne.iconeUrl;
+            this.imageUrl = noeud.ligne.imageUrl;
+            this.ordreAffichage = noeud.ligne.ordreAffichage;
+            this.actif = !Boolean.FALSE.equals(noeud.ligne.estActif) && (parent == null || parent.actif);
+            this.niveau = noeud.niveau;
+            this.chemin = noeud.chemin;
+            this.produits = produits;
+            this.produitsSousArbre = produitsSousArbre;
+            // Listes remplies par Etat avant publication
+            this.enfants = Collections.unmodifiableList(enfants);
+            this.sousMenu = Collections.unmodifiableList(sousMenu);
+            if (parent == null) {
+                this.ancetres = Collections.emptyList();
+            } else {
+                List<Categorie> lignee = new ArrayList<>(parent.ancetres);
+                lignee.add(parent);
+                this.ancetres = Collections.unmodifiableList(lignee);
+            }
+            this.rang = noeud.rang;
+            this.fin = noeud.fin;
+        }
+
+        /**
+         * Sous-catégories actives (menu)
+         */
+        public List<Categorie> sousMenu() {
+            return sousMenu;
+        }
+
+        /**
+         * Vrai si {@code autre} est cette catégorie ou l'une de ses sous-catégories
+         */
+        public boolean contient(Categorie autre) {
+            return autre.rang >= rang && autre.rang < fin;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s (%,d produits)%s", chemin, nom, produitsSousArbre, actif ? "" : " — inactive");
+        }
+    }
+
+    /**
+     * Taille de l'arbre et reconstructions
+     */
+    public static class Statistiques {
+        public boolean charge;
+        public int categories;
+        public int racines;
+        public int profondeur;
+        public long produits;
+        public long chargementMs;
+        public int reconstructions;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== ARBRE DES CATÉGORIES ===\n");
+            if (!charge) {
+                sb.append("Non chargé\n");
+            } else {
+                sb.append(String.format("Catégories : %,d (%d racines, profondeur %d)%n", categories, racines,
+                        profondeur));
+                sb.append(String.format("Produits visibles : %,d%n", produits));
+                sb.append("Chargement : ").append(chargementMs).append(" ms | reconstructions : ")
+                        .append(reconstructions).append("\n");
+            }
+            sb.append("============================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package utils.catalogue;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.CategoriesProduits;
+import model.produit.Produits;
+
+/**
+ * Crée le {@link CategoryTree} de l'unité de persistance et enregistre {@link CategoryTreeListener}
+ * (déclaré dans META-INF/services) ; désactivable par senmarket.categories.enabled=false
+ * L'arbre n'est chargé qu'au premier appel (ou par demarrer())
+ */
+public class CategoryTreeIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Object active = sessionFactory.getProperties().get(CategoryTree.ENABLED);
+        if (metadata.getEntityBinding(CategoriesProduits.class.getName()) == null
+                || metadata.getEntityBinding(Produits.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        CategoryTree arbre = new CategoryTree(sessionFactory);
+        CategoryTree.enregistrer(sessionFactory, arbre);
+        CategoryTreeListener listener = new CategoryTreeListener(arbre);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        CategoryTree.retirer(sessionFactory);
+    }
+}
@@ -0,0 +1,124 @@
+package utils.catalogue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.entreprise.Boutiques;
+import model.produit.CategoriesProduits;
+import model.produit.Produits;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Signale à {@link CategoryTree} les catégories modifiées (arbre) et les produits ou boutiques dont la visibilité
+ * ou la catégorie change (comptes), après commit uniquement
+ */
+public class CategoryTreeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés lues par l'arbre ; niveau et cheminHierarchique sont recalculés, pas lus
+    private static final Set<String> PROPRIETES_CATEGORIE = new HashSet<>(Arrays.asList(
+            "categoriesProduits", "nom", "iconeUrl", "imageUrl", "ordreAffichage", "estActif"));
+    private static final Set<String> PROPRIETES_PRODUIT = new HashSet<>(Arrays.asList(
+            "categoriesProduits", "boutiques", "estActif", "estPublie"));
+    private static final Set<String> PROPRIETES_BOUTIQUE = new HashSet<>(Arrays.asList("estActif"));
+
+    private final transient CategoryTree arbre;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    public CategoryTreeListener(CategoryTree arbre) {
+        this.arbre = arbre;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // Une nouvelle boutique n'a pas encore de produit
+        if (event.getEntity() instanceof CategoriesProduits) {
+            signaler(event.getSession(), true, false);
+        } else if (event.getEntity() instanceof Produits) {
+            signaler(event.getSession(), false, true);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entite = event.getEntity();
+        if (entite instanceof CategoriesProduits) {
+            if (concerne(event, PROPRIETES_CATEGORIE)) {
+                signaler(event.getSession(), true, false);
+            }
+        } else if (entite instanceof Produits) {
+            if (concerne(event, PROPRIETES_PRODUIT)) {
+                signaler(event.getSession(), false, true);
+            }
+        } else if (entite instanceof Boutiques && concerne(event, PROPRIETES_BOUTIQUE)) {
+            signaler(event.getSession(), false, true);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof CategoriesProduits) {
+            signaler(event.getSession(), true, false);
+        } else if (event.getEntity() instanceof Produits || event.getEntity() instanceof Boutiques) {
+            signaler(event.getSession(), false, true);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean concerne(PostUpdateEvent event, Set<String> proprietes) {
+        int[] modifiees = event.getDirtyProperties();
+        if (modifiees == null) {
+            return true;
+        }
+        String[] noms = event.getPersister().getPropertyNames();
+        for (int position : modifiees) {
+            if (proprietes.contains(noms[position])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void signaler(EventSource session, boolean categories, boolean comptes) {
+        Modifications modifications = enCours.pour(session);
+        modifications.categories |= categories;
+        modifications.comptes |= comptes;
+    }
+
+    /**
+     * Parties de l'arbre touchées par une transaction, transmises si elle est validée
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        boolean categories;
+        boolean comptes;
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                arbre.signaler(categories, comptes);
+            }
+        }
+    }
+}
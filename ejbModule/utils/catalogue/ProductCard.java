@@ -0,0 +1,65 @@
+package utils.catalogue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Carte produit projetée depuis cartes_produits (select new) : hors contexte de persistance,
+ * ni snapshot ni dirty checking, sérialisable pour le client EJB distant
+ */
+public class ProductCard implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public final int produitId;
+    public final UUID uuid;
+    public final int boutiqueId;
+    public final String nom;
+    public final String descriptionCourte;
+    public final BigDecimal prixVente;
+    public final BigDecimal prixPromo;
+    public final boolean enStock;
+    public final boolean enPromotion;
+    public final String imagePrincipaleUrl;
+    public final BigDecimal noteMoyenne;
+    public final int nombreEvaluations;
+    public final String boutiqueNom;
+    public final String boutiqueVille;
+    public final String categorieNom;
+    public final String marqueNom;
+
+    public ProductCard(int produitId, UUID uuid, int boutiqueId, String nom, String descriptionCourte,
+            BigDecimal prixVente, BigDecimal prixPromo, Boolean enStock, Boolean enPromotion,
+            String imagePrincipaleUrl, BigDecimal noteMoyenne, Integer nombreEvaluations,
+            String boutiqueNom, String boutiqueVille, String categorieNom, String marqueNom) {
+        this.produitId = produitId;
+        this.uuid = uuid;
+        this.boutiqueId = boutiqueId;
+        this.nom = nom;
+        this.descriptionCourte = descriptionCourte;
+        this.prixVente = prixVente;
+        this.prixPromo = prixPromo;
+        this.enStock = enStock == null || enStock;
+        this.enPromotion = enPromotion != null && enPromotion;
+        this.imagePrincipaleUrl = imagePrincipaleUrl;
+        this.noteMoyenne = noteMoyenne;
+        this.nombreEvaluations = nombreEvaluations == null ? 0 : nombreEvaluations;
+        this.boutiqueNom = boutiqueNom;
+        this.boutiqueVille = boutiqueVille;
+        this.categorieNom = categorieNom;
+        this.marqueNom = marqueNom;
+    }
+
+    /**
+     * Prix affiché : prix promotionnel quand la promotion est active
+     */
+    public BigDecimal getPrixAffiche() {
+        return enPromotion && prixPromo != null ? prixPromo : prixVente;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCard[" + produitId + " " + nom + " " + getPrixAffiche() + "]";
+    }
+}
@@ -0,0 +1,148 @@
+package utils.catalogue;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.entreprise.Boutiques;
+import model.produit.CategoriesProduits;
+import model.produit.Marques;
+import model.produit.Produits;
+import utils.catalogue.ProductCardRefresher.Source;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Maintenance incrémentale de cartes_produits : les identifiants touchés pendant la transaction
+ * (Produits, Boutiques, CategoriesProduits, Marques) sont regroupés puis les cartes recalculées
+ * juste avant le commit, dans la même transaction (une requête par source, pas une par entité)
+ * Hors périmètre : StatelessSession, HQL update/delete en masse et SQL natif → ProductCardRefresher.reconstruire
+ */
+public class ProductCardListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = Logger.getLogger(ProductCardListener.class.getName());
+
+    // Propriétés recopiées dans la carte : une mise à jour qui n'en touche aucune est ignorée
+    private static final Set<String> PROPRIETES_PRODUIT = new HashSet<>(Arrays.asList(
+            "uuid", "marques", "boutiques", "categoriesProduits", "nom", "descriptionCourte", "prixVente",
+            "prixPromo", "stockActuel", "estEnStock", "estEnPromotion", "imagePrincipaleUrl", "noteMoyenne",
+            "nombreEvaluations", "estActif", "estPublie"));
+    private static final Set<String> PROPRIETES_BOUTIQUE = new HashSet<>(Arrays.asList("nom", "ville", "estActif"));
+    private static final Set<String> PROPRIETES_NOM = new HashSet<>(Arrays.asList("nom"));
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Rafraichissement> enCours = new TransactionCollector<>(Rafraichissement::new);
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // Seul un nouveau produit crée une carte ; une nouvelle boutique, marque ou catégorie n'a pas encore de produit
+        if (event.getEntity() instanceof Produits) {
+            enCours.pour(event.getSession()).ajouter(Source.PRODUIT, event.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Source source = source(event.getEntity());
+        if (source != null && concerne(source, event.getPersister(), event.getDirtyProperties())) {
+            enCours.pour(event.getSession()).ajouter(source, event.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Source source = source(event.getEntity());
+        if (source != null) {
+            enCours.pour(event.getSession()).supprimer(source, event.getId());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private static Source source(Object entite) {
+        if (entite instanceof Produits) {
+            return Source.PRODUIT;
+        }
+        if (entite instanceof Boutiques) {
+            return Source.BOUTIQUE;
+        }
+        if (entite instanceof CategoriesProduits) {
+            return Source.CATEGORIE;
+        }
+        if (entite instanceof Marques) {
+            return Source.MARQUE;
+        }
+        return null;
+    }
+
+    /**
+     * La mise à jour touche-t-elle une propriété recopiée dans la carte ?
+     * Propriétés modifiées inconnues (update d'une entité détachée) : on recalcule par prudence
+     */
+    private static boolean concerne(Source source, EntityPersister persister, int[] modifiees) {
+        if (modifiees == null) {
+            return true;
+        }
+        Set<String> proprietes = source == Source.PRODUIT ? PROPRIETES_PRODUIT
+                : source == Source.BOUTIQUE ? PROPRIETES_BOUTIQUE : PROPRIETES_NOM;
+        String[] noms = persister.getPropertyNames();
+        for (int index : modifiees) {
+            if (proprietes.contains(noms[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Identifiants touchés par une transaction, recalculés avant le commit
+     * Enregistré après le flush de fin de transaction : les modifications de ce flush sont prises en compte
+     */
+    private class Rafraichissement implements BeforeTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        private final Map<Source, Set<Integer>> modifies = new EnumMap<>(Source.class);
+        private final Map<Source, Set<Integer>> supprimes = new EnumMap<>(Source.class);
+
+        void ajouter(Source source, Object id) {
+            modifies.computeIfAbsent(source, s -> new HashSet<>()).add((Integer) id);
+        }
+
+        void supprimer(Source source, Object id) {
+            supprimes.computeIfAbsent(source, s -> new HashSet<>()).add((Integer) id);
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor sessionImpl) {
+            sessionImpl.doWork(connection -> {
+                int cartes = 0;
+                for (Map.Entry<Source, Set<Integer>> entree : modifies.entrySet()) {
+                    cartes += ProductCardRefresher.rafraichir(connection, entree.getKey(), entree.getValue());
+                }
+                for (Map.Entry<Source, Set<Integer>> entree : supprimes.entrySet()) {
+                    cartes += entree.getKey() == Source.PRODUIT
+                            ? ProductCardRefresher.supprimer(connection, entree.getValue())
+                            : ProductCardRefresher.rafraichirApresSuppression(connection, entree.getKey(), entree.getValue());
+                }
+                logger.fine("🗂️ Cartes produits recalculées : " + cartes);
+            });
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package utils.catalogue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+/**
+ * Lecture du catalogue depuis cartes_produits (remplace la vue v_produits_complets)
+ * Projections select new : aucune entité gérée, pas de jointure à l'exécution
+ * Pagination par clé (produit_id &gt; curseur) : coût constant quelle que soit la profondeur, contrairement à OFFSET
+ */
+public final class ProductCardQueries {
+
+    private static final String PROJECTION =
+            "select new utils.catalogue.ProductCard(c.produitId, c.uuid, c.boutiqueId, c.nom, c.descriptionCourte, "
+            + "c.prixVente, c.prixPromo, c.estEnStock, c.estEnPromotion, c.imagePrincipaleUrl, c.noteMoyenne, "
+            + "c.nombreEvaluations, c.boutiqueNom, c.boutiqueVille, c.categorieNom, c.marqueNom) "
+            + "from CartesProduits c ";
+
+    // Borne la taille des clauses IN (nombre de paramètres JDBC), comme UuidLookup
+    static final int TAILLE_LOT = 500;
+    static final int TAILLE_PAGE_MAX = 200;
+
+    private ProductCardQueries() {
+    }
+
+    /**
+     * Page de cartes visibles après le curseur (null : première page), filtrée si besoin
+     */
+    public static Page page(EntityManager em, Filtre filtre, Integer apres, int taille) {
+        int limite = Math.max(1, Math.min(taille, TAILLE_PAGE_MAX));
+        StringBuilder hql = new StringBuilder(PROJECTION).append("where c.estVisible = true");
+        Map<String, Object> parametres = new HashMap<>();
+        if (filtre != null) {
+            filtre.appliquer(hql, parametres);
+        }
+        if (apres != null) {
+            hql.append(" and c.produitId > :apres");
+            parametres.put("apres", apres);
+        }
+        hql.append(" order by c.produitId");
+
+        TypedQuery<ProductCard> requete = em.createQuery(hql.toString(), ProductCard.class);
+        parametres.forEach(requete::setParameter);
+        // Une ligne de plus que demandé : indique s'il existe une page suivante sans count
+        List<ProductCard> cartes = requete.setMaxResults(limite + 1).getResultList();
+
+        Page page = new Page();
+        if (cartes.size() > limite) {
+            cartes = new ArrayList<>(cartes.subList(0, limite));
+            page.suivant = cartes.get(limite - 1).produitId;
+        }
+        page.cartes = cartes;
+        return page;
+    }
+
+    /**
+     * Cartes par identifiants de produit, dans l'ordre demandé (résultats de recherche, recommandations)
+     * Les produits sans carte visible sont ignorés
+     */
+    public static List<ProductCard> parIds(EntityManager em, Collection<Integer> produitIds) {
+        if (produitIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> ids = new ArrayList<>(produitIds);
+        Map<Integer, ProductCard> parId = new HashMap<>(ids.size() * 2);
+        for (int debut = 0; debut < ids.size(); debut += TAILLE_LOT) {
+            List<Integer> lot = ids.subList(debut, Math.min(debut + TAILLE_LOT, ids.size()));
+            for (ProductCard carte : em.createQuery(
+                    PROJECTION + "where c.estVisible = true and c.produitId in (:ids)", ProductCard.class)
+                    .setParameter("ids", lot)
+                    .getResultList()) {
+                parId.put(carte.produitId, carte);
+            }
+        }
+        List<ProductCard> cartes = new ArrayList<>(parId.size());
+        for (Integer id : ids) {
+            ProductCard carte = parId.get(id);
+            if (carte != null) {
+                cartes.add(carte);
+            }
+        }
+        return cartes;
+    }
+
+    /**
+     * Critères de filtrage d'une page (null : pas de filtre sur le critère)
+     * Chaque filtre simple dispose d'un index (critère, produit_id) sur les cartes visibles
+     */
+    public static class Filtre {
+        public Integer boutiqueId;
+        public Integer categorieId;
+        // Plusieurs catégories (sous-arbre, cf. CategoryTree.filtre) ; cumulable avec categorieId
+        public Collection<Integer> categorieIds;
+        public Integer marqueId;
+        public boolean enStockSeulement;
+        public boolean enPromotionSeulement;
+
+        public static Filtre boutique(int boutiqueId) {
+            Filtre filtre = new Filtre();
+            filtre.boutiqueId = boutiqueId;
+            return filtre;
+        }
+
+        public static Filtre categorie(int categorieId) {
+            Filtre filtre = new Filtre();
+            filtre.categorieId = categorieId;
+            return filtre;
+        }
+
+        public static Filtre categories(Collection<Integer> categorieIds) {
+            Filtre filtre = new Filtre();
+            filtre.categorieIds = categorieIds;
+            return filtre;
+        }
+
+        public static Filtre marque(int marqueId) {
+            Filtre filtre = new Filtre();
+            filtre.marqueId = marqueId;
+            return filtre;
+        }
+
+        void appliquer(StringBuilder hql, Map<String, Object> parametres) {
+            if (boutiqueId != null) {
+                hql.append(" and c.boutiqueId = :boutique");
+                parametres.put("boutique", boutiqueId);
+            }
+            if (categorieId != null) {
+                hql.append(" and c.categorieId = :categorie");
+                parametres.put("categorie", categorieId);
+            }
+            if (categorieIds != null && categorieIds.isEmpty()) {
+                // Liste vide : aucune carte (et non « pas de filtre »)
+                hql.append(" and 1 = 0");
+            } else if (categorieIds != null) {
+                hql.append(" and c.categorieId in (:categories)");
+                parametres.put("categories", categorieIds);
+            }
+            if (marqueId != null) {
+                hql.append(" and c.marqueId = :marque");
+                parametres.put("marque", marqueId);
+            }
+            if (enStockSeulement) {
+                hql.append(" and c.estEnStock = true");
+            }
+            if (enPromotionSeulement) {
+                hql.append(" and c.estEnPromotion = true");
+            }
+        }
+    }
+
+    /**
+     * Page de cartes et curseur de la page suivante (null : dernière page)
+     */
+    public static class Page implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public List<ProductCard> cartes;
+        public Integer suivant;
+
+        public boolean hasSuivant() {
+            return suivant != null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package utils.catalogue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+
+/**
+ * Écriture des cartes produits (table cartes_produits) en SQL ensembliste
+ * Une carte est recalculée depuis produits, boutiques, categories_produits et marques
+ * par un INSERT ... SELECT ... ON CONFLICT : aucune entité chargée, une requête par lot
+ */
+public final class ProductCardRefresher {
+
+    private static final String COLONNES =
+            "produit_id, uuid, boutique_id, categorie_id, marque_id, nom, description_courte, prix_vente, "
+            + "prix_promo, stock_actuel, est_en_stock, est_en_promotion, image_principale_url, note_moyenne, "
+            + "nombre_evaluations, boutique_nom, boutique_ville, categorie_nom, marque_nom, est_visible, modifie_le";
+
+    // Visible : produit actif et publié dans une boutique active (null = valeur par défaut du schéma, vrai)
+    private static final String SELECTION =
+            "SELECT p.id, p.uuid, p.boutique_id, p.categorie_id, p.marque_id, p.nom, p.description_courte, "
+            + "p.prix_vente, p.prix_promo, p.stock_actuel, p.est_en_stock, p.est_en_promotion, "
+            + "p.image_principale_url, p.note_moyenne, p.nombre_evaluations, b.nom, b.ville, c.nom, m.nom, "
+            + "coalesce(p.est_actif, true) AND coalesce(p.est_publie, true) AND coalesce(b.est_actif, true), "
+            + "now() "
+            + "FROM public.produits p "
+            + "JOIN public.boutiques b ON b.id = p.boutique_id "
+            + "JOIN public.categories_produits c ON c.id = p.categorie_id "
+            + "LEFT JOIN public.marques m ON m.id = p.marque_id ";
+
+    private static final String UPSERT =
+            "INSERT INTO public.cartes_produits (" + COLONNES + ") " + SELECTION + "%s "
+            + "ON CONFLICT (produit_id) DO UPDATE SET uuid = EXCLUDED.uuid, boutique_id = EXCLUDED.boutique_id, "
+            + "categorie_id = EXCLUDED.categorie_id, marque_id = EXCLUDED.marque_id, nom = EXCLUDED.nom, "
+            + "description_courte = EXCLUDED.description_courte, prix_vente = EXCLUDED.prix_vente, "
+            + "prix_promo = EXCLUDED.prix_promo, stock_actuel = EXCLUDED.stock_actuel, "
+            + "est_en_stock = EXCLUDED.est_en_stock, est_en_promotion = EXCLUDED.est_en_promotion, "
+            + "image_principale_url = EXCLUDED.image_principale_url, note_moyenne = EXCLUDED.note_moyenne, "
+            + "nombre_evaluations = EXCLUDED.nombre_evaluations, boutique_nom = EXCLUDED.boutique_nom, "
+            + "boutique_ville = EXCLUDED.boutique_ville, categorie_nom = EXCLUDED.categorie_nom, "
+            + "marque_nom = EXCLUDED.marque_nom, est_visible = EXCLUDED.est_visible, modifie_le = EXCLUDED.modifie_le";
+
+    private static final String SUPPRESSION = "DELETE FROM public.cartes_produits WHERE produit_id = ANY(?)";
+    // Après suppression d'une boutique, catégorie ou marque : les produits ne la référencent plus (cascade ou
+    // SET NULL), les cartes concernées se retrouvent par leur propre colonne
+    private static final String CARTES_RATTACHEES = "WHERE p.id IN (SELECT produit_id FROM public.cartes_produits WHERE %s = ANY(?))";
+    private static final String CARTES_ORPHELINES =
+            "DELETE FROM public.cartes_produits c WHERE c.%s = ANY(?) "
+            + "AND NOT EXISTS (SELECT 1 FROM public.produits p WHERE p.id = c.produit_id)";
+    private static final String ORPHELINES =
+            "DELETE FROM public.cartes_produits c WHERE NOT EXISTS (SELECT 1 FROM public.produits p WHERE p.id = c.produit_id)";
+
+    /**
+     * Source d'une modification : colonne de produits qui sélectionne les cartes à recalculer
+     */
+    public enum Source {
+        PRODUIT("p.id", "produit_id"),
+        BOUTIQUE("p.boutique_id", "boutique_id"),
+        CATEGORIE("p.categorie_id", "categorie_id"),
+        MARQUE("p.marque_id", "marque_id");
+
+        private final String colonne;
+        private final String colonneCarte;
+
+        Source(String colonne, String colonneCarte) {
+            this.colonne = colonne;
+            this.colonneCarte = colonneCarte;
+        }
+    }
+
+    private ProductCardRefresher() {
+    }
+
+    /**
+     * Recalcule les cartes des produits rattachés aux identifiants donnés
+     * @return nombre de cartes écrites
+     */
+    public static int rafraichir(Connection connection, Source source, Collection<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                String.format(UPSERT, "WHERE " + source.colonne + " = ANY(?)"))) {
+            ps.setArray(1, connection.createArrayOf("integer", ids.toArray()));
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Retire les cartes de produits supprimés
+     */
+    public static int supprimer(Connection connection, Collection<Integer> produitIds) throws SQLException {
+        if (produitIds.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(SUPPRESSION)) {
+            ps.setArray(1, connection.createArrayOf("integer", produitIds.toArray()));
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Recalcule les cartes qui référençaient une boutique, catégorie ou marque supprimée
+     * (retire celles dont le produit a disparu avec elle)
+     */
+    public static int rafraichirApresSuppression(Connection connection, Source source, Collection<Integer> ids)
+            throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Object[] tableau = ids.toArray();
+        int cartes;
+        try (PreparedStatement ps = connection.prepareStatement(
+                String.format(UPSERT, String.format(CARTES_RATTACHEES, source.colonneCarte)))) {
+            ps.setArray(1, connection.createArrayOf("integer", tableau));
+            cartes = ps.executeUpdate();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(String.format(CARTES_ORPHELINES, source.colonneCarte))) {
+            ps.setArray(1, connection.createArrayOf("integer", tableau));
+            return cartes + ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Reconstruction complète : après un chargement hors Hibernate (COPY, SQL) qui ne passe pas par les listeners
+     * @return nombre de cartes écrites
+     */
+    public static int reconstruire(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.executeUpdate(ORPHELINES);
+            return st.executeUpdate(String.format(UPSERT, ""));
+        }
+    }
+}
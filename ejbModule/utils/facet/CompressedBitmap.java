@@ -0,0 +1,580 @@
+package utils.facet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Ensemble compressé d'entiers positifs (organisation « roaring ») : les valeurs sont réparties en blocs de 65 536
+ * selon leurs 16 bits de poids fort ; un bloc peu rempli est un tableau trié de char (au plus 4 096 valeurs,
+ * 2 octets par valeur), un bloc dense une table de 1 024 mots (8 Ko, 1 bit par valeur possible)
+ *
+ * Immuable : partagé sans verrou entre les requêtes ; {@link #modifier} renvoie un nouvel ensemble qui
+ * réutilise les blocs non touchés
+ */
+public final class CompressedBitmap {
+
+    static final int MAX_TABLEAU = 4_096;
+    private static final int MOTS = 1_024;
+
+    public static final CompressedBitmap VIDE = new CompressedBitmap(new char[0], new Object[0], new int[0], 0);
+
+    // Clés (16 bits de poids fort) croissantes ; bloc char[] (tableau trié) ou long[] (table de bits)
+    private final char[] cles;
+    private final Object[] blocs;
+    private final int[] tailles;
+    private final int cardinalite;
+
+    private CompressedBitmap(char[] cles, Object[] blocs, int[] tailles, int cardinalite) {
+        this.cles = cles;
+        this.blocs = blocs;
+        this.tailles = tailles;
+        this.cardinalite = cardinalite;
+    }
+
+    /**
+     * Ensemble des valeurs données (dans un ordre quelconque, doublons ignorés)
+     */
+    public static CompressedBitmap de(int... valeurs) {
+        int[] triees = valeurs.clone();
+        Arrays.sort(triees);
+        Constructeur constructeur = new Constructeur();
+        for (int valeur : triees) {
+            constructeur.ajouter(valeur);
+        }
+        return constructeur.construire();
+    }
+
+    public int cardinalite() {
+        return cardinalite;
+    }
+
+    public boolean isVide() {
+        return cardinalite == 0;
+    }
+
+    public boolean contient(int valeur) {
+        if (valeur < 0) {
+            return false;
+        }
+        int position = Arrays.binarySearch(cles, (char) (valeur >>> 16));
+        if (position < 0) {
+            return false;
+        }
+        Object bloc = blocs[position];
+        char bas = (char) valeur;
+        return bloc instanceof long[] ? (((long[]) bloc)[bas >>> 6] & (1L << bas)) != 0
+                : Arrays.binarySearch((char[]) bloc, bas) >= 0;
+    }
+
+    // ------------------------------------------------------------------ intersection et union
+
+    /**
+     * Nombre de valeurs communes, sans construire l'intersection (comptage des facettes)
+     */
+    public int cardinaliteEt(CompressedBitmap autre) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cles.length && j < autre.cles.length) {
+            if (cles[i] < autre.cles[j]) {
+                i++;
+            } else if (cles[i] > autre.cles[j]) {
+                j++;
+            } else {
+                total += cardinaliteEt(blocs[i], tailles[i], autre.blocs[j], autre.tailles[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    public CompressedBitmap et(CompressedBitmap autre) {
+        if (isVide() || autre.isVide()) {
+            return VIDE;
+        }
+        Sortie sortie = new Sortie(Math.min(cles.length, autre.cles.length));
+        int i = 0;
+        int j = 0;
+        while (i < cles.length && j < autre.cles.length) {
+            if (cles[i] < autre.cles[j]) {
+                i++;
+            } else if (cles[i] > autre.cles[j]) {
+                j++;
+            } else {
+                sortie.ajouter(cles[i], et(blocs[i], tailles[i], autre.blocs[j], autre.tailles[j]));
+                i++;
+                j++;
+            }
+        }
+        return sortie.construire();
+    }
+
+    public CompressedBitmap ou(CompressedBitmap autre) {
+        if (autre.isVide()) {
+            return this;
+        }
+        if (isVide()) {
+            return autre;
+        }
+        Sortie sortie = new Sortie(cles.length + autre.cles.length);
+        int i = 0;
+        int j = 0;
+        while (i < cles.length || j < autre.cles.length) {
+            if (j == autre.cles.length || (i < cles.length && cles[i] < autre.cles[j])) {
+                sortie.ajouter(cles[i], blocs[i], tailles[i]);
+                i++;
+            } else if (i == cles.length || cles[i] > autre.cles[j]) {
+                sortie.ajouter(autre.cles[j], autre.blocs[j], autre.tailles[j]);
+                j++;
+            } else {
+                sortie.ajouter(cles[i], ou(blocs[i], tailles[i], autre.blocs[j], autre.tailles[j]));
+                i++;
+                j++;
+            }
+        }
+        return sortie.construire();
+    }
+
+    /**
+     * Union de plusieurs ensembles (valeurs sélectionnées d'une même facette)
+     */
+    public static CompressedBitmap ou(Collection<CompressedBitmap> ensembles) {
+        CompressedBitmap union = VIDE;
+        for (CompressedBitmap ensemble : ensembles) {
+            union = union.ou(ensemble);
+        }
+        return union;
+    }
+
+    private static int cardinaliteEt(Object a, int ta, Object b, int tb) {
+        if (a instanceof long[] && b instanceof long[]) {
+            long[] x = (long[]) a;
+            long[] y = (long[]) b;
+            int total = 0;
+            for (int k = 0; k < MOTS; k++) {
+                total += Long.bitCount(x[k] & y[k]);
+            }
+            return total;
+        }
+        if (a instanceof long[] || b instanceof long[]) {
+            long[] mots = (long[]) (a instanceof long[] ? a : b);
+            char[] tableau = (char[]) (a instanceof long[] ? b : a);
+            int total = 0;
+            for (char valeur : tableau) {
+                if ((mots[valeur >>> 6] & (1L << valeur)) != 0) {
+                    total++;
+                }
+            }
+            return total;
+        }
+        char[] x = (char[]) a;
+        char[] y = (char[]) b;
+        // Tailles très différentes : recherche dichotomique des petites valeurs dans le grand tableau
+        if (ta * 32 < tb || tb * 32 < ta) {
+            char[] petit = ta < tb ? x : y;
+            char[] grand = ta < tb ? y : x;
+            int total = 0;
+            int depuis = 0;
+            for (char valeur : petit) {
+                int position = Arrays.binarySearch(grand, depuis, grand.length, valeur);
+                if (position >= 0) {
+                    total++;
+                    depuis = position + 1;
+                } else {
+                    depuis = -position - 1;
+                }
+            }
+            return total;
+        }
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ta && j < tb) {
+            if (x[i] < y[j]) {
+                i++;
+            } else if (x[i] > y[j]) {
+                j++;
+            } else {
+                total++;
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    private static Object et(Object a, int ta, Object b, int tb) {
+        if (a instanceof long[] && b instanceof long[]) {
+            long[] x = (long[]) a;
+            long[] y = (long[]) b;
+            long[] mots = new long[MOTS];
+            for (int k = 0; k < MOTS; k++) {
+                mots[k] = x[k] & y[k];
+            }
+            return compacter(mots);
+        }
+        if (a instanceof long[] || b instanceof long[]) {
+            long[] mots = (long[]) (a instanceof long[] ? a : b);
+            char[] tableau = (char[]) (a instanceof long[] ? b : a);
+            char[] resultat = new char[tableau.length];
+            int n = 0;
+            for (char valeur : tableau) {
+                if ((mots[valeur >>> 6] & (1L << valeur)) != 0) {
+                    resultat[n++] = valeur;
+                }
+            }
+            return n == 0 ? null : Arrays.copyOf(resultat, n);
+        }
+        char[] x = (char[]) a;
+        char[] y = (char[]) b;
+        char[] resultat = new char[Math.min(ta, tb)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ta && j < tb) {
+            if (x[i] < y[j]) {
+                i++;
+            } else if (x[i] > y[j]) {
+                j++;
+            } else {
+                resultat[n++] = x[i];
+                i++;
+                j++;
+            }
+        }
+        return n == 0 ? null : Arrays.copyOf(resultat, n);
+    }
+
+    private static Object ou(Object a, int ta, Object b, int tb) {
+        if (a instanceof char[] && b instanceof char[] && ta + tb <= MAX_TABLEAU) {
+            char[] x = (char[]) a;
+            char[] y = (char[]) b;
+            char[] resultat = new char[ta + tb];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < ta || j < tb) {
+                if (j == tb || (i < ta && x[i] < y[j])) {
+                    resultat[n++] = x[i++];
+                } else if (i == ta || x[i] > y[j]) {
+                    resultat[n++] = y[j++];
+                } else {
+                    resultat[n++] = x[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(resultat, n);
+        }
+        long[] mots = enMots(a);
+        if (b instanceof long[]) {
+            long[] y = (long[]) b;
+            for (int k = 0; k < MOTS; k++) {
+                mots[k] |= y[k];
+            }
+        } else {
+            for (char valeur : (char[]) b) {
+                mots[valeur >>> 6] |= 1L << valeur;
+            }
+        }
+        return compacter(mots);
+    }
+
+    /**
+     * Copie modifiable d'un bloc sous forme de table de bits
+     */
+    private static long[] enMots(Object bloc) {
+        if (bloc instanceof long[]) {
+            return ((long[]) bloc).clone();
+        }
+        long[] mots = new long[MOTS];
+        if (bloc != null) {
+            for (char valeur : (char[]) bloc) {
+                mots[valeur >>> 6] |= 1L << valeur;
+            }
+        }
+        return mots;
+    }
+
+    /**
+     * Table de bits → bloc le plus compact (null si vide, tableau si au plus MAX_TABLEAU valeurs)
+     */
+    private static Object compacter(long[] mots) {
+        int taille = 0;
+        for (long mot : mots) {
+            taille += Long.bitCount(mot);
+        }
+        if (taille == 0) {
+            return null;
+        }
+        if (taille > MAX_TABLEAU) {
+            return mots;
+        }
+        char[] tableau = new char[taille];
+        int n = 0;
+        for (int k = 0; k < MOTS; k++) {
+            for (long mot = mots[k]; mot != 0; mot &= mot - 1) {
+                tableau[n++] = (char) ((k << 6) + Long.numberOfTrailingZeros(mot));
+            }
+        }
+        return tableau;
+    }
+
+    private static int taille(Object bloc) {
+        if (bloc instanceof char[]) {
+            return ((char[]) bloc).length;
+        }
+        int taille = 0;
+        for (long mot : (long[]) bloc) {
+            taille += Long.bitCount(mot);
+        }
+        return taille;
+    }
+
+    // ------------------------------------------------------------------ modification
+
+    /**
+     * Nouvel ensemble avec les ajouts et sans les retraits (une valeur présente dans les deux est retirée) ;
+     * seuls les blocs touchés sont recopiés
+     */
+    public CompressedBitmap modifier(int[] ajouts, int[] retraits) {
+        if (ajouts.length == 0 && retraits.length == 0) {
+            return this;
+        }
+        TreeMap<Character, long[]> touches = new TreeMap<>();
+        for (int valeur : ajouts) {
+            char bas = (char) valeur;
+            bloc(touches, valeur)[bas >>> 6] |= 1L << bas;
+        }
+        for (int valeur : retraits) {
+            char bas = (char) valeur;
+            bloc(touches, valeur)[bas >>> 6] &= ~(1L << bas);
+        }
+        Sortie sortie = new Sortie(cles.length + touches.size());
+        int i = 0;
+        for (Map.Entry<Character, long[]> touche : touches.entrySet()) {
+            char cle = touche.getKey();
+            while (i < cles.length && cles[i] < cle) {
+                sortie.ajouter(cles[i], blocs[i], tailles[i]);
+                i++;
+            }
+            if (i < cles.length && cles[i] == cle) {
+                i++;
+            }
+            sortie.ajouter(cle, compacter(touche.getValue()));
+        }
+        while (i < cles.length) {
+            sortie.ajouter(cles[i], blocs[i], tailles[i]);
+            i++;
+        }
+        return sortie.construire();
+    }
+
+    private long[] bloc(TreeMap<Character, long[]> touches, int valeur) {
+        if (valeur < 0) {
+            throw new IllegalArgumentException("Valeur négative : " + valeur);
+        }
+        char cle = (char) (valeur >>> 16);
+        long[] mots = touches.get(cle);
+        if (mots == null) {
+            int position = Arrays.binarySearch(cles, cle);
+            mots = enMots(position >= 0 ? blocs[position] : null);
+            touches.put(cle, mots);
+        }
+        return mots;
+    }
+
+    // ------------------------------------------------------------------ parcours
+
+    public void forEach(IntConsumer action) {
+        for (int b = 0; b < cles.length; b++) {
+            int haut = cles[b] << 16;
+            if (blocs[b] instanceof char[]) {
+                for (char valeur : (char[]) blocs[b]) {
+                    action.accept(haut | valeur);
+                }
+            } else {
+                long[] mots = (long[]) blocs[b];
+                for (int k = 0; k < MOTS; k++) {
+                    for (long mot = mots[k]; mot != 0; mot &= mot - 1) {
+                        action.accept(haut | (k << 6) + Long.numberOfTrailingZeros(mot));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Au plus {@code limite} valeurs strictement supérieures à {@code apres}, croissantes (pagination par clé)
+     */
+    public int[] page(int apres, int limite) {
+        if (apres == Integer.MAX_VALUE) {
+            return new int[0];
+        }
+        int[] page = new int[Math.max(0, Math.min(limite, cardinalite))];
+        int n = 0;
+        int depart = apres < 0 ? 0 : apres + 1;
+        int b = Arrays.binarySearch(cles, (char) (depart >>> 16));
+        b = b < 0 ? -b - 1 : b;
+        for (; b < cles.length && n < page.length; b++) {
+            int haut = cles[b] << 16;
+            // Premier bloc : on repart de la partie basse du curseur
+            int bas = (cles[b] == depart >>> 16) ? depart & 0xFFFF : 0;
+            if (blocs[b] instanceof char[]) {
+                char[] tableau = (char[]) blocs[b];
+                int position = Arrays.binarySearch(tableau, (char) bas);
+                for (int k = position < 0 ? -position - 1 : position; k < tableau.length && n < page.length; k++) {
+                    page[n++] = haut | tableau[k];
+                }
+            } else {
+                long[] mots = (long[]) blocs[b];
+                for (int k = bas >>> 6; k < MOTS && n < page.length; k++) {
+                    long mot = k == bas >>> 6 ? mots[k] & (-1L << bas) : mots[k];
+                    for (; mot != 0 && n < page.length; mot &= mot - 1) {
+                        page[n++] = haut | (k << 6) + Long.numberOfTrailingZeros(mot);
+                    }
+                }
+            }
+        }
+        return n == page.length ? page : Arrays.copyOf(page, n);
+    }
+
+    public int[] toArray() {
+        int[] valeurs = new int[cardinalite];
+        int[] n = { 0 };
+        forEach(valeur -> valeurs[n[0]++] = valeur);
+        return valeurs;
+    }
+
+    /**
+     * Mémoire occupée par les blocs (estimation, en-têtes de tableaux compris)
+     */
+    public long octets() {
+        long octets = 16 + cles.length * 2L + blocs.length * 8L + tailles.length * 4L;
+        for (Object bloc : blocs) {
+            octets += 16 + (bloc instanceof char[] ? ((char[]) bloc).length * 2L : MOTS * 8L);
+        }
+        return octets;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedBitmap[" + cardinalite + " valeurs, " + cles.length + " blocs]";
+    }
+
+    /**
+     * Blocs produits par une opération, dans l'ordre des clés
+     */
+    private static final class Sortie {
+        private final char[] cles;
+        private final Object[] blocs;
+        private final int[] tailles;
+        private int nombre;
+        private int cardinalite;
+
+        Sortie(int capacite) {
+            cles = new char[capacite];
+            blocs = new Object[capacite];
+            tailles = new int[capacite];
+        }
+
+        void ajouter(char cle, Object bloc) {
+            if (bloc != null) {
+                ajouter(cle, bloc, taille(bloc));
+            }
+        }
+
+        void ajouter(char cle, Object bloc, int taille) {
+            cles[nombre] = cle;
+            blocs[nombre] = bloc;
+            tailles[nombre] = taille;
+            cardinalite += taille;
+            nombre++;
+        }
+
+        CompressedBitmap construire() {
+            if (nombre == 0) {
+                return VIDE;
+            }
+            return new CompressedBitmap(Arrays.copyOf(cles, nombre), Arrays.copyOf(blocs, nombre),
+                    Arrays.copyOf(tailles, nombre), cardinalite);
+        }
+    }
+
+    /**
+     * Construction à partir de valeurs croissantes (chargement complet) ; les doublons consécutifs sont ignorés
+     */
+    public static final class Constructeur {
+        private char[] cles = new char[4];
+        private Object[] blocs = new Object[4];
+        private int[] tailles = new int[4];
+        private int nombre;
+        private int cardinalite;
+
+        private int cleCourante = -1;
+        private char[] tampon = new char[16];
+        private long[] mots;
+        private int taille;
+        private int derniere = -1;
+
+        public Constructeur ajouter(int valeur) {
+            if (valeur <= derniere || valeur < 0) {
+                if (valeur == derniere && valeur >= 0) {
+                    return this;
+                }
+                throw new IllegalArgumentException("Valeurs non croissantes ou négatives : " + valeur);
+            }
+            derniere = valeur;
+            int cle = valeur >>> 16;
+            char bas = (char) valeur;
+            if (cle != cleCourante) {
+                fermer();
+                cleCourante = cle;
+            }
+            if (mots != null) {
+                mots[bas >>> 6] |= 1L << bas;
+            } else if (taille == MAX_TABLEAU) {
+                mots = enMots(Arrays.copyOf(tampon, taille));
+                mots[bas >>> 6] |= 1L << bas;
+            } else {
+                if (taille == tampon.length) {
+                    tampon = Arrays.copyOf(tampon, taille * 2);
+                }
+                tampon[taille] = bas;
+            }
+            taille++;
+            return this;
+        }
+
+        private void fermer() {
+            if (taille == 0) {
+                return;
+            }
+            if (nombre == cles.length) {
+                cles = Arrays.copyOf(cles, nombre * 2);
+                blocs = Arrays.copyOf(blocs, nombre * 2);
+                tailles = Arrays.copyOf(tailles, nombre * 2);
+            }
+            cles[nombre] = (char) cleCourante;
+            blocs[nombre] = mots != null ? mots : Arrays.copyOf(tampon, taille);
+            tailles[nombre] = taille;
+            cardinalite += taille;
+            nombre++;
+            mots = null;
+            taille = 0;
+        }
+
+        public CompressedBitmap construire() {
+            fermer();
+            if (nombre == 0) {
+                return VIDE;
+            }
+            return new CompressedBitmap(Arrays.copyOf(cles, nombre), Arrays.copyOf(blocs, nombre),
+                    Arrays.copyOf(tailles, nombre), cardinalite);
+        }
+    }
+}
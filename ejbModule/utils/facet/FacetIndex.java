@@ -0,0 +1,764 @@
+package utils.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import utils.catalogue.ProductCard;
+import utils.catalogue.ProductCardQueries;
+import utils.metrics.LatencyHistogram;
+import utils.search.TextAnalyzer;
+
+/**
+ * Navigation à facettes du catalogue en mémoire : un {@link CompressedBitmap} de produits par valeur de facette
+ * (catégorie, marque, boutique, tranche de prix, stock, promotion, couleur, taille, attributs filtrables)
+ * Une page filtrée et les comptes de toutes les facettes sont obtenus par intersections, sans requête SQL
+ *
+ * Comptes « disjonctifs » : valeurs d'une même facette combinées en OU, facettes entre elles en ET ; les comptes
+ * d'une facette sélectionnée ignorent sa propre sélection (les autres valeurs restent proposées)
+ * Petit contexte (page filtrée) : comptes obtenus en parcourant ses produits et leurs valeurs
+ *
+ * État immuable publié par un thread d'écriture ("senmarket-facettes") : chargement complet au démarrage, puis
+ * produits signalés après commit relus et leurs seules valeurs modifiées (blocs touchés recopiés)
+ */
+public class FacetIndex {
+
+    private static final Logger logger = Logger.getLogger(FacetIndex.class.getName());
+
+    public static final String ENABLED = "senmarket.facets.enabled";
+
+    public static final String CATEGORIE = "categorie";
+    public static final String MARQUE = "marque";
+    public static final String BOUTIQUE = "boutique";
+    public static final String PRIX = "prix";
+    public static final String STOCK = "stock";
+    public static final String PROMOTION = "promotion";
+    public static final String COULEUR = "couleur";
+    public static final String TAILLE = "taille";
+    public static final String OUI = "oui";
+
+    // Ordre d'affichage ; un attribut portant l'un de ces noms (hors couleur et taille) est préfixé
+    static final List<String> ORDRE = Arrays.asList(CATEGORIE, MARQUE, BOUTIQUE, PRIX, STOCK, PROMOTION, COULEUR, TAILLE);
+    static final Set<String> STRUCTURELLES = new HashSet<>(Arrays.asList(CATEGORIE, MARQUE, BOUTIQUE, PRIX, STOCK,
+            PROMOTION));
+    static final String PREFIXE_ATTRIBUT = "attribut ";
+
+    static final int LIMITE_MAX = 200;
+    static final int MAX_VALEURS = 50;
+    // Contexte de moins de N produits par valeur à compter : parcours des produits plutôt qu'intersections
+    static final int PARCOURS_PAR_VALEUR = 32;
+    private static final long DELAI_MS = 200;
+
+    private static final Map<SessionFactory, FacetIndex> INDEX = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ScheduledExecutorService ecrivain;
+    private final Set<Integer> produitsModifies = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> boutiquesModifiees = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> categoriesModifiees = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> marquesModifiees = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean planifie = new AtomicBoolean();
+    private final LatencyHistogram latences = new LatencyHistogram();
+    private volatile Etat etat;
+    private CompletableFuture<Void> chargement;
+
+    // Réservés au thread d'écriture : registre des valeurs (ordinaux stables)
+    private final Map<Cle, Integer> ordinaux = new HashMap<>();
+    private final List<Cle> registre = new ArrayList<>();
+    private long chargementMs;
+    private long miseAJourMs;
+    private int misesAJour;
+
+    FacetIndex(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-facettes");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, FacetIndex index) {
+        INDEX.put(sessionFactory, index);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        FacetIndex index = INDEX.remove(sessionFactory);
+        if (index != null) {
+            index.ecrivain.shutdownNow();
+        }
+    }
+
+    /**
+     * Index de l'unité de persistance, ou null si les facettes sont désactivées (senmarket.facets.enabled=false)
+     */
+    public static FacetIndex of(EntityManagerFactory emf) {
+        return INDEX.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Lance le chargement complet en arrière-plan (sans effet s'il est déjà lancé)
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            chargement = CompletableFuture.runAsync(this::chargerTout, ecrivain);
+        }
+        return chargement;
+    }
+
+    private Etat etat() {
+        Etat courant = etat;
+        if (courant == null) {
+            demarrer().join();
+            courant = etat;
+        }
+        return courant;
+    }
+
+    // ------------------------------------------------------------------ requête
+
+    /**
+     * Produits visibles correspondant à la sélection, par identifiant croissant après le curseur (null : début),
+     * et comptes de chaque facette. Le premier appel attend la fin du chargement complet
+     */
+    public Navigation naviguer(Selection selection, Integer apres, int limite) {
+        long debut = System.nanoTime();
+        Etat courant = etat();
+        CompressedBitmap base = courant.univers;
+        if (selection.produits != null) {
+            base = base.et(CompressedBitmap.de(selection.produits.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        // Clés choisies résolues ; facette ou valeur inconnue : aucun produit
+        Map<String, Set<String>> selectionnees = resoudre(courant, selection);
+        Map<String, CompressedBitmap> filtres = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> filtre : selectionnees.entrySet()) {
+            Facette facette = courant.facettes.get(filtre.getKey());
+            List<CompressedBitmap> choisies = new ArrayList<>(filtre.getValue().size());
+            for (String cle : filtre.getValue()) {
+                Valeur valeur = facette == null ? null : facette.valeurs.get(cle);
+                if (valeur != null) {
+                    choisies.add(valeur.produits);
+                }
+            }
+            filtres.put(filtre.getKey(), CompressedBitmap.ou(choisies));
+        }
+        CompressedBitmap resultat = intersection(base, filtres, null);
+
+        Navigation navigation = new Navigation();
+        navigation.total = resultat.cardinalite();
+        int taille = Math.max(1, Math.min(limite, LIMITE_MAX));
+        int[] page = resultat.page(apres == null ? -1 : apres, taille + 1);
+        int retenus = Math.min(page.length, taille);
+        for (int i = 0; i < retenus; i++) {
+            navigation.produitIds.add(page[i]);
+        }
+        if (page.length > taille) {
+            navigation.suivant = page[taille - 1];
+        }
+
+        int[] comptesResultat = null;
+        for (Facette facette : courant.facettes.values()) {
+            Set<String> choisies = selectionnees.get(facette.nom);
+            int[] nombres;
+            if (choisies == null) {
+                if (comptesResultat == null) {
+                    comptesResultat = compter(courant, resultat, null);
+                }
+                nombres = comptesResultat;
+            } else {
+                // Facette sélectionnée : comptée sur les autres filtres seulement
+                nombres = compter(courant, intersection(base, filtres, facette.nom), facette);
+            }
+            List<Compte> comptes = comptes(facette, nombres, choisies);
+            if (!comptes.isEmpty()) {
+                navigation.facettes.put(facette.nom, comptes);
+            }
+        }
+        long duree = System.nanoTime() - debut;
+        latences.record(duree);
+        navigation.dureeMs = duree / 1_000_000d;
+        return navigation;
+    }
+
+    /**
+     * Page de cartes produits (projection cartes_produits) et comptes des facettes
+     */
+    public Navigation naviguerCartes(EntityManager em, Selection selection, Integer apres, int limite) {
+        Navigation navigation = naviguer(selection, apres, limite);
+        navigation.cartes = ProductCardQueries.parIds(em, navigation.produitIds);
+        return navigation;
+    }
+
+    /**
+     * Noms de facettes et valeurs tels quels (clés rendues par les comptes), sinon repliés ou retrouvés par libellé
+     */
+    private static Map<String, Set<String>> resoudre(Etat courant, Selection selection) {
+        Map<String, Set<String>> resolues = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> filtre : selection.filtres.entrySet()) {
+            String nom = courant.facettes.containsKey(filtre.getKey()) ? filtre.getKey()
+                    : TextAnalyzer.replier(filtre.getKey());
+            Facette facette = courant.facettes.get(nom);
+            Set<String> cles = resolues.computeIfAbsent(nom, n -> new LinkedHashSet<>());
+            for (String valeur : filtre.getValue()) {
+                cles.add(facette == null || facette.valeurs.containsKey(valeur) ? valeur : cle(facette, valeur));
+            }
+        }
+        return resolues;
+    }
+
+    /**
+     * Clé d'une valeur saisie : valeur repliée, ou valeur dont le libellé replié correspond (nom de catégorie...)
+     */
+    private static String cle(Facette facette, String saisie) {
+        String repliee = TextAnalyzer.replier(saisie);
+        if (!facette.valeurs.containsKey(repliee)) {
+            for (Valeur valeur : facette.toutes) {
+                if (TextAnalyzer.replier(valeur.libelle).equals(repliee)) {
+                    return valeur.cle;
+                }
+            }
+        }
+        return repliee;
+    }
+
+    private static CompressedBitmap intersection(CompressedBitmap base, Map<String, CompressedBitmap> filtres,
+            String sauf) {
+        CompressedBitmap resultat = base;
+        for (Map.Entry<String, CompressedBitmap> filtre : filtres.entrySet()) {
+            if (!filtre.getKey().equals(sauf)) {
+                resultat = resultat.et(filtre.getValue());
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Nombre de produits du contexte par ordinal de valeur (toutes les facettes, ou la seule donnée)
+     */
+    private static int[] compter(Etat courant, CompressedBitmap contexte, Facette seule) {
+        int[] nombres = new int[courant.parOrdinal.length];
+        if (contexte.isVide()) {
+            return nombres;
+        }
+        Valeur[] valeurs = seule == null ? courant.parOrdinal : seule.toutes;
+        if (contexte == courant.univers) {
+            // Aucun filtre : chaque valeur est incluse dans l'univers
+            for (Valeur valeur : valeurs) {
+                if (valeur != null) {
+                    nombres[valeur.ordinal] = valeur.produits.cardinalite();
+                }
+            }
+        } else if (contexte.cardinalite() < (long) PARCOURS_PAR_VALEUR * valeurs.length) {
+            int[][] parProduit = courant.valeursParProduit;
+            contexte.forEach(produit -> {
+                for (int ordinal : parProduit[produit]) {
+                    nombres[ordinal]++;
+                }
+            });
+        } else {
+            for (Valeur valeur : valeurs) {
+                if (valeur != null) {
+                    nombres[valeur.ordinal] = contexte.cardinaliteEt(valeur.produits);
+                }
+            }
+        }
+        return nombres;
+    }
+
+    /**
+     * Valeurs présentes dans le contexte, les plus fréquentes d'abord (bornées à MAX_VALEURS) ; les valeurs
+     * choisies sont toujours rendues, même sans produit
+     */
+    private static List<Compte> comptes(Facette facette, int[] nombres, Set<String> choisies) {
+        List<Compte> comptes = new ArrayList<>();
+        for (Valeur valeur : facette.toutes) {
+            int nombre = nombres[valeur.ordinal];
+            if (nombre > 0) {
+                comptes.add(new Compte(valeur.cle, valeur.libelle, nombre,
+                        choisies != null && choisies.contains(valeur.cle)));
+            }
+        }
+        comptes.sort((a, b) -> a.nombre != b.nombre ? Integer.compare(b.nombre, a.nombre)
+                : a.libelle.compareTo(b.libelle));
+        List<Compte> retenus = new ArrayList<>(comptes.subList(0, Math.min(MAX_VALEURS, comptes.size())));
+        if (choisies != null) {
+            for (String cle : choisies) {
+                if (retenus.stream().noneMatch(compte -> compte.valeur.equals(cle))) {
+                    Compte compte = comptes.stream().filter(c -> c.valeur.equals(cle)).findFirst().orElse(null);
+                    Valeur valeur = facette.valeurs.get(cle);
+                    retenus.add(compte != null ? compte
+                            : new Compte(cle, valeur == null ? cle : valeur.libelle, 0, true));
+                }
+            }
+        }
+        return retenus;
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    /**
+     * Produits modifiés hors entité par une transaction validée (écriture SQL de stock_actuel et est_en_stock)
+     */
+    public void signalerProduits(Collection<Integer> produits) {
+        signaler(produits, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Produits, boutiques, catégories ou marques modifiés par une transaction validée (appelé par le listener)
+     */
+    void signaler(Collection<Integer> produits, Collection<Integer> boutiques, Collection<Integer> categories,
+            Collection<Integer> marques) {
+        produitsModifies.addAll(produits);
+        boutiquesModifiees.addAll(boutiques);
+        categoriesModifiees.addAll(categories);
+        marquesModifiees.addAll(marques);
+        if (planifie.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::appliquer, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Index arrêté (fermeture de l'EntityManagerFactory)
+                planifie.set(false);
+            }
+        }
+    }
+
+    private void chargerTout() {
+        long debut = System.nanoTime();
+        // Identifiants lus par ordre croissant : chaque valeur se construit par ajouts successifs
+        Map<Integer, CompressedBitmap.Constructeur> constructeurs = new HashMap<>();
+        Map<Integer, String> libelles = new HashMap<>();
+        CompressedBitmap.Constructeur univers = new CompressedBitmap.Constructeur();
+        int[][][] parProduit = { new int[1_024][] };
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                FacetLoader.chargerTout(session, produit -> {
+                    univers.ajouter(produit.id);
+                    int[] valeurs = ordinaux(produit, libelles);
+                    parProduit[0] = agrandir(parProduit[0], produit.id);
+                    parProduit[0][produit.id] = valeurs;
+                    for (int ordinal : valeurs) {
+                        constructeurs.computeIfAbsent(ordinal, o -> new CompressedBitmap.Constructeur())
+                                .ajouter(produit.id);
+                    }
+                });
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                logger.log(Level.SEVERE, "❌ Chargement des facettes impossible", e);
+                throw e;
+            }
+        }
+        Valeur[] parOrdinal = new Valeur[registre.size()];
+        constructeurs.forEach((ordinal, constructeur) -> parOrdinal[ordinal] = new Valeur(ordinal,
+                registre.get(ordinal).valeur, libelles.get(ordinal), constructeur.construire()));
+        etat = new Etat(univers.construire(), parProduit[0], parOrdinal, publier(parOrdinal));
+        chargementMs = (System.nanoTime() - debut) / 1_000_000;
+        logger.info("🧭 Facettes chargées : " + etat.univers.cardinalite() + " produits, " + etat.facettes.size()
+                + " facettes, " + registre.size() + " valeurs en " + chargementMs + " ms");
+    }
+
+    /**
+     * Relit les produits signalés et applique la différence de leurs valeurs (ajouts, retraits) aux seuls
+     * ensembles concernés ; les autres sont partagés avec l'état précédent
+     */
+    private void appliquer() {
+        planifie.set(false);
+        Set<Integer> produits = vider(produitsModifies);
+        Set<Integer> boutiques = vider(boutiquesModifiees);
+        Set<Integer> categories = vider(categoriesModifiees);
+        Set<Integer> marques = vider(marquesModifiees);
+        Etat courant = etat;
+        // Index pas encore chargé : le chargement complet lira l'état à jour
+        if (courant == null || (produits.isEmpty() && boutiques.isEmpty() && categories.isEmpty() && marques.isEmpty())) {
+            return;
+        }
+        long debut = System.nanoTime();
+        try {
+            Map<Integer, FacetLoader.Produit> relus;
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                Transaction transaction = session.beginTransaction();
+                try {
+                    produits.addAll(FacetLoader.produitsRattaches(session, "boutiques", boutiques));
+                    produits.addAll(FacetLoader.produitsRattaches(session, "categoriesProduits", categories));
+                    produits.addAll(FacetLoader.produitsRattaches(session, "marques", marques));
+                    relus = FacetLoader.charger(session, produits);
+                    transaction.commit();
+                } catch (RuntimeException e) {
+                    transaction.rollback();
+                    throw e;
+                }
+            }
+
+            // Différences par valeur (ordinal) : produits ajoutés, produits retirés
+            Map<Integer, List<Integer>> ajouts = new HashMap<>();
+            Map<Integer, List<Integer>> retraits = new HashMap<>();
+            Map<Integer, String> libelles = new HashMap<>();
+            List<Integer> entrees = new ArrayList<>();
+            List<Integer> sorties = new ArrayList<>();
+            int[][] parProduit = courant.valeursParProduit.clone();
+            for (Integer produitId : produits) {
+                int[] avant = produitId < parProduit.length ? parProduit[produitId] : null;
+                FacetLoader.Produit produit = relus.get(produitId);
+                int[] apres = produit == null ? null : ordinaux(produit, libelles);
+                for (int ordinal : apres == null ? new int[0] : apres) {
+                    if (avant == null || !contient(avant, ordinal)) {
+                        ajouts.computeIfAbsent(ordinal, o -> new ArrayList<>()).add(produitId);
+                    }
+                }
+                for (int ordinal : avant == null ? new int[0] : avant) {
+                    if (apres == null || !contient(apres, ordinal)) {
+                        retraits.computeIfAbsent(ordinal, o -> new ArrayList<>()).add(produitId);
+                    }
+                }
+                if (apres != null) {
+                    parProduit = agrandir(parProduit, produitId);
+                    parProduit[produitId] = apres;
+                    if (avant == null) {
+                        entrees.add(produitId);
+                    }
+                } else if (avant != null) {
+                    parProduit[produitId] = null;
+                    sorties.add(produitId);
+                }
+            }
+
+            Valeur[] parOrdinal = Arrays.copyOf(courant.parOrdinal, registre.size());
+            Set<Integer> touches = new HashSet<>(ajouts.keySet());
+            touches.addAll(retraits.keySet());
+            // Libellé modifié (boutique, catégorie, marque renommée) sans changement d'appartenance
+            libelles.forEach((ordinal, libelle) -> {
+                Valeur valeur = parOrdinal[ordinal];
+                if (valeur != null && !valeur.libelle.equals(libelle)) {
+                    touches.add(ordinal);
+                }
+            });
+            for (Integer ordinal : touches) {
+                Valeur ancienne = parOrdinal[ordinal];
+                CompressedBitmap ensemble = (ancienne == null ? CompressedBitmap.VIDE : ancienne.produits)
+                        .modifier(tableau(ajouts.get(ordinal)), tableau(retraits.get(ordinal)));
+                String libelle = libelles.getOrDefault(ordinal,
+                        ancienne == null ? registre.get(ordinal).valeur : ancienne.libelle);
+                parOrdinal[ordinal] = ensemble.isVide() ? null
+                        : new Valeur(ordinal, registre.get(ordinal).valeur, libelle, ensemble);
+            }
+            etat = new Etat(courant.univers.modifier(tableau(entrees), tableau(sorties)), parProduit, parOrdinal,
+                    publier(parOrdinal));
+            misesAJour++;
+            miseAJourMs = (System.nanoTime() - debut) / 1_000_000;
+            logger.fine("🧭 Facettes mises à jour : " + produits.size() + " produits, " + touches.size()
+                    + " valeurs en " + miseAJourMs + " ms");
+        } catch (RuntimeException e) {
+            // Produits laissés dans leur version précédente jusqu'à leur prochaine modification
+            logger.log(Level.WARNING, "⚠️ Mise à jour des facettes impossible (" + produits.size() + " produits)", e);
+        }
+    }
+
+    private static int[][] agrandir(int[][] parProduit, int produitId) {
+        return produitId < parProduit.length ? parProduit
+                : Arrays.copyOf(parProduit, Math.max(produitId + 1, parProduit.length * 2));
+    }
+
+    /**
+     * Ordinaux des valeurs d'un produit (enregistrées au besoin) ; libellés relevés au passage
+     */
+    private int[] ordinaux(FacetLoader.Produit produit, Map<Integer, String> libelles) {
+        int[] valeurs = new int[produit.valeurs.size()];
+        int n = 0;
+        for (String[] valeur : produit.valeurs) {
+            Cle cle = new Cle(valeur[0], valeur[1]);
+            Integer ordinal = ordinaux.get(cle);
+            if (ordinal == null) {
+                ordinal = registre.size();
+                registre.add(cle);
+                ordinaux.put(cle, ordinal);
+            }
+            if (!contient(valeurs, n, ordinal)) {
+                valeurs[n++] = ordinal;
+                libelles.put(ordinal, valeur[2]);
+            }
+        }
+        return n == valeurs.length ? valeurs : Arrays.copyOf(valeurs, n);
+    }
+
+    private static boolean contient(int[] valeurs, int ordinal) {
+        return contient(valeurs, valeurs.length, ordinal);
+    }
+
+    private static boolean contient(int[] valeurs, int taille, int ordinal) {
+        for (int i = 0; i < taille; i++) {
+            if (valeurs[i] == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] tableau(List<Integer> ids) {
+        if (ids == null) {
+            return new int[0];
+        }
+        int[] tableau = ids.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(tableau);
+        return tableau;
+    }
+
+    /**
+     * Facettes dans l'ordre d'affichage : structurelles, couleur, taille, puis attributs par nom
+     */
+    private Map<String, Facette> publier(Valeur[] parOrdinal) {
+        Map<String, Map<String, Valeur>> parFacette = new TreeMap<>();
+        for (Valeur valeur : parOrdinal) {
+            if (valeur != null) {
+                parFacette.computeIfAbsent(registre.get(valeur.ordinal).facette, f -> new HashMap<>())
+                        .put(valeur.cle, valeur);
+            }
+        }
+        Map<String, Facette> publiees = new LinkedHashMap<>();
+        for (String nom : ORDRE) {
+            Map<String, Valeur> valeurs = parFacette.get(nom);
+            if (valeurs != null) {
+                publiees.put(nom, new Facette(nom, valeurs));
+            }
+        }
+        parFacette.forEach((nom, valeurs) -> publiees.putIfAbsent(nom, new Facette(nom, valeurs)));
+        return Collections.unmodifiableMap(publiees);
+    }
+
+    private static Set<Integer> vider(Set<Integer> ids) {
+        Set<Integer> copie = new HashSet<>();
+        for (Iterator<Integer> it = ids.iterator(); it.hasNext();) {
+            copie.add(it.next());
+            it.remove();
+        }
+        return copie;
+    }
+
+    /**
+     * Taille de l'index et latences des requêtes
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        Etat courant = etat;
+        if (courant != null) {
+            statistiques.charge = true;
+            statistiques.produits = courant.univers.cardinalite();
+            statistiques.facettes = courant.facettes.size();
+            long octets = courant.univers.octets();
+            for (Facette facette : courant.facettes.values()) {
+                statistiques.valeurs += facette.valeurs.size();
+                for (Valeur valeur : facette.toutes) {
+                    octets += valeur.produits.octets();
+                }
+            }
+            statistiques.octets = octets;
+        }
+        statistiques.chargementMs = chargementMs;
+        statistiques.misesAJour = misesAJour;
+        statistiques.derniereMiseAJourMs = miseAJourMs;
+        statistiques.requetes = latences.snapshot();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * État publié : produits visibles et facettes (immuables, partagés par les requêtes)
+     */
+    private static final class Etat {
+        final CompressedBitmap univers;
+        // Ordinaux des valeurs par identifiant de produit (null : produit non indexé)
+        final int[][] valeursParProduit;
+        // Valeurs par ordinal (null : aucun produit)
+        final Valeur[] parOrdinal;
+        final Map<String, Facette> facettes;
+
+        Etat(CompressedBitmap univers, int[][] valeursParProduit, Valeur[] parOrdinal, Map<String, Facette> facettes) {
+            this.univers = univers;
+            this.valeursParProduit = valeursParProduit;
+            this.parOrdinal = parOrdinal;
+            this.facettes = facettes;
+        }
+    }
+
+    private static final class Facette {
+        final String nom;
+        final Map<String, Valeur> valeurs;
+        final Valeur[] toutes;
+
+        Facette(String nom, Map<String, Valeur> valeurs) {
+            this.nom = nom;
+            this.valeurs = valeurs;
+            this.toutes = valeurs.values().toArray(new Valeur[0]);
+        }
+    }
+
+    private static final class Valeur {
+        final int ordinal;
+        final String cle;
+        final String libelle;
+        final CompressedBitmap produits;
+
+        Valeur(int ordinal, String cle, String libelle, CompressedBitmap produits) {
+            this.ordinal = ordinal;
+            this.cle = cle;
+            this.libelle = libelle;
+            this.produits = produits;
+        }
+    }
+
+    /**
+     * Valeur de facette (nom de facette, clé normalisée) dans le registre du thread d'écriture
+     */
+    private static final class Cle {
+        final String facette;
+        final String valeur;
+
+        Cle(String facette, String valeur) {
+            this.facette = facette;
+            this.valeur = valeur;
+        }
+
+        @Override
+        public boolean equals(Object autre) {
+            if (!(autre instanceof Cle)) {
+                return false;
+            }
+            Cle cle = (Cle) autre;
+            return facette.equals(cle.facette) && valeur.equals(cle.valeur);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * facette.hashCode() + valeur.hashCode();
+        }
+    }
+
+    /**
+     * Filtres d'une navigation : valeurs choisies par facette (clés des comptes, ou libellés, repliés à la
+     * résolution), et éventuellement les produits d'une recherche texte
+     */
+    public static class Selection implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final Map<String, Set<String>> filtres = new LinkedHashMap<>();
+        public Collection<Integer> produits;
+
+        public Selection avec(String facette, String... valeurs) {
+            Set<String> choisies = filtres.computeIfAbsent(facette.trim(), f -> new LinkedHashSet<>());
+            for (String valeur : valeurs) {
+                choisies.add(valeur.trim());
+            }
+            return this;
+        }
+
+        /**
+         * Limite la navigation aux produits donnés (résultats d'une recherche)
+         */
+        public Selection restreindre(Collection<Integer> produitIds) {
+            this.produits = produitIds;
+            return this;
+        }
+    }
+
+    /**
+     * Valeur de facette et nombre de produits correspondant aux autres filtres
+     */
+    public static class Compte implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final String valeur;
+        public final String libelle;
+        public final int nombre;
+        public final boolean selectionne;
+
+        Compte(String valeur, String libelle, int nombre, boolean selectionne) {
+            this.valeur = valeur;
+            this.libelle = libelle;
+            this.nombre = nombre;
+            this.selectionne = selectionne;
+        }
+
+        @Override
+        public String toString() {
+            return libelle + " (" + nombre + ")" + (selectionne ? " ✓" : "");
+        }
+    }
+
+    /**
+     * Page de produits, curseur de la page suivante (null : dernière page) et comptes par facette
+     */
+    public static class Navigation implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public int total;
+        public final List<Integer> produitIds = new ArrayList<>();
+        public Integer suivant;
+        public final Map<String, List<Compte>> facettes = new LinkedHashMap<>();
+        public List<ProductCard> cartes;
+        public double dureeMs;
+
+        @Override
+        public String toString() {
+            return String.format("%,d produits (%.2f ms) %s", total, dureeMs, facettes.keySet());
+        }
+    }
+
+    /**
+     * Taille de l'index et latences
+     */
+    public static class Statistiques {
+        public boolean charge;
+        public int produits;
+        public int facettes;
+        public int valeurs;
+        public long octets;
+        public long chargementMs;
+        public int misesAJour;
+        public long derniereMiseAJourMs;
+        public LatencyHistogram.Snapshot requetes;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== FACETTES ===\n");
+            if (!charge) {
+                sb.append("Non chargé\n");
+            } else {
+                sb.append(String.format("Produits : %,d | facettes : %d | valeurs : %,d (%.1f Mo)%n", produits,
+                        facettes, valeurs, octets / (1024d * 1024d)));
+                sb.append("Chargement : ").append(chargementMs).append(" ms | mises à jour : ").append(misesAJour)
+                        .append(" (dernière : ").append(derniereMiseAJourMs).append(" ms)\n");
+            }
+            sb.append("Requêtes : ").append(requetes).append("\n");
+            sb.append("================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package utils.facet;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.Produits;
+
+/**
+ * Crée le {@link FacetIndex} de l'unité de persistance et enregistre {@link FacetListener}
+ * (déclaré dans META-INF/services) ; désactivable par senmarket.facets.enabled=false
+ * L'index n'est chargé qu'au premier appel (ou par demarrer())
+ */
+public class FacetIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Object active = sessionFactory.getProperties().get(FacetIndex.ENABLED);
+        if (metadata.getEntityBinding(Produits.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        FacetIndex index = new FacetIndex(sessionFactory);
+        FacetIndex.enregistrer(sessionFactory, index);
+        FacetListener listener = new FacetListener(index);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        FacetIndex.retirer(sessionFactory);
+    }
+}
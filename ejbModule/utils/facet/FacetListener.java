@@ -0,0 +1,119 @@
+package utils.facet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.entreprise.Boutiques;
+import model.produit.AttributsProduits;
+import model.produit.CategoriesProduits;
+import model.produit.Marques;
+import model.produit.Produits;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Signale à {@link FacetIndex} les produits dont les facettes changent, après commit uniquement :
+ * Produits (propriétés filtrables), AttributsProduits, statut et nom des Boutiques, nom des Marques et
+ * CategoriesProduits (libellés de facette)
+ */
+public class FacetListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés lues par FacetLoader
+    private static final Set<String> PROPRIETES_PRODUIT = new HashSet<>(Arrays.asList(
+            "boutiques", "categoriesProduits", "marques", "prixVente", "prixPromo", "estEnPromotion", "estEnStock",
+            "couleursDisponibles", "taillesDisponibles", "estActif", "estPublie"));
+    private static final Set<String> PROPRIETES_BOUTIQUE = new HashSet<>(Arrays.asList("nom", "estActif"));
+
+    private final transient FacetIndex index;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    public FacetListener(FacetIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        signaler(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entite = event.getEntity();
+        int[] modifiees = event.getDirtyProperties();
+        if (modifiees != null && !(entite instanceof AttributsProduits)) {
+            Set<String> proprietes = entite instanceof Produits ? PROPRIETES_PRODUIT
+                    : entite instanceof Boutiques ? PROPRIETES_BOUTIQUE : null;
+            String[] noms = event.getPersister().getPropertyNames();
+            boolean concerne = false;
+            for (int position : modifiees) {
+                concerne |= proprietes != null ? proprietes.contains(noms[position]) : "nom".equals(noms[position]);
+            }
+            if (!concerne) {
+                return;
+            }
+        }
+        signaler(event.getSession(), entite);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        signaler(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void signaler(EventSource session, Object entite) {
+        if (entite instanceof Produits) {
+            enCours.pour(session).produits.add(((Produits) entite).getId());
+        } else if (entite instanceof AttributsProduits) {
+            Produits produit = ((AttributsProduits) entite).getProduits();
+            if (produit != null) {
+                enCours.pour(session).produits.add(produit.getId());
+            }
+        } else if (entite instanceof Boutiques) {
+            enCours.pour(session).boutiques.add(((Boutiques) entite).getId());
+        } else if (entite instanceof CategoriesProduits) {
+            enCours.pour(session).categories.add(((CategoriesProduits) entite).getId());
+        } else if (entite instanceof Marques) {
+            enCours.pour(session).marques.add(((Marques) entite).getId());
+        }
+    }
+
+    /**
+     * Identifiants modifiés par une transaction, transmis à l'index si elle est validée
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Set<Integer> produits = new HashSet<>();
+        final Set<Integer> boutiques = new HashSet<>();
+        final Set<Integer> categories = new HashSet<>();
+        final Set<Integer> marques = new HashSet<>();
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                index.signaler(produits, boutiques, categories, marques);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package utils.facet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+
+import utils.search.TextAnalyzer;
+import utils.types.JsonList;
+
+/**
+ * Lecture des valeurs de facettes des produits visibles (actifs, publiés, boutique active) : projections
+ * scalaires sur Produits et AttributsProduits (filtrables seulement), parcourues par curseur
+ */
+final class FacetLoader {
+
+    private static final String PRODUITS =
+            "select p.id, b.id, b.nom, c.id, c.nom, m.id, m.nom, p.prixVente, p.prixPromo, p.estEnPromotion, "
+            + "p.estEnStock, p.couleursDisponibles, p.taillesDisponibles "
+            + "from Produits p join p.boutiques b join p.categoriesProduits c left join p.marques m "
+            + "where coalesce(p.estActif, true) = true and coalesce(p.estPublie, true) = true "
+            + "and coalesce(b.estActif, true) = true";
+    private static final String ATTRIBUTS =
+            "select a.produits.id, a.nomAttribut, a.valeurAttribut from AttributsProduits a where a.estFiltrable = true";
+
+    // Bornes des tranches de prix affiché (FCFA) : [borne, borne suivante[
+    static final long[] TRANCHES_PRIX = { 0, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000 };
+
+    static final int TAILLE_FETCH = 1_000;
+    static final int TAILLE_LOT = 500;
+    // Valeur d'attribut au-delà : texte libre, pas une valeur de filtre
+    static final int LONGUEUR_MAX_VALEUR = 100;
+
+    private FacetLoader() {
+    }
+
+    /**
+     * Tous les produits visibles, par identifiant croissant (produits et attributs lus en parallèle)
+     */
+    static void chargerTout(StatelessSession session, Consumer<Produit> produits) {
+        try (ScrollableResults lignes = curseur(session, PRODUITS + " order by p.id");
+                ScrollableResults attributs = curseur(session, ATTRIBUTS + " order by a.produits.id")) {
+            boolean attributCourant = attributs.next();
+            while (lignes.next()) {
+                Produit produit = produit(lignes.get());
+                while (attributCourant && (Integer) attributs.get(0) <= produit.id) {
+                    if ((Integer) attributs.get(0) == produit.id) {
+                        produit.attribut((String) attributs.get(1), (String) attributs.get(2));
+                    }
+                    attributCourant = attributs.next();
+                }
+                produits.accept(produit);
+            }
+        }
+    }
+
+    /**
+     * Produits donnés encore visibles, par identifiant ; un produit absent (supprimé, masqué) n'y figure pas
+     */
+    static Map<Integer, Produit> charger(StatelessSession session, Collection<Integer> produitIds) {
+        Map<Integer, Produit> produits = new TreeMap<>();
+        for (List<Integer> lot : lots(produitIds)) {
+            for (Object ligne : session.createQuery(PRODUITS + " and p.id in (:ids)").setParameterList("ids", lot).list()) {
+                Produit produit = produit((Object[]) ligne);
+                produits.put(produit.id, produit);
+            }
+            for (Object ligne : session.createQuery(ATTRIBUTS + " and a.produits.id in (:ids)")
+                    .setParameterList("ids", lot).list()) {
+                Object[] colonnes = (Object[]) ligne;
+                Produit produit = produits.get(colonnes[0]);
+                if (produit != null) {
+                    produit.attribut((String) colonnes[1], (String) colonnes[2]);
+                }
+            }
+        }
+        return produits;
+    }
+
+    /**
+     * Produits rattachés à des boutiques, catégories ou marques (association de Produits)
+     */
+    static List<Integer> produitsRattaches(StatelessSession session, String association, Collection<Integer> ids) {
+        List<Integer> produits = new ArrayList<>();
+        for (List<Integer> lot : lots(ids)) {
+            for (Object id : session.createQuery("select p.id from Produits p where p." + association + ".id in (:ids)")
+                    .setParameterList("ids", lot).list()) {
+                produits.add((Integer) id);
+            }
+        }
+        return produits;
+    }
+
+    private static ScrollableResults curseur(StatelessSession session, String hql) {
+        return session.createQuery(hql).setFetchSize(TAILLE_FETCH).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private static List<List<Integer>> lots(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> tous = new ArrayList<>(ids);
+        List<List<Integer>> lots = new ArrayList<>();
+        for (int debut = 0; debut < tous.size(); debut += TAILLE_LOT) {
+            lots.add(tous.subList(debut, Math.min(debut + TAILLE_LOT, tous.size())));
+        }
+        return lots;
+    }
+
+    private static Produit produit(Object[] ligne) {
+        Produit produit = new Produit((Integer) ligne[0]);
+        produit.valeur(FacetIndex.BOUTIQUE, String.valueOf(ligne[1]), (String) ligne[2]);
+        produit.valeur(FacetIndex.CATEGORIE, String.valueOf(ligne[3]), (String) ligne[4]);
+        if (ligne[5] != null) {
+            produit.valeur(FacetIndex.MARQUE, String.valueOf(ligne[5]), (String) ligne[6]);
+        }
+        // Prix affiché : prix promotionnel quand la promotion est active (comme ProductCard)
+        BigDecimal prix = Boolean.TRUE.equals(ligne[9]) && ligne[8] != null ? (BigDecimal) ligne[8] : (BigDecimal) ligne[7];
+        if (prix != null) {
+            int tranche = tranche(prix.longValue());
+            produit.valeur(FacetIndex.PRIX, cleTranche(tranche), libelleTranche(tranche));
+        }
+        if (!Boolean.FALSE.equals(ligne[10])) {
+            produit.valeur(FacetIndex.STOCK, FacetIndex.OUI, "En stock");
+        }
+        if (Boolean.TRUE.equals(ligne[9])) {
+            produit.valeur(FacetIndex.PROMOTION, FacetIndex.OUI, "En promotion");
+        }
+        for (String couleur : elements(ligne[11])) {
+            produit.attribut(FacetIndex.COULEUR, couleur);
+        }
+        for (String taille : elements(ligne[12])) {
+            produit.attribut(FacetIndex.TAILLE, taille);
+        }
+        return produit;
+    }
+
+    private static List<String> elements(Object valeur) {
+        return valeur instanceof JsonList ? ((JsonList) valeur).asStrings() : Collections.emptyList();
+    }
+
+    static int tranche(long prix) {
+        int tranche = 0;
+        while (tranche + 1 < TRANCHES_PRIX.length && prix >= TRANCHES_PRIX[tranche + 1]) {
+            tranche++;
+        }
+        return tranche;
+    }
+
+    static String cleTranche(int tranche) {
+        return tranche + 1 < TRANCHES_PRIX.length ? TRANCHES_PRIX[tranche] + "-" + TRANCHES_PRIX[tranche + 1]
+                : TRANCHES_PRIX[tranche] + "+";
+    }
+
+    private static String libelleTranche(int tranche) {
+        return tranche + 1 < TRANCHES_PRIX.length
+                ? String.format("%,d – %,d FCFA", TRANCHES_PRIX[tranche], TRANCHES_PRIX[tranche + 1])
+                : String.format("%,d FCFA et plus", TRANCHES_PRIX[tranche]);
+    }
+
+    /**
+     * Valeurs de facettes d'un produit : (facette, clé normalisée, libellé affiché)
+     */
+    static final class Produit {
+        final int id;
+        final List<String[]> valeurs = new ArrayList<>(8);
+
+        Produit(int id) {
+            this.id = id;
+        }
+
+        void valeur(String facette, String cle, String libelle) {
+            valeurs.add(new String[] { facette, cle, libelle == null ? cle : libelle });
+        }
+
+        /**
+         * Attribut filtrable : facette nommée d'après l'attribut (replié), sauf collision avec une facette
+         * structurelle ; couleur et taille rejoignent couleursDisponibles et taillesDisponibles
+         */
+        void attribut(String nom, String valeur) {
+            if (nom == null || valeur == null) {
+                return;
+            }
+            String facette = TextAnalyzer.replier(nom);
+            String cle = TextAnalyzer.replier(valeur);
+            if (facette.isEmpty() || cle.isEmpty() || cle.length() > LONGUEUR_MAX_VALEUR) {
+                return;
+            }
+            if (FacetIndex.STRUCTURELLES.contains(facette)) {
+                facette = FacetIndex.PREFIXE_ATTRIBUT + facette;
+            }
+            valeur(facette, cle, valeur.trim());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package utils.geo;
+
+import java.util.Arrays;
+
+/**
+ * Geohash entier : 26 bits de longitude et 26 bits de latitude entrelacés (longitude en tête, comme le geohash
+ * texte). Deux points proches partagent un long préfixe : une cellule est un intervalle [début, fin[ de hashs
+ */
+public final class GeoHash {
+
+    static final int BITS_PAR_AXE = 26;
+    static final int BITS = 2 * BITS_PAR_AXE;
+    // Cellules couvrant une zone de recherche : au plus 4 x 4 à la précision retenue
+    static final int CELLULES_MAX = 16;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double KM_PAR_DEGRE = Math.PI * 6_371.0088 / 180;
+
+    private GeoHash() {
+    }
+
+    public static long encoder(double latitude, double longitude) {
+        return entrelacer(indice(longitude, 180), indice(latitude, 90), BITS_PAR_AXE);
+    }
+
+    /**
+     * Geohash texte de {@code caracteres} caractères (5 bits chacun, au plus 10)
+     */
+    public static String texte(long hash, int caracteres) {
+        int n = Math.max(1, Math.min(caracteres, BITS / 5));
+        char[] texte = new char[n];
+        for (int i = 0; i < n; i++) {
+            texte[i] = BASE32[(int) (hash >>> (BITS - 5 * (i + 1))) & 31];
+        }
+        return new String(texte);
+    }
+
+    /**
+     * Intervalles de hashs [début, fin[ (à plat, triés) des cellules couvrant le carré de {@code rayonKm} autour
+     * du point ; la précision est la plus fine qui tient en {@link #CELLULES_MAX} cellules
+     */
+    public static long[] couvrir(double latitude, double longitude, double rayonKm) {
+        double dLat = rayonKm / KM_PAR_DEGRE;
+        // Degré de longitude raccourci vers les pôles ; borné pour rester fini près de ±90°
+        double dLon = rayonKm / (KM_PAR_DEGRE * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+        int lonMin = indice(Math.max(-180, longitude - dLon), 180);
+        int lonMax = indice(Math.min(180, longitude + dLon), 180);
+        int latMin = indice(Math.max(-90, latitude - dLat), 90);
+        int latMax = indice(Math.min(90, latitude + dLat), 90);
+        int bits = BITS_PAR_AXE;
+        while (bits > 0 && ((long) (lonMax >>> (BITS_PAR_AXE - bits)) - (lonMin >>> (BITS_PAR_AXE - bits)) + 1)
+                * ((latMax >>> (BITS_PAR_AXE - bits)) - (latMin >>> (BITS_PAR_AXE - bits)) + 1) > CELLULES_MAX) {
+            bits--;
+        }
+        int decalage = BITS_PAR_AXE - bits;
+        int largeur = BITS - 2 * bits;
+        long[] cellules = new long[CELLULES_MAX];
+        int n = 0;
+        for (int lon = lonMin >>> decalage; lon <= lonMax >>> decalage; lon++) {
+            for (int lat = latMin >>> decalage; lat <= latMax >>> decalage; lat++) {
+                cellules[n++] = entrelacer(lon, lat, bits);
+            }
+        }
+        Arrays.sort(cellules, 0, n);
+        // Cellules consécutives fusionnées en un seul intervalle
+        long[] intervalles = new long[2 * n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            long debut = cellules[i] << largeur;
+            long fin = (cellules[i] + 1) << largeur;
+            if (m > 0 && intervalles[m - 1] == debut) {
+                intervalles[m - 1] = fin;
+            } else {
+                intervalles[m++] = debut;
+                intervalles[m++] = fin;
+            }
+        }
+        return Arrays.copyOf(intervalles, m);
+    }
+
+    private static int indice(double degres, double borne) {
+        long indice = (long) Math.floor((degres + borne) / (2 * borne) * (1 << BITS_PAR_AXE));
+        return (int) Math.max(0, Math.min((1 << BITS_PAR_AXE) - 1, indice));
+    }
+
+    private static long entrelacer(int longitude, int latitude, int bits) {
+        long hash = 0;
+        for (int i = bits - 1; i >= 0; i--) {
+            hash = (hash << 2) | ((long) ((longitude >>> i) & 1) << 1) | ((latitude >>> i) & 1);
+        }
+        return hash;
+    }
+}
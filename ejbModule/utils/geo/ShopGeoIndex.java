@@ -0,0 +1,415 @@
+package utils.geo;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import utils.facet.FacetIndex;
+import utils.metrics.LatencyHistogram;
+import utils.types.PointGps;
+
+/**
+ * Index géographique des boutiques actives et en ligne : geohash trié (une boutique par entrée), parcouru par
+ * intervalles de cellules autour du point demandé, distances exactes (haversine) sur les seuls candidats
+ * Répond à « boutiques à moins de X km » et « boutiques qui livrent jusqu'ici » (rayonLivraisonKm)
+ *
+ * État immuable publié par un thread d'écriture ("senmarket-geo") : chargement complet au démarrage, puis
+ * boutiques signalées après commit relues et remplacées
+ */
+public class ShopGeoIndex {
+
+    private static final Logger logger = Logger.getLogger(ShopGeoIndex.class.getName());
+
+    public static final String ENABLED = "senmarket.geo.enabled";
+
+    private static final String BOUTIQUES =
+            "select b.id, b.nom, b.ville, b.coordonneesGps, b.livraisonDisponible, b.rayonLivraisonKm, "
+            + "b.fraisLivraison from Boutiques b "
+            + "where coalesce(b.estActif, true) = true and coalesce(b.estEnLigne, true) = true";
+
+    static final int LIMITE_MAX = 200;
+    static final double RAYON_MAX_KM = 500;
+    static final int TAILLE_LOT = 500;
+    private static final long DELAI_MS = 200;
+
+    private static final Map<SessionFactory, ShopGeoIndex> INDEX = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ScheduledExecutorService ecrivain;
+    private final Set<Integer> boutiquesModifiees = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean planifie = new AtomicBoolean();
+    private final LatencyHistogram latences = new LatencyHistogram();
+    private volatile Etat etat;
+    private CompletableFuture<Void> chargement;
+    private long chargementMs;
+    private int misesAJour;
+
+    ShopGeoIndex(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-geo");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, ShopGeoIndex index) {
+        INDEX.put(sessionFactory, index);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        ShopGeoIndex index = INDEX.remove(sessionFactory);
+        if (index != null) {
+            index.ecrivain.shutdownNow();
+        }
+    }
+
+    /**
+     * Index de l'unité de persistance, ou null s'il est désactivé (senmarket.geo.enabled=false)
+     */
+    public static ShopGeoIndex of(EntityManagerFactory emf) {
+        return INDEX.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Lance le chargement complet en arrière-plan (sans effet s'il est déjà lancé)
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            chargement = CompletableFuture.runAsync(this::chargerTout, ecrivain);
+        }
+        return chargement;
+    }
+
+    private Etat etat() {
+        Etat courant = etat;
+        if (courant == null) {
+            demarrer().join();
+            courant = etat;
+        }
+        return courant;
+    }
+
+    // ------------------------------------------------------------------ requêtes
+
+    /**
+     * Boutiques à moins de {@code rayonKm} du point (borné à {@link #RAYON_MAX_KM}), les plus proches d'abord
+     */
+    public List<Resultat> proches(PointGps position, double rayonKm, int limite) {
+        long debut = System.nanoTime();
+        double rayon = Math.max(0, Math.min(rayonKm, RAYON_MAX_KM));
+        List<Resultat> resultats = chercher(etat(), position, rayon, false);
+        return terminer(resultats, limite, debut);
+    }
+
+    /**
+     * Boutiques qui livrent jusqu'au point (livraison disponible, distance dans leur rayon de livraison),
+     * les plus proches d'abord
+     */
+    public List<Resultat> livrant(PointGps position, int limite) {
+        long debut = System.nanoTime();
+        Etat courant = etat();
+        List<Resultat> resultats = chercher(courant, position, courant.rayonLivraisonMaxKm, true);
+        return terminer(resultats, limite, debut);
+    }
+
+    /**
+     * Limite une navigation à facettes aux produits des boutiques qui livrent jusqu'au point, et à moins de
+     * {@code rayonKm} s'il est donné (rayon de recherche) ; aucune boutique : aucun produit
+     */
+    public FacetIndex.Selection livrables(FacetIndex.Selection selection, PointGps position, Double rayonKm) {
+        long debut = System.nanoTime();
+        Etat courant = etat();
+        double rayon = rayonKm == null ? courant.rayonLivraisonMaxKm
+                : Math.max(0, Math.min(rayonKm, courant.rayonLivraisonMaxKm));
+        List<Resultat> resultats = chercher(courant, position, rayon, true);
+        String[] boutiques = new String[resultats.size()];
+        for (int i = 0; i < boutiques.length; i++) {
+            boutiques[i] = String.valueOf(resultats.get(i).boutiqueId);
+        }
+        latences.record(System.nanoTime() - debut);
+        return selection.avec(FacetIndex.BOUTIQUE, boutiques);
+    }
+
+    private static List<Resultat> chercher(Etat courant, PointGps position, double rayonKm, boolean livraison) {
+        List<Resultat> resultats = new ArrayList<>();
+        long[] intervalles = GeoHash.couvrir(position.getLatitude(), position.getLongitude(), rayonKm);
+        for (int k = 0; k < intervalles.length; k += 2) {
+            int i = Arrays.binarySearch(courant.hashs, intervalles[k]);
+            // Premier hash de l'intervalle (égalité : on remonte aux doublons précédents)
+            i = i < 0 ? -i - 1 : i;
+            while (i > 0 && courant.hashs[i - 1] == intervalles[k]) {
+                i--;
+            }
+            for (; i < courant.hashs.length && courant.hashs[i] < intervalles[k + 1]; i++) {
+                Boutique boutique = courant.boutiques[i];
+                if (livraison && !boutique.livraisonDisponible) {
+                    continue;
+                }
+                double distance = position.distanceKm(boutique.position);
+                if (distance <= rayonKm && (!livraison || distance <= boutique.rayonLivraisonKm)) {
+                    resultats.add(new Resultat(boutique, distance));
+                }
+            }
+        }
+        return resultats;
+    }
+
+    private List<Resultat> terminer(List<Resultat> resultats, int limite, long debut) {
+        resultats.sort((a, b) -> Double.compare(a.distanceKm, b.distanceKm));
+        int taille = Math.max(1, Math.min(limite, LIMITE_MAX));
+        List<Resultat> page = resultats.size() > taille ? new ArrayList<>(resultats.subList(0, taille)) : resultats;
+        latences.record(System.nanoTime() - debut);
+        return page;
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    /**
+     * Boutiques modifiées par une transaction validée (appelé par le listener)
+     */
+    void signaler(Collection<Integer> boutiques) {
+        boutiquesModifiees.addAll(boutiques);
+        if (planifie.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::appliquer, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Index arrêté (fermeture de l'EntityManagerFactory)
+                planifie.set(false);
+            }
+        }
+    }
+
+    private void chargerTout() {
+        long debut = System.nanoTime();
+        List<Boutique> boutiques;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                boutiques = lire(session.createQuery(BOUTIQUES).list());
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                logger.log(Level.SEVERE, "❌ Chargement de l'index géographique impossible", e);
+                throw e;
+            }
+        }
+        etat = new Etat(boutiques);
+        chargementMs = (System.nanoTime() - debut) / 1_000_000;
+        logger.info("📍 Index géographique chargé : " + etat.boutiques.length + " boutiques en " + chargementMs + " ms");
+    }
+
+    /**
+     * Relit les boutiques signalées (absentes : désactivées, hors ligne ou supprimées) et republie l'index
+     */
+    private void appliquer() {
+        planifie.set(false);
+        Set<Integer> ids = new HashSet<>();
+        for (Iterator<Integer> it = boutiquesModifiees.iterator(); it.hasNext();) {
+            ids.add(it.next());
+            it.remove();
+        }
+        Etat courant = etat;
+        // Index pas encore chargé : le chargement complet lira l'état à jour
+        if (courant == null || ids.isEmpty()) {
+            return;
+        }
+        try {
+            List<Boutique> relues = new ArrayList<>();
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                Transaction transaction = session.beginTransaction();
+                try {
+                    List<Integer> tous = new ArrayList<>(ids);
+                    for (int i = 0; i < tous.size(); i += TAILLE_LOT) {
+                        relues.addAll(lire(session.createQuery(BOUTIQUES + " and b.id in (:ids)")
+                                .setParameterList("ids", tous.subList(i, Math.min(i + TAILLE_LOT, tous.size())))
+                                .list()));
+                    }
+                    transaction.commit();
+                } catch (RuntimeException e) {
+                    transaction.rollback();
+                    throw e;
+                }
+            }
+            List<Boutique> boutiques = new ArrayList<>(courant.boutiques.length + relues.size());
+            for (Boutique boutique : courant.boutiques) {
+                if (!ids.contains(boutique.id)) {
+                    boutiques.add(boutique);
+                }
+            }
+            boutiques.addAll(relues);
+            etat = new Etat(boutiques);
+            misesAJour++;
+            logger.fine("📍 Index géographique mis à jour : " + ids.size() + " boutiques");
+        } catch (RuntimeException e) {
+            // Boutiques laissées dans leur version précédente jusqu'à leur prochaine modification
+            logger.log(Level.WARNING, "⚠️ Mise à jour de l'index géographique impossible (" + ids.size()
+                    + " boutiques)", e);
+        }
+    }
+
+    private static List<Boutique> lire(List<?> lignes) {
+        List<Boutique> boutiques = new ArrayList<>(lignes.size());
+        for (Object ligne : lignes) {
+            Object[] colonnes = (Object[]) ligne;
+            if (colonnes[3] != null) {
+                boutiques.add(new Boutique((Integer) colonnes[0], (String) colonnes[1], (String) colonnes[2],
+                        (PointGps) colonnes[3], !Boolean.FALSE.equals(colonnes[4]),
+                        colonnes[5] == null ? 0 : (Integer) colonnes[5], (BigDecimal) colonnes[6]));
+            }
+        }
+        return boutiques;
+    }
+
+    /**
+     * Taille de l'index et latences des requêtes
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        Etat courant = etat;
+        if (courant != null) {
+            statistiques.charge = true;
+            statistiques.boutiques = courant.boutiques.length;
+            for (Boutique boutique : courant.boutiques) {
+                statistiques.livrant += boutique.livraisonDisponible ? 1 : 0;
+            }
+            statistiques.rayonLivraisonMaxKm = courant.rayonLivraisonMaxKm;
+        }
+        statistiques.chargementMs = chargementMs;
+        statistiques.misesAJour = misesAJour;
+        statistiques.requetes = latences.snapshot();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * État publié : boutiques triées par geohash (tableaux parallèles)
+     */
+    private static final class Etat {
+        final long[] hashs;
+        final Boutique[] boutiques;
+        // Plus grand rayon de livraison : zone à parcourir pour « qui livre jusqu'ici »
+        final double rayonLivraisonMaxKm;
+
+        Etat(List<Boutique> liste) {
+            Boutique[] triees = liste.toArray(new Boutique[0]);
+            Arrays.sort(triees, (a, b) -> Long.compare(a.hash, b.hash));
+            this.boutiques = triees;
+            this.hashs = new long[triees.length];
+            double rayonMax = 0;
+            for (int i = 0; i < triees.length; i++) {
+                hashs[i] = triees[i].hash;
+                if (triees[i].livraisonDisponible) {
+                    rayonMax = Math.max(rayonMax, triees[i].rayonLivraisonKm);
+                }
+            }
+            this.rayonLivraisonMaxKm = Math.min(rayonMax, RAYON_MAX_KM);
+        }
+    }
+
+    private static final class Boutique {
+        final int id;
+        final String nom;
+        final String ville;
+        final PointGps position;
+        final long hash;
+        final boolean livraisonDisponible;
+        final int rayonLivraisonKm;
+        final BigDecimal fraisLivraison;
+
+        Boutique(int id, String nom, String ville, PointGps position, boolean livraisonDisponible,
+                int rayonLivraisonKm, BigDecimal fraisLivraison) {
+            this.id = id;
+            this.nom = nom;
+            this.ville = ville;
+            this.position = position;
+            this.hash = GeoHash.encoder(position.getLatitude(), position.getLongitude());
+            this.livraisonDisponible = livraisonDisponible;
+            this.rayonLivraisonKm = rayonLivraisonKm;
+            this.fraisLivraison = fraisLivraison;
+        }
+    }
+
+    /**
+     * Boutique trouvée et sa distance au point demandé
+     */
+    public static class Resultat implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final int boutiqueId;
+        public final String nom;
+        public final String ville;
+        public final PointGps position;
+        public final double distanceKm;
+        public final boolean livre;
+        public final int rayonLivraisonKm;
+        public final BigDecimal fraisLivraison;
+
+        Resultat(Boutique boutique, double distanceKm) {
+            this.boutiqueId = boutique.id;
+            this.nom = boutique.nom;
+            this.ville = boutique.ville;
+            this.position = boutique.position;
+            this.distanceKm = distanceKm;
+            this.livre = boutique.livraisonDisponible && distanceKm <= boutique.rayonLivraisonKm;
+            this.rayonLivraisonKm = boutique.rayonLivraisonKm;
+            this.fraisLivraison = boutique.fraisLivraison;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%s) à %.2f km%s", nom, ville, distanceKm, livre ? " — livre ici" : "");
+        }
+    }
+
+    /**
+     * Taille de l'index et latences
+     */
+    public static class Statistiques {
+        public boolean charge;
+        public int boutiques;
+        public int livrant;
+        public double rayonLivraisonMaxKm;
+        public long chargementMs;
+        public int misesAJour;
+        public LatencyHistogram.Snapshot requetes;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== INDEX GÉOGRAPHIQUE ===\n");
+            if (!charge) {
+                sb.append("Non chargé\n");
+            } else {
+                sb.append(String.format("Boutiques : %,d (livraison : %,d, rayon max %.0f km)%n", boutiques, livrant,
+                        rayonLivraisonMaxKm));
+                sb.append("Chargement : ").append(chargementMs).append(" ms | mises à jour : ").append(misesAJour)
+                        .append("\n");
+            }
+            sb.append("Requêtes : ").append(requetes).append("\n");
+            sb.append("==========================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package utils.geo;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.entreprise.Boutiques;
+
+/**
+ * Crée le {@link ShopGeoIndex} de l'unité de persistance et enregistre {@link ShopGeoListener}
+ * (déclaré dans META-INF/services) ; désactivable par senmarket.geo.enabled=false
+ * L'index n'est chargé qu'au premier appel (ou par demarrer())
+ */
+public class ShopGeoIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Object active = sessionFactory.getProperties().get(ShopGeoIndex.ENABLED);
+        if (metadata.getEntityBinding(Boutiques.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        ShopGeoIndex index = new ShopGeoIndex(sessionFactory);
+        ShopGeoIndex.enregistrer(sessionFactory, index);
+        ShopGeoListener listener = new ShopGeoListener(index);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        ShopGeoIndex.retirer(sessionFactory);
+    }
+}
@@ -0,0 +1,101 @@
+package utils.geo;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.entreprise.Boutiques;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Signale à {@link ShopGeoIndex} les Boutiques créées, supprimées, déplacées ou changeant de statut
+ * (estActif, estEnLigne) ou de conditions de livraison, après commit uniquement
+ */
+public class ShopGeoListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés lues par l'index
+    private static final Set<String> PROPRIETES = new HashSet<>(Arrays.asList(
+            "coordonneesGps", "livraisonDisponible", "rayonLivraisonKm", "fraisLivraison", "estActif", "estEnLigne",
+            "nom", "ville"));
+
+    private final transient ShopGeoIndex index;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    public ShopGeoListener(ShopGeoIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Boutiques) {
+            signaler(event.getSession(), (Integer) event.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Boutiques)) {
+            return;
+        }
+        int[] modifiees = event.getDirtyProperties();
+        if (modifiees != null) {
+            String[] noms = event.getPersister().getPropertyNames();
+            boolean concerne = false;
+            for (int position : modifiees) {
+                concerne |= PROPRIETES.contains(noms[position]);
+            }
+            if (!concerne) {
+                return;
+            }
+        }
+        signaler(event.getSession(), (Integer) event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Boutiques) {
+            signaler(event.getSession(), (Integer) event.getId());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void signaler(EventSource session, Integer boutiqueId) {
+        enCours.pour(session).boutiques.add(boutiqueId);
+    }
+
+    /**
+     * Boutiques modifiées par une transaction, transmises à l'index si elle est validée
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Set<Integer> boutiques = new HashSet<>();
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                index.signaler(boutiques);
+            }
+        }
+    }
+}
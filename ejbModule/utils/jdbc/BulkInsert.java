@@ -0,0 +1,133 @@
+package utils.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * Écritures en masse hors session Hibernate (journaux écrits par COPY) : colonnes au format texte de COPY,
+ * identifiants tirés du même optimiseur pooled-lo que l'entité (sans collision avec les lignes écrites par
+ * Hibernate) et attente entre deux tentatives d'un lot
+ */
+public final class BulkInsert {
+
+    private BulkInsert() {
+    }
+
+    /**
+     * Ajoute une colonne à une ligne COPY (format texte : tabulation avant la valeur, \N pour null,
+     * barre oblique inverse, tabulation et fins de ligne échappées)
+     */
+    public static void colonne(StringBuilder sb, Object valeur) {
+        sb.append('\t');
+        if (valeur == null) {
+            sb.append("\\N");
+            return;
+        }
+        String texte = valeur.toString();
+        for (int i = 0; i < texte.length(); i++) {
+            char c = texte.charAt(i);
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * Attente avant de reprendre un lot en échec : {@code premiere} au premier échec, puis doublée à chaque échec
+     * consécutif jusqu'à {@code max}
+     * @param attente attente précédente (0 après un lot réussi)
+     */
+    public static long attenteSuivante(long attente, long premiere, long max) {
+        return attente == 0 ? premiere : Math.min(max, attente * 2);
+    }
+
+    /**
+     * Identifiants d'une entité à clé entière générée par séquence
+     */
+    public static Identifiants identifiants(SessionFactoryImplementor sessionFactory, ConnectionProvider connexions,
+            Class<?> entite) {
+        return new Identifiants(sessionFactory, connexions, entite.getName());
+    }
+
+    /**
+     * Identifiants par l'optimiseur pooled-lo de l'entité (un aller-retour base par increment_size), utilisable
+     * depuis plusieurs threads
+     */
+    public static final class Identifiants implements AccessCallback {
+
+        private final SessionFactoryImplementor sessionFactory;
+        private final ConnectionProvider connexions;
+        private final String entite;
+        // Générateurs créés après les Integrator : résolus au premier identifiant
+        private volatile Optimizer optimiseur;
+        private volatile String sequence;
+
+        Identifiants(SessionFactoryImplementor sessionFactory, ConnectionProvider connexions, String entite) {
+            this.sessionFactory = sessionFactory;
+            this.connexions = connexions;
+            this.entite = entite;
+        }
+
+        /**
+         * Identifiant suivant
+         * @throws IllegalStateException si la séquence est indisponible
+         */
+        public int suivant() {
+            Optimizer courant = optimiseur;
+            if (courant == null) {
+                SequenceStyleGenerator generateur = (SequenceStyleGenerator) sessionFactory
+                        .getIdentifierGenerator(entite);
+                sequence = generateur.getDatabaseStructure().getName();
+                optimiseur = courant = generateur.getOptimizer();
+            }
+            return ((Number) courant.generate(this)).intValue();
+        }
+
+        /**
+         * Bloc suivant de la séquence, lu seulement quand l'optimiseur a épuisé le sien
+         */
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            try (Connection connexion = connexions.getConnection(); Statement statement = connexion.createStatement();
+                    ResultSet resultat = statement.executeQuery("SELECT nextval('" + sequence + "')")) {
+                resultat.next();
+                IntegralDataTypeHolder valeur = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Integer.class);
+                valeur.initialize(resultat.getLong(1));
+                if (!connexion.getAutoCommit()) {
+                    connexion.commit();
+                }
+                return valeur;
+            } catch (SQLException e) {
+                throw new IllegalStateException("Séquence " + sequence + " indisponible", e);
+            }
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package utils.lookup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.internal.ForeignKeys;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.MergeEvent;
+import org.hibernate.event.spi.MergeEventListener;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+import org.hibernate.event.spi.SaveOrUpdateEvent;
+import org.hibernate.event.spi.SaveOrUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Attribue un uuid aléatoire aux entités nouvelles dont le natural-id uuid est vide
+ * Hibernate écrit la colonne explicitement (NULL compris) : le défaut de la base ne s'applique jamais.
+ * Appelé avant les listeners par défaut (persist, save, merge), donc avant le contrôle des colonnes not-null
+ */
+public class UuidAssigner implements PersistEventListener, SaveOrUpdateEventListener, MergeEventListener {
+
+    private final Set<Class<?>> types;
+
+    public UuidAssigner(Set<Class<?>> types) {
+        this.types = types;
+    }
+
+    @Override
+    public void onPersist(PersistEvent event) {
+        assigner(event.getEntityName(), event.getObject(), event.getSession());
+    }
+
+    @Override
+    public void onPersist(PersistEvent event, @SuppressWarnings("rawtypes") Map createdAlready) {
+        onPersist(event);
+    }
+
+    @Override
+    public void onSaveOrUpdate(SaveOrUpdateEvent event) {
+        assigner(event.getEntityName(), event.getObject(), event.getSession());
+    }
+
+    @Override
+    public void onMerge(MergeEvent event) {
+        assigner(event.getEntityName(), event.getOriginal(), event.getSession());
+    }
+
+    @Override
+    public void onMerge(MergeEvent event, @SuppressWarnings("rawtypes") Map copiedAlready) {
+        onMerge(event);
+    }
+
+    /**
+     * Entité transitoire (identifiant non attribué) sans uuid : uuid généré dans l'objet, avant sa copie dans l'état
+     * d'insertion. Les proxies et les objets d'autres types passent sans lecture
+     */
+    private void assigner(String entityName, Object objet, EventSource session) {
+        if (objet == null || !types.contains(objet.getClass())) {
+            return;
+        }
+        EntityPersister persister = session.getEntityPersister(entityName, objet);
+        int uuid = persister.getNaturalIdentifierProperties()[0];
+        if (persister.getPropertyValue(objet, uuid) == null
+                && ForeignKeys.isTransient(persister.getEntityName(), objet, null, session)) {
+            persister.setPropertyValue(objet, uuid, UUID.randomUUID());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package utils.lookup;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Enregistre {@link UuidAssigner} (déclaré dans META-INF/services) pour les entités dont le natural-id est
+ * une propriété uuid unique (Produits, Commandes, Boutiques, TransactionsPaiement, Livraisons)
+ */
+public class UuidIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Set<Class<?>> types = new HashSet<>();
+        for (PersistentClass classe : metadata.getEntityBindings()) {
+            if (classe.getMappedClass() != null && naturalIdUuid(classe)) {
+                types.add(classe.getMappedClass());
+            }
+        }
+        if (types.isEmpty()) {
+            return;
+        }
+        UuidAssigner listener = new UuidAssigner(types);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        // Avant les listeners par défaut : l'uuid doit exister au contrôle not-null et à la copie de l'état
+        registre.prependListeners(EventType.PERSIST, listener);
+        registre.prependListeners(EventType.PERSIST_ONFLUSH, listener);
+        registre.prependListeners(EventType.SAVE_UPDATE, listener);
+        registre.prependListeners(EventType.SAVE, listener);
+        registre.prependListeners(EventType.MERGE, listener);
+    }
+
+    private static boolean naturalIdUuid(PersistentClass classe) {
+        if (!classe.hasNaturalId()) {
+            return false;
+        }
+        int proprietes = 0;
+        boolean uuid = false;
+        for (Iterator<?> it = classe.getPropertyIterator(); it.hasNext();) {
+            Property propriete = (Property) it.next();
+            if (propriete.isNaturalIdentifier()) {
+                proprietes++;
+                uuid = "uuid".equals(propriete.getName()) && propriete.getType().getReturnedClass() == UUID.class;
+            }
+        }
+        return proprietes == 1 && uuid;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
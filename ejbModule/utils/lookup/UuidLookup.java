@@ -0,0 +1,94 @@
+package utils.lookup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+
+/**
+ * Accès par identifiant public (colonne uuid, natural-id immuable)
+ * Produits, Commandes, Boutiques, TransactionsPaiement, Livraisons
+ * La recherche passe par l'index unique uuid et par la résolution natural-id
+ * de la session (une seule requête pour des appels répétés)
+ */
+public final class UuidLookup {
+
+    // Borne la taille des clauses IN (nombre de paramètres JDBC)
+    static final int TAILLE_LOT = 500;
+
+    private UuidLookup() {
+    }
+
+    /**
+     * Entité par uuid, ou null si absente
+     */
+    public static <T> T findByUuid(EntityManager em, Class<T> type, UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return em.unwrap(Session.class).bySimpleNaturalId(type).load(uuid);
+    }
+
+    /**
+     * Entité par uuid textuel (paramètre d'API), null si absent ou mal formé
+     */
+    public static <T> T findByUuid(EntityManager em, Class<T> type, String uuid) {
+        UUID valeur = parse(uuid);
+        return valeur == null ? null : findByUuid(em, type, valeur);
+    }
+
+    /**
+     * Proxy non initialisé par uuid (pour une association), sans charger l'entité
+     */
+    public static <T> T getReferenceByUuid(EntityManager em, Class<T> type, UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return em.unwrap(Session.class).bySimpleNaturalId(type).getReference(uuid);
+    }
+
+    /**
+     * Entités par lot d'uuid (une requête IN par tranche de {@value #TAILLE_LOT})
+     */
+    public static <T> List<T> findAllByUuid(EntityManager em, Class<T> type, Collection<UUID> uuids) {
+        List<T> resultats = new ArrayList<>();
+        if (uuids == null || uuids.isEmpty()) {
+            return resultats;
+        }
+        Set<UUID> distincts = new LinkedHashSet<>(uuids);
+        distincts.remove(null);
+        List<UUID> lot = new ArrayList<>(TAILLE_LOT);
+        String hql = "from " + type.getName() + " e where e.uuid in (:uuids)";
+        for (UUID uuid : distincts) {
+            lot.add(uuid);
+            if (lot.size() == TAILLE_LOT) {
+                resultats.addAll(em.createQuery(hql, type).setParameter("uuids", lot).getResultList());
+                lot = new ArrayList<>(TAILLE_LOT);
+            }
+        }
+        if (!lot.isEmpty()) {
+            resultats.addAll(em.createQuery(hql, type).setParameter("uuids", lot).getResultList());
+        }
+        return resultats;
+    }
+
+    /**
+     * Convertit un uuid textuel, null si absent ou mal formé
+     */
+    public static UUID parse(String uuid) {
+        if (uuid == null || uuid.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package utils.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de latences à buckets fixes, sans verrou
+ * Les percentiles sont approximés par la borne haute du bucket
+ */
+public class LatencyHistogram {
+
+    // Bornes hautes des buckets en microsecondes (le dernier bucket est ouvert)
+    private static final long[] BORNES_MICROS = {
+        50, 100, 250, 500,
+        1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000,
+        1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    // Bornes pour des mesures à la milliseconde (pas de bucket sous la résolution de la mesure)
+    private static final long[] BORNES_MILLIS = {
+        1_000, 2_000, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000,
+        1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final long[] bornesMicros;
+    private final AtomicLongArray compteurs;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sommeNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(BORNES_MICROS);
+    }
+
+    private LatencyHistogram(long[] bornesMicros) {
+        this.bornesMicros = bornesMicros;
+        this.compteurs = new AtomicLongArray(bornesMicros.length + 1);
+    }
+
+    /**
+     * Histogramme pour des durées connues à la milliseconde près (premier bucket : ≤ 1 ms)
+     */
+    public static LatencyHistogram millisecondes() {
+        return new LatencyHistogram(BORNES_MILLIS);
+    }
+
+    /**
+     * Enregistre une mesure exprimée en nanosecondes
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        compteurs.incrementAndGet(indexBucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        total.increment();
+        sommeNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private int indexBucket(long micros) {
+        for (int i = 0; i < bornesMicros.length; i++) {
+            if (micros <= bornesMicros[i]) {
+                return i;
+            }
+        }
+        return bornesMicros.length;
+    }
+
+    /**
+     * Remise à zéro (les mesures concurrentes peuvent être partiellement perdues)
+     */
+    public void reset() {
+        for (int i = 0; i < compteurs.length(); i++) {
+            compteurs.set(i, 0);
+        }
+        total.reset();
+        sommeNanos.reset();
+        maxNanos.set(0);
+    }
+
+    /**
+     * Photo cohérente-à-peu-près de l'histogramme
+     */
+    public Snapshot snapshot() {
+        long[] copie = new long[compteurs.length()];
+        long count = 0;
+        for (int i = 0; i < copie.length; i++) {
+            copie[i] = compteurs.get(i);
+            count += copie[i];
+        }
+        return new Snapshot(bornesMicros, copie, count, sommeNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Valeurs figées d'un histogramme, en millisecondes
+     */
+    public static class Snapshot {
+        private final long[] bornesMicros;
+        private final long[] compteurs;
+        public final long count;
+        public final double moyenneMs;
+        public final double maxMs;
+        public final double p50Ms;
+        public final double p95Ms;
+        public final double p99Ms;
+
+        Snapshot(long[] bornesMicros, long[] compteurs, long count, long sommeNanos, long maxNanos) {
+            this.bornesMicros = bornesMicros;
+            this.compteurs = compteurs;
+            this.count = count;
+            this.moyenneMs = count == 0 ? 0 : (sommeNanos / (double) count) / 1_000_000d;
+            this.maxMs = maxNanos / 1_000_000d;
+            this.p50Ms = percentile(0.50);
+            this.p95Ms = percentile(0.95);
+            this.p99Ms = percentile(0.99);
+        }
+
+        /**
+         * Percentile approché (borne haute du bucket, plafonnée au maximum observé)
+         */
+        public double percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long rang = (long) Math.ceil(p * count);
+            long cumul = 0;
+            for (int i = 0; i < compteurs.length; i++) {
+                cumul += compteurs[i];
+                if (cumul >= rang) {
+                    if (i == bornesMicros.length) {
+                        return maxMs;
+                    }
+                    return Math.min(bornesMicros[i] / 1_000d, maxMs);
+                }
+            }
+            return maxMs;
+        }
+
+        /**
+         * Nombre de mesures par bucket, indexé comme {@link #bornesMicros()}
+         * (la dernière case correspond aux mesures au-delà de la dernière borne)
+         */
+        public long[] compteurs() {
+            return compteurs.clone();
+        }
+
+        public long[] bornesMicros() {
+            return bornesMicros.clone();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d moy=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                    count, moyenneMs, p50Ms, p95Ms, p99Ms, maxMs);
+        }
+    }
+}
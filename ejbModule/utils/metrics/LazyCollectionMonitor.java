@@ -0,0 +1,57 @@
+package utils.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Détection des N+1 : compte les initialisations d'une même collection lazy
+ * (ex. Commandes.articlesCommandes) au sein d'une session
+ */
+public class LazyCollectionMonitor implements InitializeCollectionEventListener {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = Logger.getLogger(LazyCollectionMonitor.class.getName());
+
+    public static final String THRESHOLD = "senmarket.metrics.n_plus_one_threshold";
+
+    private final int seuil;
+
+    // Sessions en clés faibles : aucune fuite si une session n'est jamais fermée
+    private final Map<EventSource, Map<String, int[]>> compteursParSession = new WeakHashMap<>();
+
+    public LazyCollectionMonitor(int seuil) {
+        this.seuil = seuil;
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        if (event.getCollection() == null || event.getCollection().getRole() == null) {
+            return;
+        }
+        String role = event.getCollection().getRole();
+        int initialisations;
+        synchronized (compteursParSession) {
+            int[] compteur = compteursParSession
+                    .computeIfAbsent(event.getSession(), s -> new HashMap<>())
+                    .computeIfAbsent(role, r -> new int[1]);
+            initialisations = ++compteur[0];
+        }
+        // Signalé une seule fois par session et par collection
+        if (initialisations == seuil) {
+            StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+            if (statistics instanceof PersistenceStatistics) {
+                ((PersistenceStatistics) statistics).nPlusOneSuspected(role);
+            }
+            logger.warning("⚠️ N+1 suspecté : " + role + " initialisée " + seuil
+                    + " fois dans la même session (préférer un join fetch)");
+        }
+    }
+}
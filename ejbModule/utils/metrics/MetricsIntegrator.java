@@ -0,0 +1,33 @@
+package utils.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Enregistre {@link LazyCollectionMonitor} (déclaré dans META-INF/services)
+ */
+public class MetricsIntegrator implements Integrator {
+
+    private static final int SEUIL_PAR_DEFAUT = 10;
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        // Pas de getStatistics() ici : le métamodèle n'existe pas encore et StatisticsImpl le mémoriserait à null
+        if (!sessionFactory.getSessionFactoryOptions().isStatisticsEnabled()) {
+            return;
+        }
+        Object valeur = sessionFactory.getProperties().get(LazyCollectionMonitor.THRESHOLD);
+        int seuil = valeur == null ? SEUIL_PAR_DEFAUT : Integer.parseInt(valeur.toString().trim());
+        serviceRegistry.getService(EventListenerRegistry.class)
+                .appendListeners(EventType.INIT_COLLECTION, new LazyCollectionMonitor(seuil));
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
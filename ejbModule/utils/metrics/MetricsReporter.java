@@ -0,0 +1,69 @@
+package utils.metrics;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Journal périodique des métriques de persistance (une ligne par intervalle)
+ * Remplace l'écho SQL de hibernate.show_sql
+ */
+public class MetricsReporter {
+
+    private static final Logger logger = Logger.getLogger(MetricsReporter.class.getName());
+
+    public static final String INTERVAL = "senmarket.metrics.log_interval_s";
+    private static final long INTERVALLE_PAR_DEFAUT_S = 60;
+
+    private final ScheduledExecutorService scheduler;
+
+    private MetricsReporter(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Démarre le journal périodique ; retourne null si désactivé (intervalle ≤ 0)
+     * ou si les statistiques enrichies ne sont pas installées
+     */
+    public static MetricsReporter start(EntityManagerFactory emf) {
+        PersistenceStatistics statistics = statistics(emf);
+        Object valeur = emf.getProperties().get(INTERVAL);
+        long intervalle = valeur == null ? INTERVALLE_PAR_DEFAUT_S : Long.parseLong(valeur.toString().trim());
+        if (statistics == null || intervalle <= 0) {
+            return null;
+        }
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                logger.info("📊 " + statistics.snapshot(0).toLogLine());
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Erreur journal des métriques", e);
+            }
+        }, intervalle, intervalle, TimeUnit.SECONDS);
+        return new MetricsReporter(scheduler);
+    }
+
+    /**
+     * Statistiques enrichies de l'EntityManagerFactory, ou null si non installées
+     */
+    public static PersistenceStatistics statistics(EntityManagerFactory emf) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        return statistics instanceof PersistenceStatistics ? (PersistenceStatistics) statistics : null;
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+}
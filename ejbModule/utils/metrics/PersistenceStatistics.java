@@ -0,0 +1,285 @@
+package utils.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Statistiques Hibernate enrichies : histogramme de latence par requête HQL/native,
+ * suspicions de N+1 remontées par {@link LazyCollectionMonitor} et conflits de version par opération
+ * (transactions rejouées par {@link utils.transaction.OptimisticRetry})
+ * Installé via hibernate.stats.factory (voir {@link PersistenceStatisticsFactory})
+ */
+public class PersistenceStatistics extends StatisticsImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    // Borne le nombre de requêtes distinctes suivies (HQL construits dynamiquement)
+    static final int MAX_REQUETES = 500;
+    static final String AUTRES_REQUETES = "(autres requêtes)";
+    static final String AUTRES_OPERATIONS = "(autres opérations)";
+
+    private final Map<String, LatencyHistogram> latencesParRequete = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> suspicionsNPlusUn = new ConcurrentHashMap<>();
+    private final LatencyHistogram latenceGlobale = LatencyHistogram.millisecondes();
+    private final Map<String, ConflictCounters> conflitsParOperation = new ConcurrentHashMap<>();
+
+    public PersistenceStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    /**
+     * Hibernate fournit la durée tronquée à la milliseconde : t ms couvre [t, t + 1[, enregistrée au milieu
+     * (t + 0,5 ms) dans des buckets en millisecondes
+     */
+    @Override
+    public void queryExecuted(String query, int rows, long timeMs) {
+        super.queryExecuted(query, rows, timeMs);
+        if (query == null) {
+            return;
+        }
+        long nanos = timeMs * 1_000_000L + 500_000L;
+        latenceGlobale.record(nanos);
+        histogramme(query).record(nanos);
+    }
+
+    private LatencyHistogram histogramme(String query) {
+        LatencyHistogram histogramme = latencesParRequete.get(query);
+        if (histogramme != null) {
+            return histogramme;
+        }
+        if (latencesParRequete.size() >= MAX_REQUETES) {
+            return latencesParRequete.computeIfAbsent(AUTRES_REQUETES, k -> LatencyHistogram.millisecondes());
+        }
+        return latencesParRequete.computeIfAbsent(query, k -> LatencyHistogram.millisecondes());
+    }
+
+    /**
+     * Une collection lazy a été initialisée trop de fois dans une même session
+     */
+    void nPlusOneSuspected(String role) {
+        suspicionsNPlusUn.computeIfAbsent(role, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Fin d'une transaction rejouée sur conflit de version
+     * @param tentatives exécutions de la transaction (1 sans conflit)
+     * @param conflits tentatives perdues sur un conflit de version
+     * @param abandonnee dernière tentative en conflit, transaction abandonnée
+     */
+    public void optimisticTransaction(String operation, int tentatives, int conflits, boolean abandonnee) {
+        ConflictCounters compteurs = conflitsParOperation.get(operation);
+        if (compteurs == null) {
+            String cle = conflitsParOperation.size() >= MAX_REQUETES ? AUTRES_OPERATIONS : operation;
+            compteurs = conflitsParOperation.computeIfAbsent(cle, k -> new ConflictCounters());
+        }
+        compteurs.transactions.increment();
+        compteurs.tentatives.add(tentatives);
+        compteurs.conflits.add(conflits);
+        if (abandonnee) {
+            compteurs.abandons.increment();
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        // Appelé par le constructeur parent, avant l'initialisation des champs
+        if (latencesParRequete == null) {
+            return;
+        }
+        latencesParRequete.clear();
+        suspicionsNPlusUn.clear();
+        latenceGlobale.reset();
+        conflitsParOperation.clear();
+    }
+
+    /**
+     * Photo des métriques de persistance
+     * @param topRequetes nombre de requêtes retenues, triées par temps cumulé
+     */
+    public Snapshot snapshot(int topRequetes) {
+        Snapshot snapshot = new Snapshot();
+        snapshot.sessionsOpened = getSessionOpenCount();
+        snapshot.transactions = getTransactionCount();
+        snapshot.flushes = getFlushCount();
+        snapshot.statementsPrepared = getPrepareStatementCount();
+        snapshot.entitiesLoaded = getEntityLoadCount();
+        snapshot.entitiesFetched = getEntityFetchCount();
+        snapshot.collectionsFetched = getCollectionFetchCount();
+        snapshot.queryLatency = latenceGlobale.snapshot();
+
+        for (String entite : getEntityNames()) {
+            EntityStatistics stats = getEntityStatistics(entite);
+            if (stats.getLoadCount() == 0 && stats.getFetchCount() == 0) {
+                continue;
+            }
+            EntityCounts counts = new EntityCounts();
+            counts.entity = entite;
+            counts.loads = stats.getLoadCount();
+            counts.fetches = stats.getFetchCount();
+            counts.inserts = stats.getInsertCount();
+            counts.updates = stats.getUpdateCount();
+            // Conflits détectés hors lot JDBC (un lot en conflit n'est compté que par OptimisticRetry)
+            counts.optimisticFailures = stats.getOptimisticFailureCount();
+            snapshot.entities.add(counts);
+        }
+        snapshot.entities.sort(Comparator.comparingLong((EntityCounts c) -> c.loads + c.fetches).reversed());
+
+        List<QueryTiming> requetes = new ArrayList<>();
+        latencesParRequete.forEach((requete, histogramme) -> {
+            QueryTiming timing = new QueryTiming();
+            timing.query = requete;
+            timing.latency = histogramme.snapshot();
+            requetes.add(timing);
+        });
+        requetes.sort(Comparator.comparingDouble((QueryTiming t) -> t.latency.moyenneMs * t.latency.count).reversed());
+        snapshot.queries = requetes.size() > topRequetes ? new ArrayList<>(requetes.subList(0, topRequetes)) : requetes;
+
+        suspicionsNPlusUn.forEach((role, compteur) -> snapshot.nPlusOneSuspects.put(role, compteur.sum()));
+
+        conflitsParOperation.forEach((operation, compteurs) -> {
+            ConflictCounts counts = new ConflictCounts();
+            counts.operation = operation;
+            counts.transactions = compteurs.transactions.sum();
+            counts.attempts = compteurs.tentatives.sum();
+            counts.conflicts = compteurs.conflits.sum();
+            counts.abandoned = compteurs.abandons.sum();
+            snapshot.conflicts.add(counts);
+        });
+        snapshot.conflicts.sort(Comparator.comparingLong((ConflictCounts c) -> c.conflicts).reversed());
+        return snapshot;
+    }
+
+    /**
+     * Métriques de persistance à un instant donné
+     */
+    public static class Snapshot {
+        public long sessionsOpened;
+        public long transactions;
+        public long flushes;
+        public long statementsPrepared;
+        public long entitiesLoaded;
+        public long entitiesFetched;
+        public long collectionsFetched;
+        public LatencyHistogram.Snapshot queryLatency;
+        public List<EntityCounts> entities = new ArrayList<>();
+        public List<QueryTiming> queries = new ArrayList<>();
+        public Map<String, Long> nPlusOneSuspects = new LinkedHashMap<>();
+        public List<ConflictCounts> conflicts = new ArrayList<>();
+
+        /**
+         * Résumé sur une ligne pour le journal périodique
+         */
+        public String toLogLine() {
+            return String.format("sessions=%d tx=%d flush=%d statements=%d entités(load=%d fetch=%d) "
+                    + "collections=%d requêtes[%s] N+1=%d conflits=%d/%d",
+                    sessionsOpened, transactions, flushes, statementsPrepared, entitiesLoaded, entitiesFetched,
+                    collectionsFetched, queryLatency, nPlusOneSuspects.values().stream().mapToLong(Long::longValue).sum(),
+                    conflicts.stream().mapToLong(c -> c.conflicts).sum(),
+                    conflicts.stream().mapToLong(c -> c.attempts).sum());
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== MÉTRIQUES DE PERSISTANCE ===\n");
+            sb.append(toLogLine()).append("\n");
+            sb.append("Entités :\n");
+            for (EntityCounts counts : entities) {
+                sb.append("  ").append(counts).append("\n");
+            }
+            sb.append("Requêtes (temps cumulé) :\n");
+            for (QueryTiming timing : queries) {
+                sb.append("  ").append(timing).append("\n");
+            }
+            if (!nPlusOneSuspects.isEmpty()) {
+                sb.append("Suspicions N+1 :\n");
+                nPlusOneSuspects.forEach((role, n) -> sb.append("  ").append(role).append(" : ").append(n).append(" session(s)\n"));
+            }
+            if (!conflicts.isEmpty()) {
+                sb.append("Conflits de version (transactions rejouées) :\n");
+                for (ConflictCounts counts : conflicts) {
+                    sb.append("  ").append(counts).append("\n");
+                }
+            }
+            sb.append("================================");
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Compteurs d'une entité
+     */
+    public static class EntityCounts {
+        public String entity;
+        public long loads;
+        public long fetches;
+        public long inserts;
+        public long updates;
+        public long optimisticFailures;
+
+        @Override
+        public String toString() {
+            String texte = String.format("%-35s load=%d fetch=%d insert=%d update=%d", entity, loads, fetches, inserts,
+                    updates);
+            return optimisticFailures > 0 ? texte + " conflit=" + optimisticFailures : texte;
+        }
+    }
+
+    /**
+     * Latences d'une requête HQL ou native
+     */
+    public static class QueryTiming {
+        public String query;
+        public LatencyHistogram.Snapshot latency;
+
+        @Override
+        public String toString() {
+            String texte = query.replaceAll("\\s+", " ");
+            if (texte.length() > 120) {
+                texte = texte.substring(0, 117) + "...";
+            }
+            return latency + " | " + texte;
+        }
+    }
+
+    /**
+     * Conflits de version d'une opération rejouée par OptimisticRetry
+     */
+    public static class ConflictCounts {
+        public String operation;
+        public long transactions;
+        public long attempts;
+        public long conflicts;
+        public long abandoned;
+
+        /**
+         * Part des tentatives perdues sur un conflit de version
+         */
+        public double getConflictRate() {
+            return attempts == 0 ? 0 : (double) conflicts / attempts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-35s transactions=%d tentatives=%d conflits=%d (%.1f %%) abandons=%d", operation,
+                    transactions, attempts, conflicts, getConflictRate() * 100, abandoned);
+        }
+    }
+
+    private static class ConflictCounters {
+        final LongAdder transactions = new LongAdder();
+        final LongAdder tentatives = new LongAdder();
+        final LongAdder conflits = new LongAdder();
+        final LongAdder abandons = new LongAdder();
+    }
+}
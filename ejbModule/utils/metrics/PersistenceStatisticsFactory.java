@@ -0,0 +1,16 @@
+package utils.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Fabrique déclarée dans persistence.xml (hibernate.stats.factory)
+ */
+public class PersistenceStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new PersistenceStatistics(sessionFactory);
+    }
+}
@@ -0,0 +1,82 @@
+package utils.pool;
+
+import java.util.Map;
+
+/**
+ * Paramètres du pool de connexions SenMarket
+ * Lus depuis les propriétés "senmarket.pool.*" de persistence.xml
+ * (surchargeables par propriétés système)
+ */
+public class PoolConfiguration {
+
+    public static final String PREFIX = "senmarket.pool.";
+    public static final String MAX_SIZE = PREFIX + "max_size";
+    public static final String MIN_IDLE = PREFIX + "min_idle";
+    public static final String ACQUISITION_TIMEOUT_MS = PREFIX + "acquisition_timeout_ms";
+    public static final String VALIDATION_TIMEOUT_MS = PREFIX + "validation_timeout_ms";
+    public static final String IDLE_TIMEOUT_MS = PREFIX + "idle_timeout_ms";
+    public static final String MAX_LIFETIME_MS = PREFIX + "max_lifetime_ms";
+    public static final String LEAK_DETECTION_MS = PREFIX + "leak_detection_ms";
+    public static final String POOL_NAME = PREFIX + "name";
+
+    public int maxSize = 20;
+    public int minIdle = 5;
+    public long acquisitionTimeoutMs = 5_000;
+    public long validationTimeoutMs = 2_000;
+    public long idleTimeoutMs = 300_000;
+    public long maxLifetimeMs = 1_800_000;
+    public long leakDetectionMs = 30_000;
+    public String poolName = "SenMarketPool";
+
+    /**
+     * Construit la configuration à partir des propriétés Hibernate
+     */
+    public static PoolConfiguration from(Map<?, ?> settings) {
+        PoolConfiguration config = new PoolConfiguration();
+        config.maxSize = intValue(settings, MAX_SIZE, config.maxSize);
+        config.minIdle = Math.min(intValue(settings, MIN_IDLE, config.minIdle), config.maxSize);
+        config.acquisitionTimeoutMs = longValue(settings, ACQUISITION_TIMEOUT_MS, config.acquisitionTimeoutMs);
+        config.validationTimeoutMs = longValue(settings, VALIDATION_TIMEOUT_MS, config.validationTimeoutMs);
+        config.idleTimeoutMs = longValue(settings, IDLE_TIMEOUT_MS, config.idleTimeoutMs);
+        config.maxLifetimeMs = longValue(settings, MAX_LIFETIME_MS, config.maxLifetimeMs);
+        config.leakDetectionMs = longValue(settings, LEAK_DETECTION_MS, config.leakDetectionMs);
+        config.poolName = stringValue(settings, POOL_NAME, config.poolName);
+        return config;
+    }
+
+    static String stringValue(Map<?, ?> settings, String key, String defaut) {
+        String systeme = System.getProperty(key);
+        if (systeme != null && !systeme.isBlank()) {
+            return systeme.trim();
+        }
+        Object valeur = settings.get(key);
+        if (valeur == null || valeur.toString().isBlank()) {
+            return defaut;
+        }
+        return valeur.toString().trim();
+    }
+
+    static int intValue(Map<?, ?> settings, String key, int defaut) {
+        String valeur = stringValue(settings, key, null);
+        try {
+            return valeur == null ? defaut : Integer.parseInt(valeur);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur entière invalide pour " + key + " : " + valeur, e);
+        }
+    }
+
+    static long longValue(Map<?, ?> settings, String key, long defaut) {
+        String valeur = stringValue(settings, key, null);
+        try {
+            return valeur == null ? defaut : Long.parseLong(valeur);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur numérique invalide pour " + key + " : " + valeur, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[max=%d, minIdle=%d, timeout=%dms, fuite=%dms]",
+                poolName, maxSize, minIdle, acquisitionTimeoutMs, leakDetectionMs);
+    }
+}
@@ -0,0 +1,115 @@
+package utils.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import utils.metrics.LatencyHistogram;
+
+/**
+ * Collecte des métriques du pool : latence d'acquisition, durée d'utilisation,
+ * timeouts et connexions gardées au-delà du seuil de fuite
+ */
+public class PoolMetrics implements MetricsTrackerFactory, IMetricsTracker {
+
+    private final LatencyHistogram acquisition = new LatencyHistogram();
+    // HikariCP fournit la durée d'utilisation en millisecondes entières
+    private final LatencyHistogram utilisation = LatencyHistogram.millisecondes();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder fuitesSuspectees = new LongAdder();
+    private final LongAdder connexionsCreees = new LongAdder();
+    private final long seuilFuiteMs;
+
+    public PoolMetrics(long seuilFuiteMs) {
+        this.seuilFuiteMs = seuilFuiteMs;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return this;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        connexionsCreees.increment();
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquisition.record(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        utilisation.record(elapsedBorrowedMillis * 1_000_000L + 500_000L);
+        if (seuilFuiteMs > 0 && elapsedBorrowedMillis >= seuilFuiteMs) {
+            fuitesSuspectees.increment();
+        }
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    /**
+     * Photo des métriques, combinée à l'état courant du pool
+     */
+    public Snapshot snapshot(HikariPoolMXBean pool, PoolConfiguration config) {
+        Snapshot snapshot = new Snapshot();
+        snapshot.poolName = config.poolName;
+        snapshot.maxSize = config.maxSize;
+        snapshot.minIdle = config.minIdle;
+        if (pool != null) {
+            snapshot.active = pool.getActiveConnections();
+            snapshot.idle = pool.getIdleConnections();
+            snapshot.total = pool.getTotalConnections();
+            snapshot.waiting = pool.getThreadsAwaitingConnection();
+        }
+        snapshot.acquisitionTimeouts = timeouts.sum();
+        snapshot.suspectedLeaks = fuitesSuspectees.sum();
+        snapshot.connectionsCreated = connexionsCreees.sum();
+        snapshot.acquireLatency = acquisition.snapshot();
+        snapshot.usageTime = utilisation.snapshot();
+        return snapshot;
+    }
+
+    /**
+     * Métriques du pool à un instant donné
+     */
+    public static class Snapshot {
+        public String poolName;
+        public int maxSize;
+        public int minIdle;
+        public int active;
+        public int idle;
+        public int total;
+        public int waiting;
+        public long acquisitionTimeouts;
+        public long suspectedLeaks;
+        public long connectionsCreated;
+        public LatencyHistogram.Snapshot acquireLatency;
+        public LatencyHistogram.Snapshot usageTime;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== POOL DE CONNEXIONS ").append(poolName).append(" ===\n");
+            sb.append("Taille : ").append(total).append("/").append(maxSize)
+              .append(" (min inactives ").append(minIdle).append(")\n");
+            sb.append("Actives : ").append(active).append("\n");
+            sb.append("Inactives : ").append(idle).append("\n");
+            sb.append("En attente : ").append(waiting).append("\n");
+            sb.append("Timeouts d'acquisition : ").append(acquisitionTimeouts).append("\n");
+            sb.append("Fuites suspectées : ").append(suspectedLeaks).append("\n");
+            sb.append("Connexions créées : ").append(connectionsCreated).append("\n");
+            sb.append("Latence d'acquisition : ").append(acquireLatency).append("\n");
+            sb.append("Durée d'utilisation : ").append(usageTime).append("\n");
+            sb.append("================================================");
+            return sb.toString();
+        }
+    }
+}
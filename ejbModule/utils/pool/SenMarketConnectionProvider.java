@@ -0,0 +1,153 @@
+package utils.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * ConnectionProvider Hibernate adossé à un pool HikariCP instrumenté
+ * Remplace le pool DriverManager intégré (hibernate.connection.pool_size)
+ */
+public class SenMarketConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = Logger.getLogger(SenMarketConnectionProvider.class.getName());
+
+    private PoolConfiguration config;
+    private PoolMetrics metrics;
+    private HikariDataSource dataSource;
+
+    /**
+     * Signature brute imposée par Configurable (Hibernate 5.4), lecture typée dans {@link #configurer}
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void configure(Map configurationValues) {
+        configurer(configurationValues);
+    }
+
+    private void configurer(Map<?, ?> valeurs) {
+        config = PoolConfiguration.from(valeurs);
+        metrics = new PoolMetrics(config.leakDetectionMs);
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName(config.poolName);
+        hikari.setJdbcUrl(setting(valeurs, AvailableSettings.JPA_JDBC_URL, AvailableSettings.URL));
+        hikari.setUsername(setting(valeurs, AvailableSettings.JPA_JDBC_USER, AvailableSettings.USER));
+        hikari.setPassword(setting(valeurs, AvailableSettings.JPA_JDBC_PASSWORD, AvailableSettings.PASS));
+        String driver = setting(valeurs, AvailableSettings.JPA_JDBC_DRIVER, AvailableSettings.DRIVER);
+        if (driver != null) {
+            hikari.setDriverClassName(driver);
+        }
+        hikari.setAutoCommit(Boolean.parseBoolean(setting(valeurs, AvailableSettings.AUTOCOMMIT)));
+
+        hikari.setMaximumPoolSize(config.maxSize);
+        hikari.setMinimumIdle(config.minIdle);
+        hikari.setConnectionTimeout(config.acquisitionTimeoutMs);
+        hikari.setValidationTimeout(config.validationTimeoutMs);
+        hikari.setIdleTimeout(config.idleTimeoutMs);
+        hikari.setMaxLifetime(config.maxLifetimeMs);
+        hikari.setLeakDetectionThreshold(config.leakDetectionMs);
+        hikari.setRegisterMbeans(true);
+        hikari.setMetricsTrackerFactory(metrics);
+
+        // Requêtes préparées côté serveur PostgreSQL
+        hikari.addDataSourceProperty("prepareThreshold", "5");
+        hikari.addDataSourceProperty("preparedStatementCacheQueries", "256");
+
+        try {
+            logger.info("🚀 Démarrage du pool de connexions " + config);
+            dataSource = new HikariDataSource(hikari);
+            logger.info("✅ Pool de connexions démarré !");
+        } catch (RuntimeException e) {
+            throw new HibernateException("Impossible de démarrer le pool de connexions " + config.poolName, e);
+        }
+    }
+
+    /**
+     * Première valeur renseignée parmi les clés (JPA puis Hibernate), null sinon
+     */
+    private static String setting(Map<?, ?> values, String... cles) {
+        for (String cle : cles) {
+            Object valeur = values.get(cle);
+            if (valeur != null) {
+                return valeur.toString();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (dataSource == null) {
+            throw new SQLException("Pool de connexions non initialisé");
+        }
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    /**
+     * Métriques courantes du pool
+     */
+    public PoolMetrics.Snapshot getMetrics() {
+        if (metrics == null) {
+            throw new IllegalStateException("Pool de connexions non configuré");
+        }
+        return metrics.snapshot(dataSource == null ? null : dataSource.getHikariPoolMXBean(), config);
+    }
+
+    public PoolConfiguration getConfiguration() {
+        return config;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean isUnwrappableAs(Class unwrapType) {
+        return ConnectionProvider.class.equals(unwrapType)
+                || SenMarketConnectionProvider.class.isAssignableFrom(unwrapType)
+                || DataSource.class.isAssignableFrom(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (ConnectionProvider.class.equals(unwrapType)
+                || SenMarketConnectionProvider.class.isAssignableFrom(unwrapType)) {
+            return (T) this;
+        }
+        if (DataSource.class.isAssignableFrom(unwrapType)) {
+            return (T) dataSource;
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        if (dataSource != null && !dataSource.isClosed()) {
+            logger.info("🔒 Fermeture du pool de connexions " + config.poolName);
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,868 @@
+package utils.pricing;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import model.produit.ArticlesPanier;
+import model.produit.Paniers;
+import model.produit.Produits;
+
+/**
+ * Tarification incrémentale des paniers : une ligne modifiée ne recalcule que sa part des totaux (sous-total, TVA,
+ * frais de la boutique concernée, base de la remise), sans relire les autres lignes ni leurs produits. Montants en
+ * centimes ({@link FixedPoint}), convertis en BigDecimal seulement pour écrire Paniers et ArticlesPanier
+ *
+ * État de chaque panier gardé en mémoire (LRU, senmarket.pricing.max_carts) et validé par la version du panier :
+ * toute modification de Paniers par un autre chemin, un autre nœud ou une transaction annulée force une relecture.
+ * Prix, taux de TVA, frais de livraison et codes promotionnels en cache, invalidés après commit par
+ * {@link CartPricingListener} ; un panier qui en dépend est relu à sa prochaine opération (les lignes gardent le
+ * prix enregistré, seule une ligne touchée ou recalculer les remet au prix courant).
+ * Hors périmètre : lignes modifiées sans toucher au panier (SQL natif) → recalculer
+ *
+ * Règles : prix de la ligne = prix promo si le produit est en promotion, TVA arrondie par ligne, frais de livraison
+ * par boutique du panier (offerts au-delà de son seuil), remise sur les lignes éligibles au code,
+ * total = sous-total + TVA + frais - remise. Les opérations s'exécutent dans la transaction de l'appelant
+ * (conflit de version possible : {@link utils.transaction.OptimisticRetry})
+ */
+public class CartPricing {
+
+    public static final String ENABLED = "senmarket.pricing.enabled";
+    public static final String MAX_CARTS = "senmarket.pricing.max_carts";
+
+    static final int PANIERS_MAX_DEFAUT = 50_000;
+
+    private static final String TARIFS = "select p.id, p.boutiques.id, p.categoriesProduits.id, p.prixVente, "
+            + "p.prixPromo, p.estEnPromotion, p.tauxTva from Produits p where p.id in :ids";
+    private static final String LIVRAISONS = "select b.id, b.fraisLivraison, b.livraisonGratuiteSeuil "
+            + "from Boutiques b where b.id in :ids";
+    private static final String CODE = "select c.typeRemise, c.valeurRemise, c.montantMaximum, "
+            + "c.montantMinimumCommande, c.produitsEligibles, c.categoriesEligibles, c.boutiquesEligibles, "
+            + "c.utilisationMaxGlobale, c.utilisationActuelle, c.dateDebut, c.dateFin, c.estActif "
+            + "from CodesPromotionnels c where c.code = :code";
+    private static final String LIGNES = "select a.id, a.produits.id, a.quantite, a.prixUnitaire "
+            + "from ArticlesPanier a where a.paniers.id = :panier";
+    private static final String ARTICLES = "select a from ArticlesPanier a where a.paniers.id = :panier";
+
+    private static final Map<SessionFactory, CartPricing> TARIFICATIONS = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Tarif> tarifs = new ConcurrentHashMap<>();
+    private final Map<Integer, Livraison> livraisons = new ConcurrentHashMap<>();
+    private final Map<String, Regle> codes = new ConcurrentHashMap<>();
+    // Incrémenté à chaque invalidation : un chargement commencé avant n'est pas mis en cache
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Integer, EtatPanier> paniers;
+
+    private final AtomicLong calculs = new AtomicLong();
+    private final AtomicLong chargements = new AtomicLong();
+    private final AtomicLong tarifsCharges = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    CartPricing(SessionFactory sessionFactory) {
+        Object max = sessionFactory.getProperties().get(MAX_CARTS);
+        int paniersMax = max != null ? Integer.parseInt(max.toString().trim()) : PANIERS_MAX_DEFAUT;
+        this.paniers = new LinkedHashMap<Integer, EtatPanier>(1_024, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, EtatPanier> eldest) {
+                return size() > paniersMax;
+            }
+        };
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, CartPricing tarification) {
+        TARIFICATIONS.put(sessionFactory, tarification);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        TARIFICATIONS.remove(sessionFactory);
+    }
+
+    /**
+     * Tarification de l'unité de persistance, ou null si elle est désactivée (senmarket.pricing.enabled=false)
+     */
+    public static CartPricing of(EntityManagerFactory emf) {
+        return TARIFICATIONS.get(emf.unwrap(SessionFactory.class));
+    }
+
+    // ------------------------------------------------------------------ opérations
+
+    /**
+     * Ajoute {@code quantite} unités du produit (à sa première ligne, ou nouvelle ligne)
+     */
+    public Totaux ajouter(EntityManager em, int panierId, int produitId, int quantite) {
+        if (quantite <= 0) {
+            throw new IllegalArgumentException("Quantité à ajouter invalide : " + quantite);
+        }
+        return modifierLigne(em, panierId, produitId, 0, avant -> Math.addExact(avant, quantite));
+    }
+
+    /**
+     * Fixe la quantité de la première ligne du produit ; 0 retire la ligne
+     */
+    public Totaux modifierQuantite(EntityManager em, int panierId, int produitId, int quantite) {
+        verifier(quantite);
+        return modifierLigne(em, panierId, produitId, 0, avant -> quantite);
+    }
+
+    /**
+     * Fixe la quantité d'une ligne désignée par son identifiant (variantes d'un même produit) ; 0 la retire
+     * @throws IllegalArgumentException si la ligne n'appartient pas au panier
+     */
+    public Totaux modifierArticle(EntityManager em, int panierId, int articleId, int quantite) {
+        verifier(quantite);
+        return modifierLigne(em, panierId, 0, articleId, avant -> quantite);
+    }
+
+    public Totaux retirer(EntityManager em, int panierId, int produitId) {
+        return modifierLigne(em, panierId, produitId, 0, avant -> 0);
+    }
+
+    private static void verifier(int quantite) {
+        if (quantite < 0) {
+            throw new IllegalArgumentException("Quantité invalide : " + quantite);
+        }
+    }
+
+    /**
+     * Applique un code promotionnel (null : retire le code) ; sa validité (dates, utilisations, minimum de
+     * commande) est vérifiée à chaque calcul, remise nulle hors validité
+     * @throws IllegalArgumentException si le code n'existe pas
+     */
+    public Totaux appliquerCode(EntityManager em, int panierId, String code) {
+        Paniers panier = panier(em, panierId);
+        Regle regle = null;
+        if (code != null) {
+            regle = regle(em, code);
+            if (regle == null) {
+                throw new IllegalArgumentException("Code promotionnel inconnu : " + code);
+            }
+        }
+        EtatPanier copie = etat(em, panier).copie();
+        copie.appliquer(code, regle, System.currentTimeMillis());
+        panier.setCodePromoApplique(code);
+        return ecrire(em, panier, copie);
+    }
+
+    /**
+     * Totaux courants du panier, sans écriture
+     */
+    public Totaux totaux(EntityManager em, int panierId) {
+        return etat(em, panier(em, panierId)).totaux(panierId);
+    }
+
+    /**
+     * Recalcul complet : toutes les lignes relues et remises aux prix et taux courants (validation de commande,
+     * lignes modifiées hors moteur)
+     */
+    public Totaux recalculer(EntityManager em, int panierId) {
+        Paniers panier = panier(em, panierId);
+        List<ArticlesPanier> articles = em.createQuery(ARTICLES, ArticlesPanier.class)
+                .setParameter("panier", panierId)
+                .getResultList();
+        List<Integer> produitIds = new ArrayList<>(articles.size());
+        for (ArticlesPanier article : articles) {
+            produitIds.add(article.getProduits().getId());
+        }
+        Map<Integer, Tarif> parProduit = tarifs(em, produitIds);
+        Timestamp maintenant = new Timestamp(System.currentTimeMillis());
+        EtatPanier etat = new EtatPanier();
+        for (ArticlesPanier article : articles) {
+            int produitId = article.getProduits().getId();
+            Tarif tarif = parProduit.get(produitId);
+            long prix = tarif != null ? tarif.prix : FixedPoint.centimes(article.getPrixUnitaire());
+            Ligne ligne = new Ligne(article.getId(), produitId, tarif, article.getQuantite(), prix);
+            if (FixedPoint.centimes(article.getPrixUnitaire()) != ligne.prixUnitaire
+                    || FixedPoint.centimes(article.getPrixTotal()) != ligne.total) {
+                article.setPrixUnitaire(FixedPoint.decimal(ligne.prixUnitaire));
+                article.setPrixTotal(FixedPoint.decimal(ligne.total));
+                article.setModifieLe(maintenant);
+            }
+            etat.lignes.put(ligne.ligneId, ligne);
+        }
+        initialiser(em, etat, panier);
+        chargements.incrementAndGet();
+        return ecrire(em, panier, etat);
+    }
+
+    /**
+     * Modifie la ligne {@code articleId}, ou à défaut la première ligne de {@code produitId} (créée si absente)
+     */
+    private Totaux modifierLigne(EntityManager em, int panierId, int produitId, int articleId,
+            IntUnaryOperator quantite) {
+        Paniers panier = panier(em, panierId);
+        EtatPanier etat = etat(em, panier);
+        Ligne avant = etat.ligne(produitId, articleId);
+        ArticlesPanier article = avant != null ? em.find(ArticlesPanier.class, avant.ligneId) : null;
+        if ((avant != null && article == null) || (avant == null && articleId > 0)) {
+            // Ligne modifiée hors moteur sans toucher au panier : état relu
+            etat = charger(em, panier);
+            avant = etat.ligne(produitId, articleId);
+            article = avant != null ? em.find(ArticlesPanier.class, avant.ligneId) : null;
+        }
+        if (articleId > 0) {
+            if (avant == null) {
+                throw new IllegalArgumentException("Article " + articleId + " absent du panier " + panierId);
+            }
+            produitId = avant.produitId;
+        }
+        int quantiteAvant = avant != null ? avant.quantite : 0;
+        int nouvelle = quantite.applyAsInt(quantiteAvant);
+        if (nouvelle == quantiteAvant) {
+            return etat.totaux(panierId);
+        }
+        EtatPanier copie = etat.copie();
+        Timestamp maintenant = new Timestamp(System.currentTimeMillis());
+        if (nouvelle == 0) {
+            em.remove(article);
+            copie.remplacer(avant, null, null, maintenant.getTime());
+            return ecrire(em, panier, copie);
+        }
+        Tarif tarif = tarifs(em, List.of(produitId)).get(produitId);
+        if (tarif == null) {
+            throw new IllegalArgumentException("Produit inconnu : " + produitId);
+        }
+        // Ligne touchée remise au prix courant
+        if (article == null) {
+            article = new ArticlesPanier();
+            article.setProduits(em.getReference(Produits.class, produitId));
+            article.setPaniers(panier);
+            article.setAjouteLe(maintenant);
+        } else {
+            article.setModifieLe(maintenant);
+        }
+        article.setQuantite(nouvelle);
+        article.setPrixUnitaire(FixedPoint.decimal(tarif.prix));
+        article.setPrixTotal(FixedPoint.decimal(FixedPoint.multiplier(tarif.prix, nouvelle)));
+        if (avant == null) {
+            em.persist(article);
+        }
+        copie.remplacer(avant, new Ligne(article.getId(), produitId, tarif, nouvelle, tarif.prix),
+                livraisons(em, List.of(tarif.boutiqueId)).get(tarif.boutiqueId), maintenant.getTime());
+        return ecrire(em, panier, copie);
+    }
+
+    private static Paniers panier(EntityManager em, int panierId) {
+        Paniers panier = em.find(Paniers.class, panierId);
+        if (panier == null) {
+            throw new IllegalArgumentException("Panier inconnu : " + panierId);
+        }
+        return panier;
+    }
+
+    /**
+     * Écrit les totaux sur le panier et publie l'état après commit (avec la version écrite)
+     */
+    private Totaux ecrire(EntityManager em, Paniers panier, EtatPanier etat) {
+        panier.setSousTotal(FixedPoint.decimal(etat.sousTotal));
+        panier.setMontantTva(FixedPoint.decimal(etat.tva));
+        panier.setFraisLivraison(FixedPoint.decimal(etat.frais));
+        panier.setRemiseAppliquee(FixedPoint.decimal(etat.remise));
+        panier.setTotalFinal(FixedPoint.decimal(etat.total()));
+        panier.setModifieLe(new Timestamp(System.currentTimeMillis()));
+        // Version incrémentée au flush : c'est elle qui valide l'état publié
+        em.flush();
+        etat.version = panier.getVersion();
+        publier(em, panier.getId(), etat);
+        calculs.incrementAndGet();
+        return etat.totaux(panier.getId());
+    }
+
+    // ------------------------------------------------------------------ état des paniers
+
+    private EtatPanier etat(EntityManager em, Paniers panier) {
+        EtatPanier etat;
+        synchronized (paniers) {
+            etat = paniers.get(panier.getId());
+        }
+        if (etat != null && panier.getVersion() != null && etat.version == panier.getVersion()
+                && etat.aJour(tarifs, livraisons, codes)) {
+            return etat;
+        }
+        return charger(em, panier);
+    }
+
+    /**
+     * Relit les lignes du panier (une requête) ; prix et taux depuis les caches
+     */
+    @SuppressWarnings("unchecked")
+    private EtatPanier charger(EntityManager em, Paniers panier) {
+        List<Object[]> lignes = em.createQuery(LIGNES).setParameter("panier", panier.getId()).getResultList();
+        List<Integer> produitIds = new ArrayList<>(lignes.size());
+        for (Object[] ligne : lignes) {
+            produitIds.add((Integer) ligne[1]);
+        }
+        Map<Integer, Tarif> parProduit = tarifs(em, produitIds);
+        EtatPanier etat = new EtatPanier();
+        for (Object[] ligne : lignes) {
+            Integer produitId = (Integer) ligne[1];
+            // Prix enregistré sur la ligne conservé : seul le taux de TVA vient du produit
+            etat.lignes.put((Integer) ligne[0], new Ligne((Integer) ligne[0], produitId, parProduit.get(produitId),
+                    (Integer) ligne[2], FixedPoint.centimes((BigDecimal) ligne[3])));
+        }
+        initialiser(em, etat, panier);
+        etat.version = panier.getVersion() != null ? panier.getVersion() : -1;
+        chargements.incrementAndGet();
+        publier(em, panier.getId(), etat);
+        return etat;
+    }
+
+    /**
+     * Totaux d'un état dont seules les lignes sont remplies
+     */
+    private void initialiser(EntityManager em, EtatPanier etat, Paniers panier) {
+        Set<Integer> boutiqueIds = new HashSet<>();
+        for (Ligne ligne : etat.lignes.values()) {
+            boutiqueIds.add(ligne.boutiqueId);
+        }
+        Map<Integer, Livraison> parBoutique = livraisons(em, boutiqueIds);
+        long maintenant = System.currentTimeMillis();
+        for (Ligne ligne : etat.lignes.values()) {
+            etat.ajouterLigne(ligne, parBoutique.get(ligne.boutiqueId));
+        }
+        String code = panier.getCodePromoApplique();
+        etat.appliquer(code, code != null ? regle(em, code) : null, maintenant);
+    }
+
+    /**
+     * État publié après commit (immédiatement hors transaction : il reflète l'état validé), sauf si une version
+     * plus récente l'est déjà
+     */
+    private void publier(EntityManager em, int panierId, EtatPanier etat) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        if (!session.isTransactionInProgress()) {
+            installer(panierId, etat);
+            return;
+        }
+        session.getActionQueue().registerProcess((success, sessionImpl) -> {
+            if (success) {
+                installer(panierId, etat);
+            }
+        });
+    }
+
+    private void installer(int panierId, EtatPanier etat) {
+        synchronized (paniers) {
+            EtatPanier courant = paniers.get(panierId);
+            // Même version : l'état relu remplace celui dont un taux, des frais ou le code ont changé depuis
+            if (courant == null || courant.version <= etat.version) {
+                paniers.put(panierId, etat);
+            }
+        }
+    }
+
+    void supprimer(int panierId) {
+        synchronized (paniers) {
+            paniers.remove(panierId);
+        }
+    }
+
+    // ------------------------------------------------------------------ caches
+
+    /**
+     * Tarifs des produits, les absents chargés en une requête
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Integer, Tarif> tarifs(EntityManager em, Collection<Integer> produitIds) {
+        Map<Integer, Tarif> resultat = new HashMap<>();
+        List<Integer> manquants = new ArrayList<>();
+        for (Integer id : produitIds) {
+            Tarif tarif = tarifs.get(id);
+            if (tarif != null) {
+                resultat.put(id, tarif);
+            } else {
+                manquants.add(id);
+            }
+        }
+        if (!manquants.isEmpty()) {
+            long avant = generation.get();
+            List<Object[]> lignes = em.createQuery(TARIFS).setParameter("ids", manquants).getResultList();
+            for (Object[] ligne : lignes) {
+                BigDecimal prixPromo = (BigDecimal) ligne[4];
+                BigDecimal prix = Boolean.TRUE.equals(ligne[5]) && prixPromo != null ? prixPromo
+                        : (BigDecimal) ligne[3];
+                Tarif tarif = new Tarif((Integer) ligne[1], ligne[2] != null ? (Integer) ligne[2] : 0,
+                        FixedPoint.centimes(prix), FixedPoint.pointsDeBase((BigDecimal) ligne[6]));
+                resultat.put((Integer) ligne[0], tarif);
+                if (generation.get() == avant) {
+                    tarifs.put((Integer) ligne[0], tarif);
+                }
+            }
+            tarifsCharges.addAndGet(lignes.size());
+        }
+        return resultat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, Livraison> livraisons(EntityManager em, Collection<Integer> boutiqueIds) {
+        Map<Integer, Livraison> resultat = new HashMap<>();
+        List<Integer> manquants = new ArrayList<>();
+        for (Integer id : boutiqueIds) {
+            Livraison livraison = livraisons.get(id);
+            if (livraison != null) {
+                resultat.put(id, livraison);
+            } else {
+                manquants.add(id);
+            }
+        }
+        if (!manquants.isEmpty()) {
+            long avant = generation.get();
+            List<Object[]> lignes = em.createQuery(LIVRAISONS).setParameter("ids", manquants).getResultList();
+            for (Object[] ligne : lignes) {
+                Livraison livraison = new Livraison(FixedPoint.centimes((BigDecimal) ligne[1]),
+                        FixedPoint.centimes((BigDecimal) ligne[2], -1));
+                resultat.put((Integer) ligne[0], livraison);
+                if (generation.get() == avant) {
+                    livraisons.put((Integer) ligne[0], livraison);
+                }
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Règle du code promotionnel, ou null s'il n'existe pas (les codes inconnus ne sont pas mis en cache)
+     */
+    private Regle regle(EntityManager em, String code) {
+        Regle regle = codes.get(code);
+        if (regle != null) {
+            return regle;
+        }
+        long avant = generation.get();
+        List<?> lignes = em.createQuery(CODE).setParameter("code", code).getResultList();
+        if (lignes.isEmpty()) {
+            return null;
+        }
+        regle = new Regle((Object[]) lignes.get(0));
+        if (generation.get() == avant) {
+            codes.put(code, regle);
+        }
+        return regle;
+    }
+
+    void invaliderProduits(Collection<Integer> produitIds) {
+        generation.incrementAndGet();
+        produitIds.forEach(tarifs::remove);
+        invalidations.addAndGet(produitIds.size());
+    }
+
+    void invaliderBoutiques(Collection<Integer> boutiqueIds) {
+        generation.incrementAndGet();
+        boutiqueIds.forEach(livraisons::remove);
+        invalidations.addAndGet(boutiqueIds.size());
+    }
+
+    void invaliderCodes() {
+        generation.incrementAndGet();
+        codes.clear();
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Compteurs de la tarification
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        synchronized (paniers) {
+            statistiques.paniers = paniers.size();
+        }
+        statistiques.tarifs = tarifs.size();
+        statistiques.livraisons = livraisons.size();
+        statistiques.codes = codes.size();
+        statistiques.calculs = calculs.get();
+        statistiques.chargements = chargements.get();
+        statistiques.tarifsCharges = tarifsCharges.get();
+        statistiques.invalidations = invalidations.get();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ modèle
+
+    /**
+     * Prix effectif (centimes) et taux de TVA (points de base) d'un produit
+     */
+    private static final class Tarif {
+        final int boutiqueId;
+        final int categorieId;
+        final long prix;
+        final int tauxTva;
+
+        Tarif(int boutiqueId, int categorieId, long prix, int tauxTva) {
+            this.boutiqueId = boutiqueId;
+            this.categorieId = categorieId;
+            this.prix = prix;
+            this.tauxTva = tauxTva;
+        }
+    }
+
+    /**
+     * Frais de livraison d'une boutique et seuil de gratuité (-1 : aucun)
+     */
+    private static final class Livraison {
+        final long frais;
+        final long seuilGratuite;
+
+        Livraison(long frais, long seuilGratuite) {
+            this.frais = frais;
+            this.seuilGratuite = seuilGratuite;
+        }
+
+        long frais(long sousTotal) {
+            if (sousTotal <= 0 || (seuilGratuite >= 0 && sousTotal >= seuilGratuite)) {
+                return 0;
+            }
+            return frais;
+        }
+    }
+
+    /**
+     * Ligne de panier tarifée (immuable)
+     */
+    private static final class Ligne {
+        // Tarif du cache lors du calcul : remplacé dans le cache = ligne à recalculer
+        final Tarif tarif;
+        final int ligneId;
+        final int produitId;
+        final int boutiqueId;
+        final int categorieId;
+        final int tauxTva;
+        final int quantite;
+        final long prixUnitaire;
+        final long total;
+        final long tva;
+
+        Ligne(int ligneId, int produitId, Tarif tarif, int quantite, long prixUnitaire) {
+            this.tarif = tarif;
+            this.ligneId = ligneId;
+            this.produitId = produitId;
+            this.boutiqueId = tarif != null ? tarif.boutiqueId : 0;
+            this.categorieId = tarif != null ? tarif.categorieId : 0;
+            this.tauxTva = tarif != null ? tarif.tauxTva : 0;
+            this.quantite = quantite;
+            this.prixUnitaire = prixUnitaire;
+            this.total = FixedPoint.multiplier(prixUnitaire, quantite);
+            this.tva = FixedPoint.pourcentage(total, tauxTva);
+        }
+
+    }
+
+    /**
+     * Code promotionnel : remise en pourcentage (points de base) ou montant fixe (centimes), sur les lignes
+     * éligibles (listes nulles : tout le panier)
+     */
+    private static final class Regle {
+        final boolean pourcentage;
+        final long valeur;
+        final long maximum;
+        final long minimumCommande;
+        final Set<Integer> produits;
+        final Set<Integer> categories;
+        final Set<Integer> boutiques;
+        final boolean epuise;
+        final long debut;
+        final long fin;
+        final boolean actif;
+
+        Regle(Object[] ligne) {
+            this.pourcentage = "POURCENTAGE".equalsIgnoreCase((String) ligne[0]);
+            this.valeur = pourcentage ? FixedPoint.pointsDeBase((BigDecimal) ligne[1])
+                    : FixedPoint.centimes((BigDecimal) ligne[1]);
+            this.maximum = FixedPoint.centimes((BigDecimal) ligne[2], -1);
+            this.minimumCommande = FixedPoint.centimes((BigDecimal) ligne[3]);
+            this.produits = identifiants(ligne[4]);
+            this.categories = identifiants(ligne[5]);
+            this.boutiques = identifiants(ligne[6]);
+            Integer utilisationMax = (Integer) ligne[7];
+            Integer utilisations = (Integer) ligne[8];
+            this.epuise = utilisationMax != null && utilisations != null && utilisations >= utilisationMax;
+            this.debut = ligne[9] != null ? ((Date) ligne[9]).getTime() : Long.MIN_VALUE;
+            this.fin = ligne[10] != null ? ((Date) ligne[10]).getTime() : Long.MAX_VALUE;
+            this.actif = !Boolean.FALSE.equals(ligne[11]);
+        }
+
+        /**
+         * Liste d'identifiants sérialisée (collection ou tableau de nombres) ; autre format : aucune restriction
+         */
+        private static Set<Integer> identifiants(Object liste) {
+            Collection<?> elements = liste instanceof Collection ? (Collection<?>) liste
+                    : liste instanceof Object[] ? List.of((Object[]) liste) : null;
+            if (elements == null) {
+                return null;
+            }
+            Set<Integer> ids = new HashSet<>();
+            for (Object element : elements) {
+                if (element instanceof Number) {
+                    ids.add(((Number) element).intValue());
+                }
+            }
+            return ids;
+        }
+
+        boolean eligible(Ligne ligne) {
+            return (produits == null || produits.contains(ligne.produitId))
+                    && (categories == null || categories.contains(ligne.categorieId))
+                    && (boutiques == null || boutiques.contains(ligne.boutiqueId));
+        }
+
+        /**
+         * Remise sur une base éligible, jamais supérieure à la base
+         */
+        long remise(long base, long maintenant) {
+            if (!actif || epuise || maintenant < debut || maintenant > fin || base <= 0 || base < minimumCommande) {
+                return 0;
+            }
+            long remise = pourcentage ? FixedPoint.pourcentage(base, (int) valeur) : valeur;
+            if (maximum >= 0) {
+                remise = Math.min(remise, maximum);
+            }
+            return Math.min(remise, base);
+        }
+    }
+
+    /**
+     * Totaux tenus à jour ligne par ligne ; copié avant modification, publié après commit puis jamais modifié
+     */
+    private static final class EtatPanier {
+        int version;
+        // Par identifiant de ligne (un produit peut avoir plusieurs lignes : variantes)
+        final Map<Integer, Ligne> lignes;
+        // Par boutique : sous-total, frais
+        final Map<Integer, long[]> boutiques;
+        final Map<Integer, Livraison> livraisons;
+        long sousTotal;
+        long tva;
+        long frais;
+        long base;
+        long remise;
+        int articles;
+        String code;
+        Regle regle;
+
+        EtatPanier() {
+            this.lignes = new HashMap<>();
+            this.boutiques = new HashMap<>();
+            this.livraisons = new HashMap<>();
+        }
+
+        private EtatPanier(EtatPanier source) {
+            this.lignes = new HashMap<>(source.lignes);
+            this.boutiques = new HashMap<>(source.boutiques.size() * 2);
+            source.boutiques.forEach((id, montants) -> boutiques.put(id, montants.clone()));
+            this.livraisons = new HashMap<>(source.livraisons);
+            this.version = source.version;
+            this.sousTotal = source.sousTotal;
+            this.tva = source.tva;
+            this.frais = source.frais;
+            this.base = source.base;
+            this.remise = source.remise;
+            this.articles = source.articles;
+            this.code = source.code;
+            this.regle = source.regle;
+        }
+
+        EtatPanier copie() {
+            return new EtatPanier(this);
+        }
+
+        /**
+         * Taux de TVA, frais de livraison et code toujours ceux des caches : sinon l'état est relu (prix
+         * enregistrés des lignes conservés, taux et frais courants)
+         */
+        boolean aJour(Map<Integer, Tarif> tarifs, Map<Integer, Livraison> frais, Map<String, Regle> codes) {
+            for (Ligne ligne : lignes.values()) {
+                if (ligne.tarif != null && tarifs.get(ligne.produitId) != ligne.tarif) {
+                    return false;
+                }
+            }
+            for (Map.Entry<Integer, Livraison> livraison : livraisons.entrySet()) {
+                if (frais.get(livraison.getKey()) != livraison.getValue()) {
+                    return false;
+                }
+            }
+            return regle == null || codes.get(code) == regle;
+        }
+
+        /**
+         * Ligne {@code articleId} si > 0, sinon première ligne (identifiant le plus petit) du produit
+         */
+        Ligne ligne(int produitId, int articleId) {
+            if (articleId > 0) {
+                return lignes.get(articleId);
+            }
+            Ligne premiere = null;
+            for (Ligne ligne : lignes.values()) {
+                if (ligne.produitId == produitId && (premiere == null || ligne.ligneId < premiere.ligneId)) {
+                    premiere = ligne;
+                }
+            }
+            return premiere;
+        }
+
+        /**
+         * Ajout d'une ligne pendant la construction (remise calculée ensuite par appliquer)
+         */
+        void ajouterLigne(Ligne ligne, Livraison livraison) {
+            if (livraison != null) {
+                livraisons.put(ligne.boutiqueId, livraison);
+            }
+            cumuler(ligne, 1);
+        }
+
+        /**
+         * Remplace une ligne (null : absente) : seuls les totaux de sa boutique et la remise sont recalculés
+         */
+        void remplacer(Ligne avant, Ligne apres, Livraison livraison, long maintenant) {
+            if (avant != null) {
+                lignes.remove(avant.ligneId);
+                cumuler(avant, -1);
+                if (regle != null && regle.eligible(avant)) {
+                    base -= avant.total;
+                }
+            }
+            if (apres != null) {
+                // Après le retrait : la boutique a pu quitter le panier avec l'ancienne ligne
+                if (livraison != null) {
+                    livraisons.put(apres.boutiqueId, livraison);
+                }
+                lignes.put(apres.ligneId, apres);
+                cumuler(apres, 1);
+                if (regle != null && regle.eligible(apres)) {
+                    base += apres.total;
+                }
+            }
+            remise = regle != null ? regle.remise(base, maintenant) : 0;
+        }
+
+        private void cumuler(Ligne ligne, int signe) {
+            sousTotal += signe * ligne.total;
+            tva += signe * ligne.tva;
+            articles += signe * ligne.quantite;
+            long[] montants = boutiques.computeIfAbsent(ligne.boutiqueId, b -> new long[2]);
+            montants[0] += signe * ligne.total;
+            Livraison livraison = livraisons.get(ligne.boutiqueId);
+            long fraisBoutique = livraison != null ? livraison.frais(montants[0]) : 0;
+            frais += fraisBoutique - montants[1];
+            montants[1] = fraisBoutique;
+            if (montants[0] == 0 && montants[1] == 0) {
+                boutiques.remove(ligne.boutiqueId);
+                livraisons.remove(ligne.boutiqueId);
+            }
+        }
+
+        /**
+         * Change de code : seule opération qui parcourt les lignes (base éligible)
+         */
+        void appliquer(String nouveauCode, Regle nouvelleRegle, long maintenant) {
+            code = nouveauCode;
+            regle = nouvelleRegle;
+            base = 0;
+            if (regle != null) {
+                for (Ligne ligne : lignes.values()) {
+                    if (regle.eligible(ligne)) {
+                        base += ligne.total;
+                    }
+                }
+            }
+            remise = regle != null ? regle.remise(base, maintenant) : 0;
+        }
+
+        long total() {
+            return Math.max(0, sousTotal + tva + frais - remise);
+        }
+
+        Totaux totaux(int panierId) {
+            return new Totaux(panierId, lignes.size(), articles, sousTotal, tva, frais, remise, total(), code);
+        }
+    }
+
+    /**
+     * Totaux d'un panier, en centimes
+     */
+    public static class Totaux {
+        public final int panierId;
+        public final int lignes;
+        public final int articles;
+        public final long sousTotal;
+        public final long montantTva;
+        public final long fraisLivraison;
+        public final long remise;
+        public final long totalFinal;
+        public final String codePromo;
+
+        Totaux(int panierId, int lignes, int articles, long sousTotal, long montantTva, long fraisLivraison,
+                long remise, long totalFinal, String codePromo) {
+            this.panierId = panierId;
+            this.lignes = lignes;
+            this.articles = articles;
+            this.sousTotal = sousTotal;
+            this.montantTva = montantTva;
+            this.fraisLivraison = fraisLivraison;
+            this.remise = remise;
+            this.totalFinal = totalFinal;
+            this.codePromo = codePromo;
+        }
+
+        public BigDecimal getTotalFinal() {
+            return FixedPoint.decimal(totalFinal);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== PANIER ").append(panierId).append(" ===\n");
+            sb.append(String.format("Lignes : %d | articles : %d%n", lignes, articles));
+            sb.append("Sous-total : ").append(FixedPoint.decimal(sousTotal))
+                    .append(" | TVA : ").append(FixedPoint.decimal(montantTva))
+                    .append(" | livraison : ").append(FixedPoint.decimal(fraisLivraison)).append("\n");
+            sb.append("Remise : ").append(FixedPoint.decimal(remise))
+                    .append(codePromo != null ? " (" + codePromo + ")" : "").append("\n");
+            sb.append("Total : ").append(FixedPoint.decimal(totalFinal)).append(" FCFA\n");
+            sb.append("=================");
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Compteurs de la tarification
+     */
+    public static class Statistiques {
+        public int paniers;
+        public int tarifs;
+        public int livraisons;
+        public int codes;
+        public long calculs;
+        public long chargements;
+        public long tarifsCharges;
+        public long invalidations;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== TARIFICATION DES PANIERS ===\n");
+            sb.append(String.format("En cache : %,d paniers | %,d tarifs | %,d boutiques | %,d codes%n", paniers,
+                    tarifs, livraisons, codes));
+            sb.append(String.format("Calculs incrémentaux : %,d | paniers relus : %,d | tarifs chargés : %,d | "
+                    + "invalidations : %,d%n", calculs, chargements, tarifsCharges, invalidations));
+            sb.append("================================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package utils.pricing;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.entreprise.Boutiques;
+import model.produit.Paniers;
+import model.produit.Produits;
+import model.promotions.CodesPromotionnels;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Invalide les caches de {@link CartPricing} (prix et TVA des produits, frais de livraison des boutiques, codes
+ * promotionnels, état des paniers supprimés), après commit uniquement ; un produit, une boutique ou un code créé
+ * n'est pas encore en cache
+ */
+public class CartPricingListener implements PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés lues par la tarification
+    private static final Set<String> PROPRIETES_PRODUIT = new HashSet<>(Arrays.asList(
+            "boutiques", "categoriesProduits", "prixVente", "prixPromo", "estEnPromotion", "tauxTva"));
+    private static final Set<String> PROPRIETES_BOUTIQUE = new HashSet<>(Arrays.asList(
+            "fraisLivraison", "livraisonGratuiteSeuil"));
+
+    private final transient CartPricing tarification;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    public CartPricingListener(CartPricing tarification) {
+        this.tarification = tarification;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entite = event.getEntity();
+        if (entite instanceof Produits) {
+            if (concerne(event, PROPRIETES_PRODUIT)) {
+                enCours.pour(event.getSession()).produits.add((Integer) event.getId());
+            }
+        } else if (entite instanceof Boutiques) {
+            if (concerne(event, PROPRIETES_BOUTIQUE)) {
+                enCours.pour(event.getSession()).boutiques.add((Integer) event.getId());
+            }
+        } else if (entite instanceof CodesPromotionnels) {
+            enCours.pour(event.getSession()).codes = true;
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entite = event.getEntity();
+        if (entite instanceof Produits) {
+            enCours.pour(event.getSession()).produits.add((Integer) event.getId());
+        } else if (entite instanceof Boutiques) {
+            enCours.pour(event.getSession()).boutiques.add((Integer) event.getId());
+        } else if (entite instanceof CodesPromotionnels) {
+            enCours.pour(event.getSession()).codes = true;
+        } else if (entite instanceof Paniers) {
+            enCours.pour(event.getSession()).paniers.add((Integer) event.getId());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean concerne(PostUpdateEvent event, Set<String> proprietes) {
+        int[] modifiees = event.getDirtyProperties();
+        if (modifiees == null) {
+            return true;
+        }
+        String[] noms = event.getPersister().getPropertyNames();
+        for (int position : modifiees) {
+            if (proprietes.contains(noms[position])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Entrées touchées par une transaction, invalidées si elle est validée
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Set<Integer> produits = new HashSet<>();
+        final Set<Integer> boutiques = new HashSet<>();
+        final Set<Integer> paniers = new HashSet<>();
+        boolean codes;
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (!success) {
+                return;
+            }
+            if (!produits.isEmpty()) {
+                tarification.invaliderProduits(produits);
+            }
+            if (!boutiques.isEmpty()) {
+                tarification.invaliderBoutiques(boutiques);
+            }
+            if (codes) {
+                tarification.invaliderCodes();
+            }
+            paniers.forEach(tarification::supprimer);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package utils.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Montants en virgule fixe : centimes dans un long (les colonnes monétaires sont en numeric(12,2)), taux en points
+ * de base dans un int (18,00 % = 1 800). Additions et multiplications exactes (dépassement = ArithmeticException),
+ * arrondi au centime le plus proche (moitié : loin de zéro, comme RoundingMode.HALF_UP)
+ *
+ * Conversion en BigDecimal uniquement aux bords : lecture des prix, écriture des entités
+ */
+public final class FixedPoint {
+
+    // Points de base pour 100 %
+    public static final int CENT_POUR_CENT = 10_000;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Montant en centimes (arrondi au centime), 0 si null
+     */
+    public static long centimes(BigDecimal montant) {
+        return montant != null ? montant.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0;
+    }
+
+    /**
+     * Montant en centimes, ou {@code absent} si null
+     */
+    public static long centimes(BigDecimal montant, long absent) {
+        return montant != null ? centimes(montant) : absent;
+    }
+
+    public static BigDecimal decimal(long centimes) {
+        return BigDecimal.valueOf(centimes, 2);
+    }
+
+    /**
+     * Taux en pourcentage (18.00) converti en points de base (1 800), 0 si null
+     */
+    public static int pointsDeBase(BigDecimal taux) {
+        return taux != null ? taux.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact() : 0;
+    }
+
+    public static long multiplier(long centimes, int quantite) {
+        return Math.multiplyExact(centimes, quantite);
+    }
+
+    /**
+     * {@code pointsDeBase} / 10 000 de {@code centimes}, arrondi au centime
+     */
+    public static long pourcentage(long centimes, int pointsDeBase) {
+        return diviser(Math.multiplyExact(centimes, pointsDeBase), CENT_POUR_CENT);
+    }
+
+    /**
+     * Division entière arrondie au plus proche, moitié loin de zéro ({@code diviseur} > 0)
+     */
+    static long diviser(long dividende, long diviseur) {
+        long quotient = dividende / diviseur;
+        long reste = dividende % diviseur;
+        if (Math.abs(reste) * 2 >= diviseur) {
+            quotient += dividende < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,43 @@
+package utils.pricing;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.ArticlesPanier;
+import model.produit.Paniers;
+import model.produit.Produits;
+
+/**
+ * Crée la {@link CartPricing} de l'unité de persistance et enregistre {@link CartPricingListener}
+ * (déclaré dans META-INF/services) ; désactivable par senmarket.pricing.enabled=false
+ * Les caches se remplissent au fil des paniers : aucun chargement au démarrage
+ */
+public class PricingIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Object active = sessionFactory.getProperties().get(CartPricing.ENABLED);
+        if (metadata.getEntityBinding(Paniers.class.getName()) == null
+                || metadata.getEntityBinding(ArticlesPanier.class.getName()) == null
+                || metadata.getEntityBinding(Produits.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        CartPricing tarification = new CartPricing(sessionFactory);
+        CartPricing.enregistrer(sessionFactory, tarification);
+        CartPricingListener listener = new CartPricingListener(tarification);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        CartPricing.retirer(sessionFactory);
+    }
+}
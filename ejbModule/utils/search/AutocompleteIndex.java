@@ -0,0 +1,657 @@
+package utils.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import utils.metrics.LatencyHistogram;
+
+/**
+ * Autocomplétion en mémoire sur SuggestionsRecherche : les k meilleures suggestions commençant par la saisie
+ *
+ * Index : clés repliées ({@link TextAnalyzer#replier(String)}) triées, une par début de mot de chaque suggestion
+ * ("chargeur noir" est trouvée par "char" et par "noi") ; les suggestions d'un préfixe forment un intervalle,
+ * dont les meilleures sont extraites par un arbre de segments (maximum par intervalle) en O(k log n)
+ * Une partition par langue (ses suggestions et celles sans langue), plus une toutes langues confondues,
+ * utilisée sans langue demandée ou pour une langue sans suggestion propre
+ *
+ * Score : popularite_score + ln(1 + fréquence), la fréquence étant frequence_utilisation augmentée des
+ * recherches signalées depuis le chargement ({@link #enregistrerRecherche}) ; une recherche fréquente qui
+ * n'est pas encore une suggestion le devient au bout de {@value #SEUIL_NOUVELLE} occurrences avec résultats
+ * Lecture sans verrou sur l'état publié ; écriture par lots sur le thread "senmarket-suggestions"
+ */
+public class AutocompleteIndex {
+
+    private static final Logger logger = Logger.getLogger(AutocompleteIndex.class.getName());
+
+    private static final String SUGGESTIONS =
+            "select s.texteSuggestion, s.langue, s.categoriesAssociees, s.populariteScore, s.frequenceUtilisation "
+            + "from SuggestionsRecherche s where coalesce(s.estActif, true) = true";
+
+    static final int K_MAX = 20;
+    // Débuts de mot indexés par suggestion
+    static final int MAX_MOTS = 4;
+    static final int LONGUEUR_MAX = 100;
+    static final int SEUIL_NOUVELLE = 3;
+    static final int MAX_NOUVELLES = 50_000;
+    // Candidats examinés au plus quand un filtre de catégorie écarte des suggestions
+    static final int BUDGET_FILTRE = 2_000;
+    private static final String TOUTES = "*";
+    // Regroupe les recherches signalées en une reconstruction par seconde au plus
+    private static final long DELAI_MS = 1_000;
+    private static final Pattern ENTIER = Pattern.compile("\\d{1,9}");
+
+    private static final Map<SessionFactory, AutocompleteIndex> INDEX = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ScheduledExecutorService ecrivain;
+    private final Map<String, Recherche> recherches = new ConcurrentHashMap<>();
+    private final AtomicBoolean planifie = new AtomicBoolean();
+    private final AtomicBoolean rechargementDemande = new AtomicBoolean();
+    private final AtomicInteger recherchesIgnorees = new AtomicInteger();
+    private final LatencyHistogram latences = new LatencyHistogram();
+    private volatile Etat etat;
+    private CompletableFuture<Void> chargement;
+
+    // Réservés au thread d'écriture : suggestions par clé repliée (l'indice est l'identifiant interne)
+    private final List<Entree> entrees = new ArrayList<>();
+    private final Map<String, Integer> parCle = new HashMap<>();
+    private int nouvelles;
+    private long chargementMs;
+
+    AutocompleteIndex(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-suggestions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, AutocompleteIndex index) {
+        INDEX.put(sessionFactory, index);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        AutocompleteIndex index = INDEX.remove(sessionFactory);
+        if (index != null) {
+            index.ecrivain.shutdownNow();
+        }
+    }
+
+    /**
+     * Index de l'unité de persistance, ou null si la recherche est désactivée (senmarket.search.enabled=false)
+     */
+    public static AutocompleteIndex of(EntityManagerFactory emf) {
+        return INDEX.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Lance le chargement en arrière-plan (sans effet s'il est déjà lancé)
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            chargement = CompletableFuture.runAsync(this::charger, ecrivain);
+        }
+        return chargement;
+    }
+
+    /**
+     * Les k meilleures suggestions pour la saisie, toutes langues confondues
+     */
+    public List<Suggestion> completer(String saisie, int k) {
+        return completer(saisie, null, null, k);
+    }
+
+    /**
+     * Les k meilleures suggestions pour la saisie, dans la langue donnée (null : toutes) et, si categorieId
+     * n'est pas null, associées à cette catégorie
+     */
+    public List<Suggestion> completer(String saisie, String langue, Integer categorieId, int k) {
+        long debut = System.nanoTime();
+        Etat courant = etat();
+        String prefixe = TextAnalyzer.replier(saisie);
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(Math.max(k, 0), K_MAX));
+        if (!prefixe.isEmpty() && k > 0) {
+            Partition partition = courant.partition(langue);
+            if (partition != null) {
+                extraire(courant, partition, prefixe, categorieId, Math.min(k, K_MAX), suggestions);
+            }
+        }
+        latences.record(System.nanoTime() - debut);
+        return suggestions;
+    }
+
+    private Etat etat() {
+        Etat courant = etat;
+        if (courant == null) {
+            demarrer().join();
+            courant = etat;
+        }
+        return courant;
+    }
+
+    /**
+     * Parcours par meilleur d'abord des intervalles de l'arbre : chaque extraction scinde son intervalle en deux
+     */
+    private static void extraire(Etat etat, Partition partition, String prefixe, Integer categorieId, int k,
+            List<Suggestion> suggestions) {
+        int debut = borneInferieure(partition.cles, prefixe);
+        int fin = borneInferieure(partition.cles, prefixe + Character.MAX_VALUE);
+        if (debut >= fin) {
+            return;
+        }
+        PriorityQueue<int[]> intervalles = new PriorityQueue<>(
+                (a, b) -> Float.compare(etat.scores[partition.ids[b[2]]], etat.scores[partition.ids[a[2]]]));
+        intervalles.add(new int[] { debut, fin, partition.maximum(etat.scores, debut, fin) });
+        // Une suggestion peut apparaître sous plusieurs clés (un début de mot chacune)
+        Set<Integer> vues = new HashSet<>();
+        int examines = 0;
+        while (!intervalles.isEmpty() && suggestions.size() < k && examines++ < BUDGET_FILTRE) {
+            int[] intervalle = intervalles.poll();
+            int position = intervalle[2];
+            int id = partition.ids[position];
+            if (vues.add(id) && (categorieId == null || etat.associee(id, categorieId))) {
+                suggestions.add(new Suggestion(etat.textes[id], etat.scores[id], etat.frequences[id]));
+            }
+            if (intervalle[0] < position) {
+                intervalles.add(new int[] { intervalle[0], position, partition.maximum(etat.scores, intervalle[0], position) });
+            }
+            if (position + 1 < intervalle[1]) {
+                intervalles.add(new int[] { position + 1, intervalle[1],
+                        partition.maximum(etat.scores, position + 1, intervalle[1]) });
+            }
+        }
+    }
+
+    private static int borneInferieure(String[] cles, String cle) {
+        int position = Arrays.binarySearch(cles, cle);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    /**
+     * Recherche effectuée (historique des recherches) : augmente la fréquence de la suggestion correspondante,
+     * ou la crée au-delà du seuil si la recherche a donné des résultats
+     */
+    public void enregistrerRecherche(String texte, String langue, Integer nombreResultats) {
+        String cle = TextAnalyzer.replier(texte);
+        if (cle.isEmpty() || cle.length() > LONGUEUR_MAX) {
+            return;
+        }
+        boolean avecResultats = nombreResultats == null || nombreResultats > 0;
+        // File bornée : au-delà, les recherches sont comptées comme ignorées jusqu'à la prochaine reconstruction
+        Recherche recherche = recherches.get(cle);
+        if (recherche == null && recherches.size() >= MAX_NOUVELLES) {
+            recherchesIgnorees.incrementAndGet();
+            return;
+        }
+        recherches.computeIfAbsent(cle, c -> new Recherche(texte.trim(), langue)).ajouter(avecResultats);
+        planifier();
+    }
+
+    /**
+     * Table SuggestionsRecherche modifiée par une transaction validée : rechargement complet
+     * (les fréquences comptées depuis l'historique sont conservées)
+     */
+    void signalerSuggestions() {
+        rechargementDemande.set(true);
+        planifier();
+    }
+
+    private void planifier() {
+        if (planifie.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::appliquer, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Index arrêté (fermeture de l'EntityManagerFactory)
+                planifie.set(false);
+            }
+        }
+    }
+
+    private void charger() {
+        long debut = System.nanoTime();
+        List<Object[]> lignes = new ArrayList<>();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                for (Object ligne : session.createQuery(SUGGESTIONS).list()) {
+                    lignes.add((Object[]) ligne);
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                logger.log(Level.SEVERE, "❌ Chargement des suggestions de recherche impossible", e);
+                throw e;
+            }
+        }
+        // Rechargement : les fréquences et suggestions issues de l'historique sont reportées sur la table relue
+        List<Entree> historique = new ArrayList<>();
+        for (Entree entree : entrees) {
+            if (entree.supplement > 0 || entree.issueHistorique) {
+                historique.add(entree);
+            }
+        }
+        entrees.clear();
+        parCle.clear();
+        nouvelles = 0;
+        for (Object[] ligne : lignes) {
+            String texte = (String) ligne[0];
+            String cle = TextAnalyzer.replier(texte);
+            if (cle.isEmpty() || parCle.containsKey(cle)) {
+                continue;
+            }
+            BigDecimal popularite = (BigDecimal) ligne[3];
+            Integer frequence = (Integer) ligne[4];
+            parCle.put(cle, entrees.size());
+            entrees.add(new Entree(texte.trim(), cle, langue((String) ligne[1]), categories(ligne[2]),
+                    popularite == null ? 0f : popularite.floatValue(), frequence == null ? 0 : frequence));
+        }
+        for (Entree ancienne : historique) {
+            Integer id = parCle.get(ancienne.cle);
+            if (id != null) {
+                entrees.get(id).supplement += ancienne.supplement;
+            } else if (ancienne.issueHistorique) {
+                parCle.put(ancienne.cle, entrees.size());
+                entrees.add(ancienne);
+                nouvelles++;
+            }
+        }
+        // Recherches signalées avant ou pendant le chargement
+        appliquerRecherches();
+        etat = construire(null);
+        chargementMs = (System.nanoTime() - debut) / 1_000_000;
+        logger.info("🔎 Suggestions de recherche chargées : " + entrees.size() + " en " + chargementMs + " ms");
+    }
+
+    private void appliquer() {
+        planifie.set(false);
+        if (etat == null) {
+            // Chargement pas encore fait : il lira la table et les recherches en attente
+            return;
+        }
+        try {
+            if (rechargementDemande.getAndSet(false)) {
+                charger();
+                return;
+            }
+            int avant = entrees.size();
+            if (appliquerRecherches()) {
+                // Nouvelles suggestions : clés retriées ; sinon seuls les scores et les arbres changent
+                etat = construire(entrees.size() == avant ? etat : null);
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Mise à jour des suggestions de recherche impossible", e);
+        }
+    }
+
+    /**
+     * Reporte les recherches en attente sur les suggestions ; true si une fréquence a changé
+     */
+    private boolean appliquerRecherches() {
+        boolean modifie = false;
+        for (Map.Entry<String, Recherche> attente : recherches.entrySet()) {
+            String cle = attente.getKey();
+            Recherche recherche = attente.getValue();
+            Integer id = parCle.get(cle);
+            if (id != null) {
+                recherches.remove(cle, recherche);
+                entrees.get(id).supplement += recherche.occurrences.get();
+                modifie = true;
+            } else if (recherche.avecResultats.get() >= SEUIL_NOUVELLE && nouvelles < MAX_NOUVELLES) {
+                recherches.remove(cle, recherche);
+                parCle.put(cle, entrees.size());
+                Entree entree = new Entree(recherche.texte, cle, langue(recherche.langue), new int[0], 0f, 0);
+                entree.supplement = recherche.occurrences.get();
+                entree.issueHistorique = true;
+                entrees.add(entree);
+                nouvelles++;
+                modifie = true;
+            }
+            // Sous le seuil : la recherche reste en attente et continue de compter
+        }
+        return modifie;
+    }
+
+    /**
+     * État publié depuis les suggestions ; les clés de la structure précédente sont reprises si l'ensemble
+     * des suggestions n'a pas changé
+     */
+    private Etat construire(Etat precedent) {
+        int nombre = entrees.size();
+        String[] textes = new String[nombre];
+        float[] scores = new float[nombre];
+        int[] frequences = new int[nombre];
+        int[][] categories = new int[nombre][];
+        for (int id = 0; id < nombre; id++) {
+            Entree entree = entrees.get(id);
+            textes[id] = entree.texte;
+            long frequence = entree.frequence + entree.supplement;
+            scores[id] = entree.popularite + (float) Math.log1p(frequence);
+            frequences[id] = (int) Math.min(Integer.MAX_VALUE, frequence);
+            categories[id] = entree.categories;
+        }
+        Map<String, Partition> partitions = new HashMap<>();
+        if (precedent != null) {
+            precedent.partitions.forEach((langue, partition) ->
+                    partitions.put(langue, new Partition(partition.cles, partition.ids, scores)));
+        } else {
+            Map<String, List<Integer>> parLangue = new TreeMap<>();
+            List<Integer> communes = new ArrayList<>();
+            for (int id = 0; id < nombre; id++) {
+                String langue = entrees.get(id).langue;
+                if (langue == null) {
+                    communes.add(id);
+                } else {
+                    parLangue.computeIfAbsent(langue, l -> new ArrayList<>()).add(id);
+                }
+            }
+            List<Integer> toutes = new ArrayList<>();
+            for (int id = 0; id < nombre; id++) {
+                toutes.add(id);
+            }
+            partitions.put(TOUTES, partition(toutes, scores));
+            for (Map.Entry<String, List<Integer>> langue : parLangue.entrySet()) {
+                langue.getValue().addAll(communes);
+                partitions.put(langue.getKey(), partition(langue.getValue(), scores));
+            }
+        }
+        return new Etat(textes, scores, frequences, categories, partitions);
+    }
+
+    private Partition partition(List<Integer> ids, float[] scores) {
+        // Une clé par début de mot : le texte replié à partir de ce mot
+        List<String> cles = new ArrayList<>();
+        List<Integer> proprietaires = new ArrayList<>();
+        for (int id : ids) {
+            String cle = entrees.get(id).cle;
+            int mots = 0;
+            for (int debut = 0; debut >= 0 && mots < MAX_MOTS; mots++) {
+                cles.add(cle.substring(debut));
+                proprietaires.add(id);
+                int espace = cle.indexOf(' ', debut);
+                debut = espace < 0 ? -1 : espace + 1;
+            }
+        }
+        Integer[] ordre = new Integer[cles.size()];
+        for (int i = 0; i < ordre.length; i++) {
+            ordre[i] = i;
+        }
+        Arrays.sort(ordre, (a, b) -> cles.get(a).compareTo(cles.get(b)));
+        String[] triees = new String[ordre.length];
+        int[] proprietairesTries = new int[ordre.length];
+        for (int i = 0; i < ordre.length; i++) {
+            triees[i] = cles.get(ordre[i]);
+            proprietairesTries[i] = proprietaires.get(ordre[i]);
+        }
+        return new Partition(triees, proprietairesTries, scores);
+    }
+
+    private static String langue(String langue) {
+        return langue == null || langue.trim().isEmpty() ? null : langue.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Identifiants de catégorie d'une colonne "serializable" (tableau, liste ou document JSON d'entiers)
+     */
+    static int[] categories(Object valeur) {
+        String texte = SearchDocumentLoader.texte(valeur);
+        if (texte == null) {
+            return new int[0];
+        }
+        List<Integer> ids = new ArrayList<>();
+        Matcher matcher = ENTIER.matcher(texte);
+        while (matcher.find()) {
+            ids.add(Integer.valueOf(matcher.group()));
+        }
+        int[] categories = new int[ids.size()];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = ids.get(i);
+        }
+        Arrays.sort(categories);
+        return categories;
+    }
+
+    /**
+     * Taille de l'index et latences des complétions
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        Etat courant = etat;
+        if (courant != null) {
+            statistiques.charge = true;
+            statistiques.suggestions = courant.textes.length;
+            statistiques.cles = courant.partitions.get(TOUTES).cles.length;
+            for (String langue : courant.partitions.keySet()) {
+                if (!TOUTES.equals(langue)) {
+                    statistiques.langues.add(langue);
+                }
+            }
+        }
+        statistiques.nouvelles = nouvelles;
+        statistiques.recherchesEnAttente = recherches.size();
+        statistiques.recherchesIgnorees = recherchesIgnorees.get();
+        statistiques.chargementMs = chargementMs;
+        statistiques.completions = latences.snapshot();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * Suggestion côté écriture : fréquence de la table et supplément compté depuis l'historique
+     */
+    private static final class Entree {
+        final String texte;
+        final String cle;
+        final String langue;
+        final int[] categories;
+        final float popularite;
+        final long frequence;
+        long supplement;
+        boolean issueHistorique;
+
+        Entree(String texte, String cle, String langue, int[] categories, float popularite, long frequence) {
+            this.texte = texte;
+            this.cle = cle;
+            this.langue = langue;
+            this.categories = categories;
+            this.popularite = popularite;
+            this.frequence = frequence;
+        }
+    }
+
+    /**
+     * Recherche signalée en attente de report (occurrences, dont avec résultats)
+     */
+    private static final class Recherche {
+        final String texte;
+        final String langue;
+        final AtomicInteger occurrences = new AtomicInteger();
+        final AtomicInteger avecResultats = new AtomicInteger();
+
+        Recherche(String texte, String langue) {
+            this.texte = texte;
+            this.langue = langue;
+        }
+
+        void ajouter(boolean resultats) {
+            occurrences.incrementAndGet();
+            if (resultats) {
+                avecResultats.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * État publié : suggestions par identifiant interne et partitions par langue ("*" : toutes les langues,
+     * aussi utilisée pour une langue qui n'a pas de suggestion propre)
+     */
+    private static final class Etat {
+        final String[] textes;
+        final float[] scores;
+        final int[] frequences;
+        final int[][] categories;
+        final Map<String, Partition> partitions;
+
+        Etat(String[] textes, float[] scores, int[] frequences, int[][] categories, Map<String, Partition> partitions) {
+            this.textes = textes;
+            this.scores = scores;
+            this.frequences = frequences;
+            this.categories = categories;
+            this.partitions = partitions;
+        }
+
+        Partition partition(String langue) {
+            String cle = langue(langue);
+            if (cle == null) {
+                return partitions.get(TOUTES);
+            }
+            Partition partition = partitions.get(cle);
+            return partition != null ? partition : partitions.get(TOUTES);
+        }
+
+        boolean associee(int id, int categorieId) {
+            return Arrays.binarySearch(categories[id], categorieId) >= 0;
+        }
+    }
+
+    /**
+     * Clés triées, suggestion de chaque clé et arbre de segments des positions de meilleur score
+     */
+    private static final class Partition {
+        final String[] cles;
+        final int[] ids;
+        // Feuilles à partir de "feuilles" ; chaque nœud garde la position du meilleur score de son intervalle
+        final int[] arbre;
+        final int feuilles;
+
+        Partition(String[] cles, int[] ids, float[] scores) {
+            this.cles = cles;
+            this.ids = ids;
+            int taille = 1;
+            while (taille < Math.max(1, cles.length)) {
+                taille <<= 1;
+            }
+            feuilles = taille;
+            arbre = new int[2 * taille];
+            Arrays.fill(arbre, -1);
+            for (int position = 0; position < cles.length; position++) {
+                arbre[taille + position] = position;
+            }
+            for (int noeud = taille - 1; noeud > 0; noeud--) {
+                arbre[noeud] = meilleure(scores, arbre[2 * noeud], arbre[2 * noeud + 1]);
+            }
+        }
+
+        /**
+         * Position du meilleur score dans [debut, fin)
+         */
+        int maximum(float[] scores, int debut, int fin) {
+            int meilleure = -1;
+            for (int gauche = debut + feuilles, droite = fin + feuilles; gauche < droite; gauche >>= 1, droite >>= 1) {
+                if ((gauche & 1) == 1) {
+                    meilleure = meilleure(scores, meilleure, arbre[gauche++]);
+                }
+                if ((droite & 1) == 1) {
+                    meilleure = meilleure(scores, meilleure, arbre[--droite]);
+                }
+            }
+            return meilleure;
+        }
+
+        private int meilleure(float[] scores, int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            if (b < 0) {
+                return a;
+            }
+            return scores[ids[b]] > scores[ids[a]] ? b : a;
+        }
+    }
+
+    /**
+     * Suggestion proposée : texte, score et fréquence d'utilisation
+     */
+    public static class Suggestion implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final String texte;
+        public final float score;
+        public final int frequence;
+
+        Suggestion(String texte, float score, int frequence) {
+            this.texte = texte;
+            this.score = score;
+            this.frequence = frequence;
+        }
+
+        @Override
+        public String toString() {
+            return texte + " (" + String.format("%.2f", score) + ")";
+        }
+    }
+
+    /**
+     * Taille de l'index, recherches en attente et latences
+     */
+    public static class Statistiques {
+        public boolean charge;
+        public int suggestions;
+        public int cles;
+        public final Set<String> langues = new TreeSet<>();
+        public int nouvelles;
+        public int recherchesEnAttente;
+        public int recherchesIgnorees;
+        public long chargementMs;
+        public LatencyHistogram.Snapshot completions;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== AUTOCOMPLÉTION ===\n");
+            if (!charge) {
+                sb.append("Non chargée\n");
+            } else {
+                sb.append(String.format("Suggestions : %,d (dont issues de l'historique : %,d) | clés : %,d%n",
+                        suggestions, nouvelles, cles));
+                sb.append("Langues : ").append(langues.isEmpty() ? "-" : String.join(", ", langues)).append("\n");
+                sb.append("Chargement : ").append(chargementMs).append(" ms\n");
+            }
+            sb.append(String.format("Recherches en attente : %,d | ignorées : %,d%n", recherchesEnAttente,
+                    recherchesIgnorees));
+            sb.append("Complétions : ").append(completions).append("\n");
+            sb.append("======================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package utils.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment d'index inversé immuable : dictionnaire de termes trié (recherche exacte et par préfixe
+ * par dichotomie) et, pour chaque terme, les ordinaux des documents (croissants) et la fréquence pondérée
+ * Les documents sont numérotés par identifiant de produit croissant
+ */
+final class IndexSegment {
+
+    static final IndexSegment VIDE = new Constructeur().construire();
+
+    final String[] termes;
+    final int[][] documents;
+    final byte[][] frequences;
+    final int[] produitIds;
+    final short[] longueurs;
+    final float[] boosts;
+    final long longueurTotale;
+    final long postings;
+
+    private IndexSegment(String[] termes, int[][] documents, byte[][] frequences, int[] produitIds,
+            short[] longueurs, float[] boosts) {
+        this.termes = termes;
+        this.documents = documents;
+        this.frequences = frequences;
+        this.produitIds = produitIds;
+        this.longueurs = longueurs;
+        this.boosts = boosts;
+        long total = 0;
+        for (short longueur : longueurs) {
+            total += longueur;
+        }
+        this.longueurTotale = total;
+        long nombre = 0;
+        for (int[] liste : documents) {
+            nombre += liste.length;
+        }
+        this.postings = nombre;
+    }
+
+    int taille() {
+        return produitIds.length;
+    }
+
+    /**
+     * Position du terme dans le dictionnaire, -1 s'il est absent
+     */
+    int terme(String terme) {
+        int position = Arrays.binarySearch(termes, terme);
+        return position >= 0 ? position : -1;
+    }
+
+    /**
+     * Première position d'un terme commençant par le préfixe (les suivants sont contigus)
+     */
+    int debutPrefixe(String prefixe) {
+        int position = Arrays.binarySearch(termes, prefixe);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Ordinal du document d'un produit, -1 s'il est absent du segment
+     */
+    int ordinal(int produitId) {
+        int position = Arrays.binarySearch(produitIds, produitId);
+        return position >= 0 ? position : -1;
+    }
+
+    /**
+     * Fusion d'un segment (documents masqués exclus) et d'un segment plus récent :
+     * renumérotation par identifiant croissant, listes de documents fusionnées terme par terme
+     */
+    static IndexSegment fusionner(IndexSegment base, BitSet masques, IndexSegment recent) {
+        int[] ordBase = new int[base.taille()];
+        int[] ordRecent = new int[recent.taille()];
+        int total = base.taille() - masques.cardinality() + recent.taille();
+        int[] produitIds = new int[total];
+        short[] longueurs = new short[total];
+        float[] boosts = new float[total];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < base.taille() || j < recent.taille()) {
+            if (i < base.taille() && masques.get(i)) {
+                ordBase[i++] = -1;
+                continue;
+            }
+            boolean depuisBase = j >= recent.taille()
+                    || (i < base.taille() && base.produitIds[i] < recent.produitIds[j]);
+            IndexSegment source = depuisBase ? base : recent;
+            int ord = depuisBase ? i : j;
+            produitIds[n] = source.produitIds[ord];
+            longueurs[n] = source.longueurs[ord];
+            boosts[n] = source.boosts[ord];
+            if (depuisBase) {
+                ordBase[i++] = n++;
+            } else {
+                ordRecent[j++] = n++;
+            }
+        }
+
+        List<String> termes = new ArrayList<>(base.termes.length);
+        List<int[]> documents = new ArrayList<>(base.termes.length);
+        List<byte[]> frequences = new ArrayList<>(base.termes.length);
+        int[] tampon = new int[Math.max(1, total)];
+        byte[] tamponFrequences = new byte[tampon.length];
+        i = 0;
+        j = 0;
+        while (i < base.termes.length || j < recent.termes.length) {
+            int comparaison = i >= base.termes.length ? 1
+                    : j >= recent.termes.length ? -1 : base.termes[i].compareTo(recent.termes[j]);
+            int nombre = 0;
+            String terme;
+            if (comparaison <= 0) {
+                terme = base.termes[i];
+                nombre = copier(base.documents[i], base.frequences[i], ordBase, tampon, tamponFrequences, 0);
+                i++;
+            } else {
+                terme = recent.termes[j];
+            }
+            if (comparaison >= 0) {
+                // Les ordinaux du segment récent s'intercalent : fusion des deux listes triées
+                int debut = nombre;
+                nombre = copier(recent.documents[j], recent.frequences[j], ordRecent, tampon, tamponFrequences, nombre);
+                if (debut > 0 && nombre > debut) {
+                    trier(tampon, tamponFrequences, debut, nombre);
+                }
+                j++;
+            }
+            if (nombre > 0) {
+                termes.add(terme);
+                documents.add(Arrays.copyOf(tampon, nombre));
+                frequences.add(Arrays.copyOf(tamponFrequences, nombre));
+            }
+        }
+        return new IndexSegment(termes.toArray(new String[0]), documents.toArray(new int[0][]),
+                frequences.toArray(new byte[0][]), produitIds, longueurs, boosts);
+    }
+
+    private static int copier(int[] documents, byte[] frequences, int[] renumerotation, int[] tampon,
+            byte[] tamponFrequences, int position) {
+        for (int k = 0; k < documents.length; k++) {
+            int ord = renumerotation[documents[k]];
+            if (ord >= 0) {
+                tampon[position] = ord;
+                tamponFrequences[position++] = frequences[k];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Fusion en place de deux séquences triées contiguës [0, milieu) et [milieu, fin)
+     */
+    private static void trier(int[] documents, byte[] frequences, int milieu, int fin) {
+        int[] gauche = Arrays.copyOf(documents, milieu);
+        byte[] gaucheFrequences = Arrays.copyOf(frequences, milieu);
+        int i = 0;
+        int j = milieu;
+        int k = 0;
+        while (i < milieu) {
+            if (j < fin && documents[j] < gauche[i]) {
+                frequences[k] = frequences[j];
+                documents[k++] = documents[j++];
+            } else {
+                frequences[k] = gaucheFrequences[i];
+                documents[k++] = gauche[i++];
+            }
+        }
+    }
+
+    /**
+     * Construction d'un segment à partir de documents ajoutés par identifiant de produit croissant
+     */
+    static final class Constructeur {
+
+        private final Map<String, Liste> listes = new HashMap<>();
+        private int[] produitIds = new int[16];
+        private short[] longueurs = new short[16];
+        private float[] boosts = new float[16];
+        private int taille;
+
+        void ajouter(SearchDocument document) {
+            if (taille > 0 && document.produitId <= produitIds[taille - 1]) {
+                throw new IllegalArgumentException("Documents non triés : " + document.produitId);
+            }
+            if (taille == produitIds.length) {
+                produitIds = Arrays.copyOf(produitIds, taille * 2);
+                longueurs = Arrays.copyOf(longueurs, taille * 2);
+                boosts = Arrays.copyOf(boosts, taille * 2);
+            }
+            int ord = taille++;
+            produitIds[ord] = document.produitId;
+            longueurs[ord] = document.longueur;
+            boosts[ord] = document.boost;
+            for (int k = 0; k < document.termes.length; k++) {
+                listes.computeIfAbsent(document.termes[k], t -> new Liste()).ajouter(ord, document.frequences[k]);
+            }
+        }
+
+        int taille() {
+            return taille;
+        }
+
+        IndexSegment construire() {
+            String[] termes = listes.keySet().toArray(new String[0]);
+            Arrays.sort(termes);
+            int[][] documents = new int[termes.length][];
+            byte[][] frequences = new byte[termes.length][];
+            for (int k = 0; k < termes.length; k++) {
+                Liste liste = listes.get(termes[k]);
+                documents[k] = Arrays.copyOf(liste.documents, liste.taille);
+                frequences[k] = Arrays.copyOf(liste.frequences, liste.taille);
+            }
+            listes.clear();
+            return new IndexSegment(termes, documents, frequences, Arrays.copyOf(produitIds, taille),
+                    Arrays.copyOf(longueurs, taille), Arrays.copyOf(boosts, taille));
+        }
+    }
+
+    private static final class Liste {
+        int[] documents = new int[4];
+        byte[] frequences = new byte[4];
+        int taille;
+
+        void ajouter(int document, byte frequence) {
+            if (taille == documents.length) {
+                documents = Arrays.copyOf(documents, taille * 2);
+                frequences = Arrays.copyOf(frequences, taille * 2);
+            }
+            documents[taille] = document;
+            frequences[taille++] = frequence;
+        }
+    }
+}
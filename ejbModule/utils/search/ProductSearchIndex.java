@@ -0,0 +1,781 @@
+package utils.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import utils.catalogue.ProductCard;
+import utils.catalogue.ProductCardQueries;
+import utils.metrics.LatencyHistogram;
+
+/**
+ * Moteur de recherche produits en mémoire (index inversé, classement BM25)
+ *
+ * Index : un segment de base immuable (chargement complet) + un segment récent reconstruit à chaque lot de
+ * modifications ; les documents remplacés ou supprimés sont masqués dans la base. Au-delà de
+ * {@value #SEUIL_FUSION} documents récents, les deux segments sont fusionnés
+ * Lecture sans verrou : une requête travaille sur l'état publié à son début
+ * Écriture : un seul thread ("senmarket-search"), alimenté après commit par {@link SearchIndexListener}
+ *
+ * Classement : BM25 (k1 = 1,2, b = 0,75) sur les champs pondérés, multiplié par le boost de popularité
+ * (ventes, note) ; tous les termes sont requis, avec repli sur "au moins un terme" si aucun produit ne les
+ * contient tous ; le mot en cours de saisie est aussi cherché comme préfixe
+ * Synonymes : les expressions de la requête présentes dans {@link SynonymDictionary} ajoutent leurs
+ * alternatives au terme correspondant, avec le poids du synonyme (rechargé après chaque modification de la table)
+ */
+public class ProductSearchIndex {
+
+    private static final Logger logger = Logger.getLogger(ProductSearchIndex.class.getName());
+
+    public static final String ENABLED = "senmarket.search.enabled";
+
+    static final int SEUIL_FUSION = 5_000;
+    static final int LIMITE_MAX = 200;
+    // Rang maximal atteignable en pagination (offset + limite)
+    static final int PROFONDEUR_MAX = 1_000;
+    static final int MAX_TERMES_REQUETE = 8;
+    // Préfixe : au plus 32 termes (les plus fréquents), et un budget de documents parcourus
+    static final int MAX_EXPANSIONS = 32;
+    static final int BUDGET_PREFIXE = 250_000;
+    static final float POIDS_PREFIXE = 0.7f;
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    // Regroupe les modifications de transactions rapprochées en un seul lot
+    private static final long DELAI_MS = 200;
+
+    private static final Map<SessionFactory, ProductSearchIndex> INDEX = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ScheduledExecutorService ecrivain;
+    private final Set<Integer> produitsModifies = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> marquesModifiees = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> categoriesModifiees = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean planifie = new AtomicBoolean();
+    private final LatencyHistogram latences = new LatencyHistogram();
+    private final AtomicBoolean synonymesPlanifies = new AtomicBoolean();
+    // Au plus un accumulateur conservé par processeur (chacun a la taille du catalogue) ; au-delà, jetables
+    private final BlockingQueue<Accumulateur> accumulateurs =
+            new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    private volatile Etat etat;
+    private volatile SynonymDictionary synonymes = SynonymDictionary.VIDE;
+    private CompletableFuture<Void> chargement;
+
+    // Réservés au thread d'écriture
+    private final TreeMap<Integer, SearchDocument> documentsRecents = new TreeMap<>();
+    private long chargementMs;
+    private int fusions;
+
+    ProductSearchIndex(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, ProductSearchIndex index) {
+        INDEX.put(sessionFactory, index);
+    }
+
+    static void retirer(SessionFactory sessionFactory) {
+        ProductSearchIndex index = INDEX.remove(sessionFactory);
+        if (index != null) {
+            index.ecrivain.shutdownNow();
+        }
+    }
+
+    /**
+     * Index de l'unité de persistance, ou null si la recherche est désactivée (senmarket.search.enabled=false)
+     */
+    public static ProductSearchIndex of(EntityManagerFactory emf) {
+        return INDEX.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Lance le chargement complet en arrière-plan (sans effet s'il est déjà lancé)
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            chargement = CompletableFuture.runAsync(this::chargerTout, ecrivain);
+        }
+        return chargement;
+    }
+
+    /**
+     * Produits correspondant à la requête, du plus pertinent au moins pertinent (synonymes de toutes les langues)
+     * Le premier appel attend la fin du chargement complet ; au-delà du rang {@value #PROFONDEUR_MAX}, la page
+     * est vide (le total reste renseigné)
+     */
+    public Resultats rechercher(String texte, int offset, int limite) {
+        return rechercher(texte, null, offset, limite);
+    }
+
+    /**
+     * Produits correspondant à la requête, avec les synonymes de la langue donnée ("fr", "wo"...)
+     * et ceux valables pour toutes les langues
+     */
+    public Resultats rechercher(String texte, String langue, int offset, int limite) {
+        long debut = System.nanoTime();
+        Etat courant = etat();
+        TextAnalyzer.Requete requete = TextAnalyzer.analyserRequete(texte);
+        Resultats resultats = new Resultats();
+        resultats.requete = requete.toString();
+        if (!requete.isVide() && courant.documents > 0) {
+            Accumulateur acc = accumulateurs.poll();
+            if (acc == null) {
+                acc = new Accumulateur();
+            }
+            try {
+                executer(courant, synonymes, langue, requete, acc, Math.min(Math.max(0, offset), PROFONDEUR_MAX),
+                        Math.max(1, Math.min(limite, LIMITE_MAX)), resultats);
+            } finally {
+                acc.vider();
+                accumulateurs.offer(acc);
+            }
+        }
+        long duree = System.nanoTime() - debut;
+        latences.record(duree);
+        resultats.dureeMs = duree / 1_000_000d;
+        return resultats;
+    }
+
+    /**
+     * Cartes produits des résultats (projection cartes_produits, dans l'ordre du classement)
+     */
+    public List<ProductCard> rechercherCartes(EntityManager em, String texte, int offset, int limite) {
+        return rechercherCartes(em, texte, null, offset, limite);
+    }
+
+    public List<ProductCard> rechercherCartes(EntityManager em, String texte, String langue, int offset, int limite) {
+        Resultats resultats = rechercher(texte, langue, offset, limite);
+        List<Integer> ids = new ArrayList<>(resultats.resultats.size());
+        for (Resultat resultat : resultats.resultats) {
+            ids.add(resultat.produitId);
+        }
+        return ProductCardQueries.parIds(em, ids);
+    }
+
+    private Etat etat() {
+        Etat courant = etat;
+        if (courant == null) {
+            demarrer().join();
+            courant = etat;
+        }
+        return courant;
+    }
+
+    // ------------------------------------------------------------------ requête
+
+    private static void executer(Etat etat, SynonymDictionary synonymes, String langue, TextAnalyzer.Requete requete,
+            Accumulateur acc, int offset, int limite, Resultats resultats) {
+        List<List<Expansion>> groupes = new ArrayList<>();
+        // Terme de chaque groupe, dans l'ordre de la requête (le mot en cours complet pour le préfixe)
+        List<String> sequence = new ArrayList<>();
+        for (String terme : requete.termes) {
+            if (groupes.size() == MAX_TERMES_REQUETE) {
+                break;
+            }
+            List<Expansion> groupe = new ArrayList<>(1);
+            Expansion exacte = exacte(etat, terme, 1f);
+            if (exacte != null) {
+                groupe.add(exacte);
+            }
+            groupes.add(groupe);
+            sequence.add(terme);
+        }
+        if (requete.prefixe != null && groupes.size() < MAX_TERMES_REQUETE) {
+            groupes.add(expansions(etat, requete.motEnCours, requete.prefixe));
+            sequence.add(requete.motEnCours);
+        }
+        List<SynonymDictionary.Correspondance> correspondances = synonymes.rechercher(sequence, langue);
+        for (SynonymDictionary.Correspondance correspondance : correspondances) {
+            ajouterSynonymes(etat, correspondance, groupes);
+        }
+        if (!correspondances.isEmpty()) {
+            resultats.requete += " ~ " + correspondances;
+        }
+
+        acc.preparer(etat.base.taille() + etat.recent.taille());
+        float k1b = K1 * (1 - B);
+        float k1bl = (float) (K1 * B / Math.max(1, etat.longueurMoyenne));
+        for (int g = 0; g < groupes.size(); g++) {
+            int bit = 1 << g;
+            for (Expansion expansion : groupes.get(g)) {
+                float idf = (float) Math.log(1 + (Math.max(0, etat.documents - expansion.df) + 0.5) / (expansion.df + 0.5));
+                float poids = Math.max(idf, 0.01f) * expansion.poids;
+                if (expansion.base >= 0) {
+                    accumuler(acc, etat.base, expansion.base, 0, etat.masques, bit, poids, k1b, k1bl);
+                }
+                if (expansion.recent >= 0) {
+                    accumuler(acc, etat.recent, expansion.recent, etat.base.taille(), null, bit, poids, k1b, k1bl);
+                }
+            }
+        }
+
+        int requis = (1 << groupes.size()) - 1;
+        int complets = 0;
+        for (int i = 0; i < acc.touches; i++) {
+            if (acc.masques[acc.touche[i]] == requis) {
+                complets++;
+            }
+        }
+        boolean elargi = complets == 0 && groupes.size() > 1;
+        resultats.total = elargi ? acc.touches : complets;
+        resultats.elargi = elargi;
+
+        Selection selection = new Selection(Math.min(offset + limite, PROFONDEUR_MAX));
+        for (int i = 0; i < acc.touches; i++) {
+            int document = acc.touche[i];
+            int masque = acc.masques[document];
+            if (masque != requis && !elargi) {
+                continue;
+            }
+            float score = acc.scores[document] * etat.boost(document);
+            if (elargi) {
+                // Repli : un produit qui contient plus de termes passe devant
+                score *= Integer.bitCount(masque) / (float) groupes.size();
+            }
+            selection.proposer(document, score);
+        }
+
+        int[] documents = selection.trier();
+        for (int i = offset; i < documents.length; i++) {
+            resultats.resultats.add(new Resultat(etat.produitId(documents[i]), selection.score(i)));
+        }
+    }
+
+    private static void accumuler(Accumulateur acc, IndexSegment segment, int terme, int decalage, BitSet masques,
+            int bit, float poids, float k1b, float k1bl) {
+        int[] documents = segment.documents[terme];
+        byte[] frequences = segment.frequences[terme];
+        short[] longueurs = segment.longueurs;
+        for (int k = 0; k < documents.length; k++) {
+            int ord = documents[k];
+            if (masques != null && masques.get(ord)) {
+                continue;
+            }
+            int document = decalage + ord;
+            int masque = acc.masques[document];
+            // Une seule expansion compte par terme de la requête (la plus fréquente, l'exacte d'abord)
+            if ((masque & bit) != 0) {
+                continue;
+            }
+            if (masque == 0) {
+                acc.touche[acc.touches++] = document;
+            }
+            acc.masques[document] = masque | bit;
+            float tf = frequences[k] & 0xFF;
+            acc.scores[document] += poids * tf * (K1 + 1) / (tf + k1b + k1bl * longueurs[ord]);
+        }
+    }
+
+    private static Expansion exacte(Etat etat, String terme, float poids) {
+        int base = etat.base.terme(terme);
+        int recent = etat.recent.terme(terme);
+        if (base < 0 && recent < 0) {
+            return null;
+        }
+        int df = (base >= 0 ? etat.base.documents[base].length : 0)
+                + (recent >= 0 ? etat.recent.documents[recent].length : 0);
+        return new Expansion(base, recent, df, poids);
+    }
+
+    /**
+     * Mot en cours de saisie : le terme exact, puis les termes commençant par le préfixe (les plus fréquents)
+     */
+    private static List<Expansion> expansions(Etat etat, String motEnCours, String prefixe) {
+        List<Expansion> expansions = new ArrayList<>();
+        Expansion exacte = exacte(etat, motEnCours, 1f);
+        if (exacte != null) {
+            expansions.add(exacte);
+        }
+        // Termes du préfixe les plus fréquents, sans liste intermédiaire (sélection sur MAX_EXPANSIONS cases)
+        Selection meilleurs = new Selection(MAX_EXPANSIONS);
+        String[] termes = etat.base.termes;
+        for (int k = etat.base.debutPrefixe(prefixe); k < termes.length && termes[k].startsWith(prefixe); k++) {
+            if (!termes[k].equals(motEnCours)) {
+                meilleurs.proposer(k, etat.base.documents[k].length);
+            }
+        }
+        Set<String> vus = new HashSet<>();
+        int[] retenus = meilleurs.trier();
+        int budget = exacte == null ? 0 : exacte.df;
+        for (int terme : retenus) {
+            if (budget >= BUDGET_PREFIXE && !expansions.isEmpty()) {
+                break;
+            }
+            Expansion expansion = exacte(etat, termes[terme], POIDS_PREFIXE);
+            expansions.add(expansion);
+            vus.add(termes[terme]);
+            budget += expansion.df;
+        }
+        // Termes apparus depuis le dernier chargement (segment récent uniquement)
+        String[] recents = etat.recent.termes;
+        for (int k = etat.recent.debutPrefixe(prefixe); k < recents.length && recents[k].startsWith(prefixe); k++) {
+            if (!recents[k].equals(motEnCours) && !vus.contains(recents[k]) && etat.base.terme(recents[k]) < 0
+                    && expansions.size() < MAX_EXPANSIONS) {
+                expansions.add(exacte(etat, recents[k], POIDS_PREFIXE));
+            }
+        }
+        return expansions;
+    }
+
+    /**
+     * Alternatives d'une expression ajoutées à chacun de ses termes : un produit qui ne contient que
+     * l'alternative satisfait toute l'expression, son poids étant réparti entre les termes couverts
+     */
+    private static void ajouterSynonymes(Etat etat, SynonymDictionary.Correspondance correspondance,
+            List<List<Expansion>> groupes) {
+        for (SynonymDictionary.Alternative alternative : correspondance.alternatives) {
+            for (String terme : alternative.termes) {
+                Expansion expansion = exacte(etat, terme, alternative.poids / correspondance.longueur);
+                if (expansion == null) {
+                    continue;
+                }
+                for (int g = correspondance.debut; g < correspondance.debut + correspondance.longueur; g++) {
+                    groupes.get(g).add(expansion);
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    /**
+     * Produits, marques ou catégories modifiés par une transaction validée (appelé par le listener)
+     */
+    void signaler(Collection<Integer> produits, Collection<Integer> marques, Collection<Integer> categories) {
+        produitsModifies.addAll(produits);
+        marquesModifiees.addAll(marques);
+        categoriesModifiees.addAll(categories);
+        if (planifie.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::appliquer, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Index arrêté (fermeture de l'EntityManagerFactory)
+                planifie.set(false);
+            }
+        }
+    }
+
+    /**
+     * Table SynonymesRecherche modifiée par une transaction validée : dictionnaire recompilé en arrière-plan
+     */
+    void signalerSynonymes() {
+        if (synonymesPlanifies.compareAndSet(false, true)) {
+            try {
+                ecrivain.schedule(this::rechargerSynonymes, DELAI_MS, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                synonymesPlanifies.set(false);
+            }
+        }
+    }
+
+    private void rechargerSynonymes() {
+        synonymesPlanifies.set(false);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                synonymes = SynonymDictionary.charger(session);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+            logger.info("🔎 Synonymes de recherche rechargés : " + synonymes.entrees);
+        } catch (RuntimeException e) {
+            // Le dictionnaire précédent reste en service
+            logger.log(Level.WARNING, "⚠️ Rechargement des synonymes de recherche impossible", e);
+        }
+    }
+
+    private void chargerTout() {
+        long debut = System.nanoTime();
+        IndexSegment.Constructeur constructeur = new IndexSegment.Constructeur();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                synonymes = SynonymDictionary.charger(session);
+                SearchDocumentLoader.chargerTout(session, constructeur::ajouter);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                logger.log(Level.SEVERE, "❌ Chargement de l'index de recherche impossible", e);
+                throw e;
+            }
+        }
+        documentsRecents.clear();
+        etat = new Etat(constructeur.construire(), new BitSet(), IndexSegment.VIDE);
+        chargementMs = (System.nanoTime() - debut) / 1_000_000;
+        logger.info("🔎 Index de recherche chargé : " + etat.documents + " produits, " + etat.base.termes.length
+                + " termes, " + synonymes.entrees + " synonymes en " + chargementMs + " ms");
+    }
+
+    /**
+     * Réindexe les produits signalés : documents relus, anciens masqués, segment récent reconstruit
+     */
+    private void appliquer() {
+        planifie.set(false);
+        Set<Integer> produits = vider(produitsModifies);
+        Set<Integer> marques = vider(marquesModifiees);
+        Set<Integer> categories = vider(categoriesModifiees);
+        Etat courant = etat;
+        // Index pas encore chargé : le chargement complet lira l'état à jour
+        if (courant == null || (produits.isEmpty() && marques.isEmpty() && categories.isEmpty())) {
+            return;
+        }
+        try {
+            Map<Integer, SearchDocument> documents;
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                Transaction transaction = session.beginTransaction();
+                try {
+                    produits.addAll(SearchDocumentLoader.produitsRattaches(session, "marques", marques));
+                    produits.addAll(SearchDocumentLoader.produitsRattaches(session, "categoriesProduits", categories));
+                    documents = SearchDocumentLoader.charger(session, produits);
+                    transaction.commit();
+                } catch (RuntimeException e) {
+                    transaction.rollback();
+                    throw e;
+                }
+            }
+
+            BitSet masques = (BitSet) courant.masques.clone();
+            for (Integer produitId : produits) {
+                int ord = courant.base.ordinal(produitId);
+                if (ord >= 0) {
+                    masques.set(ord);
+                }
+                documentsRecents.remove(produitId);
+                SearchDocument document = documents.get(produitId);
+                if (document != null) {
+                    documentsRecents.put(produitId, document);
+                }
+            }
+            IndexSegment.Constructeur constructeur = new IndexSegment.Constructeur();
+            documentsRecents.values().forEach(constructeur::ajouter);
+            IndexSegment recent = constructeur.construire();
+
+            if (documentsRecents.size() >= SEUIL_FUSION) {
+                long debut = System.nanoTime();
+                IndexSegment base = IndexSegment.fusionner(courant.base, masques, recent);
+                etat = new Etat(base, new BitSet(), IndexSegment.VIDE);
+                documentsRecents.clear();
+                fusions++;
+                logger.info("🔎 Index de recherche fusionné : " + base.taille() + " produits en "
+                        + (System.nanoTime() - debut) / 1_000_000 + " ms");
+            } else {
+                etat = new Etat(courant.base, masques, recent);
+            }
+        } catch (RuntimeException e) {
+            // Produits laissés dans leur version précédente jusqu'à leur prochaine modification
+            logger.log(Level.WARNING, "⚠️ Mise à jour de l'index de recherche impossible (" + produits.size()
+                    + " produits)", e);
+        }
+    }
+
+    private static Set<Integer> vider(Set<Integer> ids) {
+        Set<Integer> copie = new HashSet<>();
+        for (Iterator<Integer> it = ids.iterator(); it.hasNext();) {
+            copie.add(it.next());
+            it.remove();
+        }
+        return copie;
+    }
+
+    /**
+     * Taille de l'index et latences des requêtes
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        Etat courant = etat;
+        if (courant != null) {
+            statistiques.charge = true;
+            statistiques.documents = courant.documents;
+            statistiques.termes = courant.base.termes.length + courant.recent.termes.length;
+            statistiques.postings = courant.base.postings + courant.recent.postings;
+            statistiques.documentsRecents = courant.recent.taille();
+            statistiques.documentsMasques = courant.masques.cardinality();
+        }
+        statistiques.synonymes = synonymes.entrees;
+        statistiques.languesSynonymes = String.join(", ", synonymes.langues());
+        statistiques.chargementMs = chargementMs;
+        statistiques.fusions = fusions;
+        statistiques.requetes = latences.snapshot();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * État publié : segments, documents masqués de la base et statistiques BM25 (nombre, longueur moyenne)
+     */
+    private static final class Etat {
+        final IndexSegment base;
+        final BitSet masques;
+        final IndexSegment recent;
+        final int documents;
+        final double longueurMoyenne;
+
+        Etat(IndexSegment base, BitSet masques, IndexSegment recent) {
+            this.base = base;
+            this.masques = masques;
+            this.recent = recent;
+            this.documents = base.taille() - masques.cardinality() + recent.taille();
+            long longueur = base.longueurTotale + recent.longueurTotale;
+            for (int ord = masques.nextSetBit(0); ord >= 0; ord = masques.nextSetBit(ord + 1)) {
+                longueur -= base.longueurs[ord];
+            }
+            this.longueurMoyenne = documents == 0 ? 0 : longueur / (double) documents;
+        }
+
+        int produitId(int document) {
+            return document < base.taille() ? base.produitIds[document] : recent.produitIds[document - base.taille()];
+        }
+
+        float boost(int document) {
+            return document < base.taille() ? base.boosts[document] : recent.boosts[document - base.taille()];
+        }
+    }
+
+    /**
+     * Terme retenu pour un mot de la requête : position dans chaque segment (-1 si absent), df et poids
+     */
+    private static final class Expansion {
+        final int base;
+        final int recent;
+        final int df;
+        final float poids;
+
+        Expansion(int base, int recent, int df, float poids) {
+            this.base = base;
+            this.recent = recent;
+            this.df = df;
+            this.poids = poids;
+        }
+    }
+
+    /**
+     * Scores par document réutilisés d'une requête à l'autre (emprunté au pool de l'index le temps d'une requête,
+     * remis à zéro sur les seuls documents touchés)
+     */
+    private static final class Accumulateur {
+        float[] scores = new float[0];
+        int[] masques = new int[0];
+        int[] touche = new int[0];
+        int touches;
+
+        void preparer(int taille) {
+            if (scores.length < taille) {
+                int capacite = Math.max(taille, scores.length + scores.length / 4);
+                scores = new float[capacite];
+                masques = new int[capacite];
+                touche = new int[capacite];
+            }
+            touches = 0;
+        }
+
+        void vider() {
+            for (int i = 0; i < touches; i++) {
+                scores[touche[i]] = 0;
+                masques[touche[i]] = 0;
+            }
+            touches = 0;
+        }
+    }
+
+    /**
+     * Les n meilleurs (valeur, score) : tas minimum de taille fixe
+     */
+    private static final class Selection {
+        private final int[] valeurs;
+        private final float[] scores;
+        private int taille;
+
+        Selection(int capacite) {
+            valeurs = new int[capacite];
+            scores = new float[capacite];
+        }
+
+        void proposer(int valeur, float score) {
+            if (taille < valeurs.length) {
+                valeurs[taille] = valeur;
+                scores[taille] = score;
+                monter(taille++);
+            } else if (score > scores[0]) {
+                valeurs[0] = valeur;
+                scores[0] = score;
+                descendre(0);
+            }
+        }
+
+        /**
+         * Valeurs par score décroissant (le tas est consommé)
+         */
+        int[] trier() {
+            int nombre = taille;
+            while (taille > 1) {
+                echanger(0, --taille);
+                descendre(0);
+            }
+            taille = 0;
+            int[] resultat = new int[nombre];
+            System.arraycopy(valeurs, 0, resultat, 0, nombre);
+            return resultat;
+        }
+
+        /**
+         * Score de la i-ème valeur renvoyée par {@link #trier()}
+         */
+        float score(int i) {
+            return scores[i];
+        }
+
+        private void monter(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (scores[i] >= scores[parent]) {
+                    return;
+                }
+                echanger(i, parent);
+                i = parent;
+            }
+        }
+
+        private void descendre(int i) {
+            while (true) {
+                int gauche = 2 * i + 1;
+                int plusPetit = i;
+                if (gauche < taille && scores[gauche] < scores[plusPetit]) {
+                    plusPetit = gauche;
+                }
+                if (gauche + 1 < taille && scores[gauche + 1] < scores[plusPetit]) {
+                    plusPetit = gauche + 1;
+                }
+                if (plusPetit == i) {
+                    return;
+                }
+                echanger(i, plusPetit);
+                i = plusPetit;
+            }
+        }
+
+        private void echanger(int i, int j) {
+            int valeur = valeurs[i];
+            valeurs[i] = valeurs[j];
+            valeurs[j] = valeur;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    /**
+     * Produit trouvé et son score (BM25 × popularité)
+     */
+    public static class Resultat implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final int produitId;
+        public final float score;
+
+        Resultat(int produitId, float score) {
+            this.produitId = produitId;
+            this.score = score;
+        }
+
+        @Override
+        public String toString() {
+            return produitId + " (" + String.format("%.3f", score) + ")";
+        }
+    }
+
+    /**
+     * Page de résultats : total des produits trouvés, repli sur une correspondance partielle, durée
+     */
+    public static class Resultats implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public String requete;
+        public final List<Resultat> resultats = new ArrayList<>();
+        public int total;
+        public boolean elargi;
+        public double dureeMs;
+
+        @Override
+        public String toString() {
+            return String.format("Recherche %s : %d produits%s en %.2f ms %s", requete, total,
+                    elargi ? " (correspondance partielle)" : "", dureeMs, resultats);
+        }
+    }
+
+    /**
+     * Taille de l'index et latences
+     */
+    public static class Statistiques {
+        public boolean charge;
+        public int documents;
+        public int termes;
+        public long postings;
+        public int documentsRecents;
+        public int documentsMasques;
+        public int synonymes;
+        public String languesSynonymes;
+        public long chargementMs;
+        public int fusions;
+        public LatencyHistogram.Snapshot requetes;
+
+        /**
+         * Mémoire des listes de documents (ordinal int + fréquence sur un octet), hors dictionnaire
+         */
+        public double getMemoirePostingsMo() {
+            return postings * 5 / (1024d * 1024d);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== INDEX DE RECHERCHE ===\n");
+            if (!charge) {
+                sb.append("Non chargé\n");
+            } else {
+                sb.append(String.format("Produits : %,d (récents : %,d, masqués : %,d)%n", documents,
+                        documentsRecents, documentsMasques));
+                sb.append(String.format("Termes : %,d | postings : %,d (%.1f Mo)%n", termes, postings,
+                        getMemoirePostingsMo()));
+                sb.append("Synonymes : ").append(synonymes);
+                if (!languesSynonymes.isEmpty()) {
+                    sb.append(" (").append(languesSynonymes).append(")");
+                }
+                sb.append("\n");
+                sb.append("Chargement : ").append(chargementMs).append(" ms | fusions : ").append(fusions).append("\n");
+            }
+            sb.append("Requêtes : ").append(requetes).append("\n");
+            sb.append("==========================");
+            return sb.toString();
+        }
+    }
+}
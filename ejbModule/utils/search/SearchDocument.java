@@ -0,0 +1,88 @@
+package utils.search;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Document indexé d'un produit : termes distincts, fréquence pondérée par champ, longueur et boost
+ * Le boost favorise les produits qui se vendent et les mieux notés, à pertinence textuelle égale
+ */
+final class SearchDocument {
+
+    // Poids des champs : un terme du nom compte trois fois un terme de la description
+    static final int POIDS_NOM = 3;
+    static final int POIDS_MARQUE = 2;
+    static final int POIDS_CATEGORIE = 2;
+    static final int POIDS_MOTS_CLES = 2;
+    static final int POIDS_TEXTE = 1;
+
+    // Boost : 1 + 0,05 × ln(1 + ventes) + 0,06 × note (1000 ventes : +0,35 ; note 5 : +0,3)
+    static final double POIDS_VENTES = 0.05;
+    static final double POIDS_NOTE = 0.06;
+
+    final int produitId;
+    final String[] termes;
+    final byte[] frequences;
+    final short longueur;
+    final float boost;
+
+    private SearchDocument(int produitId, String[] termes, byte[] frequences, short longueur, float boost) {
+        this.produitId = produitId;
+        this.termes = termes;
+        this.frequences = frequences;
+        this.longueur = longueur;
+        this.boost = boost;
+    }
+
+    static Constructeur pour(int produitId) {
+        return new Constructeur(produitId);
+    }
+
+    /**
+     * Accumule les champs d'un produit (nom, marque, attributs...) puis fige le document
+     */
+    static final class Constructeur {
+
+        private final int produitId;
+        private final Map<String, int[]> frequences = new LinkedHashMap<>();
+        private int longueur;
+        private double boost = 1;
+
+        private Constructeur(int produitId) {
+            this.produitId = produitId;
+        }
+
+        Constructeur champ(String texte, int poids) {
+            TextAnalyzer.analyser(texte, terme -> {
+                frequences.computeIfAbsent(terme, t -> new int[1])[0] += poids;
+                longueur += poids;
+            });
+            return this;
+        }
+
+        Constructeur popularite(Integer ventes, BigDecimal note) {
+            boost = 1;
+            if (ventes != null && ventes > 0) {
+                boost += POIDS_VENTES * Math.log1p(ventes);
+            }
+            if (note != null && note.signum() > 0) {
+                boost += POIDS_NOTE * note.doubleValue();
+            }
+            return this;
+        }
+
+        SearchDocument construire() {
+            String[] termes = new String[frequences.size()];
+            byte[] valeurs = new byte[termes.length];
+            int k = 0;
+            for (Map.Entry<String, int[]> entree : frequences.entrySet()) {
+                termes[k] = entree.getKey();
+                // Fréquence plafonnée à 255 (stockée sur un octet non signé)
+                valeurs[k++] = (byte) Math.min(entree.getValue()[0], 255);
+            }
+            return new SearchDocument(produitId, termes, valeurs, (short) Math.min(longueur, Short.MAX_VALUE),
+                    (float) boost);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package utils.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+
+import utils.types.JsonDocument;
+import utils.types.TsVectorType;
+
+/**
+ * Lecture des documents à indexer : projections scalaires (aucune entité, aucun contexte de persistance)
+ * sur Produits, Marques, CategoriesProduits et AttributsProduits, parcourues par curseur
+ * Seuls les produits actifs et publiés sont indexés
+ */
+final class SearchDocumentLoader {
+
+    private static final String PRODUITS =
+            "select p.id, p.nom, p.descriptionCourte, p.motsCles, p.tags, p.contenuRecherche, m.nom, c.nom, "
+            + "p.nombreVentes, p.noteMoyenne "
+            + "from Produits p join p.categoriesProduits c left join p.marques m "
+            + "where coalesce(p.estActif, true) = true and coalesce(p.estPublie, true) = true";
+    private static final String ATTRIBUTS = "select a.produits.id, a.valeurAttribut from AttributsProduits a";
+
+    // Lignes lues par aller-retour du curseur ; clauses IN bornées comme UuidLookup
+    static final int TAILLE_FETCH = 1_000;
+    static final int TAILLE_LOT = 500;
+
+    private SearchDocumentLoader() {
+    }
+
+    /**
+     * Tous les documents, par identifiant croissant (produits et attributs lus en parallèle, fusionnés par id)
+     */
+    static void chargerTout(StatelessSession session, Consumer<SearchDocument> documents) {
+        try (ScrollableResults produits = curseur(session, PRODUITS + " order by p.id");
+                ScrollableResults attributs = curseur(session, ATTRIBUTS + " order by a.produits.id")) {
+            boolean attributCourant = attributs.next();
+            while (produits.next()) {
+                Object[] ligne = produits.get();
+                int produitId = (Integer) ligne[0];
+                SearchDocument.Constructeur document = document(ligne);
+                while (attributCourant && (Integer) attributs.get(0) <= produitId) {
+                    if ((Integer) attributs.get(0) == produitId) {
+                        document.champ((String) attributs.get(1), SearchDocument.POIDS_TEXTE);
+                    }
+                    attributCourant = attributs.next();
+                }
+                documents.accept(document.construire());
+            }
+        }
+    }
+
+    /**
+     * Documents des produits donnés, par identifiant ; un produit absent (supprimé, inactif) n'y figure pas
+     */
+    static Map<Integer, SearchDocument> charger(StatelessSession session, Collection<Integer> produitIds) {
+        Map<Integer, SearchDocument.Constructeur> constructeurs = new TreeMap<>();
+        for (List<Integer> lot : lots(produitIds)) {
+            for (Object ligne : session.createQuery(PRODUITS + " and p.id in (:ids)").setParameterList("ids", lot).list()) {
+                Object[] colonnes = (Object[]) ligne;
+                constructeurs.put((Integer) colonnes[0], document(colonnes));
+            }
+            for (Object ligne : session.createQuery(ATTRIBUTS + " where a.produits.id in (:ids)")
+                    .setParameterList("ids", lot).list()) {
+                Object[] colonnes = (Object[]) ligne;
+                SearchDocument.Constructeur document = constructeurs.get(colonnes[0]);
+                if (document != null) {
+                    document.champ((String) colonnes[1], SearchDocument.POIDS_TEXTE);
+                }
+            }
+        }
+        Map<Integer, SearchDocument> documents = new TreeMap<>();
+        constructeurs.forEach((id, document) -> documents.put(id, document.construire()));
+        return documents;
+    }
+
+    /**
+     * Produits rattachés à des marques ou catégories (association "marques" ou "categoriesProduits")
+     */
+    static List<Integer> produitsRattaches(StatelessSession session, String association, Collection<Integer> ids) {
+        List<Integer> produits = new ArrayList<>();
+        for (List<Integer> lot : lots(ids)) {
+            for (Object id : session.createQuery("select p.id from Produits p where p." + association + ".id in (:ids)")
+                    .setParameterList("ids", lot).list()) {
+                produits.add((Integer) id);
+            }
+        }
+        return produits;
+    }
+
+    private static ScrollableResults curseur(StatelessSession session, String hql) {
+        return session.createQuery(hql).setFetchSize(TAILLE_FETCH).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private static SearchDocument.Constructeur document(Object[] ligne) {
+        return SearchDocument.pour((Integer) ligne[0])
+                .champ((String) ligne[1], SearchDocument.POIDS_NOM)
+                .champ((String) ligne[2], SearchDocument.POIDS_TEXTE)
+                .champ(texte(ligne[3]), SearchDocument.POIDS_MOTS_CLES)
+                .champ(texte(ligne[4]), SearchDocument.POIDS_MOTS_CLES)
+                .champ(TsVectorType.lexemes((String) ligne[5]), SearchDocument.POIDS_TEXTE)
+                .champ((String) ligne[6], SearchDocument.POIDS_MARQUE)
+                .champ((String) ligne[7], SearchDocument.POIDS_CATEGORIE)
+                .popularite((Integer) ligne[8], (BigDecimal) ligne[9]);
+    }
+
+    /**
+     * Texte d'une colonne de mots (mots-clés, tags) : chaîne, tableau, collection ou document JSON
+     */
+    static String texte(Object valeur) {
+        if (valeur == null || valeur instanceof String) {
+            return (String) valeur;
+        }
+        if (valeur instanceof JsonDocument) {
+            return texte(((JsonDocument<?>) valeur).get());
+        }
+        Iterable<?> elements = null;
+        if (valeur instanceof Object[]) {
+            elements = Arrays.asList((Object[]) valeur);
+        } else if (valeur instanceof Collection) {
+            elements = (Collection<?>) valeur;
+        } else if (valeur instanceof Map) {
+            elements = ((Map<?, ?>) valeur).values();
+        }
+        if (elements == null) {
+            return valeur.toString();
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Object element : elements) {
+            String texte = texte(element);
+            if (texte != null) {
+                sb.append(texte).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<List<Integer>> lots(Collection<Integer> ids) {
+        List<Integer> liste = new ArrayList<>(ids);
+        List<List<Integer>> lots = new ArrayList<>();
+        for (int debut = 0; debut < liste.size(); debut += TAILLE_LOT) {
+            lots.add(liste.subList(debut, Math.min(debut + TAILLE_LOT, liste.size())));
+        }
+        return lots;
+    }
+}
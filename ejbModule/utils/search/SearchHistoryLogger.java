@@ -0,0 +1,468 @@
+package utils.search;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+
+import model.recherche.HistoriqueRecherches;
+import utils.jdbc.BulkInsert;
+import utils.metrics.LatencyHistogram;
+import utils.types.Json;
+import utils.types.JsonList;
+import utils.types.PointGps;
+
+/**
+ * Journal asynchrone des recherches (historique_recherches) : la requête ne fait qu'un ajout en file bornée,
+ * un thread ("senmarket-historique") écrit par lots avec COPY (un aller-retour par lot)
+ *
+ * Identifiant attribué dès l'enregistrement par l'optimiseur pooled-lo de l'entité (un aller-retour base
+ * pour {@code increment_size} recherches), pour que le clic puisse y être rattaché
+ * Clics : fusionnés dans la ligne si elle n'est pas encore écrite, sinon appliqués par un seul UPDATE
+ * ensembliste par lot (unnest de tableaux) ; un clic qui ne trouve pas sa ligne est retenté quelques lots
+ * Agrégats (statistiques_recherche, recherches_sans_resultat) mis à jour dans la transaction de chaque lot
+ *
+ * Contre-pression : file pleine → la recherche n'est pas journalisée (comptée comme perdue), jamais d'attente
+ * côté requête ; base indisponible → le lot est conservé et retenté avec un délai croissant, la file absorbe
+ * puis déborde
+ */
+public class SearchHistoryLogger {
+
+    private static final Logger logger = Logger.getLogger(SearchHistoryLogger.class.getName());
+
+    public static final String CAPACITE = "senmarket.search.history.capacity";
+
+    static final int CAPACITE_DEFAUT = 20_000;
+    static final int TAILLE_LOT = 2_000;
+    static final int MAX_RESULTATS = 24;
+    static final int TENTATIVES_CLIC = 5;
+    private static final long INTERVALLE_MS = 250;
+    private static final long ATTENTE_MAX_MS = 30_000;
+
+    private static final String COPY = "COPY public.historique_recherches (id, session_id, compte_id, "
+            + "texte_recherche, type_recherche, langue_recherche, nombre_resultats, resultats_ids, temps_recherche_ms, "
+            + "filtres_appliques, tri_applique, coordonnees_recherche, rayon_recherche_km, a_clique_resultat, position_clic, "
+            + "produit_clique_id, boutique_cliquee_id, cree_le) FROM STDIN";
+    private static final String CLICS = "UPDATE public.historique_recherches h SET a_clique_resultat = true, "
+            + "position_clic = c.position, produit_clique_id = c.produit, boutique_cliquee_id = c.boutique "
+            + "FROM unnest(?::int[], ?::int[], ?::int[], ?::int[]) AS c(id, position, produit, boutique), "
+            // avant : état précédant l'UPDATE (instantané de la requête), pour ne compter que le premier clic
+            + "public.historique_recherches avant "
+            + "WHERE h.id = c.id AND avant.id = c.id RETURNING h.id, coalesce(avant.a_clique_resultat, false)";
+
+    private static final Map<SessionFactory, SearchHistoryLogger> JOURNAUX = new ConcurrentHashMap<>();
+
+    private final ConnectionProvider connexions;
+    private final BulkInsert.Identifiants identifiants;
+    private final BlockingQueue<Recherche> file;
+    private final Map<Integer, Clic> clics = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ecrivain;
+    private final AutocompleteIndex suggestions;
+    private final boolean statistiques;
+
+    private final AtomicLong enregistrees = new AtomicLong();
+    private final AtomicLong perdues = new AtomicLong();
+    private final AtomicLong ecrites = new AtomicLong();
+    private final AtomicLong clicsFusionnes = new AtomicLong();
+    private final AtomicLong clicsAppliques = new AtomicLong();
+    private final AtomicLong clicsAbandonnes = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+    private final LatencyHistogram lots = new LatencyHistogram();
+
+    // Réservés au thread d'écriture : lot en échec conservé pour la tentative suivante
+    private final List<Recherche> enReprise = new ArrayList<>();
+    private long attenteMs;
+    private long prochaineTentative;
+
+    SearchHistoryLogger(SessionFactoryImplementor sessionFactory, AutocompleteIndex suggestions, boolean statistiques) {
+        this.connexions = sessionFactory.getServiceRegistry().getService(ConnectionProvider.class);
+        this.identifiants = BulkInsert.identifiants(sessionFactory, connexions, HistoriqueRecherches.class);
+        Object capacite = sessionFactory.getProperties().get(CAPACITE);
+        this.file = new ArrayBlockingQueue<>(capacite == null ? CAPACITE_DEFAUT
+                : Integer.parseInt(capacite.toString().trim()));
+        this.suggestions = suggestions;
+        this.statistiques = statistiques;
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-historique");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ecrivain.scheduleWithFixedDelay(this::vider, INTERVALLE_MS, INTERVALLE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, SearchHistoryLogger journal) {
+        JOURNAUX.put(sessionFactory, journal);
+    }
+
+    /**
+     * Arrêt : les recherches en file sont écrites une dernière fois (sans reprise en cas d'échec)
+     */
+    static void retirer(SessionFactory sessionFactory) {
+        SearchHistoryLogger journal = JOURNAUX.remove(sessionFactory);
+        if (journal != null) {
+            journal.ecrivain.shutdown();
+            try {
+                journal.ecrivain.awaitTermination(5, TimeUnit.SECONDS);
+                journal.prochaineTentative = 0;
+                journal.vider();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Journal de l'unité de persistance, ou null si la recherche est désactivée (senmarket.search.enabled=false)
+     */
+    public static SearchHistoryLogger of(EntityManagerFactory emf) {
+        return JOURNAUX.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Met la recherche en file ; renvoie son identifiant (à transmettre avec le clic), ou 0 si elle est perdue
+     * (file pleine ou identifiant indisponible)
+     */
+    public int enregistrer(Recherche recherche) {
+        enregistrees.incrementAndGet();
+        if (file.remainingCapacity() == 0) {
+            perdues.incrementAndGet();
+            return 0;
+        }
+        try {
+            recherche.id = identifiants.suivant();
+        } catch (RuntimeException e) {
+            perdues.incrementAndGet();
+            logger.log(Level.FINE, "Identifiant d'historique indisponible", e);
+            return 0;
+        }
+        if (recherche.creeLe == 0) {
+            recherche.creeLe = System.currentTimeMillis();
+        }
+        if (!file.offer(recherche)) {
+            perdues.incrementAndGet();
+            return 0;
+        }
+        return recherche.id;
+    }
+
+    /**
+     * Clic sur le résultat d'une recherche journalisée (position à partir de 1), reporté au prochain lot
+     */
+    public void signalerClic(int rechercheId, int produitId, Integer boutiqueId, int position) {
+        if (rechercheId > 0) {
+            clics.put(rechercheId, new Clic(rechercheId, produitId, boutiqueId, position));
+        }
+    }
+
+    // ------------------------------------------------------------------ écriture
+
+    private void vider() {
+        try {
+            if (!enReprise.isEmpty()) {
+                if (System.currentTimeMillis() < prochaineTentative || !ecrire(enReprise)) {
+                    return;
+                }
+                enReprise.clear();
+            }
+            List<Recherche> lot = new ArrayList<>(TAILLE_LOT);
+            while (file.drainTo(lot, TAILLE_LOT) > 0) {
+                if (!ecrire(lot)) {
+                    enReprise.addAll(lot);
+                    return;
+                }
+                lot.clear();
+            }
+            if (!clics.isEmpty()) {
+                appliquerClics();
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Journal des recherches", e);
+        }
+    }
+
+    /**
+     * Copie le lot (clics déjà reçus fusionnés) ; false en cas d'échec, le prochain essai étant différé
+     */
+    private boolean ecrire(List<Recherche> lot) {
+        long debut = System.nanoTime();
+        StringBuilder lignes = new StringBuilder(lot.size() * 160);
+        for (Recherche recherche : lot) {
+            Clic clic = clics.remove(recherche.id);
+            if (clic != null) {
+                recherche.clic = clic;
+                clicsFusionnes.incrementAndGet();
+            }
+            ligne(lignes, recherche);
+        }
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try {
+                connexion.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY, new StringReader(lignes.toString()));
+                if (statistiques) {
+                    List<Integer> ids = new ArrayList<>(lot.size());
+                    for (Recherche recherche : lot) {
+                        ids.add(recherche.id);
+                    }
+                    SearchStatisticsRefresher.ajouter(connexion, ids);
+                }
+                connexion.commit();
+            } catch (SQLException | IOException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            // Clics fusionnés rendus : ils seront refusionnés à la reprise
+            for (Recherche recherche : lot) {
+                if (recherche.clic != null) {
+                    clics.putIfAbsent(recherche.id, recherche.clic);
+                    recherche.clic = null;
+                }
+            }
+            echecs.incrementAndGet();
+            attenteMs = BulkInsert.attenteSuivante(attenteMs, INTERVALLE_MS * 4, ATTENTE_MAX_MS);
+            prochaineTentative = System.currentTimeMillis() + attenteMs;
+            logger.log(Level.WARNING, "⚠️ Écriture de l'historique des recherches impossible (" + lot.size()
+                    + " lignes, nouvel essai dans " + attenteMs + " ms) : " + e.getMessage());
+            return false;
+        }
+        attenteMs = 0;
+        lots.record(System.nanoTime() - debut);
+        ecrites.addAndGet(lot.size());
+        if (suggestions != null) {
+            for (Recherche recherche : lot) {
+                suggestions.enregistrerRecherche(recherche.texte, recherche.langue, recherche.nombreResultats);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ligne COPY (format texte : tabulations, \N pour null), dans l'ordre des colonnes de {@link #COPY}
+     */
+    private static void ligne(StringBuilder sb, Recherche recherche) {
+        Clic clic = recherche.clic;
+        sb.append(recherche.id);
+        BulkInsert.colonne(sb, recherche.sessionId);
+        BulkInsert.colonne(sb, recherche.compteId);
+        BulkInsert.colonne(sb, recherche.texte);
+        BulkInsert.colonne(sb, recherche.type);
+        BulkInsert.colonne(sb, recherche.langue);
+        BulkInsert.colonne(sb, recherche.nombreResultats);
+        BulkInsert.colonne(sb, recherche.resultatsIds == null ? null : Json.write(recherche.resultatsIds));
+        BulkInsert.colonne(sb, recherche.tempsMs);
+        BulkInsert.colonne(sb, recherche.filtres == null || recherche.filtres.isEmpty() ? null : Json.write(recherche.filtres));
+        BulkInsert.colonne(sb, recherche.tri);
+        BulkInsert.colonne(sb, recherche.position == null ? null : recherche.position.toPoint());
+        BulkInsert.colonne(sb, recherche.rayonKm);
+        BulkInsert.colonne(sb, clic != null ? "t" : "f");
+        BulkInsert.colonne(sb, clic == null ? null : clic.position);
+        BulkInsert.colonne(sb, clic == null ? null : clic.produitId);
+        BulkInsert.colonne(sb, clic == null ? null : clic.boutiqueId);
+        BulkInsert.colonne(sb, new Timestamp(recherche.creeLe).toString());
+        sb.append('\n');
+    }
+
+    /**
+     * Clics dont la recherche est déjà écrite : un UPDATE pour tous ; ceux sans ligne sont retentés
+     * (recherche encore en file) puis abandonnés (recherche perdue ou d'une autre instance)
+     */
+    private void appliquerClics() {
+        List<Clic> lot = new ArrayList<>(clics.values());
+        for (Clic clic : lot) {
+            clics.remove(clic.rechercheId, clic);
+        }
+        Integer[] ids = new Integer[lot.size()];
+        Integer[] positions = new Integer[lot.size()];
+        Integer[] produits = new Integer[lot.size()];
+        Integer[] boutiques = new Integer[lot.size()];
+        for (int i = 0; i < lot.size(); i++) {
+            Clic clic = lot.get(i);
+            ids[i] = clic.rechercheId;
+            positions[i] = clic.position;
+            produits[i] = clic.produitId;
+            boutiques[i] = clic.boutiqueId;
+        }
+        Set<Integer> trouves = new HashSet<>();
+        List<Integer> premiers = new ArrayList<>();
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try (PreparedStatement update = connexion.prepareStatement(CLICS)) {
+                Array[] tableaux = { connexion.createArrayOf("integer", ids), connexion.createArrayOf("integer", positions),
+                        connexion.createArrayOf("integer", produits), connexion.createArrayOf("integer", boutiques) };
+                for (int i = 0; i < tableaux.length; i++) {
+                    update.setArray(i + 1, tableaux[i]);
+                }
+                try (ResultSet resultat = update.executeQuery()) {
+                    while (resultat.next()) {
+                        trouves.add(resultat.getInt(1));
+                        if (!resultat.getBoolean(2)) {
+                            premiers.add(resultat.getInt(1));
+                        }
+                    }
+                }
+                if (statistiques) {
+                    SearchStatisticsRefresher.ajouterClics(connexion, premiers);
+                }
+                connexion.commit();
+            } catch (SQLException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            trouves.clear();
+            echecs.incrementAndGet();
+            logger.log(Level.WARNING, "⚠️ Report des clics de recherche impossible : " + e.getMessage());
+        }
+        clicsAppliques.addAndGet(trouves.size());
+        for (Clic clic : lot) {
+            if (!trouves.contains(clic.rechercheId)) {
+                if (++clic.tentatives < TENTATIVES_CLIC) {
+                    clics.putIfAbsent(clic.rechercheId, clic);
+                } else {
+                    clicsAbandonnes.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Statistiques du journal : reçues, perdues, écrites, clics, durée des lots
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        statistiques.enregistrees = enregistrees.get();
+        statistiques.perdues = perdues.get();
+        statistiques.ecrites = ecrites.get();
+        statistiques.enFile = file.size();
+        statistiques.capacite = file.size() + file.remainingCapacity();
+        statistiques.clicsFusionnes = clicsFusionnes.get();
+        statistiques.clicsAppliques = clicsAppliques.get();
+        statistiques.clicsAbandonnes = clicsAbandonnes.get();
+        statistiques.clicsEnAttente = clics.size();
+        statistiques.echecs = echecs.get();
+        statistiques.lots = lots.snapshot();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * Recherche à journaliser (colonnes de historique_recherches) ; id et clic sont renseignés par le journal
+     */
+    public static class Recherche {
+        int id;
+        volatile Clic clic;
+
+        public String sessionId;
+        public Integer compteId;
+        public String texte;
+        public String type = "texte";
+        public String langue;
+        public Integer nombreResultats;
+        public JsonList resultatsIds;
+        public Integer tempsMs;
+        public Map<String, Object> filtres = new HashMap<>();
+        public String tri;
+        // Recherche localisée : position du client et rayon demandé
+        public PointGps position;
+        public Integer rayonKm;
+        public long creeLe;
+
+        /**
+         * Recherche produits et ses résultats (premiers identifiants, total, durée)
+         */
+        public static Recherche depuis(String texte, ProductSearchIndex.Resultats resultats) {
+            Recherche recherche = new Recherche();
+            recherche.texte = texte;
+            recherche.nombreResultats = resultats.total;
+            recherche.tempsMs = (int) Math.round(resultats.dureeMs);
+            List<Object> ids = new ArrayList<>(Math.min(MAX_RESULTATS, resultats.resultats.size()));
+            for (int i = 0; i < resultats.resultats.size() && i < MAX_RESULTATS; i++) {
+                ids.add(resultats.resultats.get(i).produitId);
+            }
+            recherche.resultatsIds = new JsonList(ids);
+            return recherche;
+        }
+    }
+
+    /**
+     * Clic reçu pour une recherche, avec ses tentatives de report
+     */
+    private static final class Clic {
+        final int rechercheId;
+        final Integer produitId;
+        final Integer boutiqueId;
+        final Integer position;
+        int tentatives;
+
+        Clic(int rechercheId, int produitId, Integer boutiqueId, int position) {
+            this.rechercheId = rechercheId;
+            this.produitId = produitId;
+            this.boutiqueId = boutiqueId;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Compteurs du journal
+     */
+    public static class Statistiques {
+        public long enregistrees;
+        public long perdues;
+        public long ecrites;
+        public int enFile;
+        public int capacite;
+        public long clicsFusionnes;
+        public long clicsAppliques;
+        public long clicsAbandonnes;
+        public int clicsEnAttente;
+        public long echecs;
+        public LatencyHistogram.Snapshot lots;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== HISTORIQUE DES RECHERCHES ===\n");
+            sb.append(String.format("Reçues : %,d | écrites : %,d | perdues : %,d | en file : %,d / %,d%n",
+                    enregistrees, ecrites, perdues, enFile, capacite));
+            sb.append(String.format("Clics : fusionnés %,d | reportés %,d | abandonnés %,d | en attente %,d%n",
+                    clicsFusionnes, clicsAppliques, clicsAbandonnes, clicsEnAttente));
+            sb.append("Échecs d'écriture : ").append(echecs).append("\n");
+            sb.append("Lots : ").append(lots).append("\n");
+            sb.append("=================================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package utils.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.produit.AttributsProduits;
+import model.produit.CategoriesProduits;
+import model.produit.Marques;
+import model.produit.Produits;
+import model.recherche.HistoriqueRecherches;
+import model.recherche.SuggestionsRecherche;
+import model.recherche.SynonymesRecherche;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Signale à {@link ProductSearchIndex} les produits à réindexer, après commit uniquement
+ * (un rollback ne touche pas l'index) : Produits, AttributsProduits, et le nom des Marques et CategoriesProduits
+ * Toute modification de SynonymesRecherche fait recompiler le dictionnaire de synonymes, de SuggestionsRecherche
+ * recharger l'autocomplétion ; chaque HistoriqueRecherches inséré y est compté
+ * L'index est mis à jour de façon asynchrone, la transaction n'attend pas
+ */
+public class SearchIndexListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés indexées ou utilisées pour le classement et le filtrage des produits
+    private static final Set<String> PROPRIETES_PRODUIT = new HashSet<>(Arrays.asList(
+            "nom", "descriptionCourte", "motsCles", "tags", "contenuRecherche", "marques", "categoriesProduits",
+            "nombreVentes", "noteMoyenne", "estActif", "estPublie"));
+
+    private final transient ProductSearchIndex index;
+    private final transient AutocompleteIndex suggestions;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    public SearchIndexListener(ProductSearchIndex index, AutocompleteIndex suggestions) {
+        this.index = index;
+        this.suggestions = suggestions;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof HistoriqueRecherches) {
+            enCours.pour(event.getSession()).recherches.add((HistoriqueRecherches) event.getEntity());
+            return;
+        }
+        signaler(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entite = event.getEntity();
+        int[] modifiees = event.getDirtyProperties();
+        if (modifiees != null && (entite instanceof Produits || entite instanceof Marques
+                || entite instanceof CategoriesProduits)) {
+            String[] noms = event.getPersister().getPropertyNames();
+            boolean concerne = false;
+            for (int position : modifiees) {
+                concerne |= entite instanceof Produits ? PROPRIETES_PRODUIT.contains(noms[position])
+                        : "nom".equals(noms[position]);
+            }
+            if (!concerne) {
+                return;
+            }
+        }
+        signaler(event.getSession(), entite);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        signaler(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void signaler(EventSource session, Object entite) {
+        if (entite instanceof Produits) {
+            enCours.pour(session).produits.add(((Produits) entite).getId());
+        } else if (entite instanceof AttributsProduits) {
+            Produits produit = ((AttributsProduits) entite).getProduits();
+            if (produit != null) {
+                enCours.pour(session).produits.add(produit.getId());
+            }
+        } else if (entite instanceof Marques) {
+            enCours.pour(session).marques.add(((Marques) entite).getId());
+        } else if (entite instanceof CategoriesProduits) {
+            enCours.pour(session).categories.add(((CategoriesProduits) entite).getId());
+        } else if (entite instanceof SynonymesRecherche) {
+            enCours.pour(session).synonymes = true;
+        } else if (entite instanceof SuggestionsRecherche) {
+            enCours.pour(session).suggestions = true;
+        }
+    }
+
+    /**
+     * Identifiants modifiés par une transaction, transmis à l'index si elle est validée
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Set<Integer> produits = new HashSet<>();
+        final Set<Integer> marques = new HashSet<>();
+        final Set<Integer> categories = new HashSet<>();
+        boolean synonymes;
+        boolean suggestions;
+        final List<HistoriqueRecherches> recherches = new ArrayList<>();
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                index.signaler(produits, marques, categories);
+                if (synonymes) {
+                    index.signalerSynonymes();
+                }
+                if (suggestions) {
+                    SearchIndexListener.this.suggestions.signalerSuggestions();
+                }
+                for (HistoriqueRecherches recherche : recherches) {
+                    SearchIndexListener.this.suggestions.enregistrerRecherche(recherche.getTexteRecherche(),
+                            recherche.getLangueRecherche(), recherche.getNombreResultats());
+                }
+            }
+        }
+    }
+}
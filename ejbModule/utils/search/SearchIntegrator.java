@@ -0,0 +1,61 @@
+package utils.search;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.Produits;
+import model.recherche.HistoriqueRecherches;
+import model.recherche.RecherchesSansResultat;
+import model.recherche.StatistiquesRecherche;
+
+/**
+ * Crée le {@link ProductSearchIndex}, l'{@link AutocompleteIndex} et le {@link SearchHistoryLogger} de l'unité
+ * de persistance et enregistre {@link SearchIndexListener}
+ * (déclaré dans META-INF/services) ; désactivable par senmarket.search.enabled=false
+ * Les index ne sont chargés qu'au premier appel (ou par leur méthode demarrer())
+ * Les agrégats de recherche ({@link SearchStatisticsListener}) sont entretenus même recherche désactivée
+ */
+public class SearchIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        boolean statistiques = metadata.getEntityBinding(HistoriqueRecherches.class.getName()) != null
+                && metadata.getEntityBinding(StatistiquesRecherche.class.getName()) != null
+                && metadata.getEntityBinding(RecherchesSansResultat.class.getName()) != null;
+        if (statistiques) {
+            SearchStatisticsListener agregats = new SearchStatisticsListener();
+            registre.appendListeners(EventType.POST_INSERT, agregats);
+            registre.appendListeners(EventType.POST_UPDATE, agregats);
+        }
+        Object active = sessionFactory.getProperties().get(ProductSearchIndex.ENABLED);
+        if (metadata.getEntityBinding(Produits.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        ProductSearchIndex index = new ProductSearchIndex(sessionFactory);
+        ProductSearchIndex.enregistrer(sessionFactory, index);
+        AutocompleteIndex suggestions = new AutocompleteIndex(sessionFactory);
+        AutocompleteIndex.enregistrer(sessionFactory, suggestions);
+        if (metadata.getEntityBinding(HistoriqueRecherches.class.getName()) != null) {
+            SearchHistoryLogger.enregistrer(sessionFactory, new SearchHistoryLogger(sessionFactory, suggestions,
+                    statistiques));
+        }
+        SearchIndexListener listener = new SearchIndexListener(index, suggestions);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        SearchHistoryLogger.retirer(sessionFactory);
+        ProductSearchIndex.retirer(sessionFactory);
+        AutocompleteIndex.retirer(sessionFactory);
+    }
+}
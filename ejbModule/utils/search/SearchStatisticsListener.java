@@ -0,0 +1,82 @@
+package utils.search;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.recherche.HistoriqueRecherches;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Agrégats de recherche pour l'historique écrit par Hibernate (le {@link SearchHistoryLogger} les met à jour
+ * lui-même) : lignes insérées et premiers clics regroupés, ajoutés juste avant le commit, dans la même transaction
+ * Hors périmètre : update d'une entité détachée (état précédent inconnu), StatelessSession et SQL natif
+ */
+public class SearchStatisticsListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = Logger.getLogger(SearchStatisticsListener.class.getName());
+
+    private static final String CLIC = "ACliqueResultat";
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Agregation> enCours = new TransactionCollector<>(Agregation::new);
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof HistoriqueRecherches) {
+            enCours.pour(event.getSession()).inserees.add((Integer) event.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof HistoriqueRecherches) || event.getOldState() == null) {
+            return;
+        }
+        String[] noms = event.getPersister().getPropertyNames();
+        for (int i = 0; i < noms.length; i++) {
+            if (CLIC.equals(noms[i])) {
+                if (!Boolean.TRUE.equals(event.getOldState()[i]) && Boolean.TRUE.equals(event.getState()[i])) {
+                    enCours.pour(event.getSession()).cliquees.add((Integer) event.getId());
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Recherches insérées et cliquées par une transaction, agrégées avant le commit
+     */
+    private class Agregation implements BeforeTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Set<Integer> inserees = new HashSet<>();
+        final Set<Integer> cliquees = new HashSet<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor sessionImpl) {
+            // Insérée puis cliquée dans la même transaction : son clic est lu avec la ligne
+            cliquees.removeAll(inserees);
+            sessionImpl.doWork(connection -> {
+                int lignes = SearchStatisticsRefresher.ajouter(connection, inserees)
+                        + SearchStatisticsRefresher.ajouterClics(connection, cliquees);
+                logger.fine("📊 Statistiques de recherche mises à jour : " + lignes);
+            });
+        }
+    }
+}
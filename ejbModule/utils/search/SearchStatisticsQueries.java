@@ -0,0 +1,190 @@
+package utils.search;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+/**
+ * Lecture des agrégats de recherche (remplace la vue v_statistiques_recherche) : mêmes dimensions
+ * (jour, type, langue), lues sur les seuls jours demandés par la clé primaire, sans parcourir l'historique
+ * Projections select new : aucune entité gérée
+ */
+public final class SearchStatisticsQueries {
+
+    private static final String PAR_JOUR =
+            "select new utils.search.SearchStatisticsQueries$Ligne(s.id.dateRecherche, s.id.typeRecherche, "
+            + "s.id.langueRecherche, s.nombreRecherches, s.recherchesAvecResultats, s.recherchesAvecClic, "
+            + "s.recherchesChronometrees, s.tempsTotalMs) "
+            + "from StatistiquesRecherche s where s.id.dateRecherche between :du and :au";
+
+    private static final String CUMUL =
+            "select new utils.search.SearchStatisticsQueries$Ligne(sum(s.nombreRecherches), "
+            + "sum(s.recherchesAvecResultats), sum(s.recherchesAvecClic), sum(s.recherchesChronometrees), "
+            + "sum(s.tempsTotalMs)) "
+            + "from StatistiquesRecherche s where s.id.dateRecherche between :du and :au";
+
+    private static final String SANS_RESULTAT =
+            "select new utils.search.SearchStatisticsQueries$RequeteSansResultat(r.id.texteNormalise, "
+            + "r.id.langueRecherche, max(r.dernierTexte), sum(r.occurrences), count(r), max(r.derniereRecherche)) "
+            + "from RecherchesSansResultat r where r.id.dateRecherche between :du and :au";
+
+    static final int LIMITE_MAX = 500;
+
+    private SearchStatisticsQueries() {
+    }
+
+    /**
+     * Une ligne par jour, type et langue sur la période (bornes incluses), comme la vue
+     * type, langue : null pour toutes les valeurs, chaîne vide pour les recherches qui n'en ont pas
+     */
+    public static List<Ligne> parJour(EntityManager em, LocalDate du, LocalDate au, String type, String langue) {
+        Map<String, Object> parametres = periode(du, au);
+        StringBuilder hql = new StringBuilder(PAR_JOUR);
+        filtrer(hql, parametres, "s.id.typeRecherche", "type", type);
+        filtrer(hql, parametres, "s.id.langueRecherche", "langue", langue);
+        hql.append(" order by s.id.dateRecherche, s.id.typeRecherche, s.id.langueRecherche");
+        TypedQuery<Ligne> requete = em.createQuery(hql.toString(), Ligne.class);
+        parametres.forEach(requete::setParameter);
+        return requete.getResultList();
+    }
+
+    /**
+     * Totaux de la période, filtrés comme {@link #parJour} (jour, type et langue non renseignés)
+     */
+    public static Ligne cumul(EntityManager em, LocalDate du, LocalDate au, String type, String langue) {
+        Map<String, Object> parametres = periode(du, au);
+        StringBuilder hql = new StringBuilder(CUMUL);
+        filtrer(hql, parametres, "s.id.typeRecherche", "type", type);
+        filtrer(hql, parametres, "s.id.langueRecherche", "langue", langue);
+        TypedQuery<Ligne> requete = em.createQuery(hql.toString(), Ligne.class);
+        parametres.forEach(requete::setParameter);
+        return requete.getSingleResult();
+    }
+
+    /**
+     * Requêtes sans résultat les plus fréquentes de la période (texte normalisé et langue), pour enrichir
+     * le catalogue ou les synonymes ; langue null : toutes
+     */
+    public static List<RequeteSansResultat> sansResultat(EntityManager em, LocalDate du, LocalDate au, String langue,
+            int limite) {
+        Map<String, Object> parametres = periode(du, au);
+        StringBuilder hql = new StringBuilder(SANS_RESULTAT);
+        filtrer(hql, parametres, "r.id.langueRecherche", "langue", langue);
+        hql.append(" group by r.id.texteNormalise, r.id.langueRecherche")
+                .append(" order by sum(r.occurrences) desc, max(r.derniereRecherche) desc");
+        TypedQuery<RequeteSansResultat> requete = em.createQuery(hql.toString(), RequeteSansResultat.class);
+        parametres.forEach(requete::setParameter);
+        return requete.setMaxResults(Math.max(1, Math.min(limite, LIMITE_MAX))).getResultList();
+    }
+
+    private static Map<String, Object> periode(LocalDate du, LocalDate au) {
+        Map<String, Object> parametres = new HashMap<>();
+        parametres.put("du", Date.valueOf(du));
+        parametres.put("au", Date.valueOf(au));
+        return parametres;
+    }
+
+    private static void filtrer(StringBuilder hql, Map<String, Object> parametres, String chemin, String nom,
+            String valeur) {
+        if (valeur != null) {
+            hql.append(" and ").append(chemin).append(" = :").append(nom);
+            parametres.put(nom, valeur.trim());
+        }
+    }
+
+    private static String valeur(String cle) {
+        return cle == null || cle.isEmpty() ? null : cle;
+    }
+
+    private static int pourcentage(long partie, long total) {
+        return total == 0 ? 0 : (int) Math.round(100.0 * partie / total);
+    }
+
+    /**
+     * Compteurs d'un jour, type et langue (ou d'une période) et taux dérivés
+     */
+    public static class Ligne implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final LocalDate dateRecherche;
+        public final String typeRecherche;
+        public final String langueRecherche;
+        public final long nombreRecherches;
+        public final long recherchesAvecResultats;
+        public final long recherchesAvecClic;
+        public final int tauxResultatsPct;
+        public final int tauxClicPct;
+        public final double tempsMoyenMs;
+
+        public Ligne(java.util.Date dateRecherche, String typeRecherche, String langueRecherche, long nombreRecherches,
+                long recherchesAvecResultats, long recherchesAvecClic, long recherchesChronometrees,
+                long tempsTotalMs) {
+            // Propriété de type date : java.sql.Date à l'exécution, java.util.Date pour la résolution HQL
+            this.dateRecherche = dateRecherche == null ? null : new Date(dateRecherche.getTime()).toLocalDate();
+            this.typeRecherche = valeur(typeRecherche);
+            this.langueRecherche = valeur(langueRecherche);
+            this.nombreRecherches = nombreRecherches;
+            this.recherchesAvecResultats = recherchesAvecResultats;
+            this.recherchesAvecClic = recherchesAvecClic;
+            this.tauxResultatsPct = pourcentage(recherchesAvecResultats, nombreRecherches);
+            this.tauxClicPct = pourcentage(recherchesAvecClic, nombreRecherches);
+            this.tempsMoyenMs = recherchesChronometrees == 0 ? 0 : (double) tempsTotalMs / recherchesChronometrees;
+        }
+
+        // Cumul : sommes nulles quand la période n'a aucune ligne
+        public Ligne(Long nombreRecherches, Long recherchesAvecResultats, Long recherchesAvecClic,
+                Long recherchesChronometrees, Long tempsTotalMs) {
+            this((java.util.Date) null, null, null, zero(nombreRecherches), zero(recherchesAvecResultats), zero(recherchesAvecClic),
+                    zero(recherchesChronometrees), zero(tempsTotalMs));
+        }
+
+        private static long zero(Long valeur) {
+            return valeur == null ? 0 : valeur;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s/%s : %,d recherches | résultats %d%% | clics %d%% | %.1f ms",
+                    dateRecherche == null ? "période" : dateRecherche, typeRecherche, langueRecherche,
+                    nombreRecherches, tauxResultatsPct, tauxClicPct, tempsMoyenMs);
+        }
+    }
+
+    /**
+     * Requête sans résultat : occurrences sur la période, nombre de jours où elle apparaît, une saisie brute
+     * (la dernière d'un des jours)
+     */
+    public static class RequeteSansResultat implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final String texteNormalise;
+        public final String langueRecherche;
+        public final String texteSaisi;
+        public final long occurrences;
+        public final long jours;
+        public final Timestamp derniereRecherche;
+
+        public RequeteSansResultat(String texteNormalise, String langueRecherche, String texteSaisi,
+                Long occurrences, Long jours, java.util.Date derniereRecherche) {
+            this.texteNormalise = texteNormalise;
+            this.langueRecherche = valeur(langueRecherche);
+            this.texteSaisi = texteSaisi;
+            this.occurrences = occurrences == null ? 0 : occurrences;
+            this.jours = jours == null ? 0 : jours;
+            this.derniereRecherche = derniereRecherche == null ? null : new Timestamp(derniereRecherche.getTime());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("\"%s\" (%s) : %,d fois sur %d jour(s)", texteNormalise, langueRecherche,
+                    occurrences, jours);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package utils.search;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Agrégats de l'historique des recherches (tables statistiques_recherche et recherches_sans_resultat) en SQL
+ * ensembliste : les lignes d'historique écrites par une transaction sont ajoutées aux compteurs du jour par
+ * INSERT ... SELECT ... ON CONFLICT DO UPDATE (additions), dans cette même transaction
+ * Aucun jour passé n'est relu : seules les nouvelles lignes le sont, par leur clé primaire
+ *
+ * Clés sans valeur (type ou langue null) : chaîne vide. Texte normalisé : minuscules, accents courants retirés,
+ * espaces réduits, 200 caractères au plus
+ * Une ligne d'historique supprimée ou purgée reste comptée ; seule {@link #reconstruire} relit l'historique
+ */
+public final class SearchStatisticsRefresher {
+
+    private static final String STATISTIQUES =
+            "INSERT INTO public.statistiques_recherche AS s (date_recherche, type_recherche, langue_recherche, "
+            + "nombre_recherches, recherches_avec_resultats, recherches_avec_clic, recherches_chronometrees, "
+            + "temps_total_ms, modifie_le) "
+            + "SELECT cast(h.cree_le AS date), coalesce(h.type_recherche, ''), coalesce(h.langue_recherche, ''), "
+            + "count(*), count(*) FILTER (WHERE h.nombre_resultats > 0), count(*) FILTER (WHERE h.a_clique_resultat), "
+            + "count(h.temps_recherche_ms), coalesce(sum(h.temps_recherche_ms), 0), now() "
+            + "FROM public.historique_recherches h WHERE h.cree_le IS NOT NULL AND %s "
+            // Ordre de clé constant : deux écrivains concurrents verrouillent les lignes dans le même ordre
+            + "GROUP BY 1, 2, 3 ORDER BY 1, 2, 3 "
+            + "ON CONFLICT (date_recherche, type_recherche, langue_recherche) DO UPDATE SET "
+            + "nombre_recherches = s.nombre_recherches + EXCLUDED.nombre_recherches, "
+            + "recherches_avec_resultats = s.recherches_avec_resultats + EXCLUDED.recherches_avec_resultats, "
+            + "recherches_avec_clic = s.recherches_avec_clic + EXCLUDED.recherches_avec_clic, "
+            + "recherches_chronometrees = s.recherches_chronometrees + EXCLUDED.recherches_chronometrees, "
+            + "temps_total_ms = s.temps_total_ms + EXCLUDED.temps_total_ms, modifie_le = EXCLUDED.modifie_le";
+
+    private static final String TEXTE_NORMALISE =
+            "left(translate(lower(regexp_replace(btrim(h.texte_recherche), '\\s+', ' ', 'g')), "
+            + "'àâäáãéèêëíìîïóòôöõúùûüçñ', 'aaaaaeeeeiiiiooooouuuucn'), 200)";
+
+    private static final String SANS_RESULTAT =
+            "INSERT INTO public.recherches_sans_resultat AS r (date_recherche, langue_recherche, texte_normalise, "
+            + "occurrences, dernier_texte, derniere_recherche) "
+            + "SELECT cast(h.cree_le AS date), coalesce(h.langue_recherche, ''), " + TEXTE_NORMALISE + ", count(*), "
+            + "(array_agg(h.texte_recherche ORDER BY h.cree_le DESC))[1], max(h.cree_le) "
+            + "FROM public.historique_recherches h WHERE h.cree_le IS NOT NULL AND h.nombre_resultats = 0 "
+            + "AND btrim(h.texte_recherche) <> '' AND %s "
+            + "GROUP BY 1, 2, 3 ORDER BY 1, 2, 3 "
+            + "ON CONFLICT (date_recherche, langue_recherche, texte_normalise) DO UPDATE SET "
+            + "occurrences = r.occurrences + EXCLUDED.occurrences, "
+            + "dernier_texte = CASE WHEN EXCLUDED.derniere_recherche >= r.derniere_recherche "
+            + "THEN EXCLUDED.dernier_texte ELSE r.dernier_texte END, "
+            + "derniere_recherche = greatest(r.derniere_recherche, EXCLUDED.derniere_recherche)";
+
+    // Clic reçu après l'écriture de la recherche : la ligne du jour existe déjà
+    private static final String CLICS =
+            "UPDATE public.statistiques_recherche s SET recherches_avec_clic = s.recherches_avec_clic + c.nombre, "
+            + "modifie_le = now() "
+            + "FROM (SELECT cast(h.cree_le AS date) AS jour, coalesce(h.type_recherche, '') AS type, "
+            + "coalesce(h.langue_recherche, '') AS langue, count(*) AS nombre "
+            + "FROM public.historique_recherches h WHERE h.cree_le IS NOT NULL AND h.id = ANY(?) "
+            + "GROUP BY 1, 2, 3 ORDER BY 1, 2, 3) c "
+            + "WHERE s.date_recherche = c.jour AND s.type_recherche = c.type AND s.langue_recherche = c.langue";
+
+    private static final String PAR_IDS = "h.id = ANY(?)";
+    private static final String DEPUIS = "h.cree_le >= ?";
+
+    private SearchStatisticsRefresher() {
+    }
+
+    /**
+     * Ajoute aux agrégats les recherches nouvellement écrites (clic déjà présent compris)
+     * À appeler une seule fois par ligne, dans la transaction qui l'écrit
+     * @return nombre de lignes d'agrégat écrites
+     */
+    public static int ajouter(Connection connection, Collection<Integer> historiqueIds) throws SQLException {
+        if (historiqueIds.isEmpty()) {
+            return 0;
+        }
+        Object[] ids = historiqueIds.toArray();
+        int lignes = 0;
+        for (String requete : new String[] { STATISTIQUES, SANS_RESULTAT }) {
+            try (PreparedStatement ps = connection.prepareStatement(String.format(requete, PAR_IDS))) {
+                ps.setArray(1, connection.createArrayOf("integer", ids));
+                lignes += ps.executeUpdate();
+            }
+        }
+        return lignes;
+    }
+
+    /**
+     * Compte le premier clic de recherches déjà agrégées (a_clique_resultat passé de faux à vrai)
+     */
+    public static int ajouterClics(Connection connection, Collection<Integer> historiqueIds) throws SQLException {
+        if (historiqueIds.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(CLICS)) {
+            ps.setArray(1, connection.createArrayOf("integer", historiqueIds.toArray()));
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Recalcule les jours à partir de {@code depuis} depuis l'historique (chargement hors journal, COPY, SQL) ;
+     * les jours antérieurs ne sont ni relus ni modifiés. Historique purgé : ne pas reconstruire ces jours
+     * Écritures concurrentes de l'historique suspendues pendant l'appel (sinon comptées deux fois)
+     * @return nombre de lignes d'agrégat écrites
+     */
+    public static int reconstruire(Connection connection, LocalDate depuis) throws SQLException {
+        int lignes = 0;
+        for (String table : new String[] { "statistiques_recherche", "recherches_sans_resultat" }) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "DELETE FROM public." + table + " WHERE date_recherche >= ?")) {
+                ps.setDate(1, Date.valueOf(depuis));
+                ps.executeUpdate();
+            }
+        }
+        for (String requete : new String[] { STATISTIQUES, SANS_RESULTAT }) {
+            try (PreparedStatement ps = connection.prepareStatement(String.format(requete, DEPUIS))) {
+                ps.setTimestamp(1, Timestamp.valueOf(depuis.atStartOfDay()));
+                lignes += ps.executeUpdate();
+            }
+        }
+        return lignes;
+    }
+}
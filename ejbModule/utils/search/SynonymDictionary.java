@@ -0,0 +1,269 @@
+package utils.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hibernate.StatelessSession;
+
+/**
+ * Synonymes de recherche compilés (SynonymesRecherche actifs) : un trie par langue sur les termes analysés,
+ * immuable et remplacé d'un bloc à chaque rechargement
+ *
+ * Les deux sens sont compilés (mot principal ↔ synonyme) ; une expression de plusieurs mots est un chemin
+ * du trie. Un synonyme sans langue vaut pour toutes les langues ; sans langue demandée, toutes sont utilisées
+ */
+final class SynonymDictionary {
+
+    private static final String SYNONYMES =
+            "select s.motPrincipal, s.synonyme, s.langue, s.poids from SynonymesRecherche s "
+            + "where coalesce(s.estActif, true) = true";
+
+    // Alternatives retenues par expression de la requête (les plus fortes)
+    static final int MAX_ALTERNATIVES = 8;
+
+    static final SynonymDictionary VIDE = new SynonymDictionary(null, Collections.emptyMap(), null, 0);
+
+    // Toutes langues confondues, par langue (avec les synonymes sans langue), et sans langue seulement
+    private final Noeud toutes;
+    private final Map<String, Noeud> parLangue;
+    private final Noeud communs;
+    final int entrees;
+
+    private SynonymDictionary(Noeud toutes, Map<String, Noeud> parLangue, Noeud communs, int entrees) {
+        this.toutes = toutes;
+        this.parLangue = parLangue;
+        this.communs = communs;
+        this.entrees = entrees;
+    }
+
+    /**
+     * Compile les synonymes actifs de la table
+     */
+    static SynonymDictionary charger(StatelessSession session) {
+        Compilateur compilateur = new Compilateur();
+        for (Object ligne : session.createQuery(SYNONYMES).list()) {
+            Object[] colonnes = (Object[]) ligne;
+            compilateur.ajouter((String) colonnes[0], (String) colonnes[1], (String) colonnes[2],
+                    (BigDecimal) colonnes[3]);
+        }
+        return compilateur.compiler();
+    }
+
+    Set<String> langues() {
+        return parLangue.keySet();
+    }
+
+    /**
+     * Expressions de la requête ayant des synonymes : correspondance la plus longue d'abord, sans chevauchement
+     */
+    List<Correspondance> rechercher(List<String> termes, String langue) {
+        Noeud racine = racine(langue);
+        if (racine == null || termes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Correspondance> correspondances = new ArrayList<>(1);
+        int debut = 0;
+        while (debut < termes.size()) {
+            Noeud noeud = racine;
+            Noeud trouve = null;
+            int longueur = 0;
+            for (int i = debut; i < termes.size(); i++) {
+                noeud = noeud.enfant(termes.get(i));
+                if (noeud == null) {
+                    break;
+                }
+                if (noeud.alternatives != null) {
+                    trouve = noeud;
+                    longueur = i - debut + 1;
+                }
+            }
+            if (trouve != null) {
+                correspondances.add(new Correspondance(debut, longueur, trouve.alternatives));
+                debut += longueur;
+            } else {
+                debut++;
+            }
+        }
+        return correspondances;
+    }
+
+    private Noeud racine(String langue) {
+        String cle = normaliserLangue(langue);
+        if (cle == null) {
+            return toutes;
+        }
+        // Langue sans synonyme propre : ceux valables pour toutes les langues
+        return parLangue.getOrDefault(cle, communs);
+    }
+
+    private static String normaliserLangue(String langue) {
+        return langue == null || langue.trim().isEmpty() ? null : langue.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Expression trouvée dans la requête (position et nombre de termes) et ses alternatives
+     */
+    static final class Correspondance {
+        final int debut;
+        final int longueur;
+        final Alternative[] alternatives;
+
+        Correspondance(int debut, int longueur, Alternative[] alternatives) {
+            this.debut = debut;
+            this.longueur = longueur;
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(alternatives);
+        }
+    }
+
+    /**
+     * Termes analysés d'un synonyme et son poids (0 à 1, appliqué au score)
+     */
+    static final class Alternative {
+        final String[] termes;
+        final float poids;
+
+        Alternative(String[] termes, float poids) {
+            this.termes = termes;
+            this.poids = poids;
+        }
+
+        @Override
+        public String toString() {
+            return String.join(" ", termes) + " " + String.format(Locale.ROOT, "%.2f", poids);
+        }
+    }
+
+    /**
+     * Nœud du trie : termes suivants triés (recherche dichotomique), alternatives si une expression s'y termine
+     */
+    private static final class Noeud {
+        final String[] cles;
+        final Noeud[] enfants;
+        final Alternative[] alternatives;
+
+        Noeud(String[] cles, Noeud[] enfants, Alternative[] alternatives) {
+            this.cles = cles;
+            this.enfants = enfants;
+            this.alternatives = alternatives;
+        }
+
+        Noeud enfant(String terme) {
+            int position = Arrays.binarySearch(cles, terme);
+            return position >= 0 ? enfants[position] : null;
+        }
+    }
+
+    /**
+     * Construction mutable (expressions → alternatives par langue), figée par {@link #compiler()}
+     */
+    static final class Compilateur {
+        // Langue (null : toutes) → expression → termes de l'alternative → poids
+        private final Map<String, Map<List<String>, Map<List<String>, Float>>> expressions = new HashMap<>();
+        private int entrees;
+
+        void ajouter(String motPrincipal, String synonyme, String langue, BigDecimal poids) {
+            List<String> principal = TextAnalyzer.analyser(motPrincipal);
+            List<String> autre = TextAnalyzer.analyser(synonyme);
+            if (principal.isEmpty() || autre.isEmpty() || principal.equals(autre)) {
+                return;
+            }
+            float valeur = poids == null ? 1f : Math.max(0f, Math.min(1f, poids.floatValue()));
+            if (valeur == 0f) {
+                return;
+            }
+            Map<List<String>, Map<List<String>, Float>> parExpression =
+                    expressions.computeIfAbsent(normaliserLangue(langue), l -> new HashMap<>());
+            parExpression.computeIfAbsent(principal, e -> new HashMap<>()).merge(autre, valeur, Math::max);
+            parExpression.computeIfAbsent(autre, e -> new HashMap<>()).merge(principal, valeur, Math::max);
+            entrees++;
+        }
+
+        SynonymDictionary compiler() {
+            if (expressions.isEmpty()) {
+                return VIDE;
+            }
+            Map<List<String>, Map<List<String>, Float>> communes =
+                    expressions.getOrDefault(null, Collections.emptyMap());
+            Map<List<String>, Map<List<String>, Float>> toutes = new HashMap<>();
+            Map<String, Noeud> parLangue = new TreeMap<>();
+            for (Map.Entry<String, Map<List<String>, Map<List<String>, Float>>> langue : expressions.entrySet()) {
+                fusionner(toutes, langue.getValue());
+                if (langue.getKey() != null) {
+                    Map<List<String>, Map<List<String>, Float>> propres = new HashMap<>();
+                    fusionner(propres, communes);
+                    fusionner(propres, langue.getValue());
+                    parLangue.put(langue.getKey(), trie(propres));
+                }
+            }
+            return new SynonymDictionary(trie(toutes), Collections.unmodifiableMap(parLangue),
+                    communes.isEmpty() ? null : trie(communes), entrees);
+        }
+
+        private static void fusionner(Map<List<String>, Map<List<String>, Float>> cible,
+                Map<List<String>, Map<List<String>, Float>> source) {
+            source.forEach((expression, alternatives) -> {
+                Map<List<String>, Float> existantes = cible.computeIfAbsent(expression, e -> new HashMap<>());
+                alternatives.forEach((alternative, poids) -> existantes.merge(alternative, poids, Math::max));
+            });
+        }
+
+        private static Noeud trie(Map<List<String>, Map<List<String>, Float>> expressions) {
+            Branche racine = new Branche();
+            expressions.forEach((expression, alternatives) -> {
+                Branche branche = racine;
+                for (String terme : expression) {
+                    branche = branche.enfants.computeIfAbsent(terme, t -> new Branche());
+                }
+                branche.alternatives = alternatives;
+            });
+            return racine.figer();
+        }
+    }
+
+    /**
+     * Nœud en construction
+     */
+    private static final class Branche {
+        final TreeMap<String, Branche> enfants = new TreeMap<>();
+        Map<List<String>, Float> alternatives;
+
+        Noeud figer() {
+            String[] cles = enfants.keySet().toArray(new String[0]);
+            Noeud[] noeuds = new Noeud[cles.length];
+            int i = 0;
+            for (Branche enfant : enfants.values()) {
+                noeuds[i++] = enfant.figer();
+            }
+            Alternative[] figees = null;
+            if (alternatives != null) {
+                // Les plus fortes d'abord, bornées à MAX_ALTERNATIVES
+                Map<List<String>, Float> triees = new LinkedHashMap<>();
+                alternatives.entrySet().stream()
+                        .sorted(Map.Entry.<List<String>, Float>comparingByValue().reversed()
+                                .thenComparing(e -> String.join(" ", e.getKey())))
+                        .limit(MAX_ALTERNATIVES)
+                        .forEach(e -> triees.put(e.getKey(), e.getValue()));
+                figees = new Alternative[triees.size()];
+                int k = 0;
+                for (Map.Entry<List<String>, Float> entree : triees.entrySet()) {
+                    figees[k++] = new Alternative(entree.getKey().toArray(new String[0]), entree.getValue());
+                }
+            }
+            return new Noeud(cles, noeuds, figees);
+        }
+    }
+}
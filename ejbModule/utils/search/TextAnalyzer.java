@@ -0,0 +1,257 @@
+package utils.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Découpage des textes produits et des requêtes en termes d'index (français et wolof)
+ * Minuscules, accents et diacritiques retirés (é → e, ñ → n, ë → e, ŋ → ng), élisions (l', d', qu')
+ * séparées, mots vides retirés, pluriels et finales françaises réduites (racinisation minimale)
+ * La même analyse est appliquée à l'indexation et à la requête
+ */
+public final class TextAnalyzer {
+
+    static final int LONGUEUR_MIN = 2;
+    static final int LONGUEUR_MAX = 40;
+    // Racinisation réservée aux mots assez longs : les termes wolof courts restent intacts
+    private static final int LONGUEUR_PLURIEL = 4;
+    private static final int LONGUEUR_RACINE = 5;
+
+    private static final Set<String> MOTS_VIDES = new HashSet<>(Arrays.asList(
+            // français
+            "au", "aux", "avec", "ce", "ces", "cet", "cette", "dans", "de", "des", "du", "en", "et", "est", "il",
+            "la", "le", "les", "leur", "leurs", "ma", "mes", "mon", "ne", "nos", "notre", "ou", "par", "pas",
+            "plus", "pour", "qu", "que", "qui", "sa", "se", "ses", "son", "sur", "ta", "tes", "ton", "tres",
+            "un", "une", "vos", "votre",
+            // wolof : articles définis, conjonctions et prépositions
+            "ak", "ba", "bi", "ci", "di", "ga", "gi", "ji", "li", "mi", "si", "te", "wi", "ya", "yi",
+            "nga", "ngi", "walla", "ndax", "dafa", "dina", "moo", "mooy"));
+
+    // Repli des caractères latins (U+0000 à U+024F) : minuscule sans diacritique, 0 pour un séparateur
+    private static final char[] REPLI = new char[0x250];
+
+    static {
+        for (char c = 0; c < REPLI.length; c++) {
+            String decompose = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = Character.toLowerCase(decompose.charAt(0));
+            REPLI[c] = Character.isLetterOrDigit(base) ? base : 0;
+        }
+    }
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Termes d'un texte, dans l'ordre et avec répétitions
+     */
+    public static List<String> analyser(String texte) {
+        List<String> termes = new ArrayList<>();
+        analyser(texte, termes::add);
+        return termes;
+    }
+
+    /**
+     * Termes d'un texte transmis un à un (indexation sans liste intermédiaire)
+     */
+    public static void analyser(String texte, Consumer<String> termes) {
+        decouper(texte, mot -> termes.accept(raciniser(mot)));
+    }
+
+    /**
+     * Termes d'une requête : le dernier mot d'une saisie en cours est gardé comme préfixe
+     * (réduit par {@link #prefixe(String)}), les autres sont analysés comme à l'indexation
+     */
+    public static Requete analyserRequete(String texte) {
+        List<String> mots = new ArrayList<>();
+        decouper(texte, mots::add);
+        Requete requete = new Requete();
+        boolean saisieEnCours = termineParUnMot(texte);
+        for (int i = 0; i < mots.size(); i++) {
+            if (saisieEnCours && i == mots.size() - 1) {
+                requete.motEnCours = raciniser(mots.get(i));
+                requete.prefixe = prefixe(mots.get(i));
+            } else {
+                String terme = raciniser(mots.get(i));
+                if (!requete.termes.contains(terme)) {
+                    requete.termes.add(terme);
+                }
+            }
+        }
+        return requete;
+    }
+
+    /**
+     * Mots normalisés d'un texte, hors mots vides, avant racinisation
+     */
+    private static void decouper(String texte, Consumer<String> termes) {
+        if (texte == null || texte.isEmpty()) {
+            return;
+        }
+        StringBuilder terme = new StringBuilder(LONGUEUR_MAX);
+        for (int i = 0; i < texte.length(); i++) {
+            if (!replier(texte.charAt(i), terme)) {
+                emettre(terme, termes);
+            }
+        }
+        emettre(terme, termes);
+    }
+
+    /**
+     * Texte replié pour une comparaison par préfixe (autocomplétion) : minuscules sans accents, mots séparés
+     * par une espace ; ni mots vides retirés ni racinisation ("Thiéboudienne  au Poisson" → "thieboudienne au poisson")
+     */
+    public static String replier(String texte) {
+        if (texte == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(texte.length());
+        for (int i = 0; i < texte.length(); i++) {
+            if (!replier(texte.charAt(i), sb) && sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        }
+        int longueur = sb.length();
+        return longueur > 0 && sb.charAt(longueur - 1) == ' ' ? sb.substring(0, longueur - 1) : sb.toString();
+    }
+
+    /**
+     * Ajoute le caractère replié (une ou deux lettres) ; false pour un séparateur
+     */
+    private static boolean replier(char c, StringBuilder sb) {
+        if (c < REPLI.length) {
+            char replie = REPLI[c];
+            if (replie != 0) {
+                sb.append(replie);
+                return true;
+            }
+            // Ligatures : une lettre devient deux
+            switch (c) {
+                case 'œ': case 'Œ':
+                    sb.append("oe");
+                    return true;
+                case 'æ': case 'Æ':
+                    sb.append("ae");
+                    return true;
+                case 'ß':
+                    sb.append("ss");
+                    return true;
+                case 'ŋ': case 'Ŋ':
+                    sb.append("ng");
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        if (Character.isLetterOrDigit(c)) {
+            sb.append(Character.toLowerCase(c));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Le texte se termine-t-il au milieu d'un mot ? (saisie en cours : le dernier terme est un préfixe)
+     */
+    public static boolean termineParUnMot(String texte) {
+        if (texte == null || texte.isEmpty()) {
+            return false;
+        }
+        char dernier = texte.charAt(texte.length() - 1);
+        return Character.isLetterOrDigit(dernier);
+    }
+
+    private static void emettre(StringBuilder terme, Consumer<String> termes) {
+        int longueur = terme.length();
+        if (longueur >= LONGUEUR_MIN && longueur <= LONGUEUR_MAX) {
+            String mot = terme.toString();
+            if (!MOTS_VIDES.contains(mot)) {
+                termes.accept(mot);
+            }
+        }
+        terme.setLength(0);
+    }
+
+    /**
+     * Préfixe d'un mot en cours de saisie : les finales retirées par {@link #raciniser(String)} le sont ici
+     * sans condition de longueur, pour rester un préfixe des termes indexés ("tass" trouve "tasses" → "tas")
+     */
+    static String prefixe(String mot) {
+        int longueur = mot.length();
+        if (Character.isDigit(mot.charAt(longueur - 1))) {
+            return mot;
+        }
+        if (longueur > 3 && (mot.charAt(longueur - 1) == 's' || mot.charAt(longueur - 1) == 'x')) {
+            longueur--;
+        }
+        if (longueur > 3 && mot.charAt(longueur - 1) == 'u' && mot.charAt(longueur - 2) == 'a') {
+            longueur--;
+        }
+        if (longueur > 3 && mot.charAt(longueur - 1) == 'r') {
+            longueur--;
+        }
+        if (longueur > 3 && mot.charAt(longueur - 1) == 'e') {
+            longueur--;
+        }
+        if (longueur > 3 && mot.charAt(longueur - 1) == mot.charAt(longueur - 2)) {
+            longueur--;
+        }
+        return mot.substring(0, longueur);
+    }
+
+    /**
+     * Racinisation minimale du français : pluriel (-s, -x, -aux → -al) dès 4 lettres,
+     * puis finales -r, -e et consonne doublée sur les mots d'au moins 5 lettres
+     * chevaux → cheval, sacs → sac, tasse(s) → tas, chaussure(s) → chaussur
+     */
+    static String raciniser(String mot) {
+        int longueur = mot.length();
+        if (longueur < LONGUEUR_PLURIEL || Character.isDigit(mot.charAt(longueur - 1))) {
+            return mot;
+        }
+        char derniere = mot.charAt(longueur - 1);
+        if (derniere == 'x') {
+            if (longueur >= 5 && mot.endsWith("aux") && mot.charAt(longueur - 4) != 'e') {
+                return mot.substring(0, longueur - 2) + 'l';
+            }
+            longueur--;
+        } else if (derniere == 's' && mot.charAt(longueur - 2) != 's') {
+            longueur--;
+        }
+        if (longueur >= LONGUEUR_RACINE) {
+            if (mot.charAt(longueur - 1) == 'r') {
+                longueur--;
+            }
+            if (mot.charAt(longueur - 1) == 'e') {
+                longueur--;
+            }
+            if (mot.charAt(longueur - 1) == mot.charAt(longueur - 2)) {
+                longueur--;
+            }
+        }
+        return longueur == mot.length() ? mot : mot.substring(0, longueur);
+    }
+
+    /**
+     * Requête analysée : termes complets (dédoublonnés) et éventuel mot en cours de saisie,
+     * cherché tel quel (racinisé) et comme préfixe
+     */
+    public static class Requete {
+        public final List<String> termes = new ArrayList<>();
+        public String motEnCours;
+        public String prefixe;
+
+        public boolean isVide() {
+            return termes.isEmpty() && prefixe == null;
+        }
+
+        @Override
+        public String toString() {
+            return termes + (prefixe == null ? "" : " + " + prefixe + "*");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package utils.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Roue d'échéances au jour (roue hachée) : une case par jour modulo TAILLE, chaque échéance rangée dans la case de
+ * son jour. Avancer d'un jour ne lit qu'une case, quel que soit le nombre d'échéances programmées ; une échéance
+ * à plus de TAILLE jours reste dans sa case jusqu'au tour où son jour arrive
+ *
+ * Non synchronisée : utilisée par le seul thread de {@link StockAlerts}
+ */
+final class ExpiryWheel {
+
+    // Puissance de deux : un peu plus d'un an de cases
+    static final int TAILLE = 512;
+
+    private final List<Map<Integer, Long>> cases = new ArrayList<>(TAILLE);
+    private final Map<Integer, Long> jours = new HashMap<>();
+    private long courant;
+
+    /**
+     * @param aujourdhui jour courant (epoch day) : seules les échéances postérieures sont programmées
+     */
+    ExpiryWheel(long aujourdhui) {
+        for (int i = 0; i < TAILLE; i++) {
+            cases.add(new HashMap<>());
+        }
+        this.courant = aujourdhui;
+    }
+
+    /**
+     * Programme (ou reprogramme) l'échéance d'un identifiant
+     * @return false si le jour n'est pas postérieur au jour courant : rien n'est programmé, l'échéance est due
+     */
+    boolean programmer(int id, long jour) {
+        annuler(id);
+        if (jour <= courant) {
+            return false;
+        }
+        jours.put(id, jour);
+        cases.get(indice(jour)).put(id, jour);
+        return true;
+    }
+
+    void annuler(int id) {
+        Long jour = jours.remove(id);
+        if (jour != null) {
+            cases.get(indice(jour)).remove(id);
+        }
+    }
+
+    /**
+     * Avance jusqu'à {@code jour} inclus et signale les échéances atteintes (identifiant, jour traité), retirées
+     * avant l'appel : le signalement peut reprogrammer l'identifiant. Un jour par case, sauf retard d'un tour
+     * complet ou plus (serveur arrêté) : une seule passe sur toutes les cases
+     * @return nombre d'échéances signalées
+     */
+    int avancer(long jour, ObjLongConsumer<Integer> echues) {
+        int signalees = 0;
+        if (jour - courant >= TAILLE) {
+            courant = jour;
+            List<Integer> dues = new ArrayList<>();
+            for (Map<Integer, Long> creneau : cases) {
+                collecter(creneau, jour, dues);
+            }
+            for (Integer id : dues) {
+                echues.accept(id, jour);
+            }
+            return dues.size();
+        }
+        while (courant < jour) {
+            courant++;
+            List<Integer> dues = new ArrayList<>();
+            collecter(cases.get(indice(courant)), courant, dues);
+            for (Integer id : dues) {
+                echues.accept(id, courant);
+            }
+            signalees += dues.size();
+        }
+        return signalees;
+    }
+
+    int taille() {
+        return jours.size();
+    }
+
+    long getCourant() {
+        return courant;
+    }
+
+    private void collecter(Map<Integer, Long> creneau, long jour, List<Integer> dues) {
+        for (Iterator<Map.Entry<Integer, Long>> it = creneau.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Integer, Long> echeance = it.next();
+            if (echeance.getValue() <= jour) {
+                it.remove();
+                jours.remove(echeance.getKey());
+                dues.add(echeance.getKey());
+            }
+        }
+    }
+
+    private static int indice(long jour) {
+        return (int) (jour & (TAILLE - 1));
+    }
+}
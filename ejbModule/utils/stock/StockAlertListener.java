@@ -0,0 +1,194 @@
+package utils.stock;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+
+import model.entreprise.Boutiques;
+import model.produit.Produits;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Produits écrits par entité : estEnStock déduit de stockActuel avant l'écriture (comme l'écriture différée de
+ * {@link StockReservations}), puis stock, minimum, boutique et dates de péremption transmis à {@link StockAlerts}
+ * après commit uniquement
+ *
+ * En modification, la déduction se fait au flush de l'entité et non en PreUpdate : Produits a des groupes de
+ * propriétés lazy, Hibernate force alors la mise à jour dynamique et n'écrirait pas une valeur changée en PreUpdate
+ */
+public class StockAlertListener implements PreInsertEventListener, FlushEntityEventListener, PostInsertEventListener,
+        PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    // Propriétés suivies par les alertes
+    private static final String[] PROPRIETES = {
+            "stockActuel", "stockMinimum", "boutiques", "datePeremption", "dateExpiration" };
+
+    private final transient StockAlerts alertes;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Modifications> enCours = new TransactionCollector<>(Modifications::new);
+
+    /**
+     * @param alertes null si les alertes sont désactivées : seul estEnStock est tenu à jour
+     */
+    public StockAlertListener(StockAlerts alertes) {
+        this.alertes = alertes;
+    }
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        if (event.getEntity() instanceof Produits) {
+            synchroniser((Produits) event.getEntity(), event.getPersister().getEntityMetamodel(), event.getState());
+        }
+        return false;
+    }
+
+    /**
+     * Produit géré dont stockActuel a changé depuis le chargement : estEnStock mis à jour dans l'entité, avant la
+     * détection des propriétés modifiées
+     */
+    @Override
+    public void onFlushEntity(FlushEntityEvent event) {
+        EntityEntry entree = event.getEntityEntry();
+        if (!(event.getEntity() instanceof Produits) || entree.getStatus() != Status.MANAGED
+                || entree.getLoadedState() == null) {
+            return;
+        }
+        Produits produit = (Produits) event.getEntity();
+        int stock = entree.getPersister().getEntityMetamodel().getPropertyIndex("stockActuel");
+        if (produit.getStockActuel() != null
+                && !Objects.equals(entree.getLoadedState()[stock], produit.getStockActuel())) {
+            Boolean enStock = produit.getStockActuel() > 0;
+            if (!enStock.equals(produit.getEstEnStock())) {
+                produit.setEstEnStock(enStock);
+            }
+        }
+    }
+
+    /**
+     * estEnStock = stockActuel > 0, dans l'état écrit et dans l'entité (stock inconnu : inchangé)
+     */
+    private static void synchroniser(Produits produit, EntityMetamodel metamodel, Object[] etat) {
+        Integer stock = (Integer) etat[metamodel.getPropertyIndex("stockActuel")];
+        if (stock == null) {
+            return;
+        }
+        Boolean enStock = stock > 0;
+        etat[metamodel.getPropertyIndex("estEnStock")] = enStock;
+        produit.setEstEnStock(enStock);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (alertes != null && event.getEntity() instanceof Produits) {
+            signaler(event.getSession(), (Integer) event.getId(), event.getPersister(), event.getState());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (alertes == null || !(event.getEntity() instanceof Produits)) {
+            return;
+        }
+        EntityMetamodel metamodel = event.getPersister().getEntityMetamodel();
+        boolean concerne = event.getOldState() == null;
+        for (int i = 0; i < PROPRIETES.length && !concerne; i++) {
+            int position = metamodel.getPropertyIndex(PROPRIETES[i]);
+            concerne = !Objects.equals(event.getOldState()[position], event.getState()[position]);
+        }
+        if (concerne) {
+            signaler(event.getSession(), (Integer) event.getId(), event.getPersister(), event.getState());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (alertes != null && event.getEntity() instanceof Produits) {
+            enCours.pour(event.getSession()).supprimes.add((Integer) event.getId());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void signaler(EventSource session, Integer produitId, EntityPersister persister, Object[] etat) {
+        EntityMetamodel metamodel = persister.getEntityMetamodel();
+        Boutiques boutique = (Boutiques) etat[metamodel.getPropertyIndex("boutiques")];
+        Integer stock = (Integer) etat[metamodel.getPropertyIndex("stockActuel")];
+        LocalDate peremption = jour(etat[metamodel.getPropertyIndex("datePeremption")]);
+        LocalDate expiration = jour(etat[metamodel.getPropertyIndex("dateExpiration")]);
+        Produit produit = new Produit();
+        produit.id = produitId;
+        produit.boutiqueId = boutique != null ? boutique.getId() : 0;
+        produit.stock = stock != null ? stock : 0;
+        produit.minimum = (Integer) etat[metamodel.getPropertyIndex("stockMinimum")];
+        produit.echeance = peremption == null || (expiration != null && expiration.isBefore(peremption))
+                ? expiration : peremption;
+        enCours.pour(session).produits.add(produit);
+    }
+
+    private static LocalDate jour(Object date) {
+        if (date instanceof java.sql.Date) {
+            return ((java.sql.Date) date).toLocalDate();
+        }
+        return date instanceof Date ? ((Date) date).toInstant().atZone(ZoneId.systemDefault()).toLocalDate() : null;
+    }
+
+    /**
+     * État écrit d'un produit
+     */
+    private static final class Produit {
+        int id;
+        int boutiqueId;
+        int stock;
+        Integer minimum;
+        LocalDate echeance;
+    }
+
+    /**
+     * Produits écrits par une transaction, transmis aux alertes si elle est validée (dans l'ordre des écritures)
+     */
+    private class Modifications implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final List<Produit> produits = new ArrayList<>();
+        final List<Integer> supprimes = new ArrayList<>();
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                for (Produit produit : produits) {
+                    alertes.produitModifie(produit.id, produit.boutiqueId, produit.stock, produit.minimum,
+                            produit.echeance);
+                }
+                supprimes.forEach(alertes::produitSupprime);
+            }
+        }
+    }
+}
@@ -0,0 +1,661 @@
+package utils.stock;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Alertes de stock par boutique, sans relire la table produits : stock bas (stockMinimum atteint), rupture,
+ * péremption proche (senmarket.stock.alerts.notice_days jours avant, 7 par défaut) et produit périmé
+ *
+ * Produits chargés une fois au démarrage (stock, minimum, boutique, échéance = plus proche de datePeremption et
+ * dateExpiration), puis tenus à jour par les événements : lots de mouvements écrits par {@link StockReservations}
+ * et modifications par entité ({@link StockAlertListener}), après commit. Une alerte n'est émise qu'au passage du
+ * seuil (pas de répétition tant que le stock reste bas) ; échéances dans une roue au jour ({@link ExpiryWheel}).
+ * Péremption d'un produit sans stock : suivie, pas d'alerte
+ *
+ * Un thread ("senmarket-alertes") applique les événements, avance la roue et regroupe les alertes en une
+ * notification par boutique et par type (notifications_envoyees, canal IN_APP, au premier compte du propriétaire)
+ * Hors périmètre : produits modifiés en SQL hors {@link StockReservations} (pris en compte au redémarrage) ;
+ * une échéance atteinte pendant un arrêt du serveur ne donne pas d'alerte au redémarrage
+ */
+public class StockAlerts {
+
+    private static final Logger logger = Logger.getLogger(StockAlerts.class.getName());
+
+    public static final String ENABLED = "senmarket.stock.alerts.enabled";
+    public static final String NOTICE_DAYS = "senmarket.stock.alerts.notice_days";
+
+    public static final String STOCK_BAS = "STOCK_BAS";
+    public static final String RUPTURE = "RUPTURE";
+    public static final String PEREMPTION_PROCHE = "PEREMPTION_PROCHE";
+    public static final String PERIME = "PERIME";
+
+    static final int PREAVIS_DEFAUT = 7;
+    private static final long INTERVALLE_MS = 200;
+    private static final long HORLOGE_MS = TimeUnit.MINUTES.toMillis(1);
+    // Alertes d'une même boutique regroupées sur cet intervalle
+    static final long ENVOI_MS = 10_000;
+    private static final int EN_ATTENTE_MAX = 10_000;
+    private static final long AUCUNE = Long.MIN_VALUE;
+
+    private static final String CHARGEMENT = "SELECT id, boutique_id, coalesce(stock_actuel, 0), stock_minimum, "
+            + "least(date_peremption, date_expiration) FROM public.produits";
+    private static final String NOMS = "SELECT id, nom FROM public.produits WHERE id = ANY(?)";
+    // Identifiant par DEFAULT de la séquence (voir sql/001) : hbm2ddl ne le déclare pas, nextval explicite
+    private static final String NOTIFICATION = "INSERT INTO public.notifications_envoyees (id, destinataire_id, "
+            + "template_id, sujet, contenu, canal, statut, nombre_tentatives, cree_le) "
+            + "SELECT nextval('public.notifications_envoyees_id_seq'), "
+            + "(SELECT c.id FROM public.comptes_utilisateur c WHERE c.personne_id = b.proprietaire_id "
+            + "ORDER BY c.id LIMIT 1), "
+            + "(SELECT t.id FROM public.templates_notifications t WHERE t.code = ? AND t.est_actif IS NOT FALSE), "
+            + "?, ?, 'IN_APP', 'EN_ATTENTE', 0, ? FROM public.boutiques b WHERE b.id = ?";
+
+    private static final Map<SessionFactory, StockAlerts> ALERTES = new ConcurrentHashMap<>();
+
+    private final ConnectionProvider connexions;
+    private final int preavisJours;
+    private final ScheduledExecutorService thread;
+    private CompletableFuture<Void> chargement;
+    private volatile boolean actif;
+
+    // Réservés au thread des alertes
+    private final Map<Integer, Suivi> produits = new HashMap<>();
+    private ExpiryWheel roue;
+    private final List<Alerte> aEnvoyer = new ArrayList<>();
+
+    // Lus par les autres threads
+    private final Map<Integer, Set<Integer>> sousMinimum = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> aPerimer = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Runnable> evenements = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<Alerte>> ecouteurs = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicLong> emises = new ConcurrentHashMap<>();
+    private final AtomicInteger enFile = new AtomicInteger();
+    private final AtomicLong traites = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+    private volatile int suivis;
+    private volatile int echeances;
+    private volatile int enAttente;
+
+    StockAlerts(SessionFactoryImplementor sessionFactory) {
+        this.connexions = sessionFactory.getServiceRegistry().getService(ConnectionProvider.class);
+        Object preavis = sessionFactory.getProperties().get(NOTICE_DAYS);
+        this.preavisJours = preavis == null ? PREAVIS_DEFAUT
+                : Math.max(1, Integer.parseInt(preavis.toString().trim()));
+        this.thread = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread t = new Thread(tache, "senmarket-alertes");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, StockAlerts alertes) {
+        ALERTES.put(sessionFactory, alertes);
+    }
+
+    /**
+     * Arrêt : les alertes en attente sont écrites une dernière fois
+     */
+    static void retirer(SessionFactory sessionFactory) {
+        StockAlerts alertes = ALERTES.remove(sessionFactory);
+        if (alertes != null) {
+            alertes.thread.shutdown();
+            try {
+                if (alertes.thread.awaitTermination(5, TimeUnit.SECONDS) && alertes.actif && alertes.roue != null) {
+                    alertes.envoyer();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Alertes de l'unité de persistance, ou null si elles sont désactivées (senmarket.stock.enabled=false ou
+     * senmarket.stock.alerts.enabled=false)
+     */
+    public static StockAlerts of(EntityManagerFactory emf) {
+        return ALERTES.get(emf.unwrap(SessionFactory.class));
+    }
+
+    /**
+     * Charge les produits en arrière-plan puis suit les événements (sans effet si c'est déjà fait) ; les
+     * événements antérieurs sont ignorés, le chargement lisant l'état validé
+     */
+    public synchronized CompletableFuture<Void> demarrer() {
+        if (chargement == null) {
+            actif = true;
+            chargement = CompletableFuture.runAsync(this::charger, thread).whenComplete((resultat, erreur) -> {
+                if (erreur != null) {
+                    actif = false;
+                    evenements.clear();
+                    enFile.set(0);
+                    logger.log(Level.SEVERE, "❌ Alertes de stock désactivées", erreur);
+                    return;
+                }
+                thread.scheduleWithFixedDelay(this::traiter, INTERVALLE_MS, INTERVALLE_MS, TimeUnit.MILLISECONDS);
+                thread.scheduleWithFixedDelay(this::avancer, HORLOGE_MS, HORLOGE_MS, TimeUnit.MILLISECONDS);
+                thread.scheduleWithFixedDelay(this::envoyer, ENVOI_MS, ENVOI_MS, TimeUnit.MILLISECONDS);
+            });
+        }
+        return chargement;
+    }
+
+    /**
+     * Appelé sur le thread des alertes pour chaque alerte émise (notification temps réel, journal...)
+     */
+    public void ajouterEcouteur(Consumer<Alerte> ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Produits de la boutique en rupture ou sous leur stock minimum
+     */
+    public List<Integer> produitsSousMinimum(int boutiqueId) {
+        return trier(sousMinimum.get(boutiqueId));
+    }
+
+    /**
+     * Produits en stock de la boutique, périmés ou dans le préavis de péremption
+     */
+    public List<Integer> produitsAPerimer(int boutiqueId) {
+        return trier(aPerimer.get(boutiqueId));
+    }
+
+    private static List<Integer> trier(Set<Integer> ids) {
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<Integer> liste = new ArrayList<>(ids);
+        Collections.sort(liste);
+        return liste;
+    }
+
+    // ------------------------------------------------------------------ événements
+
+    /**
+     * Stocks après un lot de mouvements validé (appelé par {@link StockReservations})
+     */
+    void stockModifie(Map<Integer, Integer> stocks) {
+        if (actif && !stocks.isEmpty()) {
+            Map<Integer, Integer> copie = new HashMap<>(stocks);
+            ajouterEvenement(() -> copie.forEach(this::appliquerStock));
+        }
+    }
+
+    /**
+     * Produit créé ou modifié par entité, transaction validée (appelé par le listener)
+     */
+    void produitModifie(int produitId, int boutiqueId, int stock, Integer minimum, LocalDate echeance) {
+        if (actif) {
+            long jour = echeance != null ? echeance.toEpochDay() : AUCUNE;
+            ajouterEvenement(() -> appliquerProduit(produitId, boutiqueId, stock, minimum, jour));
+        }
+    }
+
+    void produitSupprime(int produitId) {
+        if (actif) {
+            ajouterEvenement(() -> supprimer(produitId));
+        }
+    }
+
+    private void ajouterEvenement(Runnable evenement) {
+        evenements.add(evenement);
+        enFile.incrementAndGet();
+    }
+
+    // ------------------------------------------------------------------ thread des alertes
+
+    private void charger() {
+        long debut = System.nanoTime();
+        long aujourdhui = LocalDate.now().toEpochDay();
+        roue = new ExpiryWheel(aujourdhui);
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            // Lecture par curseur
+            connexion.setAutoCommit(false);
+            try (Statement statement = connexion.createStatement()) {
+                statement.setFetchSize(5_000);
+                try (ResultSet resultat = statement.executeQuery(CHARGEMENT)) {
+                    while (resultat.next()) {
+                        Suivi suivi = new Suivi(resultat.getInt(2), resultat.getInt(3));
+                        int minimum = resultat.getInt(4);
+                        suivi.minimum = resultat.wasNull() ? null : minimum;
+                        Date echeance = resultat.getDate(5);
+                        suivi.echeance = echeance != null ? echeance.toLocalDate().toEpochDay() : AUCUNE;
+                        int id = resultat.getInt(1);
+                        produits.put(id, suivi);
+                        evaluer(id, suivi, suivi.stock, suivi.minimum);
+                        programmer(id, suivi, aujourdhui, false);
+                    }
+                }
+                connexion.commit();
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Chargement des alertes de stock impossible", e);
+        }
+        mettreAJourCompteurs();
+        logger.info(String.format("🔔 Alertes de stock : %,d produits suivis, %,d sous le minimum, %,d à périmer, "
+                + "%,d échéances en %d ms", suivis, taille(sousMinimum), taille(aPerimer), echeances,
+                (System.nanoTime() - debut) / 1_000_000));
+    }
+
+    private void traiter() {
+        try {
+            Runnable evenement;
+            while ((evenement = evenements.poll()) != null) {
+                enFile.decrementAndGet();
+                evenement.run();
+                traites.incrementAndGet();
+            }
+            mettreAJourCompteurs();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Événement de stock non appliqué aux alertes", e);
+        }
+    }
+
+    /**
+     * Avance la roue jusqu'au jour courant (appelé chaque minute)
+     */
+    private void avancer() {
+        try {
+            traiter();
+            if (roue.avancer(LocalDate.now().toEpochDay(), this::echue) > 0) {
+                mettreAJourCompteurs();
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Échéances de péremption", e);
+        }
+    }
+
+    private void appliquerStock(int produitId, int stock) {
+        Suivi suivi = produits.get(produitId);
+        // Produit créé en SQL après le chargement : suivi à sa première modification par entité
+        if (suivi == null || suivi.stock == stock) {
+            return;
+        }
+        int avant = suivi.stock;
+        suivi.stock = stock;
+        evaluer(produitId, suivi, avant, suivi.minimum);
+        marquer(aPerimer, suivi.boutiqueId, produitId, aPerimer(suivi, roue.getCourant()));
+    }
+
+    private void appliquerProduit(int produitId, int boutiqueId, int stock, Integer minimum, long echeance) {
+        Suivi suivi = produits.get(produitId);
+        if (suivi == null) {
+            // Nouveau produit : son état initial n'est pas un passage de seuil
+            suivi = new Suivi(boutiqueId, stock);
+            suivi.minimum = minimum;
+            suivi.echeance = echeance;
+            produits.put(produitId, suivi);
+            evaluer(produitId, suivi, stock, minimum);
+            programmer(produitId, suivi, roue.getCourant(), false);
+            return;
+        }
+        if (suivi.boutiqueId != boutiqueId) {
+            retirer(sousMinimum, suivi.boutiqueId, produitId);
+            retirer(aPerimer, suivi.boutiqueId, produitId);
+            suivi.boutiqueId = boutiqueId;
+        }
+        int stockAvant = suivi.stock;
+        Integer minimumAvant = suivi.minimum;
+        suivi.stock = stock;
+        suivi.minimum = minimum;
+        evaluer(produitId, suivi, stockAvant, minimumAvant);
+        if (suivi.echeance != echeance) {
+            suivi.echeance = echeance;
+            programmer(produitId, suivi, roue.getCourant(), true);
+        } else {
+            marquer(aPerimer, suivi.boutiqueId, produitId, aPerimer(suivi, roue.getCourant()));
+        }
+    }
+
+    private void supprimer(int produitId) {
+        Suivi suivi = produits.remove(produitId);
+        if (suivi != null) {
+            roue.annuler(produitId);
+            retirer(sousMinimum, suivi.boutiqueId, produitId);
+            retirer(aPerimer, suivi.boutiqueId, produitId);
+        }
+    }
+
+    /**
+     * Alerte au passage en rupture, ou sous le minimum depuis un stock suffisant
+     */
+    private void evaluer(int produitId, Suivi suivi, int stockAvant, Integer minimumAvant) {
+        boolean ruptureAvant = stockAvant <= 0;
+        boolean rupture = suivi.stock <= 0;
+        boolean basAvant = !ruptureAvant && minimumAvant != null && stockAvant <= minimumAvant;
+        boolean bas = !rupture && suivi.minimum != null && suivi.stock <= suivi.minimum;
+        if (rupture && !ruptureAvant) {
+            alerter(RUPTURE, produitId, suivi);
+        } else if (bas && !basAvant && !ruptureAvant) {
+            alerter(STOCK_BAS, produitId, suivi);
+        }
+        marquer(sousMinimum, suivi.boutiqueId, produitId, rupture || bas);
+    }
+
+    /**
+     * Programme la prochaine étape de l'échéance : préavis, puis péremption ; une étape déjà atteinte donne une
+     * alerte immédiate si {@code alerter} (échéance modifiée), aucune au chargement
+     */
+    private void programmer(int produitId, Suivi suivi, long aujourdhui, boolean alerter) {
+        roue.annuler(produitId);
+        boolean due = preavis(suivi, aujourdhui);
+        marquer(aPerimer, suivi.boutiqueId, produitId, aPerimer(suivi, aujourdhui));
+        if (suivi.echeance == AUCUNE) {
+            return;
+        }
+        if (!due) {
+            roue.programmer(produitId, suivi.echeance - preavisJours);
+            return;
+        }
+        if (alerter) {
+            alerter(aujourdhui >= suivi.echeance ? PERIME : PEREMPTION_PROCHE, produitId, suivi);
+        }
+        roue.programmer(produitId, suivi.echeance);
+    }
+
+    /**
+     * Étape atteinte par la roue le jour {@code jour}
+     */
+    private void echue(Integer produitId, long jour) {
+        Suivi suivi = produits.get(produitId);
+        if (suivi == null || suivi.echeance == AUCUNE) {
+            return;
+        }
+        marquer(aPerimer, suivi.boutiqueId, produitId, suivi.stock > 0);
+        if (jour >= suivi.echeance) {
+            alerter(PERIME, produitId, suivi);
+        } else {
+            alerter(PEREMPTION_PROCHE, produitId, suivi);
+            roue.programmer(produitId, suivi.echeance);
+        }
+    }
+
+    private boolean preavis(Suivi suivi, long jour) {
+        return suivi.echeance != AUCUNE && jour >= suivi.echeance - preavisJours;
+    }
+
+    /**
+     * Dans le préavis ou périmé, et encore en stock
+     */
+    private boolean aPerimer(Suivi suivi, long jour) {
+        return suivi.stock > 0 && preavis(suivi, jour);
+    }
+
+    private void alerter(String type, int produitId, Suivi suivi) {
+        if ((PEREMPTION_PROCHE.equals(type) || PERIME.equals(type)) && suivi.stock <= 0) {
+            return;
+        }
+        Alerte alerte = new Alerte(type, produitId, suivi.boutiqueId, suivi.stock, suivi.minimum,
+                suivi.echeance != AUCUNE ? LocalDate.ofEpochDay(suivi.echeance) : null);
+        emises.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+        if (aEnvoyer.size() >= EN_ATTENTE_MAX) {
+            aEnvoyer.remove(0);
+        }
+        aEnvoyer.add(alerte);
+        for (Consumer<Alerte> ecouteur : ecouteurs) {
+            try {
+                ecouteur.accept(alerte);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "⚠️ Écouteur d'alertes de stock", e);
+            }
+        }
+    }
+
+    /**
+     * Écrit les alertes en attente : une notification par boutique et par type, un produit n'y figurant qu'une
+     * fois (dernier état) ; en cas d'échec elles sont conservées pour l'envoi suivant
+     */
+    private void envoyer() {
+        try {
+            traiter();
+            if (aEnvoyer.isEmpty()) {
+                return;
+            }
+            Map<String, Map<Integer, Alerte>> groupes = new LinkedHashMap<>();
+            Set<Integer> ids = new HashSet<>();
+            for (Alerte alerte : aEnvoyer) {
+                groupes.computeIfAbsent(alerte.boutiqueId + ":" + alerte.type, g -> new LinkedHashMap<>())
+                        .put(alerte.produitId, alerte);
+                ids.add(alerte.produitId);
+            }
+            ecrire(groupes.values(), ids);
+            notifications.addAndGet(groupes.size());
+            aEnvoyer.clear();
+        } catch (SQLException | RuntimeException e) {
+            echecs.incrementAndGet();
+            logger.log(Level.WARNING, "⚠️ Notifications d'alertes de stock non écrites (" + aEnvoyer.size()
+                    + " alertes conservées) : " + e.getMessage());
+        } finally {
+            enAttente = aEnvoyer.size();
+        }
+    }
+
+    private void ecrire(Collection<Map<Integer, Alerte>> groupes, Set<Integer> ids) throws SQLException {
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try {
+                Map<Integer, String> noms = new HashMap<>();
+                try (PreparedStatement ps = connexion.prepareStatement(NOMS)) {
+                    ps.setArray(1, connexion.createArrayOf("integer", ids.toArray()));
+                    try (ResultSet resultat = ps.executeQuery()) {
+                        while (resultat.next()) {
+                            noms.put(resultat.getInt(1), resultat.getString(2));
+                        }
+                    }
+                }
+                Timestamp maintenant = new Timestamp(System.currentTimeMillis());
+                try (PreparedStatement ps = connexion.prepareStatement(NOTIFICATION)) {
+                    for (Map<Integer, Alerte> groupe : groupes) {
+                        Alerte premiere = groupe.values().iterator().next();
+                        StringBuilder contenu = new StringBuilder();
+                        for (Alerte alerte : groupe.values()) {
+                            contenu.append("- ").append(alerte.detail(noms.get(alerte.produitId))).append('\n');
+                        }
+                        ps.setString(1, "ALERTE_" + premiere.type);
+                        ps.setString(2, sujet(premiere.type, groupe.size()));
+                        ps.setString(3, contenu.toString());
+                        ps.setTimestamp(4, maintenant);
+                        ps.setInt(5, premiere.boutiqueId);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+                connexion.commit();
+            } catch (SQLException | RuntimeException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static String sujet(String type, int nombre) {
+        switch (type) {
+            case RUPTURE:
+                return "Rupture de stock : " + nombre + " produit(s)";
+            case STOCK_BAS:
+                return "Stock bas : " + nombre + " produit(s)";
+            case PEREMPTION_PROCHE:
+                return "Péremption proche : " + nombre + " produit(s)";
+            default:
+                return "Produits périmés : " + nombre + " produit(s)";
+        }
+    }
+
+    private static void marquer(Map<Integer, Set<Integer>> parBoutique, int boutiqueId, int produitId,
+            boolean present) {
+        if (present) {
+            parBoutique.computeIfAbsent(boutiqueId, b -> ConcurrentHashMap.newKeySet()).add(produitId);
+        } else {
+            retirer(parBoutique, boutiqueId, produitId);
+        }
+    }
+
+    private static void retirer(Map<Integer, Set<Integer>> parBoutique, int boutiqueId, int produitId) {
+        parBoutique.computeIfPresent(boutiqueId, (b, ids) -> {
+            ids.remove(produitId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static int taille(Map<Integer, Set<Integer>> parBoutique) {
+        return parBoutique.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void mettreAJourCompteurs() {
+        suivis = produits.size();
+        echeances = roue.taille();
+        enAttente = aEnvoyer.size();
+    }
+
+    /**
+     * Compteurs des alertes
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        statistiques.produits = suivis;
+        statistiques.sousMinimum = taille(sousMinimum);
+        statistiques.aPerimer = taille(aPerimer);
+        statistiques.echeances = echeances;
+        statistiques.enFile = enFile.get();
+        statistiques.traites = traites.get();
+        emises.forEach((type, nombre) -> statistiques.emises.put(type, nombre.get()));
+        statistiques.enAttente = enAttente;
+        statistiques.notifications = notifications.get();
+        statistiques.echecs = echecs.get();
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * État suivi d'un produit (thread des alertes)
+     */
+    private static final class Suivi {
+        int boutiqueId;
+        int stock;
+        Integer minimum;
+        long echeance = AUCUNE;
+
+        Suivi(int boutiqueId, int stock) {
+            this.boutiqueId = boutiqueId;
+            this.stock = stock;
+        }
+    }
+
+    /**
+     * Alerte émise pour un produit
+     */
+    public static class Alerte {
+        public final String type;
+        public final int produitId;
+        public final int boutiqueId;
+        public final int stock;
+        public final Integer stockMinimum;
+        public final LocalDate echeance;
+        public final long creeLe = System.currentTimeMillis();
+
+        Alerte(String type, int produitId, int boutiqueId, int stock, Integer stockMinimum, LocalDate echeance) {
+            this.type = type;
+            this.produitId = produitId;
+            this.boutiqueId = boutiqueId;
+            this.stock = stock;
+            this.stockMinimum = stockMinimum;
+            this.echeance = echeance;
+        }
+
+        /**
+         * Ligne de la notification
+         */
+        String detail(String nom) {
+            String produit = nom != null ? nom : "Produit " + produitId;
+            switch (type) {
+                case RUPTURE:
+                    return produit + " : rupture de stock";
+                case STOCK_BAS:
+                    return produit + " : " + stock + " en stock (minimum " + stockMinimum + ")";
+                case PEREMPTION_PROCHE:
+                    return produit + " : périme le " + echeance + " (" + stock + " en stock)";
+                default:
+                    return produit + " : périmé depuis le " + echeance + " (" + stock + " en stock)";
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Alerte %s : produit %d, boutique %d (%s)", type, produitId, boutiqueId,
+                    detail(null));
+        }
+    }
+
+    /**
+     * Compteurs des alertes
+     */
+    public static class Statistiques {
+        public int produits;
+        public int sousMinimum;
+        public int aPerimer;
+        public int echeances;
+        public int enFile;
+        public long traites;
+        public Map<String, Long> emises = new TreeMap<>();
+        public int enAttente;
+        public long notifications;
+        public long echecs;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== ALERTES DE STOCK ===\n");
+            sb.append(String.format("Produits suivis : %,d | sous le minimum : %,d | à périmer : %,d | "
+                    + "échéances programmées : %,d%n", produits, sousMinimum, aPerimer, echeances));
+            sb.append(String.format("Événements : traités %,d | en file %,d%n", traites, enFile));
+            sb.append("Alertes émises : ").append(emises).append("\n");
+            sb.append(String.format("Notifications : écrites %,d | alertes en attente %,d | échecs %,d%n",
+                    notifications, enAttente, echecs));
+            sb.append("========================");
+            return sb.toString();
+        }
+    }
+}
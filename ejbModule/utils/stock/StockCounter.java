@@ -0,0 +1,175 @@
+package utils.stock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Stock disponible d'un produit, réparti en bandes sans verrou : chaque thread prélève dans sa bande par CAS et
+ * n'en descend jamais sous zéro, la somme des bandes ne peut donc pas être survendue
+ *
+ * Un seul compteur tant qu'il n'y a pas de concurrence ; les bandes (une ligne de cache chacune) ne sont créées
+ * qu'après quelques CAS manqués. Bande vide : les unités de toutes les bandes sont regroupées sous verrou puis
+ * redistribuées, un refus signifie donc un stock réellement insuffisant
+ *
+ * Les ajouts passent par le verrou : une dette (baisse externe au-delà du disponible) est remboursée avant que
+ * des unités n'atteignent une bande, sinon un ajout concurrent d'une baisse remettrait en vente des unités dues
+ */
+final class StockCounter {
+
+    // Puissance de deux au moins égale au nombre de processeurs, bornée à 16
+    static final int BANDES =
+            Math.min(16, Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors()) * 2 - 1));
+    // Une bande toutes les 16 cases : 64 octets, pas de faux partage entre bandes
+    private static final int PAS = 16;
+    // CAS manqués sur le compteur unique avant passage en bandes
+    private static final int COLLISIONS_MAX = 8;
+
+    private final AtomicInteger base;
+    private volatile AtomicIntegerArray bandes;
+    private int collisions;
+    // Unités retirées au-delà du disponible (baisse de stock externe) : remboursées par les prochains ajouts
+    // (sous verrou)
+    private int dette;
+
+    StockCounter(int disponible) {
+        this.base = new AtomicInteger(Math.max(0, disponible));
+    }
+
+    /**
+     * Prélève {@code quantite} unités ; false si le stock disponible ne suffit pas
+     */
+    boolean prelever(int quantite) {
+        AtomicIntegerArray courantes = bandes;
+        if (courantes == null) {
+            for (;;) {
+                int valeur = base.get();
+                if (valeur < quantite) {
+                    break;
+                }
+                if (base.compareAndSet(valeur, valeur - quantite)) {
+                    return true;
+                }
+                if (++collisions >= COLLISIONS_MAX) {
+                    gonfler();
+                    return prelever(quantite);
+                }
+            }
+        } else {
+            int indice = bande() * PAS;
+            for (;;) {
+                int valeur = courantes.get(indice);
+                if (valeur < quantite) {
+                    break;
+                }
+                if (courantes.compareAndSet(indice, valeur, valeur - quantite)) {
+                    return true;
+                }
+            }
+        }
+        return preleverRegroupe(quantite);
+    }
+
+    /**
+     * Rend ou ajoute des unités (réservation libérée, réapprovisionnement), après remboursement de la dette
+     */
+    synchronized void ajouter(int quantite) {
+        if (quantite <= 0) {
+            return;
+        }
+        int rembourse = Math.min(dette, quantite);
+        dette -= rembourse;
+        quantite -= rembourse;
+        if (quantite == 0) {
+            return;
+        }
+        AtomicIntegerArray courantes = bandes;
+        if (courantes == null) {
+            base.addAndGet(quantite);
+        } else {
+            courantes.addAndGet(bande() * PAS, quantite);
+        }
+    }
+
+    /**
+     * Applique un écart de stock (modification externe de stockActuel), éventuellement négatif
+     */
+    void ajuster(int ecart) {
+        if (ecart > 0) {
+            ajouter(ecart);
+        } else if (ecart < 0) {
+            ajusterRegroupe(ecart);
+        }
+    }
+
+    /**
+     * Instantané du stock disponible (somme des bandes, sans verrou)
+     */
+    int disponible() {
+        int total = base.get();
+        AtomicIntegerArray courantes = bandes;
+        if (courantes != null) {
+            for (int i = 0; i < BANDES; i++) {
+                total += courantes.get(i * PAS);
+            }
+        }
+        return total;
+    }
+
+    boolean isEnBandes() {
+        return bandes != null;
+    }
+
+    private synchronized boolean preleverRegroupe(int quantite) {
+        int total = regrouper();
+        boolean preleve = total >= quantite;
+        redistribuer(preleve ? total - quantite : total);
+        return preleve;
+    }
+
+    private synchronized void ajusterRegroupe(int ecart) {
+        int total = regrouper() + ecart;
+        if (total < 0) {
+            dette -= total;
+            total = 0;
+        }
+        redistribuer(total);
+    }
+
+    private synchronized void gonfler() {
+        if (bandes == null) {
+            bandes = new AtomicIntegerArray(BANDES * PAS);
+            redistribuer(base.getAndSet(0));
+        }
+    }
+
+    /**
+     * Retire toutes les unités des bandes (appelé sous verrou) ; les prélèvements concurrents sans verrou voient
+     * des bandes vides et attendent le verrou
+     */
+    private int regrouper() {
+        int total = base.getAndSet(0);
+        AtomicIntegerArray courantes = bandes;
+        if (courantes != null) {
+            for (int i = 0; i < BANDES; i++) {
+                total += courantes.getAndSet(i * PAS, 0);
+            }
+        }
+        return total;
+    }
+
+    private void redistribuer(int total) {
+        AtomicIntegerArray courantes = bandes;
+        if (courantes == null) {
+            base.addAndGet(total);
+            return;
+        }
+        int part = total / BANDES;
+        for (int i = 0; i < BANDES; i++) {
+            courantes.addAndGet(i * PAS, i == 0 ? part + total % BANDES : part);
+        }
+    }
+
+    private static int bande() {
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (BANDES - 1);
+    }
+}
@@ -0,0 +1,53 @@
+package utils.stock;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import model.produit.MouvementsStock;
+import model.produit.Produits;
+
+/**
+ * Crée les {@link StockReservations} et les {@link StockAlerts} de l'unité de persistance, enregistre
+ * {@link StockListener} et {@link StockAlertListener} (déclaré dans META-INF/services) ; désactivable par
+ * senmarket.stock.enabled=false, alertes seules par senmarket.stock.alerts.enabled=false
+ */
+public class StockIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        Object active = sessionFactory.getProperties().get(StockReservations.ENABLED);
+        if (metadata.getEntityBinding(Produits.class.getName()) == null
+                || metadata.getEntityBinding(MouvementsStock.class.getName()) == null
+                || (active != null && !Boolean.parseBoolean(active.toString().trim()))) {
+            return;
+        }
+        Object alertesActives = sessionFactory.getProperties().get(StockAlerts.ENABLED);
+        StockAlerts alertes = null;
+        if (alertesActives == null || Boolean.parseBoolean(alertesActives.toString().trim())) {
+            alertes = new StockAlerts(sessionFactory);
+            StockAlerts.enregistrer(sessionFactory, alertes);
+        }
+        StockReservations reservations = new StockReservations(sessionFactory, alertes);
+        StockReservations.enregistrer(sessionFactory, reservations);
+        EventListenerRegistry registre = serviceRegistry.getService(EventListenerRegistry.class);
+        registre.appendListeners(EventType.POST_UPDATE, new StockListener(reservations));
+        StockAlertListener listener = new StockAlertListener(alertes);
+        registre.appendListeners(EventType.PRE_INSERT, listener);
+        // Avant le listener par défaut : estEnStock déduit avant la détection des propriétés modifiées
+        registre.prependListeners(EventType.FLUSH_ENTITY, listener);
+        registre.appendListeners(EventType.POST_INSERT, listener);
+        registre.appendListeners(EventType.POST_UPDATE, listener);
+        registre.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        StockReservations.retirer(sessionFactory);
+        StockAlerts.retirer(sessionFactory);
+    }
+}
@@ -0,0 +1,558 @@
+package utils.stock;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+
+import utils.jdbc.BulkInsert;
+
+/**
+ * Journal de stock consultable à une date : instantanés journaliers par produit et par lot (instantanes_stock,
+ * quantité et valeur au coût moyen pondéré) et rejeu des seuls mouvements postérieurs au dernier instantané ;
+ * une requête « stock au » coûte les mouvements d'un jour au plus, quelle que soit la longueur du journal
+ *
+ * L'instantané du jour J cumule les mouvements créés avant J à 00:00 ; il est calculé à partir du précédent et des
+ * mouvements intermédiaires ({@link StockReservations} en arrête un par jour). Valorisation :
+ * - entrée au prix unitaire du mouvement (ou valeurTotale / quantité), à défaut au coût moyen du lot, du produit,
+ *   puis au prix d'achat
+ * - sortie sans lot : lots à péremption la plus proche d'abord, puis lots sans date, stock sans lot en dernier
+ * - quantité avant différente du stock rejoué (stock modifié hors journal, produit sans historique) : l'écart est
+ *   porté sur le stock sans lot
+ * Mouvement inséré après coup avec une date antérieure au dernier instantané : {@link #reconstruire}
+ */
+public final class StockLedger {
+
+    private static final String DERNIER =
+            "SELECT max(date_arrete) FROM public.instantanes_stock WHERE date_arrete <= ?";
+    private static final String PRECEDENT =
+            "SELECT max(date_arrete) FROM public.instantanes_stock WHERE date_arrete < ?";
+    private static final String LIGNES = "SELECT produit_id, lot_numero, quantite, valeur_stock, date_expiration, "
+            + "dernier_mouvement_id FROM public.instantanes_stock WHERE date_arrete = ? %s "
+            + "ORDER BY produit_id, lot_numero";
+    private static final String MOUVEMENTS = "SELECT m.id, m.produit_id, m.quantite_avant, m.quantite_mouvement, "
+            + "m.prix_unitaire, m.valeur_totale, m.lot_numero, m.date_expiration, p.prix_achat "
+            + "FROM public.mouvements_stock m LEFT JOIN public.produits p ON p.id = m.produit_id "
+            + "WHERE %s ORDER BY m.produit_id, m.cree_le, m.id";
+    private static final String PRODUITS_BOUTIQUE = "SELECT id FROM public.produits WHERE boutique_id = ? ORDER BY id";
+    private static final String COPY = "COPY public.instantanes_stock (date_arrete, produit_id, lot_numero, quantite, "
+            + "valeur_stock, date_expiration, dernier_mouvement_id, cree_le) FROM STDIN";
+
+    private static final String PAR_PRODUITS = " AND produit_id = ANY(?)";
+    private static final int TAILLE_CURSEUR = 5_000;
+    private static final int TAILLE_COPY = 1 << 20;
+
+    private StockLedger() {
+    }
+
+    // ------------------------------------------------------------------ requêtes
+
+    /**
+     * Stock d'un produit à la date donnée (maintenant si null), détaillé par lot
+     */
+    public static StockProduit stockProduit(EntityManager em, int produitId, Timestamp date) {
+        Timestamp quand = date != null ? date : new Timestamp(System.currentTimeMillis());
+        return em.unwrap(Session.class).doReturningWork(connexion -> {
+            Rejeu rejeu = rejouer(connexion, new Integer[] { produitId }, quand);
+            StockProduit stock = rejeu.produits.get(produitId);
+            return stock != null ? stock : new StockProduit(produitId);
+        });
+    }
+
+    /**
+     * Inventaire valorisé d'une boutique à la date donnée (maintenant si null) : produits en stock (ou en écart)
+     * détaillés par lot, quantité et valeur totales
+     */
+    public static Inventaire inventaire(EntityManager em, int boutiqueId, Timestamp date) {
+        Timestamp quand = date != null ? date : new Timestamp(System.currentTimeMillis());
+        return em.unwrap(Session.class).doReturningWork(connexion -> {
+            long debut = System.nanoTime();
+            List<Integer> ids = new ArrayList<>();
+            try (PreparedStatement ps = connexion.prepareStatement(PRODUITS_BOUTIQUE)) {
+                ps.setInt(1, boutiqueId);
+                try (ResultSet resultat = ps.executeQuery()) {
+                    while (resultat.next()) {
+                        ids.add(resultat.getInt(1));
+                    }
+                }
+            }
+            Inventaire inventaire = new Inventaire();
+            inventaire.boutiqueId = boutiqueId;
+            inventaire.date = quand;
+            if (!ids.isEmpty()) {
+                Rejeu rejeu = rejouer(connexion, ids.toArray(new Integer[0]), quand);
+                inventaire.instantane = rejeu.instantane;
+                inventaire.mouvementsRejoues = rejeu.mouvements;
+                for (StockProduit stock : rejeu.produits.values()) {
+                    if (stock.quantite != 0 || stock.valeur.signum() != 0) {
+                        inventaire.produits.add(stock);
+                        inventaire.quantiteTotale += stock.quantite;
+                        inventaire.valeurTotale = inventaire.valeurTotale.add(stock.valeur);
+                    }
+                }
+            }
+            inventaire.dureeMicros = (System.nanoTime() - debut) / 1_000;
+            return inventaire;
+        });
+    }
+
+    /**
+     * Dernier instantané au plus tard à la date des produits, puis leurs mouvements jusqu'à la date incluse
+     */
+    private static Rejeu rejouer(Connection connexion, Integer[] produitIds, Timestamp date) throws SQLException {
+        Rejeu rejeu = new Rejeu();
+        rejeu.instantane = arrete(connexion, DERNIER, date.toLocalDateTime().toLocalDate());
+        for (Integer id : produitIds) {
+            rejeu.produits.put(id, new StockProduit(id));
+        }
+        Array ids = connexion.createArrayOf("integer", produitIds);
+        if (rejeu.instantane != null) {
+            try (PreparedStatement ps = connexion.prepareStatement(String.format(LIGNES, PAR_PRODUITS))) {
+                ps.setDate(1, Date.valueOf(rejeu.instantane));
+                ps.setArray(2, ids);
+                try (ResultSet resultat = ps.executeQuery()) {
+                    while (resultat.next()) {
+                        rejeu.produits.get(resultat.getInt(1)).charger(resultat);
+                    }
+                }
+            }
+        }
+        String filtre = "m.produit_id = ANY(?) AND m.cree_le <= ?"
+                + (rejeu.instantane != null ? " AND m.cree_le >= ?" : "");
+        try (PreparedStatement ps = connexion.prepareStatement(String.format(MOUVEMENTS, filtre))) {
+            ps.setArray(1, ids);
+            ps.setTimestamp(2, date);
+            if (rejeu.instantane != null) {
+                ps.setTimestamp(3, Timestamp.valueOf(rejeu.instantane.atStartOfDay()));
+            }
+            try (ResultSet resultat = ps.executeQuery()) {
+                while (resultat.next()) {
+                    rejeu.produits.get(resultat.getInt(2)).appliquer(resultat);
+                    rejeu.mouvements++;
+                }
+            }
+        }
+        return rejeu;
+    }
+
+    // ------------------------------------------------------------------ instantanés
+
+    /**
+     * Arrête l'instantané du jour (mouvements créés avant {@code jour} à 00:00) à partir du précédent et des
+     * mouvements intermédiaires, ou de tout le journal s'il n'y en a pas ; un instantané existant est remplacé
+     * À appeler dans une transaction (autocommit désactivé : lecture par curseur), validée par l'appelant
+     * @return nombre de lignes écrites
+     */
+    public static int arreter(Connection connexion, LocalDate jour) throws SQLException {
+        LocalDate precedent = arrete(connexion, PRECEDENT, jour);
+        try (PreparedStatement ps = connexion.prepareStatement(
+                "DELETE FROM public.instantanes_stock WHERE date_arrete = ?")) {
+            ps.setDate(1, Date.valueOf(jour));
+            ps.executeUpdate();
+        }
+        // Instantané initial : mouvements sans date compris
+        String filtre = precedent != null ? "m.cree_le >= ? AND m.cree_le < ?" : "(m.cree_le < ? OR m.cree_le IS NULL)";
+        try (PreparedStatement lignes = connexion.prepareStatement(String.format(LIGNES, ""));
+                PreparedStatement mouvements = connexion.prepareStatement(String.format(MOUVEMENTS, filtre))) {
+            lignes.setFetchSize(TAILLE_CURSEUR);
+            mouvements.setFetchSize(TAILLE_CURSEUR);
+            lignes.setDate(1, Date.valueOf(precedent != null ? precedent : jour));
+            int parametre = 1;
+            if (precedent != null) {
+                mouvements.setTimestamp(parametre++, Timestamp.valueOf(precedent.atStartOfDay()));
+            }
+            mouvements.setTimestamp(parametre, Timestamp.valueOf(jour.atStartOfDay()));
+            try (ResultSet instantane = precedent != null ? lignes.executeQuery() : null;
+                    ResultSet journal = mouvements.executeQuery()) {
+                return fusionner(connexion, jour, instantane, journal);
+            }
+        }
+    }
+
+    /**
+     * Parcourt l'instantané précédent et les mouvements, tous deux triés par produit, et écrit le nouvel état par
+     * blocs COPY entre deux lectures
+     */
+    private static int fusionner(Connection connexion, LocalDate jour, ResultSet instantane, ResultSet journal)
+            throws SQLException {
+        String arrete = Date.valueOf(jour).toString();
+        String creeLe = new Timestamp(System.currentTimeMillis()).toString();
+        StringBuilder copy = new StringBuilder(TAILLE_COPY + 4_096);
+        boolean ligne = instantane != null && instantane.next();
+        boolean mouvement = journal.next();
+        int lignes = 0;
+        while (ligne || mouvement) {
+            int produitId = Math.min(ligne ? instantane.getInt(1) : Integer.MAX_VALUE,
+                    mouvement ? journal.getInt(2) : Integer.MAX_VALUE);
+            StockProduit stock = new StockProduit(produitId);
+            while (ligne && instantane.getInt(1) == produitId) {
+                stock.charger(instantane);
+                ligne = instantane.next();
+            }
+            while (mouvement && journal.getInt(2) == produitId) {
+                stock.appliquer(journal);
+                mouvement = journal.next();
+            }
+            for (Lot lot : stock.lots) {
+                if (lot.quantite == 0 && lot.valeur.signum() == 0) {
+                    continue;
+                }
+                copy.append(arrete);
+                BulkInsert.colonne(copy, produitId);
+                BulkInsert.colonne(copy, lot.lotNumero != null ? lot.lotNumero : "");
+                BulkInsert.colonne(copy, lot.quantite);
+                BulkInsert.colonne(copy, lot.valeur.toPlainString());
+                BulkInsert.colonne(copy, lot.dateExpiration);
+                BulkInsert.colonne(copy, stock.dernierMouvementId);
+                BulkInsert.colonne(copy, creeLe);
+                copy.append('\n');
+                lignes++;
+            }
+            if (copy.length() >= TAILLE_COPY) {
+                copier(connexion, copy);
+            }
+        }
+        copier(connexion, copy);
+        return lignes;
+    }
+
+    private static void copier(Connection connexion, StringBuilder copy) throws SQLException {
+        if (copy.length() == 0) {
+            return;
+        }
+        try {
+            connexion.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY, new StringReader(copy.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY instantanes_stock", e);
+        }
+        copy.setLength(0);
+    }
+
+    /**
+     * Recalcule les instantanés à partir de {@code depuis} (mêmes jours), après un chargement hors journal ou un
+     * mouvement daté après coup ; les instantanés antérieurs ne sont ni relus ni modifiés
+     * @return nombre de lignes écrites
+     */
+    public static int reconstruire(Connection connexion, LocalDate depuis) throws SQLException {
+        List<LocalDate> jours = jours(connexion, "date_arrete >= ?", depuis);
+        try (PreparedStatement ps = connexion.prepareStatement(
+                "DELETE FROM public.instantanes_stock WHERE date_arrete >= ?")) {
+            ps.setDate(1, Date.valueOf(depuis));
+            ps.executeUpdate();
+        }
+        int lignes = 0;
+        for (LocalDate jour : jours) {
+            lignes += arreter(connexion, jour);
+        }
+        return lignes;
+    }
+
+    /**
+     * Supprime les instantanés antérieurs à {@code avant}, sauf le premier de chaque mois (les dates anciennes
+     * restent consultables, avec au plus un mois de mouvements à rejouer)
+     * @return nombre de jours supprimés
+     */
+    public static int purger(Connection connexion, LocalDate avant) throws SQLException {
+        List<Date> supprimes = new ArrayList<>();
+        LocalDate mois = null;
+        for (LocalDate jour : jours(connexion, "date_arrete < ?", avant)) {
+            LocalDate debutMois = jour.withDayOfMonth(1);
+            if (debutMois.equals(mois)) {
+                supprimes.add(Date.valueOf(jour));
+            }
+            mois = debutMois;
+        }
+        if (!supprimes.isEmpty()) {
+            try (PreparedStatement ps = connexion.prepareStatement(
+                    "DELETE FROM public.instantanes_stock WHERE date_arrete = ANY(?)")) {
+                ps.setArray(1, connexion.createArrayOf("date", supprimes.toArray()));
+                ps.executeUpdate();
+            }
+        }
+        return supprimes.size();
+    }
+
+    /**
+     * Jour du dernier instantané, ou null
+     */
+    public static LocalDate dernierArrete(Connection connexion) throws SQLException {
+        try (Statement statement = connexion.createStatement();
+                ResultSet resultat = statement.executeQuery("SELECT max(date_arrete) FROM public.instantanes_stock")) {
+            resultat.next();
+            Date jour = resultat.getDate(1);
+            return jour != null ? jour.toLocalDate() : null;
+        }
+    }
+
+    private static LocalDate arrete(Connection connexion, String requete, LocalDate jour) throws SQLException {
+        try (PreparedStatement ps = connexion.prepareStatement(requete)) {
+            ps.setDate(1, Date.valueOf(jour));
+            try (ResultSet resultat = ps.executeQuery()) {
+                resultat.next();
+                Date arrete = resultat.getDate(1);
+                return arrete != null ? arrete.toLocalDate() : null;
+            }
+        }
+    }
+
+    private static List<LocalDate> jours(Connection connexion, String condition, LocalDate jour) throws SQLException {
+        List<LocalDate> jours = new ArrayList<>();
+        try (PreparedStatement ps = connexion.prepareStatement("SELECT DISTINCT date_arrete FROM public.instantanes_stock "
+                + "WHERE " + condition + " ORDER BY date_arrete")) {
+            ps.setDate(1, Date.valueOf(jour));
+            try (ResultSet resultat = ps.executeQuery()) {
+                while (resultat.next()) {
+                    jours.add(resultat.getDate(1).toLocalDate());
+                }
+            }
+        }
+        return jours;
+    }
+
+    // ------------------------------------------------------------------ état rejoué
+
+    private static final class Rejeu {
+        final Map<Integer, StockProduit> produits = new LinkedHashMap<>();
+        LocalDate instantane;
+        int mouvements;
+    }
+
+    /**
+     * Stock d'un produit à une date : total et lots (valeur au coût moyen pondéré)
+     */
+    public static class StockProduit {
+
+        private static final Comparator<Lot> PEREMPTION = Comparator
+                .comparing((Lot l) -> l.lotNumero == null)
+                .thenComparing(l -> l.dateExpiration, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(l -> l.lotNumero, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        public int produitId;
+        public int quantite;
+        public BigDecimal valeur = zero();
+        public List<Lot> lots = new ArrayList<>();
+        public Integer dernierMouvementId;
+        private BigDecimal prixAchat;
+
+        StockProduit(int produitId) {
+            this.produitId = produitId;
+        }
+
+        /**
+         * Ligne d'instantané (colonnes de {@link StockLedger#LIGNES})
+         */
+        void charger(ResultSet ligne) throws SQLException {
+            Lot lot = lot(ligne.getString(2));
+            lot.quantite = ligne.getInt(3);
+            lot.valeur = ligne.getBigDecimal(4).setScale(2, RoundingMode.HALF_UP);
+            lot.dateExpiration = ligne.getDate(5);
+            int dernier = ligne.getInt(6);
+            dernierMouvementId = ligne.wasNull() ? dernierMouvementId : Integer.valueOf(dernier);
+            quantite += lot.quantite;
+            valeur = valeur.add(lot.valeur);
+        }
+
+        /**
+         * Mouvement (colonnes de {@link StockLedger#MOUVEMENTS})
+         */
+        void appliquer(ResultSet mouvement) throws SQLException {
+            BigDecimal achat = mouvement.getBigDecimal(9);
+            if (achat != null) {
+                prixAchat = achat;
+            }
+            appliquer(mouvement.getInt(1), mouvement.getInt(3), mouvement.getInt(4), mouvement.getBigDecimal(5),
+                    mouvement.getBigDecimal(6), mouvement.getString(7), mouvement.getDate(8));
+        }
+
+        void appliquer(int id, int avant, int quantiteMouvement, BigDecimal prixUnitaire, BigDecimal valeurTotale,
+                String lotNumero, Date dateExpiration) {
+            if (avant > quantite) {
+                entrer(null, avant - quantite, null, null);
+            } else if (avant < quantite) {
+                sortir(null, quantite - avant);
+            }
+            if (quantiteMouvement > 0) {
+                BigDecimal cout = prixUnitaire != null ? prixUnitaire
+                        : valeurTotale != null
+                                ? valeurTotale.abs().divide(BigDecimal.valueOf(quantiteMouvement), 4, RoundingMode.HALF_UP)
+                                : null;
+                entrer(lotNumero, quantiteMouvement, cout, dateExpiration);
+            } else if (quantiteMouvement < 0) {
+                sortir(lotNumero, -quantiteMouvement);
+            }
+            dernierMouvementId = id;
+        }
+
+        private void entrer(String lotNumero, int unites, BigDecimal cout, Date dateExpiration) {
+            Lot lot = lot(lotNumero);
+            BigDecimal montant = (cout != null ? cout : coutReference(lot)).multiply(BigDecimal.valueOf(unites))
+                    .setScale(2, RoundingMode.HALF_UP);
+            lot.quantite += unites;
+            lot.valeur = lot.valeur.add(montant);
+            if (dateExpiration != null) {
+                lot.dateExpiration = dateExpiration;
+            }
+            quantite += unites;
+            valeur = valeur.add(montant);
+        }
+
+        /**
+         * Sortie sur le lot indiqué, puis par péremption ; au-delà du stock rejoué, stock sans lot négatif
+         */
+        private void sortir(String lotNumero, int unites) {
+            int reste = unites;
+            if (lotNumero != null && !lotNumero.isEmpty()) {
+                for (Lot lot : lots) {
+                    if (lotNumero.equals(lot.lotNumero)) {
+                        reste -= prelever(lot, reste);
+                    }
+                }
+            }
+            if (reste > 0) {
+                List<Lot> ordre = new ArrayList<>(lots);
+                ordre.sort(PEREMPTION);
+                for (Lot lot : ordre) {
+                    if (reste == 0) {
+                        break;
+                    }
+                    reste -= prelever(lot, reste);
+                }
+            }
+            if (reste > 0) {
+                Lot sansLot = lot(null);
+                BigDecimal montant = coutReference(sansLot).multiply(BigDecimal.valueOf(reste))
+                        .setScale(2, RoundingMode.HALF_UP);
+                sansLot.quantite -= reste;
+                sansLot.valeur = sansLot.valeur.subtract(montant);
+                quantite -= reste;
+                valeur = valeur.subtract(montant);
+            }
+            lots.removeIf(l -> l.quantite == 0 && l.valeur.signum() == 0);
+        }
+
+        /**
+         * Retire jusqu'à {@code unites} d'un lot à son coût moyen (le lot vidé emporte toute sa valeur)
+         */
+        private int prelever(Lot lot, int unites) {
+            int preleve = Math.min(unites, Math.max(0, lot.quantite));
+            if (preleve == 0) {
+                return 0;
+            }
+            BigDecimal montant = preleve == lot.quantite ? lot.valeur
+                    : lot.valeur.multiply(BigDecimal.valueOf(preleve))
+                            .divide(BigDecimal.valueOf(lot.quantite), 2, RoundingMode.HALF_UP);
+            lot.quantite -= preleve;
+            lot.valeur = lot.valeur.subtract(montant);
+            quantite -= preleve;
+            valeur = valeur.subtract(montant);
+            return preleve;
+        }
+
+        /**
+         * Coût d'une unité entrée sans prix : moyen du lot, du produit, sinon prix d'achat (0 à défaut)
+         */
+        private BigDecimal coutReference(Lot lot) {
+            if (lot.quantite > 0 && lot.valeur.signum() > 0) {
+                return lot.getCoutUnitaire();
+            }
+            if (quantite > 0 && valeur.signum() > 0) {
+                return valeur.divide(BigDecimal.valueOf(quantite), 4, RoundingMode.HALF_UP);
+            }
+            return prixAchat != null ? prixAchat : BigDecimal.ZERO;
+        }
+
+        private Lot lot(String lotNumero) {
+            String numero = lotNumero == null || lotNumero.isEmpty() ? null : lotNumero;
+            for (Lot lot : lots) {
+                if (numero == null ? lot.lotNumero == null : numero.equals(lot.lotNumero)) {
+                    return lot;
+                }
+            }
+            Lot lot = new Lot();
+            lot.lotNumero = numero;
+            lots.add(lot);
+            return lot;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("produit %d : %d unités, %s (%d lot(s))", produitId, quantite, valeur.toPlainString(),
+                    lots.size());
+        }
+    }
+
+    /**
+     * Lot d'un produit ; lotNumero null pour le stock sans lot
+     */
+    public static class Lot {
+        public String lotNumero;
+        public int quantite;
+        public BigDecimal valeur = zero();
+        public Date dateExpiration;
+
+        /**
+         * Coût moyen pondéré d'une unité, null si le lot est vide
+         */
+        public BigDecimal getCoutUnitaire() {
+            return quantite <= 0 ? null : valeur.divide(BigDecimal.valueOf(quantite), 4, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s : %d unités, %s%s", lotNumero != null ? lotNumero : "(sans lot)", quantite,
+                    valeur.toPlainString(), dateExpiration != null ? ", péremption " + dateExpiration : "");
+        }
+    }
+
+    /**
+     * Inventaire valorisé d'une boutique à une date
+     */
+    public static class Inventaire {
+        public int boutiqueId;
+        public Timestamp date;
+        public LocalDate instantane;
+        public int mouvementsRejoues;
+        public int quantiteTotale;
+        public BigDecimal valeurTotale = zero();
+        public List<StockProduit> produits = new ArrayList<>();
+        public long dureeMicros;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== INVENTAIRE BOUTIQUE ").append(boutiqueId).append(" ===\n");
+            sb.append("Date : ").append(date).append(" (instantané ")
+                    .append(instantane != null ? instantane : "aucun").append(", ").append(mouvementsRejoues)
+                    .append(" mouvements rejoués)\n");
+            sb.append("Produits en stock : ").append(produits.size()).append("\n");
+            sb.append("Quantité totale : ").append(quantiteTotale).append("\n");
+            sb.append("Valeur totale : ").append(valeurTotale.toPlainString()).append("\n");
+            sb.append("Calcul : ").append(dureeMicros).append(" µs\n");
+            sb.append("================================");
+            return sb.toString();
+        }
+    }
+
+    private static BigDecimal zero() {
+        return BigDecimal.ZERO.setScale(2);
+    }
+}
@@ -0,0 +1,69 @@
+package utils.stock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import model.produit.Produits;
+import utils.transaction.TransactionCollector;
+
+/**
+ * Reporte sur les compteurs de {@link StockReservations} les modifications de Produits.stockActuel faites par
+ * entité (inventaire, back-office), après commit uniquement ; l'écart (nouvelle valeur - ancienne) est cumulé par
+ * produit sur la transaction
+ */
+public class StockListener implements PostUpdateEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient StockReservations reservations;
+
+    // État de chaque transaction en cours, oublié à sa fin (commit ou rollback)
+    private final TransactionCollector<Ecarts> enCours = new TransactionCollector<>(Ecarts::new);
+
+    public StockListener(StockReservations reservations) {
+        this.reservations = reservations;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Produits) || event.getOldState() == null) {
+            return;
+        }
+        int position = event.getPersister().getEntityMetamodel().getPropertyIndex("stockActuel");
+        Integer avant = (Integer) event.getOldState()[position];
+        Integer apres = (Integer) event.getState()[position];
+        int ecart = (apres == null ? 0 : apres) - (avant == null ? 0 : avant);
+        if (ecart == 0) {
+            return;
+        }
+        enCours.pour(event.getSession()).parProduit.merge((Integer) event.getId(), ecart, Integer::sum);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Écarts de stock d'une transaction, appliqués si elle est validée
+     */
+    private class Ecarts implements AfterTransactionCompletionProcess {
+
+        // Pas de référence à la session : elle est la clé faible du collecteur
+        final Map<Integer, Integer> parProduit = new HashMap<>();
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImpl) {
+            if (success) {
+                parProduit.forEach(reservations::ajuster);
+            }
+        }
+    }
+}
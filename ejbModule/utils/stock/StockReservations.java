@@ -0,0 +1,792 @@
+package utils.stock;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+
+import model.produit.MouvementsStock;
+import utils.catalogue.ProductCardRefresher;
+import utils.facet.FacetIndex;
+import utils.jdbc.BulkInsert;
+import utils.metrics.LatencyHistogram;
+
+/**
+ * Réservations de stock en mémoire : disponible par produit en compteurs à bandes ({@link StockCounter}), chargé
+ * depuis produits.stock_actuel au premier accès puis tenu à jour ici ; une réservation retient des unités pour un
+ * panier ou une commande jusqu'à sa confirmation, sa libération ou son expiration
+ *
+ * Seules les sorties confirmées et les entrées touchent la base, en écriture différée : un thread
+ * ("senmarket-stock") applique les mouvements par lots, stock_actuel relu sous verrou de ligne et lignes
+ * mouvements_stock copiées (COPY) dans une transaction, cartes produits rafraîchies ensuite, au mieux, dans une
+ * autre ; un lot en échec transitoire (connexion, verrou, sérialisation) est retenté avec un délai croissant, un lot
+ * en échec non transitoire est coupé en deux par produits jusqu'à isoler le produit fautif, dont les mouvements sont
+ * écartés (journalisés et comptés) pour ne pas bloquer les suivants
+ *
+ * Hypothèse : une seule instance réserve le stock de la base. Les réservations actives ne survivent pas à un
+ * redémarrage (leurs unités redeviennent disponibles) ; une modification de stockActuel par entité est reportée
+ * sur le compteur par {@link StockListener}
+ * Le même thread arrête chaque jour l'instantané du journal de stock ({@link StockLedger}) ; chaque lot validé
+ * est transmis aux {@link StockAlerts} et, pour les produits qui entrent en rupture ou en sortent, à l'index des
+ * facettes (estEnStock)
+ */
+public class StockReservations {
+
+    private static final Logger logger = Logger.getLogger(StockReservations.class.getName());
+
+    public static final String ENABLED = "senmarket.stock.enabled";
+
+    public static final String TYPE_VENTE = "VENTE";
+    public static final String TYPE_ENTREE = "ENTREE";
+    public static final String TYPE_AJUSTEMENT = "AJUSTEMENT";
+
+    static final long DUREE_DEFAUT_MS = TimeUnit.MINUTES.toMillis(15);
+    static final int TAILLE_LOT = 2_000;
+    private static final long INTERVALLE_MS = 100;
+    private static final long EXPIRATION_MS = 1_000;
+    private static final long ATTENTE_MAX_MS = 30_000;
+    private static final long INSTANTANE_MS = TimeUnit.HOURS.toMillis(1);
+    // Instantanés journaliers conservés ; au-delà, le premier de chaque mois seulement
+    static final int CONSERVATION_JOURS = 92;
+
+    private static final String STOCK = "SELECT stock_actuel FROM public.produits WHERE id = ?";
+    // Verrous pris dans l'ordre des identifiants : pas d'interblocage avec une autre transaction qui en fait autant
+    private static final String VERROU = "SELECT id, coalesce(stock_actuel, 0) FROM public.produits "
+            + "WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+    // Version incrémentée : un Produits chargé avant le lot échoue au flush au lieu de réécrire l'ancien stock
+    private static final String MISE_A_JOUR = "UPDATE public.produits p SET stock_actuel = s.stock, "
+            + "est_en_stock = s.stock > 0, version = p.version + 1 "
+            + "FROM unnest(?::int[], ?::int[]) AS s(id, stock) WHERE p.id = s.id";
+    private static final String COPY = "COPY public.mouvements_stock (id, produit_id, type_mouvement, motif, "
+            + "quantite_avant, quantite_mouvement, quantite_apres, reference_externe, cree_le) FROM STDIN";
+
+    private static final Map<SessionFactory, StockReservations> RESERVATIONS = new ConcurrentHashMap<>();
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final ConnectionProvider connexions;
+    private final StockAlerts alertes;
+    private final BulkInsert.Identifiants identifiants;
+    private final ScheduledExecutorService ecrivain;
+
+    private final Map<Integer, StockCounter> compteurs = new ConcurrentHashMap<>();
+    private final Map<Long, Reservation> actives = new ConcurrentHashMap<>();
+    private final Map<String, Set<Reservation>> parReference = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Reservation> echeances = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong((Reservation r) -> r.expireLe).thenComparingLong(r -> r.id));
+    private final ConcurrentLinkedQueue<Mouvement> file = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequenceReservations = new AtomicLong();
+
+    private final AtomicLong reservees = new AtomicLong();
+    private final AtomicLong refusees = new AtomicLong();
+    private final AtomicLong liberees = new AtomicLong();
+    private final AtomicLong expirees = new AtomicLong();
+    private final AtomicLong confirmees = new AtomicLong();
+    private final AtomicLong ecrits = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+    private final AtomicLong ecartes = new AtomicLong();
+    private final AtomicLong cartesEnEchec = new AtomicLong();
+    private final AtomicInteger enFile = new AtomicInteger();
+    private final LatencyHistogram latences = new LatencyHistogram();
+    private final LatencyHistogram lots = new LatencyHistogram();
+
+    // Réservés au thread d'écriture : mouvements en échec transitoire conservés pour la tentative suivante
+    private final List<Mouvement> enReprise = new ArrayList<>();
+    private long attenteMs;
+    private long prochaineTentative;
+    private volatile LocalDate dernierInstantane;
+
+    /**
+     * @param alertes null si les alertes sont désactivées
+     */
+    StockReservations(SessionFactoryImplementor sessionFactory, StockAlerts alertes) {
+        this.sessionFactory = sessionFactory;
+        this.alertes = alertes;
+        this.connexions = sessionFactory.getServiceRegistry().getService(ConnectionProvider.class);
+        this.identifiants = BulkInsert.identifiants(sessionFactory, connexions, MouvementsStock.class);
+        this.ecrivain = Executors.newSingleThreadScheduledExecutor(tache -> {
+            Thread thread = new Thread(tache, "senmarket-stock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ecrivain.scheduleWithFixedDelay(this::vider, INTERVALLE_MS, INTERVALLE_MS, TimeUnit.MILLISECONDS);
+        ecrivain.scheduleWithFixedDelay(this::expirer, EXPIRATION_MS, EXPIRATION_MS, TimeUnit.MILLISECONDS);
+        ecrivain.scheduleWithFixedDelay(this::arreterInstantane, TimeUnit.MINUTES.toMillis(1), INSTANTANE_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    static void enregistrer(SessionFactory sessionFactory, StockReservations reservations) {
+        RESERVATIONS.put(sessionFactory, reservations);
+    }
+
+    /**
+     * Arrêt : les mouvements en file sont écrits une dernière fois
+     */
+    static void retirer(SessionFactory sessionFactory) {
+        StockReservations reservations = RESERVATIONS.remove(sessionFactory);
+        if (reservations != null) {
+            reservations.ecrivain.shutdown();
+            try {
+                reservations.ecrivain.awaitTermination(5, TimeUnit.SECONDS);
+                reservations.prochaineTentative = 0;
+                reservations.vider();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Réservations de l'unité de persistance, ou null si elles sont désactivées (senmarket.stock.enabled=false)
+     */
+    public static StockReservations of(EntityManagerFactory emf) {
+        return RESERVATIONS.get(emf.unwrap(SessionFactory.class));
+    }
+
+    // ------------------------------------------------------------------ réservations
+
+    /**
+     * Réserve pour la durée par défaut (15 min)
+     */
+    public Reservation reserver(int produitId, int quantite, String reference) {
+        return reserver(produitId, quantite, reference, DUREE_DEFAUT_MS);
+    }
+
+    /**
+     * Retient {@code quantite} unités pour {@code reference} (panier, commande) pendant {@code dureeMs}
+     * @return la réservation, ou null si le stock disponible ne suffit pas
+     */
+    public Reservation reserver(int produitId, int quantite, String reference, long dureeMs) {
+        if (quantite <= 0) {
+            throw new IllegalArgumentException("Quantité à réserver invalide : " + quantite);
+        }
+        long debut = System.nanoTime();
+        StockCounter compteur = compteur(produitId);
+        if (!compteur.prelever(quantite)) {
+            refusees.incrementAndGet();
+            latences.record(System.nanoTime() - debut);
+            return null;
+        }
+        Reservation reservation = new Reservation(sequenceReservations.incrementAndGet(), produitId, quantite,
+                reference, System.currentTimeMillis() + Math.max(0, dureeMs));
+        actives.put(reservation.id, reservation);
+        echeances.add(reservation);
+        if (reference != null) {
+            // Ajout dans compute : l'ensemble ne peut pas être retiré (vide) entre-temps par terminer()
+            parReference.compute(reference, (r, reservations) -> {
+                Set<Reservation> ensemble = reservations != null ? reservations : ConcurrentHashMap.newKeySet();
+                ensemble.add(reservation);
+                return ensemble;
+            });
+        }
+        reservees.incrementAndGet();
+        latences.record(System.nanoTime() - debut);
+        return reservation;
+    }
+
+    /**
+     * Rend les unités d'une réservation active (panier vidé, article retiré)
+     * @return false si elle n'est plus active (déjà libérée, confirmée ou expirée)
+     */
+    public boolean liberer(long reservationId) {
+        Reservation reservation = actives.get(reservationId);
+        if (reservation == null || !terminer(reservation, Reservation.LIBEREE)) {
+            return false;
+        }
+        compteurs.get(reservation.produitId).ajouter(reservation.quantite);
+        liberees.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Libère toutes les réservations actives d'une référence
+     * @return nombre de réservations libérées
+     */
+    public int libererReference(String reference) {
+        int nombre = 0;
+        for (Reservation reservation : reservations(reference)) {
+            nombre += liberer(reservation.id) ? 1 : 0;
+        }
+        return nombre;
+    }
+
+    /**
+     * Transforme une réservation active en sortie de stock définitive (mouvement VENTE écrit en différé)
+     * @return false si elle n'est plus active : ses unités ont déjà été rendues
+     */
+    public boolean confirmer(long reservationId, String referenceExterne) {
+        Reservation reservation = actives.get(reservationId);
+        if (reservation == null || !terminer(reservation, Reservation.CONFIRMEE)) {
+            return false;
+        }
+        ajouterMouvement(new Mouvement(reservation.produitId, TYPE_VENTE, "Réservation confirmée",
+                -reservation.quantite, referenceExterne != null ? referenceExterne : reservation.reference));
+        confirmees.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Confirme toutes les réservations actives d'une référence (passage du panier en commande)
+     * @return nombre de réservations confirmées
+     */
+    public int confirmerReference(String reference, String referenceExterne) {
+        int nombre = 0;
+        for (Reservation reservation : reservations(reference)) {
+            nombre += confirmer(reservation.id, referenceExterne) ? 1 : 0;
+        }
+        return nombre;
+    }
+
+    /**
+     * Entrée (quantité positive) ou sortie hors vente (négative) : compteur ajusté immédiatement, mouvement écrit
+     * en différé ; une sortie n'est jamais refusée, le disponible est au plus ramené à zéro
+     */
+    public void mouvement(int produitId, int quantite, String type, String motif, String reference) {
+        if (quantite == 0) {
+            return;
+        }
+        compteur(produitId).ajuster(quantite);
+        ajouterMouvement(new Mouvement(produitId, type, motif, quantite, reference));
+    }
+
+    /**
+     * Stock disponible à la réservation (stock_actuel moins les réservations actives et les sorties non écrites)
+     */
+    public int disponible(int produitId) {
+        return compteur(produitId).disponible();
+    }
+
+    /**
+     * Réservations actives d'une référence
+     */
+    public List<Reservation> reservations(String reference) {
+        Set<Reservation> reservations = reference == null ? null : parReference.get(reference);
+        return reservations == null ? Collections.emptyList() : new ArrayList<>(reservations);
+    }
+
+    /**
+     * Écart de stock_actuel constaté après commit d'une modification par entité (appelé par le listener) ;
+     * sans effet pour un produit pas encore chargé, qui lira la nouvelle valeur
+     */
+    void ajuster(int produitId, int ecart) {
+        StockCounter compteur = compteurs.get(produitId);
+        if (compteur != null) {
+            compteur.ajuster(ecart);
+        }
+    }
+
+    /**
+     * Compteur du produit, chargé depuis stock_actuel au premier accès
+     */
+    private StockCounter compteur(int produitId) {
+        StockCounter compteur = compteurs.get(produitId);
+        return compteur != null ? compteur : compteurs.computeIfAbsent(produitId, this::charger);
+    }
+
+    private StockCounter charger(Integer produitId) {
+        try (Connection connexion = connexions.getConnection();
+                PreparedStatement ps = connexion.prepareStatement(STOCK)) {
+            ps.setInt(1, produitId);
+            try (ResultSet resultat = ps.executeQuery()) {
+                if (!resultat.next()) {
+                    throw new IllegalArgumentException("Produit inconnu : " + produitId);
+                }
+                int stock = resultat.getInt(1);
+                if (!connexion.getAutoCommit()) {
+                    connexion.commit();
+                }
+                return new StockCounter(stock);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Stock du produit " + produitId + " illisible", e);
+        }
+    }
+
+    /**
+     * Sort la réservation des réservations actives si elle l'est encore (un seul gagnant entre libération,
+     * confirmation et expiration)
+     */
+    private boolean terminer(Reservation reservation, int etat) {
+        if (!reservation.etat.compareAndSet(Reservation.ACTIVE, etat)) {
+            return false;
+        }
+        actives.remove(reservation.id);
+        echeances.remove(reservation);
+        if (reservation.reference != null) {
+            parReference.computeIfPresent(reservation.reference, (r, reservations) -> {
+                reservations.remove(reservation);
+                return reservations.isEmpty() ? null : reservations;
+            });
+        }
+        return true;
+    }
+
+    private void ajouterMouvement(Mouvement mouvement) {
+        file.add(mouvement);
+        enFile.incrementAndGet();
+    }
+
+    /**
+     * Rend les unités des réservations échues (appelé périodiquement par le thread d'écriture)
+     */
+    private void expirer() {
+        try {
+            long maintenant = System.currentTimeMillis();
+            Reservation premiere;
+            while ((premiere = echeances.pollFirst()) != null) {
+                if (premiere.expireLe > maintenant) {
+                    echeances.add(premiere);
+                    break;
+                }
+                if (terminer(premiere, Reservation.EXPIREE)) {
+                    compteurs.get(premiere.produitId).ajouter(premiere.quantite);
+                    expirees.incrementAndGet();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Expiration des réservations de stock", e);
+        }
+    }
+
+    // ------------------------------------------------------------------ écriture différée
+
+    private void vider() {
+        try {
+            if (!enReprise.isEmpty()) {
+                if (System.currentTimeMillis() < prochaineTentative) {
+                    return;
+                }
+                List<Mouvement> restants = ecrire(new ArrayList<>(enReprise));
+                enReprise.clear();
+                if (!restants.isEmpty()) {
+                    enReprise.addAll(restants);
+                    return;
+                }
+            }
+            List<Mouvement> lot = new ArrayList<>(TAILLE_LOT);
+            Mouvement mouvement;
+            while ((mouvement = file.poll()) != null) {
+                enFile.decrementAndGet();
+                lot.add(mouvement);
+                if (lot.size() == TAILLE_LOT || file.isEmpty()) {
+                    List<Mouvement> restants = ecrire(lot);
+                    if (!restants.isEmpty()) {
+                        enReprise.addAll(restants);
+                        return;
+                    }
+                    lot.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Écriture des mouvements de stock", e);
+        }
+    }
+
+    /**
+     * Écrit un lot ; sur erreur non transitoire, le lot est coupé en deux par produits (les mouvements d'un produit
+     * restent ensemble et dans l'ordre) et chaque moitié réessayée, jusqu'au produit seul dont les mouvements sont
+     * écartés
+     * @return les mouvements à reprendre après une erreur transitoire (vide si tout est écrit ou écarté), le
+     *         prochain essai étant différé
+     */
+    private List<Mouvement> ecrire(List<Mouvement> lot) {
+        try {
+            appliquer(lot);
+            return Collections.emptyList();
+        } catch (SQLException | IOException | RuntimeException e) {
+            echecs.incrementAndGet();
+            if (transitoire(e)) {
+                attenteMs = BulkInsert.attenteSuivante(attenteMs, INTERVALLE_MS * 4, ATTENTE_MAX_MS);
+                prochaineTentative = System.currentTimeMillis() + attenteMs;
+                logger.log(Level.WARNING, "⚠️ Écriture des mouvements de stock impossible (" + lot.size()
+                        + " mouvements, nouvel essai dans " + attenteMs + " ms) : " + e.getMessage());
+                return lot;
+            }
+            Map<Integer, List<Mouvement>> parProduit = new LinkedHashMap<>();
+            for (Mouvement mouvement : lot) {
+                parProduit.computeIfAbsent(mouvement.produitId, p -> new ArrayList<>()).add(mouvement);
+            }
+            if (parProduit.size() == 1) {
+                ecarter(lot, e);
+                return Collections.emptyList();
+            }
+            logger.warning("⚠️ Lot de mouvements de stock refusé (" + lot.size() + " mouvements, " + parProduit.size()
+                    + " produits), coupé en deux : " + e.getMessage());
+            List<Mouvement> premiere = new ArrayList<>();
+            List<Mouvement> seconde = new ArrayList<>();
+            int produits = 0;
+            for (List<Mouvement> mouvements : parProduit.values()) {
+                (produits++ < parProduit.size() / 2 ? premiere : seconde).addAll(mouvements);
+            }
+            List<Mouvement> restants = ecrire(premiere);
+            if (!restants.isEmpty()) {
+                restants = new ArrayList<>(restants);
+                restants.addAll(seconde);
+                return restants;
+            }
+            return ecrire(seconde);
+        }
+    }
+
+    /**
+     * Erreur qui peut disparaître au prochain essai : connexion perdue ou indisponible (SQLState 08, 57),
+     * interblocage ou échec de sérialisation (40), ressources épuisées (53), verrou indisponible (55P03)
+     */
+    static boolean transitoire(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException
+                    || cause instanceof IOException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String etat = ((SQLException) cause).getSQLState();
+                if (etat != null && (etat.startsWith("08") || etat.startsWith("40") || etat.startsWith("53")
+                        || etat.startsWith("57") || etat.equals("55P03"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mouvements d'un produit que la base refuse : journalisés (de quoi les rejouer) et comptés, puis abandonnés
+     * pour débloquer l'écriture ; le compteur en mémoire garde leur effet, stock_actuel est à corriger
+     */
+    private void ecarter(List<Mouvement> mouvements, Exception e) {
+        ecartes.addAndGet(mouvements.size());
+        int quantite = 0;
+        StringBuilder references = new StringBuilder();
+        for (Mouvement mouvement : mouvements) {
+            quantite += mouvement.quantite;
+            if (mouvement.reference != null) {
+                references.append(references.length() > 0 ? ", " : "").append(mouvement.reference);
+            }
+        }
+        logger.log(Level.SEVERE, "❌ Mouvements de stock écartés pour le produit " + mouvements.get(0).produitId
+                + " : " + mouvements.size() + " mouvements, quantité totale " + quantite + ", références ["
+                + references + "] : " + e.getMessage());
+    }
+
+    /**
+     * Applique un lot de mouvements dans une transaction : stock_actuel relu sous verrou, mouvements chaînés dans
+     * l'ordre d'arrivée (quantité avant / après) ; cartes rafraîchies après le commit
+     */
+    private void appliquer(List<Mouvement> lot) throws SQLException, IOException {
+        long debut = System.nanoTime();
+        Map<Integer, Integer> stocks = new LinkedHashMap<>();
+        for (Mouvement mouvement : lot) {
+            stocks.put(mouvement.produitId, null);
+        }
+        Map<Integer, Integer> initiaux;
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try {
+                try (PreparedStatement verrou = connexion.prepareStatement(VERROU)) {
+                    verrou.setArray(1, connexion.createArrayOf("integer", stocks.keySet().toArray()));
+                    try (ResultSet resultat = verrou.executeQuery()) {
+                        while (resultat.next()) {
+                            stocks.put(resultat.getInt(1), resultat.getInt(2));
+                        }
+                    }
+                }
+                // Produit supprimé entre-temps : ses mouvements sont ignorés plutôt que de bloquer le lot
+                if (stocks.values().removeIf(Objects::isNull)) {
+                    logger.warning("⚠️ Mouvements de stock ignorés : produit supprimé");
+                }
+                initiaux = new HashMap<>(stocks);
+                StringBuilder lignes = new StringBuilder(lot.size() * 96);
+                for (Mouvement mouvement : lot) {
+                    Integer avant = stocks.get(mouvement.produitId);
+                    if (avant == null) {
+                        continue;
+                    }
+                    if (mouvement.id == 0) {
+                        mouvement.id = identifiants.suivant();
+                    }
+                    stocks.put(mouvement.produitId, avant + mouvement.quantite);
+                    ligne(lignes, mouvement, avant);
+                }
+                Integer[] ids = stocks.keySet().toArray(new Integer[0]);
+                try (PreparedStatement update = connexion.prepareStatement(MISE_A_JOUR)) {
+                    update.setArray(1, connexion.createArrayOf("integer", ids));
+                    update.setArray(2, connexion.createArrayOf("integer", stocks.values().toArray()));
+                    update.executeUpdate();
+                }
+                connexion.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY, new StringReader(lignes.toString()));
+                connexion.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        }
+        attenteMs = 0;
+        lots.record(System.nanoTime() - debut);
+        ecrits.addAndGet(lot.size());
+        rafraichirCartes(stocks.keySet());
+        signaler(initiaux, stocks);
+    }
+
+    /**
+     * Cartes des produits du lot validé, dans leur propre transaction : un échec ne remet pas en cause les
+     * mouvements écrits (carte en retard jusqu'à la prochaine modification ou ProductCardRefresher.reconstruire)
+     */
+    private void rafraichirCartes(Set<Integer> produitIds) {
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try {
+                ProductCardRefresher.rafraichir(connexion, ProductCardRefresher.Source.PRODUIT, produitIds);
+                connexion.commit();
+            } catch (SQLException | RuntimeException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            cartesEnEchec.incrementAndGet();
+            logger.log(Level.WARNING, "⚠️ Cartes produits non rafraîchies après un lot de stock (" + produitIds.size()
+                    + " produits) : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Après commit d'un lot : nouveaux stocks aux alertes, produits dont estEnStock a changé à l'index des facettes
+     */
+    private void signaler(Map<Integer, Integer> initiaux, Map<Integer, Integer> stocks) {
+        if (alertes != null) {
+            alertes.stockModifie(stocks);
+        }
+        FacetIndex facettes = FacetIndex.of(sessionFactory);
+        if (facettes == null) {
+            return;
+        }
+        List<Integer> bascules = new ArrayList<>();
+        stocks.forEach((produitId, stock) -> {
+            if ((initiaux.get(produitId) > 0) != (stock > 0)) {
+                bascules.add(produitId);
+            }
+        });
+        if (!bascules.isEmpty()) {
+            facettes.signalerProduits(bascules);
+        }
+    }
+
+    /**
+     * Arrête l'instantané de stock du jour ({@link StockLedger}) dès que tous les mouvements de la veille sont
+     * écrits, puis purge les anciens ; appelé par le thread d'écriture, la file et le lot en reprise ne bougent
+     * donc pas pendant le contrôle
+     */
+    private void arreterInstantane() {
+        LocalDate jour = LocalDate.now();
+        if (jour.equals(dernierInstantane)) {
+            return;
+        }
+        long debutJour = Timestamp.valueOf(jour.atStartOfDay()).getTime();
+        Mouvement premier = file.peek();
+        if (!enReprise.isEmpty() || (premier != null && premier.creeLe < debutJour)) {
+            return;
+        }
+        long debut = System.nanoTime();
+        try (Connection connexion = connexions.getConnection()) {
+            boolean autoCommit = connexion.getAutoCommit();
+            connexion.setAutoCommit(false);
+            try {
+                LocalDate dernier = StockLedger.dernierArrete(connexion);
+                if (dernier == null || dernier.isBefore(jour)) {
+                    int lignes = StockLedger.arreter(connexion, jour);
+                    int purges = StockLedger.purger(connexion, jour.minusDays(CONSERVATION_JOURS));
+                    connexion.commit();
+                    logger.info("📦 Instantané de stock du " + jour + " : " + lignes + " lignes en "
+                            + (System.nanoTime() - debut) / 1_000_000 + " ms" + (purges > 0 ? ", " + purges
+                                    + " ancien(s) purgé(s)" : ""));
+                }
+                dernierInstantane = jour;
+            } catch (SQLException | RuntimeException e) {
+                connexion.rollback();
+                throw e;
+            } finally {
+                connexion.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.log(Level.WARNING, "⚠️ Instantané de stock du " + jour + " impossible : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ligne COPY (format texte : tabulations, \N pour null), dans l'ordre des colonnes de {@link #COPY}
+     */
+    private static void ligne(StringBuilder sb, Mouvement mouvement, int avant) {
+        sb.append(mouvement.id);
+        BulkInsert.colonne(sb, mouvement.produitId);
+        BulkInsert.colonne(sb, mouvement.type);
+        BulkInsert.colonne(sb, mouvement.motif);
+        BulkInsert.colonne(sb, avant);
+        BulkInsert.colonne(sb, mouvement.quantite);
+        BulkInsert.colonne(sb, avant + mouvement.quantite);
+        BulkInsert.colonne(sb, mouvement.reference);
+        BulkInsert.colonne(sb, new Timestamp(mouvement.creeLe).toString());
+        sb.append('\n');
+    }
+
+    /**
+     * Compteurs des réservations et de l'écriture différée
+     */
+    public Statistiques getStatistiques() {
+        Statistiques statistiques = new Statistiques();
+        statistiques.produits = compteurs.size();
+        for (StockCounter compteur : compteurs.values()) {
+            statistiques.produitsEnBandes += compteur.isEnBandes() ? 1 : 0;
+        }
+        statistiques.actives = actives.size();
+        statistiques.reservees = reservees.get();
+        statistiques.refusees = refusees.get();
+        statistiques.liberees = liberees.get();
+        statistiques.expirees = expirees.get();
+        statistiques.confirmees = confirmees.get();
+        statistiques.enFile = enFile.get();
+        statistiques.ecrits = ecrits.get();
+        statistiques.echecs = echecs.get();
+        statistiques.ecartes = ecartes.get();
+        statistiques.cartesEnEchec = cartesEnEchec.get();
+        statistiques.reservations = latences.snapshot();
+        statistiques.lots = lots.snapshot();
+        statistiques.dernierInstantane = dernierInstantane;
+        return statistiques;
+    }
+
+    // ------------------------------------------------------------------ structures
+
+    /**
+     * Unités retenues pour un panier ou une commande jusqu'à {@code expireLe} (epoch ms)
+     */
+    public static class Reservation implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        static final int ACTIVE = 0;
+        static final int LIBEREE = 1;
+        static final int CONFIRMEE = 2;
+        static final int EXPIREE = 3;
+
+        public final long id;
+        public final int produitId;
+        public final int quantite;
+        public final String reference;
+        public final long expireLe;
+        final AtomicInteger etat = new AtomicInteger(ACTIVE);
+
+        Reservation(long id, int produitId, int quantite, String reference, long expireLe) {
+            this.id = id;
+            this.produitId = produitId;
+            this.quantite = quantite;
+            this.reference = reference;
+            this.expireLe = expireLe;
+        }
+
+        public boolean isActive() {
+            return etat.get() == ACTIVE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Réservation %d : %d x produit %d (%s)", id, quantite, produitId, reference);
+        }
+    }
+
+    /**
+     * Mouvement à écrire ; id attribué au premier essai d'écriture (conservé en cas de reprise)
+     */
+    private static final class Mouvement {
+        final int produitId;
+        final String type;
+        final String motif;
+        final int quantite;
+        final String reference;
+        final long creeLe = System.currentTimeMillis();
+        int id;
+
+        Mouvement(int produitId, String type, String motif, int quantite, String reference) {
+            this.produitId = produitId;
+            this.type = type;
+            this.motif = motif;
+            this.quantite = quantite;
+            this.reference = reference;
+        }
+    }
+
+    /**
+     * Compteurs des réservations
+     */
+    public static class Statistiques {
+        public int produits;
+        public int produitsEnBandes;
+        public int actives;
+        public long reservees;
+        public long refusees;
+        public long liberees;
+        public long expirees;
+        public long confirmees;
+        public int enFile;
+        public long ecrits;
+        public long echecs;
+        public long ecartes;
+        public long cartesEnEchec;
+        public LatencyHistogram.Snapshot reservations;
+        public LatencyHistogram.Snapshot lots;
+        public LocalDate dernierInstantane;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== RÉSERVATIONS DE STOCK ===\n");
+            sb.append(String.format("Produits suivis : %,d (%,d en bandes) | réservations actives : %,d%n", produits,
+                    produitsEnBandes, actives));
+            sb.append(String.format("Réservées : %,d | refusées : %,d | libérées : %,d | expirées : %,d | "
+                    + "confirmées : %,d%n", reservees, refusees, liberees, expirees, confirmees));
+            sb.append(String.format("Mouvements : écrits %,d | en file %,d | échecs %,d | écartés %,d%n", ecrits,
+                    enFile, echecs, ecartes));
+            sb.append(String.format("Lots sans rafraîchissement des cartes : %,d%n", cartesEnEchec));
+            sb.append("Réservations : ").append(reservations).append("\n");
+            sb.append("Lots : ").append(lots).append("\n");
+            sb.append("Dernier instantané : ").append(dernierInstantane != null ? dernierInstantane : "aucun")
+                    .append("\n");
+            sb.append("=============================");
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package utils.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.OptimisticLockException;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.lock.OptimisticEntityLockException;
+
+import utils.metrics.MetricsReporter;
+import utils.metrics.PersistenceStatistics;
+
+/**
+ * Exécute une transaction courte et la rejoue si elle perd un conflit de version (colonne version des Produits,
+ * Paniers, Commandes, CodesPromotionnels, Clients) : remplace le verrou de ligne (SELECT ... FOR UPDATE) tenu
+ * pendant toute la transaction
+ *
+ * Chaque tentative ouvre un nouvel EntityManager : le travail relit ses entités et ne doit rien faire hors de la
+ * base (paiement, e-mail) avant le commit. Attente entre tentatives exponentielle bornée, tirée au hasard
+ * (les transactions en conflit ne repartent pas ensemble). Tentatives, conflits et abandons par opération dans
+ * {@link PersistenceStatistics} (statistiques enrichies installées)
+ */
+public final class OptimisticRetry {
+
+    private static final Logger logger = Logger.getLogger(OptimisticRetry.class.getName());
+
+    public static final String MAX_ATTEMPTS = "senmarket.optimistic.max_attempts";
+    static final int TENTATIVES_PAR_DEFAUT = 8;
+    static final long ATTENTE_BASE_MS = 5;
+    static final long ATTENTE_MAX_MS = 200;
+
+    private OptimisticRetry() {
+    }
+
+    /**
+     * Exécute {@code travail} dans une transaction, rejouée tant qu'elle perd un conflit de version
+     * (au plus senmarket.optimistic.max_attempts tentatives, 8 par défaut)
+     * @param operation nom de l'opération dans les métriques (ex. "commande.valider")
+     * @return le résultat de la tentative validée
+     * @throws OptimisticLockException (ou l'exception Hibernate d'origine) si la dernière tentative est en conflit ;
+     *         toute autre erreur est relancée sans nouvelle tentative
+     */
+    public static <T> T executer(EntityManagerFactory emf, String operation, Function<EntityManager, T> travail) {
+        int tentativesMax = tentativesMax(emf);
+        int conflits = 0;
+        for (int tentative = 1;; tentative++) {
+            EntityManager em = emf.createEntityManager();
+            EntityTransaction transaction = em.getTransaction();
+            try {
+                transaction.begin();
+                T resultat = travail.apply(em);
+                transaction.commit();
+                enregistrer(emf, operation, tentative, conflits, false);
+                return resultat;
+            } catch (RuntimeException e) {
+                annuler(transaction);
+                if (!estConflit(e)) {
+                    enregistrer(emf, operation, tentative, conflits, false);
+                    throw e;
+                }
+                conflits++;
+                if (tentative >= tentativesMax || !attendre(tentative)) {
+                    enregistrer(emf, operation, tentative, conflits, true);
+                    logger.warning("⚠️ Conflit de version persistant sur " + operation + " après " + tentative
+                            + " tentative(s)");
+                    throw e;
+                }
+            } finally {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Conflit de version, éventuellement enveloppé (RollbackException du commit, PersistenceException)
+     */
+    public static boolean estConflit(Throwable erreur) {
+        for (Throwable cause = erreur; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof StaleStateException
+                    || cause instanceof OptimisticEntityLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int tentativesMax(EntityManagerFactory emf) {
+        Object valeur = emf.getProperties().get(MAX_ATTEMPTS);
+        return valeur == null ? TENTATIVES_PAR_DEFAUT : Math.max(1, Integer.parseInt(valeur.toString().trim()));
+    }
+
+    /**
+     * Attente tirée entre 0 et min(ATTENTE_MAX_MS, ATTENTE_BASE_MS × 2^(tentative - 1)) ; false si interrompu
+     */
+    private static boolean attendre(int tentative) {
+        long plafond = Math.min(ATTENTE_MAX_MS, ATTENTE_BASE_MS << Math.min(tentative - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(plafond + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void annuler(EntityTransaction transaction) {
+        try {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        } catch (RuntimeException e) {
+            logger.fine("Rollback après échec : " + e.getMessage());
+        }
+    }
+
+    private static void enregistrer(EntityManagerFactory emf, String operation, int tentatives, int conflits,
+            boolean abandonnee) {
+        PersistenceStatistics statistics = MetricsReporter.statistics(emf);
+        if (statistics != null) {
+            statistics.optimisticTransaction(operation, tentatives, conflits, abandonnee);
+        }
+    }
+}
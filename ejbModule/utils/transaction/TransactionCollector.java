@@ -0,0 +1,90 @@
+package utils.transaction;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+
+/**
+ * État regroupé par transaction pour les listeners d'entités : créé au premier événement de la session,
+ * enregistré sur sa file d'actions puis oublié à la fin de la transaction (commit ou rollback)
+ *
+ * L'état implémente {@link BeforeTransactionCompletionProcess} (travail dans la transaction) et/ou
+ * {@link AfterTransactionCompletionProcess} (travail après commit) ; il ne garde pas de référence à la session.
+ * Sessions en clés faibles (aucune fuite si une transaction ne se termine jamais), réparties sur plusieurs
+ * verrous : les sessions concurrentes ne se disputent pas un moniteur unique
+ */
+public final class TransactionCollector<T> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Supplier<T> creation;
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public TransactionCollector(Supplier<T> creation) {
+        this.creation = creation;
+        this.segments = (Segment<T>[]) new Segment<?>[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * État de la transaction en cours de {@code session}, créé et enregistré au premier appel
+     * Une session n'est utilisée que par un thread : l'état lui-même n'est pas synchronisé
+     */
+    public T pour(EventSource session) {
+        Segment<T> segment = segment(session);
+        synchronized (segment) {
+            T etat = segment.enCours.get(session);
+            if (etat == null) {
+                etat = creation.get();
+                segment.enCours.put(session, etat);
+                enregistrer(session, etat);
+            }
+            return etat;
+        }
+    }
+
+    private void enregistrer(EventSource session, T etat) {
+        if (etat instanceof BeforeTransactionCompletionProcess) {
+            BeforeTransactionCompletionProcess avant = (BeforeTransactionCompletionProcess) etat;
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) sessionImpl -> {
+                oublier(sessionImpl);
+                avant.doBeforeTransactionCompletion(sessionImpl);
+            });
+        }
+        // Toujours enregistré : un rollback après le flush oublie aussi l'état
+        AfterTransactionCompletionProcess apres = etat instanceof AfterTransactionCompletionProcess
+                ? (AfterTransactionCompletionProcess) etat : null;
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, sessionImpl) -> {
+            oublier(sessionImpl);
+            if (apres != null) {
+                apres.doAfterTransactionCompletion(success, sessionImpl);
+            }
+        });
+    }
+
+    private void oublier(SharedSessionContractImplementor session) {
+        Segment<T> segment = segment(session);
+        synchronized (segment) {
+            segment.enCours.remove(session);
+        }
+    }
+
+    private Segment<T> segment(Object session) {
+        return segments[System.identityHashCode(session) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Sessions d'un segment, protégées par le moniteur du segment
+     */
+    private static final class Segment<T> {
+        final Map<Object, T> enCours = new WeakHashMap<>();
+    }
+}
@@ -0,0 +1,159 @@
+package utils.types;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Adresse jsonb (Commandes.adresseLivraison, Livraisons.adresseOrigine/adresseDestination)
+ * Les clés inconnues sont conservées telles quelles
+ */
+public class Adresse extends JsonMap {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String NOM_COMPLET = "nom_complet";
+    public static final String TELEPHONE = "telephone";
+    public static final String ADRESSE = "adresse";
+    public static final String COMPLEMENT = "complement";
+    public static final String QUARTIER = "quartier";
+    public static final String VILLE = "ville";
+    public static final String REGION = "region";
+    public static final String CODE_POSTAL = "code_postal";
+    public static final String PAYS = "pays";
+    public static final String INSTRUCTIONS = "instructions";
+    public static final String LATITUDE = "latitude";
+    public static final String LONGITUDE = "longitude";
+
+    public Adresse() {
+        super();
+    }
+
+    public Adresse(Map<String, ?> valeurs) {
+        super(valeurs);
+    }
+
+    protected Adresse(String json) {
+        super(json);
+    }
+
+    /**
+     * Document lu en base, analysé au premier accès
+     */
+    public static Adresse fromJson(String json) {
+        return new Adresse(json);
+    }
+
+    public String getNomComplet() {
+        return getString(NOM_COMPLET);
+    }
+
+    public Adresse setNomComplet(String nomComplet) {
+        put(NOM_COMPLET, nomComplet);
+        return this;
+    }
+
+    public String getTelephone() {
+        return getString(TELEPHONE);
+    }
+
+    public Adresse setTelephone(String telephone) {
+        put(TELEPHONE, telephone);
+        return this;
+    }
+
+    public String getAdresse() {
+        return getString(ADRESSE);
+    }
+
+    public Adresse setAdresse(String adresse) {
+        put(ADRESSE, adresse);
+        return this;
+    }
+
+    public String getComplement() {
+        return getString(COMPLEMENT);
+    }
+
+    public Adresse setComplement(String complement) {
+        put(COMPLEMENT, complement);
+        return this;
+    }
+
+    public String getQuartier() {
+        return getString(QUARTIER);
+    }
+
+    public Adresse setQuartier(String quartier) {
+        put(QUARTIER, quartier);
+        return this;
+    }
+
+    public String getVille() {
+        return getString(VILLE);
+    }
+
+    public Adresse setVille(String ville) {
+        put(VILLE, ville);
+        return this;
+    }
+
+    public String getRegion() {
+        return getString(REGION);
+    }
+
+    public Adresse setRegion(String region) {
+        put(REGION, region);
+        return this;
+    }
+
+    public String getCodePostal() {
+        return getString(CODE_POSTAL);
+    }
+
+    public Adresse setCodePostal(String codePostal) {
+        put(CODE_POSTAL, codePostal);
+        return this;
+    }
+
+    public String getPays() {
+        return getString(PAYS);
+    }
+
+    public Adresse setPays(String pays) {
+        put(PAYS, pays);
+        return this;
+    }
+
+    public String getInstructions() {
+        return getString(INSTRUCTIONS);
+    }
+
+    public Adresse setInstructions(String instructions) {
+        put(INSTRUCTIONS, instructions);
+        return this;
+    }
+
+    public BigDecimal getLatitude() {
+        return getDecimal(LATITUDE);
+    }
+
+    public BigDecimal getLongitude() {
+        return getDecimal(LONGITUDE);
+    }
+
+    /**
+     * Adresse sur une ligne pour les bordereaux et notifications
+     */
+    public String formater() {
+        StringBuilder sb = new StringBuilder();
+        for (String partie : new String[] { getAdresse(), getComplement(), getQuartier(), getVille(), getPays() }) {
+            if (partie != null && !partie.isEmpty()) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(partie);
+            }
+        }
+        return sb.toString();
+    }
+}
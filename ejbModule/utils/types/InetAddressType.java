@@ -0,0 +1,104 @@
+package utils.types;
+
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Type Hibernate pour une colonne inet PostgreSQL (adresse_ip)
+ * Les adresses sont des littéraux : aucune résolution DNS à la lecture
+ */
+public class InetAddressType implements UserType {
+
+    private static final int[] SQL_TYPES = { Types.OTHER };
+
+    @Override
+    public int[] sqlTypes() {
+        return SQL_TYPES;
+    }
+
+    @Override
+    public Class<InetAddress> returnedClass() {
+        return InetAddress.class;
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return x == null ? 0 : x.hashCode();
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+            throws HibernateException, SQLException {
+        return parse(rs.getString(names[0]));
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+            throws HibernateException, SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, ((InetAddress) value).getHostAddress(), Types.OTHER);
+        }
+    }
+
+    /**
+     * Convertit le texte inet ("192.168.1.10", "::1", "10.0.0.1/32") en InetAddress
+     */
+    public static InetAddress parse(String texte) {
+        if (texte == null || texte.isEmpty()) {
+            return null;
+        }
+        int masque = texte.indexOf('/');
+        String adresse = masque < 0 ? texte : texte.substring(0, masque);
+        // getByName ne résout pas un littéral IP, mais interrogerait le DNS pour un nom
+        if (!Character.isDigit(adresse.charAt(0)) && adresse.indexOf(':') < 0) {
+            throw new HibernateException("Adresse IP invalide : " + texte);
+        }
+        try {
+            return InetAddress.getByName(adresse);
+        } catch (UnknownHostException e) {
+            throw new HibernateException("Adresse IP invalide : " + texte, e);
+        }
+    }
+
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(Object value) throws HibernateException {
+        return (Serializable) value;
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) throws HibernateException {
+        return cached;
+    }
+
+    @Override
+    public Object replace(Object original, Object target, Object owner) throws HibernateException {
+        return original;
+    }
+}
@@ -0,0 +1,280 @@
+package utils.types;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecture/écriture JSON minimale pour les colonnes jsonb
+ * Objets → LinkedHashMap, tableaux → ArrayList, nombres → Long ou BigDecimal
+ */
+public final class Json {
+
+    private final String texte;
+    private int position;
+
+    private Json(String texte) {
+        this.texte = texte;
+    }
+
+    /**
+     * Analyse un document JSON complet
+     */
+    public static Object parse(String texte) {
+        if (texte == null) {
+            return null;
+        }
+        Json parser = new Json(texte);
+        parser.espaces();
+        Object valeur = parser.valeur();
+        parser.espaces();
+        if (parser.position != texte.length()) {
+            throw parser.erreur("caractères inattendus après la valeur");
+        }
+        return valeur;
+    }
+
+    /**
+     * Sérialise une valeur (Map, Collection, String, Number, Boolean, JsonDocument ou null)
+     */
+    public static String write(Object valeur) {
+        StringBuilder sb = new StringBuilder();
+        write(valeur, sb);
+        return sb.toString();
+    }
+
+    private static void write(Object valeur, StringBuilder sb) {
+        if (valeur == null) {
+            sb.append("null");
+        } else if (valeur instanceof JsonDocument) {
+            sb.append(((JsonDocument<?>) valeur).toJson());
+        } else if (valeur instanceof CharSequence || valeur instanceof Character) {
+            ecrireChaine(valeur.toString(), sb);
+        } else if (valeur instanceof Number || valeur instanceof Boolean) {
+            sb.append(valeur);
+        } else if (valeur instanceof Map) {
+            sb.append('{');
+            boolean premier = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) valeur).entrySet()) {
+                if (!premier) {
+                    sb.append(',');
+                }
+                premier = false;
+                ecrireChaine(String.valueOf(entry.getKey()), sb);
+                sb.append(':');
+                write(entry.getValue(), sb);
+            }
+            sb.append('}');
+        } else if (valeur instanceof Collection) {
+            sb.append('[');
+            boolean premier = true;
+            for (Object element : (Collection<?>) valeur) {
+                if (!premier) {
+                    sb.append(',');
+                }
+                premier = false;
+                write(element, sb);
+            }
+            sb.append(']');
+        } else {
+            ecrireChaine(valeur.toString(), sb);
+        }
+    }
+
+    private static void ecrireChaine(String chaine, StringBuilder sb) {
+        sb.append('"');
+        for (int i = 0; i < chaine.length(); i++) {
+            char c = chaine.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private Object valeur() {
+        if (position >= texte.length()) {
+            throw erreur("fin de document inattendue");
+        }
+        char c = texte.charAt(position);
+        switch (c) {
+            case '{': return objet();
+            case '[': return tableau();
+            case '"': return chaine();
+            case 't': return litteral("true", Boolean.TRUE);
+            case 'f': return litteral("false", Boolean.FALSE);
+            case 'n': return litteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return nombre();
+                }
+                throw erreur("caractère inattendu '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> objet() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        position++;
+        espaces();
+        if (lire('}')) {
+            return map;
+        }
+        do {
+            espaces();
+            if (position >= texte.length() || texte.charAt(position) != '"') {
+                throw erreur("clé attendue");
+            }
+            String cle = chaine();
+            espaces();
+            attendre(':');
+            espaces();
+            map.put(cle, valeur());
+            espaces();
+        } while (lire(','));
+        attendre('}');
+        return map;
+    }
+
+    private List<Object> tableau() {
+        List<Object> liste = new ArrayList<>();
+        position++;
+        espaces();
+        if (lire(']')) {
+            return liste;
+        }
+        do {
+            espaces();
+            liste.add(valeur());
+            espaces();
+        } while (lire(','));
+        attendre(']');
+        return liste;
+    }
+
+    private String chaine() {
+        position++;
+        StringBuilder sb = null;
+        int debut = position;
+        while (position < texte.length()) {
+            char c = texte.charAt(position);
+            if (c == '"') {
+                String resultat = sb == null ? texte.substring(debut, position) : sb.append(texte, debut, position).toString();
+                position++;
+                return resultat;
+            }
+            if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(texte, debut, position);
+                position++;
+                if (position >= texte.length()) {
+                    break;
+                }
+                char echappe = texte.charAt(position++);
+                switch (echappe) {
+                    case '"': sb.append('"'); break;
+                    case '\\': sb.append('\\'); break;
+                    case '/': sb.append('/'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        if (position + 4 > texte.length()) {
+                            throw erreur("séquence \\u incomplète");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(texte.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw erreur("séquence \\u invalide");
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        throw erreur("échappement invalide \\" + echappe);
+                }
+                debut = position;
+            } else {
+                position++;
+            }
+        }
+        throw erreur("chaîne non terminée");
+    }
+
+    private Number nombre() {
+        int debut = position;
+        boolean entier = true;
+        if (texte.charAt(position) == '-') {
+            position++;
+        }
+        while (position < texte.length()) {
+            char c = texte.charAt(position);
+            if (c >= '0' && c <= '9') {
+                position++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                entier = false;
+                position++;
+            } else {
+                break;
+            }
+        }
+        String nombre = texte.substring(debut, position);
+        try {
+            if (entier && nombre.length() < 19) {
+                return Long.parseLong(nombre);
+            }
+            return new BigDecimal(nombre);
+        } catch (NumberFormatException e) {
+            throw erreur("nombre invalide " + nombre);
+        }
+    }
+
+    private Object litteral(String mot, Object valeur) {
+        if (!texte.startsWith(mot, position)) {
+            throw erreur("littéral invalide");
+        }
+        position += mot.length();
+        return valeur;
+    }
+
+    private void espaces() {
+        while (position < texte.length() && Character.isWhitespace(texte.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean lire(char attendu) {
+        if (position < texte.length() && texte.charAt(position) == attendu) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void attendre(char attendu) {
+        if (!lire(attendu)) {
+            throw erreur("'" + attendu + "' attendu");
+        }
+    }
+
+    private IllegalArgumentException erreur(String message) {
+        return new IllegalArgumentException("JSON invalide (position " + position + ") : " + message);
+    }
+}
@@ -0,0 +1,99 @@
+package utils.types;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Document jsonb analysé à la demande : le texte lu en base est conservé tel quel
+ * et n'est converti qu'au premier accès (les listes de produits ne paient rien)
+ * @param <T> structure Java du document (liste, map)
+ */
+public abstract class JsonDocument<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String json;
+    private transient T valeur;
+
+    /**
+     * @param json texte lu en base (analysé plus tard), ou null
+     * @param valeur structure déjà construite, ou null
+     */
+    protected JsonDocument(String json, T valeur) {
+        this.json = json;
+        this.valeur = valeur;
+    }
+
+    /**
+     * Conversion du résultat de {@link Json#parse(String)} vers la structure typée
+     */
+    protected abstract T convertir(Object parse);
+
+    /**
+     * Structure vide utilisée pour un document "null" en JSON
+     */
+    protected abstract T vide();
+
+    /**
+     * Structure Java du document (analysée au premier appel, puis modifiable)
+     */
+    public T get() {
+        if (valeur == null) {
+            Object parse = json == null ? null : Json.parse(json);
+            valeur = parse == null ? vide() : convertir(parse);
+        }
+        return valeur;
+    }
+
+    /**
+     * Le document a-t-il déjà été analysé ?
+     */
+    public boolean isParsed() {
+        return valeur != null;
+    }
+
+    /**
+     * Texte JSON : le texte d'origine tant que le document n'a pas été analysé,
+     * sinon la structure (éventuellement modifiée) resérialisée
+     */
+    public String toJson() {
+        if (valeur != null) {
+            return Json.write(valeur);
+        }
+        return json == null ? "null" : json;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        json = toJson();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != getClass()) {
+            return false;
+        }
+        JsonDocument<?> autre = (JsonDocument<?>) obj;
+        // Deux textes bruts : comparaison sans analyse (cas du dirty checking d'une entité non lue)
+        if (valeur == null && autre.valeur == null && json != null && json.equals(autre.json)) {
+            return true;
+        }
+        // Sinon comparaison structurelle : jsonb renvoie un texte normalisé ({"a": 1})
+        // différent de la resérialisation ({"a":1})
+        return get().equals(autre.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return get().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
@@ -0,0 +1,68 @@
+package utils.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tableau jsonb (ex. Produits.imagesUrls)
+ */
+public class JsonList extends JsonDocument<List<Object>> {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonList() {
+        super(null, new ArrayList<>());
+    }
+
+    public JsonList(Collection<?> elements) {
+        super(null, new ArrayList<>(elements));
+    }
+
+    protected JsonList(String json) {
+        super(json, null);
+    }
+
+    /**
+     * Document lu en base, analysé au premier accès
+     */
+    public static JsonList fromJson(String json) {
+        return new JsonList(json);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<Object> convertir(Object parse) {
+        if (!(parse instanceof List)) {
+            throw new IllegalArgumentException("Tableau JSON attendu : " + toJson());
+        }
+        return (List<Object>) parse;
+    }
+
+    @Override
+    protected List<Object> vide() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Éléments convertis en chaînes (URLs, libellés), les null sont ignorés
+     */
+    public List<String> asStrings() {
+        List<Object> elements = get();
+        List<String> chaines = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            if (element != null) {
+                chaines.add(element.toString());
+            }
+        }
+        return chaines;
+    }
+
+    public int size() {
+        return get().size();
+    }
+
+    public boolean isEmpty() {
+        return get().isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package utils.types;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Objet jsonb (ex. Produits.metadonnees, EvenementsAnalytics.proprietes)
+ */
+public class JsonMap extends JsonDocument<Map<String, Object>> {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonMap() {
+        super(null, new LinkedHashMap<>());
+    }
+
+    public JsonMap(Map<String, ?> valeurs) {
+        super(null, new LinkedHashMap<>(valeurs));
+    }
+
+    protected JsonMap(String json) {
+        super(json, null);
+    }
+
+    /**
+     * Document lu en base, analysé au premier accès
+     */
+    public static JsonMap fromJson(String json) {
+        return new JsonMap(json);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> convertir(Object parse) {
+        if (!(parse instanceof Map)) {
+            throw new IllegalArgumentException("Objet JSON attendu : " + toJson());
+        }
+        return (Map<String, Object>) parse;
+    }
+
+    @Override
+    protected Map<String, Object> vide() {
+        return new LinkedHashMap<>();
+    }
+
+    public Object get(String cle) {
+        return get().get(cle);
+    }
+
+    public String getString(String cle) {
+        Object valeur = get(cle);
+        return valeur == null ? null : valeur.toString();
+    }
+
+    public BigDecimal getDecimal(String cle) {
+        Object valeur = get(cle);
+        if (valeur == null) {
+            return null;
+        }
+        return valeur instanceof BigDecimal ? (BigDecimal) valeur : new BigDecimal(valeur.toString());
+    }
+
+    public Boolean getBoolean(String cle) {
+        Object valeur = get(cle);
+        return valeur == null ? null : Boolean.valueOf(valeur.toString());
+    }
+
+    /**
+     * Sous-objet modifiable (ex. horairesOuverture.lundi), null si absent ou non objet
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getMap(String cle) {
+        Object valeur = get(cle);
+        return valeur instanceof Map ? (Map<String, Object>) valeur : null;
+    }
+
+    public JsonMap put(String cle, Object valeur) {
+        get().put(cle, valeur);
+        return this;
+    }
+
+    public boolean containsKey(String cle) {
+        return get().containsKey(cle);
+    }
+
+    public boolean isEmpty() {
+        return get().isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package utils.types;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Type Hibernate pour une colonne jsonb PostgreSQL
+ * Lecture : le texte est enveloppé sans analyse ({@link JsonDocument})
+ * Écriture : texte JSON envoyé en Types.OTHER, converti en jsonb par PostgreSQL
+ * @param <D> document typé (liste, map, adresse)
+ */
+public abstract class JsonbType<D extends JsonDocument<?>> implements UserType {
+
+    private static final int[] SQL_TYPES = { Types.OTHER };
+
+    private final Class<D> classe;
+
+    protected JsonbType(Class<D> classe) {
+        this.classe = classe;
+    }
+
+    /**
+     * Document non analysé à partir du texte lu en base
+     */
+    protected abstract D fromJson(String json);
+
+    @Override
+    public int[] sqlTypes() {
+        return SQL_TYPES;
+    }
+
+    @Override
+    public Class<D> returnedClass() {
+        return classe;
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return x == null ? 0 : x.hashCode();
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+            throws HibernateException, SQLException {
+        String json = rs.getString(names[0]);
+        return json == null ? null : fromJson(json);
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+            throws HibernateException, SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, classe.cast(value).toJson(), Types.OTHER);
+        }
+    }
+
+    /**
+     * Copie par le texte : un document jamais lu n'est pas analysé pour l'instantané
+     */
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return value == null ? null : fromJson(classe.cast(value).toJson());
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    @Override
+    public Serializable disassemble(Object value) throws HibernateException {
+        return value == null ? null : classe.cast(value).toJson();
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) throws HibernateException {
+        return cached == null ? null : fromJson((String) cached);
+    }
+
+    @Override
+    public Object replace(Object original, Object target, Object owner) throws HibernateException {
+        return deepCopy(original);
+    }
+
+    /**
+     * Tableau jsonb → {@link JsonList}
+     */
+    public static class ListType extends JsonbType<JsonList> {
+        public ListType() {
+            super(JsonList.class);
+        }
+
+        @Override
+        protected JsonList fromJson(String json) {
+            return JsonList.fromJson(json);
+        }
+    }
+
+    /**
+     * Objet jsonb → {@link JsonMap}
+     */
+    public static class MapType extends JsonbType<JsonMap> {
+        public MapType() {
+            super(JsonMap.class);
+        }
+
+        @Override
+        protected JsonMap fromJson(String json) {
+            return JsonMap.fromJson(json);
+        }
+    }
+
+    /**
+     * Adresse jsonb → {@link Adresse}
+     */
+    public static class AdresseType extends JsonbType<Adresse> {
+        public AdresseType() {
+            super(Adresse.class);
+        }
+
+        @Override
+        protected Adresse fromJson(String json) {
+            return Adresse.fromJson(json);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package utils.types;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * Position GPS (degrés décimaux WGS84) : Boutiques.coordonneesGps, Entreprises.coordonneesGps,
+ * HistoriqueRecherches.coordonneesRecherche
+ * Colonne point PostgreSQL : x = longitude, y = latitude
+ */
+public final class PointGps implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Rayon terrestre moyen (km)
+    public static final double RAYON_TERRE_KM = 6_371.0088;
+
+    private final double latitude;
+    private final double longitude;
+
+    public PointGps(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordonnées invalides : " + latitude + "," + longitude);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Texte "lat,lon" (saisie, paramètres d'URL) ou point PostgreSQL "(lon,lat)" ; null si vide
+     */
+    public static PointGps parse(String texte) {
+        if (texte == null || texte.trim().isEmpty()) {
+            return null;
+        }
+        String valeur = texte.trim();
+        boolean point = valeur.startsWith("(");
+        if (point) {
+            if (!valeur.endsWith(")")) {
+                throw new IllegalArgumentException("Point invalide : " + texte);
+            }
+            valeur = valeur.substring(1, valeur.length() - 1);
+        }
+        int virgule = valeur.indexOf(',');
+        if (virgule < 0) {
+            throw new IllegalArgumentException("Coordonnées invalides : " + texte);
+        }
+        try {
+            double premier = Double.parseDouble(valeur.substring(0, virgule).trim());
+            double second = Double.parseDouble(valeur.substring(virgule + 1).trim());
+            return point ? new PointGps(second, premier) : new PointGps(premier, second);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Coordonnées invalides : " + texte, e);
+        }
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Distance orthodromique (formule de haversine), en km
+     */
+    public double distanceKm(PointGps autre) {
+        return distanceKm(latitude, longitude, autre.latitude, autre.longitude);
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAYON_TERRE_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Littéral point PostgreSQL "(lon,lat)"
+     */
+    public String toPoint() {
+        return String.format(Locale.ROOT, "(%.7f,%.7f)", longitude, latitude);
+    }
+
+    @Override
+    public boolean equals(Object autre) {
+        if (!(autre instanceof PointGps)) {
+            return false;
+        }
+        PointGps point = (PointGps) autre;
+        return Double.compare(latitude, point.latitude) == 0 && Double.compare(longitude, point.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+
+    /**
+     * "lat,lon", relu par {@link #parse}
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%.6f,%.6f", latitude, longitude);
+    }
+}
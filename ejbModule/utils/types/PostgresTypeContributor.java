@@ -0,0 +1,40 @@
+package utils.types;
+
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.CustomType;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Déclare les types PostgreSQL utilisables dans les hbm.xml (déclaré dans META-INF/services)
+ * type="jsonb-list" | "jsonb-map" | "jsonb-adresse" | "inet" | "point" | "tsvector"
+ * (uuid : type natif Hibernate "pg-uuid")
+ */
+public class PostgresTypeContributor implements TypeContributor {
+
+    public static final String LIST = "jsonb-list";
+    public static final String MAP = "jsonb-map";
+    public static final String ADRESSE = "jsonb-adresse";
+    public static final String INET = "inet";
+    public static final String POINT = "point";
+    public static final String TSVECTOR = "tsvector";
+
+    @Override
+    public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+        typeContributions.contributeType(type(new JsonbType.ListType(), LIST));
+        typeContributions.contributeType(type(new JsonbType.MapType(), MAP));
+        typeContributions.contributeType(type(new JsonbType.AdresseType(), ADRESSE));
+        typeContributions.contributeType(type(new InetAddressType(), INET));
+        typeContributions.contributeType(type(new PointType(), POINT));
+        typeContributions.contributeType(type(new TsVectorType(), TSVECTOR));
+    }
+
+    /**
+     * UserType enveloppé en type de base, enregistré sous son nom de type hbm.xml
+     * (contributeType(UserType, String...) est déprécié)
+     */
+    private static CustomType type(UserType userType, String nom) {
+        return new CustomType(userType, new String[] { nom });
+    }
+}
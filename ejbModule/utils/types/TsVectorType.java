@@ -0,0 +1,114 @@
+package utils.types;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Type Hibernate pour une colonne tsvector PostgreSQL (contenu_recherche), lue et écrite sous sa forme texte
+ * ("'boubou':1 'brod':2") ; la conversion est faite par PostgreSQL
+ */
+public class TsVectorType implements UserType {
+
+    private static final int[] SQL_TYPES = { Types.OTHER };
+
+    @Override
+    public int[] sqlTypes() {
+        return SQL_TYPES;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(Object x, Object y) throws HibernateException {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Object x) throws HibernateException {
+        return x == null ? 0 : x.hashCode();
+    }
+
+    @Override
+    public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+            throws HibernateException, SQLException {
+        return rs.getString(names[0]);
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+            throws HibernateException, SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, value, Types.OTHER);
+        }
+    }
+
+    /**
+     * Lexèmes d'un tsvector texte, séparés par des espaces (guillemets, positions et poids retirés)
+     */
+    public static String lexemes(String tsvector) {
+        if (tsvector == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(tsvector.length());
+        boolean dansLexeme = false;
+        for (int i = 0; i < tsvector.length(); i++) {
+            char c = tsvector.charAt(i);
+            if (c == '\'') {
+                // '' : apostrophe dans le lexème
+                if (dansLexeme && i + 1 < tsvector.length() && tsvector.charAt(i + 1) == '\'') {
+                    sb.append('\'');
+                    i++;
+                } else {
+                    dansLexeme = !dansLexeme;
+                    if (!dansLexeme) {
+                        sb.append(' ');
+                    }
+                }
+            } else if (dansLexeme) {
+                if (c == '\\' && i + 1 < tsvector.length()) {
+                    c = tsvector.charAt(++i);
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Object deepCopy(Object value) throws HibernateException {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(Object value) throws HibernateException {
+        return (Serializable) value;
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) throws HibernateException {
+        return cached;
+    }
+
+    @Override
+    public Object replace(Object original, Object target, Object owner) throws HibernateException {
+        return original;
+    }
+}
@@ -0,0 +1,283 @@
+-- =========================================
+-- Séquences des identifiants SenMarket
+-- =========================================
+-- Les mappings hbm.xml utilisent "enhanced-sequence" avec l'optimiseur pooled-lo :
+-- chaque nextval réserve un bloc [valeur, valeur + increment_size - 1] côté Hibernate.
+-- L'INCREMENT BY de chaque séquence DOIT être égal au increment_size du mapping
+-- (hibernate.id.sequence.increment_size_mismatch_strategy=exception le vérifie au démarrage).
+-- Les insertions hors Hibernate (DEFAULT nextval) restent sans collision.
+-- Script idempotent : repositionne chaque séquence après le plus grand id existant.
+
+BEGIN;
+
+-- articles_commande (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.articles_commande_id_seq OWNED BY public.articles_commande.id;
+ALTER SEQUENCE public.articles_commande_id_seq INCREMENT BY 50;
+SELECT setval('public.articles_commande_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.articles_commande), false);
+ALTER TABLE public.articles_commande ALTER COLUMN id SET DEFAULT nextval('public.articles_commande_id_seq');
+
+-- articles_panier (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.articles_panier_id_seq OWNED BY public.articles_panier.id;
+ALTER SEQUENCE public.articles_panier_id_seq INCREMENT BY 50;
+SELECT setval('public.articles_panier_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.articles_panier), false);
+ALTER TABLE public.articles_panier ALTER COLUMN id SET DEFAULT nextval('public.articles_panier_id_seq');
+
+-- attributs_produits (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.attributs_produits_id_seq OWNED BY public.attributs_produits.id;
+ALTER SEQUENCE public.attributs_produits_id_seq INCREMENT BY 50;
+SELECT setval('public.attributs_produits_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.attributs_produits), false);
+ALTER TABLE public.attributs_produits ALTER COLUMN id SET DEFAULT nextval('public.attributs_produits_id_seq');
+
+-- audit_modifications (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.audit_modifications_id_seq OWNED BY public.audit_modifications.id;
+ALTER SEQUENCE public.audit_modifications_id_seq INCREMENT BY 500;
+SELECT setval('public.audit_modifications_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.audit_modifications), false);
+ALTER TABLE public.audit_modifications ALTER COLUMN id SET DEFAULT nextval('public.audit_modifications_id_seq');
+
+-- boutiques (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.boutiques_id_seq OWNED BY public.boutiques.id;
+ALTER SEQUENCE public.boutiques_id_seq INCREMENT BY 50;
+SELECT setval('public.boutiques_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.boutiques), false);
+ALTER TABLE public.boutiques ALTER COLUMN id SET DEFAULT nextval('public.boutiques_id_seq');
+
+-- campagnes_marketing (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.campagnes_marketing_id_seq OWNED BY public.campagnes_marketing.id;
+ALTER SEQUENCE public.campagnes_marketing_id_seq INCREMENT BY 50;
+SELECT setval('public.campagnes_marketing_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.campagnes_marketing), false);
+ALTER TABLE public.campagnes_marketing ALTER COLUMN id SET DEFAULT nextval('public.campagnes_marketing_id_seq');
+
+-- categories_produits (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.categories_produits_id_seq OWNED BY public.categories_produits.id;
+ALTER SEQUENCE public.categories_produits_id_seq INCREMENT BY 50;
+SELECT setval('public.categories_produits_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.categories_produits), false);
+ALTER TABLE public.categories_produits ALTER COLUMN id SET DEFAULT nextval('public.categories_produits_id_seq');
+
+-- clients (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.clients_id_seq OWNED BY public.clients.id;
+ALTER SEQUENCE public.clients_id_seq INCREMENT BY 50;
+SELECT setval('public.clients_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.clients), false);
+ALTER TABLE public.clients ALTER COLUMN id SET DEFAULT nextval('public.clients_id_seq');
+
+-- codes_promotionnels (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.codes_promotionnels_id_seq OWNED BY public.codes_promotionnels.id;
+ALTER SEQUENCE public.codes_promotionnels_id_seq INCREMENT BY 50;
+SELECT setval('public.codes_promotionnels_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.codes_promotionnels), false);
+ALTER TABLE public.codes_promotionnels ALTER COLUMN id SET DEFAULT nextval('public.codes_promotionnels_id_seq');
+
+-- commandes (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.commandes_id_seq OWNED BY public.commandes.id;
+ALTER SEQUENCE public.commandes_id_seq INCREMENT BY 50;
+SELECT setval('public.commandes_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.commandes), false);
+ALTER TABLE public.commandes ALTER COLUMN id SET DEFAULT nextval('public.commandes_id_seq');
+
+-- comptes_utilisateur (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.comptes_utilisateur_id_seq OWNED BY public.comptes_utilisateur.id;
+ALTER SEQUENCE public.comptes_utilisateur_id_seq INCREMENT BY 50;
+SELECT setval('public.comptes_utilisateur_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.comptes_utilisateur), false);
+ALTER TABLE public.comptes_utilisateur ALTER COLUMN id SET DEFAULT nextval('public.comptes_utilisateur_id_seq');
+
+-- devises (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.devises_id_seq OWNED BY public.devises.id;
+ALTER SEQUENCE public.devises_id_seq INCREMENT BY 1;
+SELECT setval('public.devises_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.devises), false);
+ALTER TABLE public.devises ALTER COLUMN id SET DEFAULT nextval('public.devises_id_seq');
+
+-- employes (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.employes_id_seq OWNED BY public.employes.id;
+ALTER SEQUENCE public.employes_id_seq INCREMENT BY 50;
+SELECT setval('public.employes_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.employes), false);
+ALTER TABLE public.employes ALTER COLUMN id SET DEFAULT nextval('public.employes_id_seq');
+
+-- entreprises (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.entreprises_id_seq OWNED BY public.entreprises.id;
+ALTER SEQUENCE public.entreprises_id_seq INCREMENT BY 50;
+SELECT setval('public.entreprises_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.entreprises), false);
+ALTER TABLE public.entreprises ALTER COLUMN id SET DEFAULT nextval('public.entreprises_id_seq');
+
+-- evaluations_boutiques (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.evaluations_boutiques_id_seq OWNED BY public.evaluations_boutiques.id;
+ALTER SEQUENCE public.evaluations_boutiques_id_seq INCREMENT BY 50;
+SELECT setval('public.evaluations_boutiques_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.evaluations_boutiques), false);
+ALTER TABLE public.evaluations_boutiques ALTER COLUMN id SET DEFAULT nextval('public.evaluations_boutiques_id_seq');
+
+-- evaluations_produits (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.evaluations_produits_id_seq OWNED BY public.evaluations_produits.id;
+ALTER SEQUENCE public.evaluations_produits_id_seq INCREMENT BY 50;
+SELECT setval('public.evaluations_produits_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.evaluations_produits), false);
+ALTER TABLE public.evaluations_produits ALTER COLUMN id SET DEFAULT nextval('public.evaluations_produits_id_seq');
+
+-- evenements_analytics (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.evenements_analytics_id_seq OWNED BY public.evenements_analytics.id;
+ALTER SEQUENCE public.evenements_analytics_id_seq INCREMENT BY 500;
+SELECT setval('public.evenements_analytics_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.evenements_analytics), false);
+ALTER TABLE public.evenements_analytics ALTER COLUMN id SET DEFAULT nextval('public.evenements_analytics_id_seq');
+
+-- historique_connexions (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.historique_connexions_id_seq OWNED BY public.historique_connexions.id;
+ALTER SEQUENCE public.historique_connexions_id_seq INCREMENT BY 500;
+SELECT setval('public.historique_connexions_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.historique_connexions), false);
+ALTER TABLE public.historique_connexions ALTER COLUMN id SET DEFAULT nextval('public.historique_connexions_id_seq');
+
+-- historique_recherches (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.historique_recherches_id_seq OWNED BY public.historique_recherches.id;
+ALTER SEQUENCE public.historique_recherches_id_seq INCREMENT BY 500;
+SELECT setval('public.historique_recherches_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.historique_recherches), false);
+ALTER TABLE public.historique_recherches ALTER COLUMN id SET DEFAULT nextval('public.historique_recherches_id_seq');
+
+-- historique_statuts_commande (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.historique_statuts_commande_id_seq OWNED BY public.historique_statuts_commande.id;
+ALTER SEQUENCE public.historique_statuts_commande_id_seq INCREMENT BY 50;
+SELECT setval('public.historique_statuts_commande_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.historique_statuts_commande), false);
+ALTER TABLE public.historique_statuts_commande ALTER COLUMN id SET DEFAULT nextval('public.historique_statuts_commande_id_seq');
+
+-- langues (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.langues_id_seq OWNED BY public.langues.id;
+ALTER SEQUENCE public.langues_id_seq INCREMENT BY 1;
+SELECT setval('public.langues_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.langues), false);
+ALTER TABLE public.langues ALTER COLUMN id SET DEFAULT nextval('public.langues_id_seq');
+
+-- livraisons (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.livraisons_id_seq OWNED BY public.livraisons.id;
+ALTER SEQUENCE public.livraisons_id_seq INCREMENT BY 50;
+SELECT setval('public.livraisons_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.livraisons), false);
+ALTER TABLE public.livraisons ALTER COLUMN id SET DEFAULT nextval('public.livraisons_id_seq');
+
+-- logs_systeme (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.logs_systeme_id_seq OWNED BY public.logs_systeme.id;
+ALTER SEQUENCE public.logs_systeme_id_seq INCREMENT BY 500;
+SELECT setval('public.logs_systeme_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.logs_systeme), false);
+ALTER TABLE public.logs_systeme ALTER COLUMN id SET DEFAULT nextval('public.logs_systeme_id_seq');
+
+-- marques (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.marques_id_seq OWNED BY public.marques.id;
+ALTER SEQUENCE public.marques_id_seq INCREMENT BY 50;
+SELECT setval('public.marques_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.marques), false);
+ALTER TABLE public.marques ALTER COLUMN id SET DEFAULT nextval('public.marques_id_seq');
+
+-- methodes_paiement (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.methodes_paiement_id_seq OWNED BY public.methodes_paiement.id;
+ALTER SEQUENCE public.methodes_paiement_id_seq INCREMENT BY 1;
+SELECT setval('public.methodes_paiement_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.methodes_paiement), false);
+ALTER TABLE public.methodes_paiement ALTER COLUMN id SET DEFAULT nextval('public.methodes_paiement_id_seq');
+
+-- metriques_quotidiennes (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.metriques_quotidiennes_id_seq OWNED BY public.metriques_quotidiennes.id;
+ALTER SEQUENCE public.metriques_quotidiennes_id_seq INCREMENT BY 50;
+SELECT setval('public.metriques_quotidiennes_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.metriques_quotidiennes), false);
+ALTER TABLE public.metriques_quotidiennes ALTER COLUMN id SET DEFAULT nextval('public.metriques_quotidiennes_id_seq');
+
+-- mouvements_stock (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.mouvements_stock_id_seq OWNED BY public.mouvements_stock.id;
+ALTER SEQUENCE public.mouvements_stock_id_seq INCREMENT BY 500;
+SELECT setval('public.mouvements_stock_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.mouvements_stock), false);
+ALTER TABLE public.mouvements_stock ALTER COLUMN id SET DEFAULT nextval('public.mouvements_stock_id_seq');
+
+-- notifications_envoyees (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.notifications_envoyees_id_seq OWNED BY public.notifications_envoyees.id;
+ALTER SEQUENCE public.notifications_envoyees_id_seq INCREMENT BY 500;
+SELECT setval('public.notifications_envoyees_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.notifications_envoyees), false);
+ALTER TABLE public.notifications_envoyees ALTER COLUMN id SET DEFAULT nextval('public.notifications_envoyees_id_seq');
+
+-- paniers (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.paniers_id_seq OWNED BY public.paniers.id;
+ALTER SEQUENCE public.paniers_id_seq INCREMENT BY 50;
+SELECT setval('public.paniers_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.paniers), false);
+ALTER TABLE public.paniers ALTER COLUMN id SET DEFAULT nextval('public.paniers_id_seq');
+
+-- pays (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.pays_id_seq OWNED BY public.pays.id;
+ALTER SEQUENCE public.pays_id_seq INCREMENT BY 1;
+SELECT setval('public.pays_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.pays), false);
+ALTER TABLE public.pays ALTER COLUMN id SET DEFAULT nextval('public.pays_id_seq');
+
+-- personnes (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.personnes_id_seq OWNED BY public.personnes.id;
+ALTER SEQUENCE public.personnes_id_seq INCREMENT BY 50;
+SELECT setval('public.personnes_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.personnes), false);
+ALTER TABLE public.personnes ALTER COLUMN id SET DEFAULT nextval('public.personnes_id_seq');
+
+-- preferences_notifications (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.preferences_notifications_id_seq OWNED BY public.preferences_notifications.id;
+ALTER SEQUENCE public.preferences_notifications_id_seq INCREMENT BY 50;
+SELECT setval('public.preferences_notifications_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.preferences_notifications), false);
+ALTER TABLE public.preferences_notifications ALTER COLUMN id SET DEFAULT nextval('public.preferences_notifications_id_seq');
+
+-- produits (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.produits_id_seq OWNED BY public.produits.id;
+ALTER SEQUENCE public.produits_id_seq INCREMENT BY 50;
+SELECT setval('public.produits_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.produits), false);
+ALTER TABLE public.produits ALTER COLUMN id SET DEFAULT nextval('public.produits_id_seq');
+
+-- profils_utilisateur (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.profils_utilisateur_id_seq OWNED BY public.profils_utilisateur.id;
+ALTER SEQUENCE public.profils_utilisateur_id_seq INCREMENT BY 1;
+SELECT setval('public.profils_utilisateur_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.profils_utilisateur), false);
+ALTER TABLE public.profils_utilisateur ALTER COLUMN id SET DEFAULT nextval('public.profils_utilisateur_id_seq');
+
+-- remboursements (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.remboursements_id_seq OWNED BY public.remboursements.id;
+ALTER SEQUENCE public.remboursements_id_seq INCREMENT BY 50;
+SELECT setval('public.remboursements_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.remboursements), false);
+ALTER TABLE public.remboursements ALTER COLUMN id SET DEFAULT nextval('public.remboursements_id_seq');
+
+-- sessions_actives (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.sessions_actives_id_seq OWNED BY public.sessions_actives.id;
+ALTER SEQUENCE public.sessions_actives_id_seq INCREMENT BY 50;
+SELECT setval('public.sessions_actives_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.sessions_actives), false);
+ALTER TABLE public.sessions_actives ALTER COLUMN id SET DEFAULT nextval('public.sessions_actives_id_seq');
+
+-- statuts_commande (increment 1)
+CREATE SEQUENCE IF NOT EXISTS public.statuts_commande_id_seq OWNED BY public.statuts_commande.id;
+ALTER SEQUENCE public.statuts_commande_id_seq INCREMENT BY 1;
+SELECT setval('public.statuts_commande_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.statuts_commande), false);
+ALTER TABLE public.statuts_commande ALTER COLUMN id SET DEFAULT nextval('public.statuts_commande_id_seq');
+
+-- suggestions_recherche (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.suggestions_recherche_id_seq OWNED BY public.suggestions_recherche.id;
+ALTER SEQUENCE public.suggestions_recherche_id_seq INCREMENT BY 50;
+SELECT setval('public.suggestions_recherche_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.suggestions_recherche), false);
+ALTER TABLE public.suggestions_recherche ALTER COLUMN id SET DEFAULT nextval('public.suggestions_recherche_id_seq');
+
+-- suivi_livraisons (increment 500)
+CREATE SEQUENCE IF NOT EXISTS public.suivi_livraisons_id_seq OWNED BY public.suivi_livraisons.id;
+ALTER SEQUENCE public.suivi_livraisons_id_seq INCREMENT BY 500;
+SELECT setval('public.suivi_livraisons_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.suivi_livraisons), false);
+ALTER TABLE public.suivi_livraisons ALTER COLUMN id SET DEFAULT nextval('public.suivi_livraisons_id_seq');
+
+-- synonymes_recherche (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.synonymes_recherche_id_seq OWNED BY public.synonymes_recherche.id;
+ALTER SEQUENCE public.synonymes_recherche_id_seq INCREMENT BY 50;
+SELECT setval('public.synonymes_recherche_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.synonymes_recherche), false);
+ALTER TABLE public.synonymes_recherche ALTER COLUMN id SET DEFAULT nextval('public.synonymes_recherche_id_seq');
+
+-- templates_notifications (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.templates_notifications_id_seq OWNED BY public.templates_notifications.id;
+ALTER SEQUENCE public.templates_notifications_id_seq INCREMENT BY 50;
+SELECT setval('public.templates_notifications_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.templates_notifications), false);
+ALTER TABLE public.templates_notifications ALTER COLUMN id SET DEFAULT nextval('public.templates_notifications_id_seq');
+
+-- transactions_paiement (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.transactions_paiement_id_seq OWNED BY public.transactions_paiement.id;
+ALTER SEQUENCE public.transactions_paiement_id_seq INCREMENT BY 50;
+SELECT setval('public.transactions_paiement_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.transactions_paiement), false);
+ALTER TABLE public.transactions_paiement ALTER COLUMN id SET DEFAULT nextval('public.transactions_paiement_id_seq');
+
+-- transporteurs (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.transporteurs_id_seq OWNED BY public.transporteurs.id;
+ALTER SEQUENCE public.transporteurs_id_seq INCREMENT BY 50;
+SELECT setval('public.transporteurs_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.transporteurs), false);
+ALTER TABLE public.transporteurs ALTER COLUMN id SET DEFAULT nextval('public.transporteurs_id_seq');
+
+-- utilisations_codes_promo (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.utilisations_codes_promo_id_seq OWNED BY public.utilisations_codes_promo.id;
+ALTER SEQUENCE public.utilisations_codes_promo_id_seq INCREMENT BY 50;
+SELECT setval('public.utilisations_codes_promo_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.utilisations_codes_promo), false);
+ALTER TABLE public.utilisations_codes_promo ALTER COLUMN id SET DEFAULT nextval('public.utilisations_codes_promo_id_seq');
+
+-- votes_evaluations (increment 50)
+CREATE SEQUENCE IF NOT EXISTS public.votes_evaluations_id_seq OWNED BY public.votes_evaluations.id;
+ALTER SEQUENCE public.votes_evaluations_id_seq INCREMENT BY 50;
+SELECT setval('public.votes_evaluations_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM public.votes_evaluations), false);
+ALTER TABLE public.votes_evaluations ALTER COLUMN id SET DEFAULT nextval('public.votes_evaluations_id_seq');
+
+COMMIT;
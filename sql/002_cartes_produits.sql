@@ -0,0 +1,80 @@
+-- =========================================
+-- Cartes produits (modèle de lecture du catalogue)
+-- =========================================
+-- Une ligne par produit : colonnes de la carte + noms de boutique, catégorie et marque recopiés.
+-- Remplace la lecture de la vue v_produits_complets (jointures à chaque page) ; la vue est conservée
+-- pour les outils SQL existants.
+-- Maintenue par utils.catalogue.ProductCardListener avant chaque commit Hibernate.
+-- Après un chargement hors Hibernate (COPY, SQL manuel) : relancer l'alimentation ci-dessous
+-- (ou ProductCardRefresher.reconstruire).
+-- Script idempotent.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.cartes_produits (
+    produit_id integer PRIMARY KEY,
+    uuid uuid NOT NULL UNIQUE,
+    boutique_id integer NOT NULL,
+    categorie_id integer NOT NULL,
+    marque_id integer,
+    nom varchar(200) NOT NULL,
+    description_courte varchar(500),
+    prix_vente numeric(12,2) NOT NULL,
+    prix_promo numeric(12,2),
+    stock_actuel integer,
+    est_en_stock boolean,
+    est_en_promotion boolean,
+    image_principale_url varchar(500),
+    note_moyenne numeric(3,2),
+    nombre_evaluations integer,
+    boutique_nom varchar(150) NOT NULL,
+    boutique_ville varchar(100) NOT NULL,
+    categorie_nom varchar(150) NOT NULL,
+    marque_nom varchar(100),
+    est_visible boolean NOT NULL,
+    modifie_le timestamp NOT NULL
+);
+
+-- Pagination par clé : (filtre, produit_id) sur les seules cartes visibles
+CREATE INDEX IF NOT EXISTS idx_cartes_produits_visibles ON public.cartes_produits (produit_id) WHERE est_visible;
+CREATE INDEX IF NOT EXISTS idx_cartes_produits_boutique ON public.cartes_produits (boutique_id, produit_id) WHERE est_visible;
+CREATE INDEX IF NOT EXISTS idx_cartes_produits_categorie ON public.cartes_produits (categorie_id, produit_id) WHERE est_visible;
+CREATE INDEX IF NOT EXISTS idx_cartes_produits_marque ON public.cartes_produits (marque_id, produit_id) WHERE est_visible;
+
+-- Recalcul ciblé par boutique, catégorie et marque (ProductCardRefresher.rafraichir)
+CREATE INDEX IF NOT EXISTS idx_produits_boutique ON public.produits (boutique_id);
+CREATE INDEX IF NOT EXISTS idx_produits_categorie ON public.produits (categorie_id);
+CREATE INDEX IF NOT EXISTS idx_produits_marque ON public.produits (marque_id);
+
+-- Identifiant public obligatoire (cartes_produits.uuid NOT NULL) : produits hérités sans uuid complétés.
+-- Les nouveaux produits reçoivent leur uuid de utils.lookup.UuidAssigner ; le défaut couvre les insertions SQL.
+-- gen_random_uuid : PostgreSQL 13+ (avant : extension pgcrypto)
+UPDATE public.produits SET uuid = gen_random_uuid() WHERE uuid IS NULL;
+ALTER TABLE public.produits ALTER COLUMN uuid SET DEFAULT gen_random_uuid(), ALTER COLUMN uuid SET NOT NULL;
+
+-- Alimentation initiale (même requête que ProductCardRefresher)
+DELETE FROM public.cartes_produits c WHERE NOT EXISTS (SELECT 1 FROM public.produits p WHERE p.id = c.produit_id);
+INSERT INTO public.cartes_produits (produit_id, uuid, boutique_id, categorie_id, marque_id, nom, description_courte,
+        prix_vente, prix_promo, stock_actuel, est_en_stock, est_en_promotion, image_principale_url, note_moyenne,
+        nombre_evaluations, boutique_nom, boutique_ville, categorie_nom, marque_nom, est_visible, modifie_le)
+SELECT p.id, p.uuid, p.boutique_id, p.categorie_id, p.marque_id, p.nom, p.description_courte,
+        p.prix_vente, p.prix_promo, p.stock_actuel, p.est_en_stock, p.est_en_promotion, p.image_principale_url,
+        p.note_moyenne, p.nombre_evaluations, b.nom, b.ville, c.nom, m.nom,
+        coalesce(p.est_actif, true) AND coalesce(p.est_publie, true) AND coalesce(b.est_actif, true), now()
+FROM public.produits p
+JOIN public.boutiques b ON b.id = p.boutique_id
+JOIN public.categories_produits c ON c.id = p.categorie_id
+LEFT JOIN public.marques m ON m.id = p.marque_id
+ON CONFLICT (produit_id) DO UPDATE SET uuid = EXCLUDED.uuid, boutique_id = EXCLUDED.boutique_id,
+        categorie_id = EXCLUDED.categorie_id, marque_id = EXCLUDED.marque_id, nom = EXCLUDED.nom,
+        description_courte = EXCLUDED.description_courte, prix_vente = EXCLUDED.prix_vente,
+        prix_promo = EXCLUDED.prix_promo, stock_actuel = EXCLUDED.stock_actuel,
+        est_en_stock = EXCLUDED.est_en_stock, est_en_promotion = EXCLUDED.est_en_promotion,
+        image_principale_url = EXCLUDED.image_principale_url, note_moyenne = EXCLUDED.note_moyenne,
+        nombre_evaluations = EXCLUDED.nombre_evaluations, boutique_nom = EXCLUDED.boutique_nom,
+        boutique_ville = EXCLUDED.boutique_ville, categorie_nom = EXCLUDED.categorie_nom,
+        marque_nom = EXCLUDED.marque_nom, est_visible = EXCLUDED.est_visible, modifie_le = EXCLUDED.modifie_le;
+
+ANALYZE public.cartes_produits;
+
+COMMIT;
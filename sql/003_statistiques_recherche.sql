@@ -0,0 +1,68 @@
+-- =========================================
+-- Statistiques de recherche (agrégats incrémentaux)
+-- =========================================
+-- statistiques_recherche : compteurs par jour, type et langue (remplace la lecture de la vue
+-- v_statistiques_recherche, qui parcourt tout l'historique à chaque appel ; la vue est conservée
+-- pour les outils SQL existants).
+-- recherches_sans_resultat : requêtes sans résultat par jour, langue et texte normalisé.
+-- Type ou langue absents : chaîne vide. Maintenues par utils.search.SearchHistoryLogger et
+-- SearchStatisticsListener dans la transaction qui écrit l'historique ; seules les nouvelles lignes sont lues.
+-- Après un chargement hors application (COPY, SQL manuel) : SearchStatisticsRefresher.reconstruire(jour)
+-- recalcule les jours à partir de celui donné.
+-- Script idempotent.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.statistiques_recherche (
+    date_recherche date NOT NULL,
+    type_recherche varchar(20) NOT NULL,
+    langue_recherche varchar(10) NOT NULL,
+    nombre_recherches bigint NOT NULL,
+    recherches_avec_resultats bigint NOT NULL,
+    recherches_avec_clic bigint NOT NULL,
+    recherches_chronometrees bigint NOT NULL,
+    temps_total_ms bigint NOT NULL,
+    modifie_le timestamp NOT NULL,
+    PRIMARY KEY (date_recherche, type_recherche, langue_recherche)
+);
+
+CREATE TABLE IF NOT EXISTS public.recherches_sans_resultat (
+    date_recherche date NOT NULL,
+    langue_recherche varchar(10) NOT NULL,
+    texte_normalise varchar(200) NOT NULL,
+    occurrences bigint NOT NULL,
+    dernier_texte text NOT NULL,
+    derniere_recherche timestamp NOT NULL,
+    PRIMARY KEY (date_recherche, langue_recherche, texte_normalise)
+);
+
+-- Reconstruction d'une période (SearchStatisticsRefresher.reconstruire) sans parcourir tout l'historique
+CREATE INDEX IF NOT EXISTS idx_historique_recherches_cree_le ON public.historique_recherches (cree_le);
+
+-- Alimentation initiale (mêmes requêtes que SearchStatisticsRefresher)
+DELETE FROM public.statistiques_recherche;
+DELETE FROM public.recherches_sans_resultat;
+
+INSERT INTO public.statistiques_recherche (date_recherche, type_recherche, langue_recherche, nombre_recherches,
+        recherches_avec_resultats, recherches_avec_clic, recherches_chronometrees, temps_total_ms, modifie_le)
+SELECT cast(h.cree_le AS date), coalesce(h.type_recherche, ''), coalesce(h.langue_recherche, ''), count(*),
+        count(*) FILTER (WHERE h.nombre_resultats > 0), count(*) FILTER (WHERE h.a_clique_resultat),
+        count(h.temps_recherche_ms), coalesce(sum(h.temps_recherche_ms), 0), now()
+FROM public.historique_recherches h
+WHERE h.cree_le IS NOT NULL
+GROUP BY 1, 2, 3;
+
+INSERT INTO public.recherches_sans_resultat (date_recherche, langue_recherche, texte_normalise, occurrences,
+        dernier_texte, derniere_recherche)
+SELECT cast(h.cree_le AS date), coalesce(h.langue_recherche, ''),
+        left(translate(lower(regexp_replace(btrim(h.texte_recherche), '\s+', ' ', 'g')),
+                'àâäáãéèêëíìîïóòôöõúùûüçñ', 'aaaaaeeeeiiiiooooouuuucn'), 200),
+        count(*), (array_agg(h.texte_recherche ORDER BY h.cree_le DESC))[1], max(h.cree_le)
+FROM public.historique_recherches h
+WHERE h.cree_le IS NOT NULL AND h.nombre_resultats = 0 AND btrim(h.texte_recherche) <> ''
+GROUP BY 1, 2, 3;
+
+ANALYZE public.statistiques_recherche;
+ANALYZE public.recherches_sans_resultat;
+
+COMMIT;
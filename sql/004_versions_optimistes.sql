@@ -0,0 +1,20 @@
+-- =========================================
+-- Colonnes de version (verrouillage optimiste)
+-- =========================================
+-- produits, paniers, commandes, codes_promotionnels et clients sont mappés avec
+-- <version name="version"> et optimistic-lock="version" : chaque UPDATE Hibernate vérifie puis incrémente
+-- la version, une mise à jour concurrente perdante échoue (OptimisticLockException) au lieu d'écraser l'autre.
+-- Les transactions concernées sont rejouées par utils.transaction.OptimisticRetry.
+-- Les UPDATE hors Hibernate sur ces tables doivent aussi faire "version = version + 1"
+-- (voir utils.stock.StockReservations).
+-- Script idempotent (lignes existantes : version 0).
+
+BEGIN;
+
+ALTER TABLE public.produits ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE public.paniers ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE public.commandes ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE public.codes_promotionnels ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE public.clients ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -0,0 +1,32 @@
+-- =========================================
+-- Instantanés du journal de stock
+-- =========================================
+-- instantanes_stock : stock par produit et par lot au début d'un jour (lot_numero vide : stock sans lot),
+-- quantité et valeur au coût moyen pondéré, cumul des mouvements_stock créés avant ce jour.
+-- Une requête « stock au » ou « inventaire d'une boutique au » (utils.stock.StockLedger) part du dernier
+-- instantané et ne rejoue que les mouvements postérieurs : l'index ci-dessous les lit par produit et date.
+-- Arrêtés chaque jour par utils.stock.StockReservations (le premier rejoue tout le journal) ; journaliers sur
+-- 92 jours, puis le premier de chaque mois.
+-- Mouvement inséré ou corrigé après coup avec une date antérieure au dernier instantané :
+-- StockLedger.reconstruire(jour) recalcule les instantanés à partir de ce jour.
+-- Script idempotent.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.instantanes_stock (
+    date_arrete date NOT NULL,
+    produit_id integer NOT NULL,
+    lot_numero varchar(100) NOT NULL,
+    quantite integer NOT NULL,
+    valeur_stock numeric(14,2) NOT NULL,
+    date_expiration date,
+    dernier_mouvement_id integer,
+    cree_le timestamp NOT NULL,
+    PRIMARY KEY (date_arrete, produit_id, lot_numero)
+);
+
+CREATE INDEX IF NOT EXISTS idx_mouvements_stock_produit_date ON public.mouvements_stock (produit_id, cree_le);
+
+ANALYZE public.mouvements_stock;
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- =========================================
+-- Alertes de stock (stock bas, rupture, péremption)
+-- =========================================
+-- utils.stock.StockAlerts écrit une notification par boutique et par type d'alerte dans notifications_envoyees
+-- (canal IN_APP, statut EN_ATTENTE, destinataire : premier compte du propriétaire de la boutique) et la rattache
+-- au modèle ALERTE_<type> s'il est actif. Aucune lecture périodique de produits : les alertes suivent les
+-- mouvements de stock et les modifications de produits, les péremptions sont programmées au jour.
+-- Script idempotent (modèles existants conservés).
+
+BEGIN;
+
+INSERT INTO public.templates_notifications (code, nom, description, type_notification, evenement_declencheur,
+        sujet, contenu_texte, langue, est_actif, version, cree_le)
+VALUES
+    ('ALERTE_STOCK_BAS', 'Alerte stock bas', 'Produits passés sous leur stock minimum', 'IN_APP', 'STOCK_BAS',
+        'Stock bas', 'Produits sous le stock minimum de votre boutique', 'fr', true, 0, now()),
+    ('ALERTE_RUPTURE', 'Alerte rupture de stock', 'Produits dont le stock est épuisé', 'IN_APP', 'RUPTURE',
+        'Rupture de stock', 'Produits en rupture dans votre boutique', 'fr', true, 0, now()),
+    ('ALERTE_PEREMPTION_PROCHE', 'Alerte péremption proche', 'Produits en stock proches de leur date de péremption',
+        'IN_APP', 'PEREMPTION_PROCHE', 'Péremption proche', 'Produits de votre boutique bientôt périmés', 'fr', true,
+        0, now()),
+    ('ALERTE_PERIME', 'Alerte produits périmés', 'Produits en stock dont la date de péremption est passée', 'IN_APP',
+        'PERIME', 'Produits périmés', 'Produits périmés encore en stock dans votre boutique', 'fr', true, 0, now())
+ON CONFLICT (code) DO NOTHING;
+
+COMMIT;
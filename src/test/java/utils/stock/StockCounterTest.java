@@ -0,0 +1,135 @@
+package utils.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prélèvements, ajouts et baisses externes concurrents : aucune unité vendue au-delà du stock
+ */
+class StockCounterTest {
+
+    private static final int TOURS = 20_000;
+
+    /**
+     * Stock 5, baisse externe de 8 et libération de 2 en même temps, pendant qu'un acheteur prélève : une fois
+     * les trois terminés, le stock vaut 5 - 8 + 2 - vendus ; tant qu'il est négatif, plus rien ne se vend
+     */
+    @Test
+    void aucuneSurventeQuandUnAjoutCroiseUneBaisse() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(3);
+        try {
+            for (int tour = 0; tour < TOURS; tour++) {
+                StockCounter compteur = new StockCounter(5);
+                CyclicBarrier depart = new CyclicBarrier(3);
+                AtomicInteger vendus = new AtomicInteger();
+                List<Future<?>> taches = new ArrayList<>();
+                taches.add(threads.submit(() -> {
+                    depart.await();
+                    compteur.ajuster(-8);
+                    return null;
+                }));
+                taches.add(threads.submit(() -> {
+                    depart.await();
+                    compteur.ajouter(2);
+                    return null;
+                }));
+                taches.add(threads.submit(() -> {
+                    depart.await();
+                    for (int i = 0; i < 4; i++) {
+                        if (compteur.prelever(1)) {
+                            vendus.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+                for (Future<?> tache : taches) {
+                    tache.get();
+                }
+
+                int stock = 5 - 8 + 2 - vendus.get();
+                verifier(compteur, stock, "tour " + tour);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Plusieurs acheteurs, libérations et ajustements mélangés : le bilan final correspond exactement aux
+     * opérations passées
+     */
+    @Test
+    void bilanExactSousContention() throws Exception {
+        int acheteurs = Math.max(4, Runtime.getRuntime().availableProcessors());
+        StockCounter compteur = new StockCounter(1_000);
+        AtomicInteger vendus = new AtomicInteger();
+        AtomicInteger rendus = new AtomicInteger();
+        AtomicInteger ecarts = new AtomicInteger();
+        CyclicBarrier depart = new CyclicBarrier(acheteurs + 1);
+        ExecutorService threads = Executors.newFixedThreadPool(acheteurs + 1);
+        try {
+            List<Future<?>> taches = new ArrayList<>();
+            for (int a = 0; a < acheteurs; a++) {
+                taches.add(threads.submit(() -> {
+                    depart.await();
+                    for (int i = 0; i < 50_000; i++) {
+                        if (compteur.prelever(1)) {
+                            vendus.incrementAndGet();
+                            // Une réservation sur trois est libérée
+                            if (i % 3 == 0) {
+                                compteur.ajouter(1);
+                                rendus.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            taches.add(threads.submit(() -> {
+                depart.await();
+                for (int i = 0; i < 2_000; i++) {
+                    int ecart = i % 2 == 0 ? -7 : 5;
+                    compteur.ajuster(ecart);
+                    ecarts.addAndGet(ecart);
+                }
+                return null;
+            }));
+            for (Future<?> tache : taches) {
+                tache.get();
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        int stock = 1_000 + ecarts.get() - vendus.get() + rendus.get();
+        verifier(compteur, stock, "contention");
+    }
+
+    /**
+     * Stock réel {@code stock} : disponible exact s'il est positif ; sinon rien ne se vend tant que la dette
+     * n'est pas remboursée, et la première unité au-delà est vendable
+     */
+    private static void verifier(StockCounter compteur, int stock, String contexte) {
+        if (stock >= 0) {
+            assertEquals(stock, compteur.disponible(), contexte);
+            return;
+        }
+        assertEquals(0, compteur.disponible(), contexte);
+        assertFalse(compteur.prelever(1), "survente (" + contexte + ", stock " + stock + ")");
+        compteur.ajouter(-stock);
+        assertFalse(compteur.prelever(1), "dette non remboursée (" + contexte + ")");
+        compteur.ajouter(1);
+        assertTrue(compteur.prelever(1), contexte);
+    }
+}